@@ -191,6 +191,7 @@ VALUES ('ADD', '新增', '创建新记录或数据项', 1, 1),
 CREATE TABLE IF NOT EXISTS sys_login_log
 (
     id             BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '主键ID',
+    event_id       VARCHAR(32)                        NULL COMMENT '登录事件ID,重复投递时去重',
     user_id        BIGINT                             NULL COMMENT '用户ID,匿名登录失败时可为空',
     username       VARCHAR(50)                        NULL COMMENT '用户名',
     login_identity VARCHAR(255)                       NOT NULL COMMENT '登录标识(如邮箱)',
@@ -205,6 +206,7 @@ CREATE TABLE IF NOT EXISTS sys_login_log
     create_time    DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL COMMENT '创建时间',
     update_by      BIGINT                             NULL COMMENT '更新人(通常为空)',
     update_time    DATETIME DEFAULT CURRENT_TIMESTAMP NOT NULL ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    UNIQUE KEY uk_login_event (event_id),
     INDEX idx_login_user (user_id),
     INDEX idx_login_time (login_time)
 ) COMMENT '用户登录日志表-记录每次登录行为';
@@ -0,0 +1,81 @@
+package cn.refinex.core.api;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 游标（Keyset）分页响应体
+ * <p>
+ * 与 {@link PageResponse} 不同，游标分页没有页码与总页数，客户端通过 {@code nextCursor} 获取下一页。
+ * 总数只在首页按请求的统计方式计算，其他情况下为 null。
+ *
+ * @param records    当前页的数据列表
+ * @param size       每页大小
+ * @param nextCursor 下一页游标，没有下一页时为 null
+ * @param hasNext    是否有下一页
+ * @param total      总记录数，未统计时为 null
+ * @param totalExact 总记录数是否精确（估算且达到上限时为 false）
+ * @param <T>        分页数据的类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+public record CursorPageResponse<T>(
+        List<T> records,
+        long size,
+        String nextCursor,
+        boolean hasNext,
+        Long total,
+        boolean totalExact
+) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 创建游标分页响应
+     *
+     * @param records    当前页的数据列表
+     * @param size       每页大小
+     * @param nextCursor 下一页游标，没有下一页时为 null
+     * @param total      总记录数，未统计时为 null
+     * @param totalExact 总记录数是否精确
+     * @param <T>        数据类型
+     * @return 游标分页响应对象
+     */
+    public static <T> CursorPageResponse<T> of(List<T> records, long size, String nextCursor, Long total, boolean totalExact) {
+        return new CursorPageResponse<>(
+                records != null ? records : Collections.emptyList(),
+                size,
+                nextCursor,
+                nextCursor != null,
+                total,
+                totalExact
+        );
+    }
+
+    /**
+     * 转换分页响应的数据类型
+     *
+     * @param converter 类型转换函数
+     * @param <R>       目标数据类型
+     * @return 转换后的分页响应对象
+     */
+    public <R> CursorPageResponse<R> map(Function<? super T, ? extends R> converter) {
+        List<R> convertedRecords = records.stream()
+                .<R>map(converter)
+                .toList();
+        return new CursorPageResponse<>(convertedRecords, size, nextCursor, hasNext, total, totalExact);
+    }
+
+    /**
+     * 判断是否为空分页
+     *
+     * @return 如果数据列表为空，则返回 true
+     */
+    public boolean isEmpty() {
+        return records.isEmpty();
+    }
+}
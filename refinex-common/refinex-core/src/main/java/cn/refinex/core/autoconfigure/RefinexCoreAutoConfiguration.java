@@ -4,6 +4,9 @@ import cn.refinex.core.autoconfigure.properties.RefinexLoggingProperties;
 import cn.refinex.core.autoconfigure.properties.RefinexProperties;
 import cn.refinex.core.service.CryptoService;
 import cn.refinex.core.util.SnowflakeIdUtils;
+import cn.refinex.core.util.SnowflakeWorkerIdAssigner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -14,6 +17,7 @@ import org.springframework.context.annotation.Bean;
  * @author Refinex
  * @since 1.0.0
  */
+@Slf4j
 @AutoConfiguration
 @EnableConfigurationProperties({RefinexProperties.class, RefinexLoggingProperties.class})
 public class RefinexCoreAutoConfiguration {
@@ -28,15 +32,40 @@ public class RefinexCoreAutoConfiguration {
 
     /**
      * 雪花算法ID生成器
+     * <p>
+     * 不存在 {@link SnowflakeWorkerIdAssigner} 时使用静态配置的节点ID。存在时先暂停发号，以分配到的节点ID恢复：
+     * 静态配置在所有实例上相同，不能作为分配失败时的回退。分配失败或租约失效时保持暂停，
+     * 分配器在后台重新分配到节点ID后恢复发号
      */
     @Bean
-    public SnowflakeIdUtils snowflakeIdGenerator() {
-        // 工作节点ID (0-31)
-        long workerId = 0;
-        // 数据中心ID (0-31)
-        long datacenterId = 0;
-        // 容忍的最大时钟回拨毫秒数，默认2ms
-        long maxBackwardMs = 2;
-        return new SnowflakeIdUtils(workerId, datacenterId, maxBackwardMs);
+    public SnowflakeIdUtils snowflakeIdGenerator(RefinexProperties refinexProperties, ObjectProvider<SnowflakeWorkerIdAssigner> workerIdAssigner) {
+        RefinexProperties.SnowflakeProperties snowflake = refinexProperties.getSnowflake();
+        // 工作节点ID (0-31)、数据中心ID (0-31)
+        SnowflakeIdUtils generator = new SnowflakeIdUtils(snowflake.getWorkerId(), snowflake.getDatacenterId(), snowflake.getMaxBorrowMs());
+
+        SnowflakeWorkerIdAssigner assigner = workerIdAssigner.getIfAvailable();
+        if (assigner == null) {
+            log.info("雪花算法ID生成器初始化: workerId={}, datacenterId={}", snowflake.getWorkerId(), snowflake.getDatacenterId());
+            return generator;
+        }
+
+        generator.suspend();
+        assigner.addNodeIdListener(nodeId -> {
+            if (nodeId == SnowflakeWorkerIdAssigner.INVALID_NODE_ID) {
+                generator.suspend();
+                log.error("雪花算法节点ID租约失效，暂停发号");
+            } else {
+                generator.resume(SnowflakeWorkerIdAssigner.workerIdOf(nodeId), SnowflakeWorkerIdAssigner.datacenterIdOf(nodeId));
+                log.warn("雪花算法ID生成器已切换节点ID并恢复发号: nodeId={}", nodeId);
+            }
+        });
+        try {
+            int nodeId = assigner.assignNodeId();
+            generator.resume(SnowflakeWorkerIdAssigner.workerIdOf(nodeId), SnowflakeWorkerIdAssigner.datacenterIdOf(nodeId));
+            log.info("雪花算法ID生成器初始化: workerId={}, datacenterId={}", generator.getWorkerId(), generator.getDatacenterId());
+        } catch (RuntimeException e) {
+            log.error("雪花算法节点ID分配失败，暂停发号直至重新分配成功", e);
+        }
+        return generator;
     }
 }
@@ -3,23 +3,33 @@ package cn.refinex.core.autoconfigure;
 import cn.refinex.core.autoconfigure.properties.RefinexLoggingProperties;
 import cn.refinex.core.logging.aspect.RequestLogAspect;
 import cn.refinex.core.logging.filter.TraceLoggingFilter;
+import cn.refinex.core.logging.handler.AsyncJdbcRequestLogHandler;
 import cn.refinex.core.logging.handler.JdbcRequestLogHandler;
 import cn.refinex.core.logging.handler.RequestLogHandler;
 import cn.refinex.core.logging.handler.Slf4jRequestLogHandler;
 import cn.refinex.core.logging.interceptor.TracePropagationRequestInterceptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.*;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.Environment;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * 日志能力自动配置
  *
@@ -75,14 +85,19 @@ public class RefinexLoggingAutoConfiguration {
     }
 
     /**
-     * JDBC 持久化处理器
+     * JDBC 持久化处理器（默认异步批量写库, 关闭 async 时在请求线程内逐条写库）
      */
     @Bean
     @ConditionalOnClass(NamedParameterJdbcTemplate.class)
     @ConditionalOnBean(NamedParameterJdbcTemplate.class)
+    @ConditionalOnMissingBean(RequestLogHandler.class)
     @ConditionalOnProperty(prefix = "refinex.logging.request-log", name = "persist", havingValue = "true", matchIfMissing = true)
     public RequestLogHandler jdbcRequestLogHandler(NamedParameterJdbcTemplate jdbcTemplate, RefinexLoggingProperties properties) {
-        return new JdbcRequestLogHandler(jdbcTemplate, properties);
+        JdbcRequestLogHandler handler = new JdbcRequestLogHandler(jdbcTemplate, properties);
+        if (properties.getRequestLog().getAsync().isEnabled()) {
+            return new AsyncJdbcRequestLogHandler(handler, properties);
+        }
+        return handler;
     }
 
     /**
@@ -93,4 +108,51 @@ public class RefinexLoggingAutoConfiguration {
     public RequestLogHandler slf4jRequestLogHandler(@Nullable RefinexLoggingProperties properties) {
         return new Slf4jRequestLogHandler(properties);
     }
+
+    /**
+     * 异步请求日志监控指标（存在 Micrometer 时注册）
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class RequestLogMetricsConfiguration {
+
+        /**
+         * 队列深度、丢弃数量、写库数量与刷写耗时
+         */
+        @Bean
+        public MeterBinder requestLogMetricsBinder(ObjectProvider<RequestLogHandler> requestLogHandler) {
+            return (MeterRegistry registry) -> {
+                if (!(requestLogHandler.getIfAvailable() instanceof AsyncJdbcRequestLogHandler handler)) {
+                    return;
+                }
+                Gauge.builder("refinex.request-log.queue.depth", handler, AsyncJdbcRequestLogHandler::getQueueDepth)
+                        .description("Pending request log entries in the async buffer")
+                        .register(registry);
+                Gauge.builder("refinex.request-log.queue.capacity", handler, AsyncJdbcRequestLogHandler::getQueueCapacity)
+                        .description("Capacity of the async request log buffer")
+                        .register(registry);
+                FunctionCounter.builder("refinex.request-log.dropped", handler, AsyncJdbcRequestLogHandler::getDroppedCount)
+                        .description("Request log entries dropped by the overflow policy")
+                        .register(registry);
+                FunctionCounter.builder("refinex.request-log.persisted", handler, AsyncJdbcRequestLogHandler::getFlushedCount)
+                        .description("Request log entries persisted by batch flushes")
+                        .register(registry);
+                FunctionCounter.builder("refinex.request-log.failed", handler, AsyncJdbcRequestLogHandler::getFailedCount)
+                        .description("Request log entries lost because a batch flush failed")
+                        .register(registry);
+                FunctionCounter.builder("refinex.request-log.failed-batches", handler, AsyncJdbcRequestLogHandler::getFailedBatchCount)
+                        .description("Request log batches that still failed after all retries")
+                        .register(registry);
+                FunctionCounter.builder("refinex.request-log.retries", handler, AsyncJdbcRequestLogHandler::getRetryCount)
+                        .description("Request log batch flush retries")
+                        .register(registry);
+                FunctionTimer.builder("refinex.request-log.flush", handler,
+                                AsyncJdbcRequestLogHandler::getFlushCount,
+                                AsyncJdbcRequestLogHandler::getFlushTotalNanos,
+                                TimeUnit.NANOSECONDS)
+                        .description("Latency of request log batch flushes")
+                        .register(registry);
+            };
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package cn.refinex.core.autoconfigure.properties;
 
+import cn.refinex.core.logging.enums.RequestLogOverflowPolicy;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -64,6 +66,13 @@ public class RefinexLoggingProperties {
          */
         private int bodyMaxLength = 2048;
 
+        /**
+         * 响应体旁路采集字节数（只复制前 N 字节用于日志, 响应本身直接透传; 0 表示不采集）
+         * <p>
+         * 仅在开启记录响应体时采集并按敏感字段脱敏后输出；SSE、分块传输及异步响应自动跳过采集
+         */
+        private int responseCaptureLimit = 1024;
+
         /**
          * 需要忽略记录的路径 (Ant 表达式)
          */
@@ -80,5 +89,64 @@ public class RefinexLoggingProperties {
          * 持久化使用的表名
          */
         private String tableName = "sys_request_log";
+
+        /**
+         * 异步批量持久化配置
+         */
+        private AsyncProperties async = new AsyncProperties();
+    }
+
+    @Data
+    public static class AsyncProperties {
+
+        /**
+         * 是否启用异步批量持久化（关闭时在请求线程内逐条写库）
+         */
+        private boolean enabled = true;
+
+        /**
+         * 缓冲区容量（向上取整为 2 的幂）
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * 单批次最大写库条数
+         */
+        private int batchSize = 200;
+
+        /**
+         * 最长刷写间隔, 未攒满批次时到期也会写库
+         */
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        /**
+         * 缓冲区溢出策略: DROP(丢弃), SAMPLE(高水位采样), BLOCK(限时阻塞)
+         */
+        private RequestLogOverflowPolicy overflowPolicy = RequestLogOverflowPolicy.DROP;
+
+        /**
+         * SAMPLE 策略: 超过高水位后每 N 条保留 1 条
+         */
+        private int sampleRate = 10;
+
+        /**
+         * SAMPLE 策略: 高水位占缓冲区容量的比例
+         */
+        private double sampleHighWatermark = 0.75d;
+
+        /**
+         * BLOCK 策略: 请求线程最长等待时间
+         */
+        private Duration blockTimeout = Duration.ofMillis(50);
+
+        /**
+         * 批次写库失败（数据库异常）后的重试次数, 重试仍失败时计入失败数量
+         */
+        private int flushRetries = 2;
+
+        /**
+         * 容器关闭时等待剩余日志刷写完成的最长时间
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
     }
 }
@@ -3,6 +3,8 @@ package cn.refinex.core.autoconfigure.properties;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * Refinex 全局配置属性类
  *
@@ -32,4 +34,47 @@ public class RefinexProperties {
      * }</pre>
      */
     private String hmacKey;
+
+    /**
+     * 雪花算法ID生成器配置
+     */
+    private SnowflakeProperties snowflake = new SnowflakeProperties();
+
+    @Data
+    public static class SnowflakeProperties {
+
+        /**
+         * 工作节点ID (0-31)，未启用节点ID租约时使用
+         */
+        private long workerId = 0L;
+
+        /**
+         * 数据中心ID (0-31)，未启用节点ID租约时使用
+         */
+        private long datacenterId = 0L;
+
+        /**
+         * 允许借用的未来毫秒数上限（时钟回拨或序列号耗尽时借用，超过后等待时钟追上）
+         */
+        private long maxBorrowMs = 1000L;
+
+        /**
+         * 节点ID租约配置
+         */
+        private WorkerIdLeaseProperties workerIdLease = new WorkerIdLeaseProperties();
+    }
+
+    @Data
+    public static class WorkerIdLeaseProperties {
+
+        /**
+         * 是否通过 Redis 租约自动分配节点ID（多实例部署时避免冲突）
+         */
+        private boolean enabled = true;
+
+        /**
+         * 租约有效期，按有效期的 1/3 周期续约
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
 }
@@ -0,0 +1,175 @@
+package cn.refinex.core.concurrent;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有界无锁环形缓冲区（多生产者 / 单消费者）
+ * <p>
+ * 基于每个槽位的序号实现（Dmitry Vyukov bounded queue）：生产者仅通过一次 CAS 抢占写入位置，
+ * 缓冲区满时立即返回 {@code false}，由调用方决定丢弃、采样或等待；消费者只能有一个线程，
+ * 适合"请求线程写入 + 后台线程批量刷出"的场景。
+ *
+ * @param <E> 元素类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class MpscRingBuffer<E> {
+
+    /**
+     * 容量（2 的幂）
+     */
+    private final int capacity;
+
+    /**
+     * 下标掩码
+     */
+    private final int mask;
+
+    /**
+     * 元素槽位
+     */
+    private final AtomicReferenceArray<E> slots;
+
+    /**
+     * 槽位序号：等于写入位置时可写，等于写入位置 + 1 时可读
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * 生产者写入位置
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 消费者读取位置
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * 构造函数
+     *
+     * @param requestedCapacity 期望容量，向上取整为 2 的幂
+     */
+    public MpscRingBuffer(int requestedCapacity) {
+        if (requestedCapacity <= 0) {
+            throw new IllegalArgumentException("缓冲区容量必须大于 0");
+        }
+
+        int size = requestedCapacity == 1 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        if (size <= 0) {
+            throw new IllegalArgumentException("缓冲区容量过大: " + requestedCapacity);
+        }
+
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 写入元素（可被多个线程并发调用）
+     *
+     * @param element 元素，不能为空
+     * @return 写入成功返回 true，缓冲区已满返回 false
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("元素不能为空");
+        }
+
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // 槽位尚未被消费，缓冲区已满
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 取出元素（只能由单个消费者线程调用）
+     *
+     * @return 元素，缓冲区为空时返回 null
+     */
+    public E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) - (position + 1) < 0) {
+            return null;
+        }
+
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, position + capacity);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * 批量取出元素（只能由单个消费者线程调用）
+     *
+     * @param sink        接收容器
+     * @param maxElements 最大取出数量
+     * @return 实际取出数量
+     */
+    public int drainTo(Collection<? super E> sink, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            sink.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 当前元素数量（近似值，用于监控与水位判断）
+     *
+     * @return 元素数量
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        if (size <= 0) {
+            return 0;
+        }
+        return (int) Math.min(size, capacity);
+    }
+
+    /**
+     * 是否为空（近似值）
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 缓冲区容量
+     *
+     * @return 容量
+     */
+    public int capacity() {
+        return capacity;
+    }
+}
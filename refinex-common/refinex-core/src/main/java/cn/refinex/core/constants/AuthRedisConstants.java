@@ -13,6 +13,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class AuthRedisConstants {
 
+    // ==================== 频道定义 ====================
+
+    /**
+     * 用户角色/权限变更通知频道，消息体为用户 ID
+     */
+    public static final String USER_AUTH_INVALIDATE_CHANNEL = "auth:channel:user-auth-invalidate";
+
     // ==================== 前缀定义 ====================
 
     /**
@@ -30,6 +37,16 @@ public final class AuthRedisConstants {
      */
     private static final String USER_PERMISSION_LIST_PREFIX = AUTH_PREFIX + "user:{}:permissions";
 
+    /**
+     * 用户角色/权限加载锁键前缀
+     */
+    private static final String USER_AUTH_LOAD_LOCK_PREFIX = AUTH_PREFIX + "user:{}:load-lock";
+
+    /**
+     * 用户角色/权限缓存版本号键前缀
+     */
+    private static final String USER_AUTH_GENERATION_PREFIX = AUTH_PREFIX + "user:{}:generation";
+
     /**
      * 用户登录失败次数缓存键前缀
      */
@@ -60,6 +77,26 @@ public final class AuthRedisConstants {
         return StringUtils.format(USER_PERMISSION_LIST_PREFIX, userId);
     }
 
+    /**
+     * 构建用户角色/权限加载锁键
+     *
+     * @param userId 用户 ID
+     * @return 用户角色/权限加载锁键
+     */
+    public static String buildUserAuthLoadLockKey(Long userId) {
+        return StringUtils.format(USER_AUTH_LOAD_LOCK_PREFIX, userId);
+    }
+
+    /**
+     * 构建用户角色/权限缓存版本号键
+     *
+     * @param userId 用户 ID
+     * @return 用户角色/权限缓存版本号键
+     */
+    public static String buildUserAuthGenerationKey(Long userId) {
+        return StringUtils.format(USER_AUTH_GENERATION_PREFIX, userId);
+    }
+
     /**
      * 构建登录失败次数缓存键
      *
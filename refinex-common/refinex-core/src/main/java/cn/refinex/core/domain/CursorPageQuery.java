@@ -0,0 +1,141 @@
+package cn.refinex.core.domain;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 游标（Keyset）分页查询参数
+ * <p>
+ * 与 {@link PageQuery} 的页码分页不同，游标分页以上一页最后一条记录的排序键作为起点，
+ * 通过 {@code WHERE (col, id) > (:last...)} 条件定位下一页，不需要 OFFSET 扫描，深分页时耗时稳定。
+ * <p>
+ * 首页不传 {@link #cursor}，后续页传入上一页响应中的 {@code nextCursor}。游标是不透明字符串，
+ * 与排序字段绑定，更换排序后旧游标失效。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+public class CursorPageQuery implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 默认每页大小
+     */
+    private static final long DEFAULT_SIZE = 10L;
+
+    /**
+     * 最大每页大小，防止单次查询数据量过大导致性能问题
+     */
+    private static final long MAX_SIZE = 500L;
+
+    /**
+     * 默认唯一键列
+     */
+    private static final String DEFAULT_UNIQUE_KEY = "id";
+
+    /**
+     * 上一页返回的游标，首页为空
+     */
+    private String cursor;
+
+    /**
+     * 每页显示的记录数
+     */
+    @Min(value = 1, message = "每页大小必须大于等于 1")
+    @Max(value = MAX_SIZE, message = "每页大小不能超过 " + MAX_SIZE)
+    private Long size = DEFAULT_SIZE;
+
+    /**
+     * 排序字段集合（查询结果中的非空列，可为 NULL 的列需先用 COALESCE 转换）
+     */
+    private List<SortOrder> orderList = Collections.emptyList();
+
+    /**
+     * 唯一键列，追加在排序字段末尾保证排序稳定，默认 {@code id}
+     */
+    private String uniqueKey = DEFAULT_UNIQUE_KEY;
+
+    /**
+     * 总数统计方式，默认不统计
+     */
+    private CountMode countMode = CountMode.NONE;
+
+    /**
+     * 无参构造函数
+     */
+    public CursorPageQuery() {
+    }
+
+    /**
+     * 构造函数（指定游标和每页大小）
+     *
+     * @param cursor 上一页返回的游标
+     * @param size   每页大小
+     */
+    public CursorPageQuery(String cursor, Long size) {
+        this.cursor = cursor;
+        this.size = size != null && size > 0 ? Math.min(size, MAX_SIZE) : DEFAULT_SIZE;
+    }
+
+    /**
+     * 创建游标分页查询参数
+     *
+     * @param cursor 上一页返回的游标
+     * @param size   每页大小
+     * @return 游标分页查询参数对象
+     */
+    public static CursorPageQuery of(String cursor, Long size) {
+        return new CursorPageQuery(cursor, size);
+    }
+
+    /**
+     * 是否为首页
+     *
+     * @return 未携带游标时返回 true
+     */
+    public boolean isFirstPage() {
+        return cursor == null || cursor.isBlank();
+    }
+
+    /**
+     * 校验分页参数
+     */
+    public void validate() {
+        if (size == null || size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("每页大小必须在 1 和 " + MAX_SIZE + " 之间");
+        }
+        if (uniqueKey == null || uniqueKey.isBlank()) {
+            throw new IllegalArgumentException("唯一键列不能为空");
+        }
+    }
+
+    /**
+     * 总数统计方式
+     */
+    public enum CountMode {
+
+        /**
+         * 不统计总数
+         */
+        NONE,
+
+        /**
+         * 精确统计（{@code SELECT COUNT(*)}），仅首页执行
+         */
+        EXACT,
+
+        /**
+         * 估算：最多统计到上限条数，超过上限时返回上限值，仅首页执行
+         */
+        ESTIMATE
+    }
+}
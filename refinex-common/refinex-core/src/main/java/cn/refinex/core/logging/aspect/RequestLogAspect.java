@@ -7,6 +7,7 @@ import cn.refinex.core.logging.context.TraceContext;
 import cn.refinex.core.logging.context.TraceContextHolder;
 import cn.refinex.core.logging.handler.RequestLogHandler;
 import cn.refinex.core.logging.model.RequestLogEntry;
+import cn.refinex.core.logging.support.SensitiveFieldMasker;
 import cn.refinex.core.logging.user.RequestUser;
 import cn.refinex.core.logging.user.RequestUserExtractor;
 import cn.refinex.core.util.ServletUtils;
@@ -35,8 +36,6 @@ import org.springframework.web.util.ContentCachingRequestWrapper;
 import java.lang.reflect.Method;
 import java.nio.charset.Charset;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 请求日志切面
@@ -54,6 +53,7 @@ public class RequestLogAspect {
     private final String serviceName;
     private final AntPathMatcher antPathMatcher = new AntPathMatcher();
     private final JsonUtils jsonUtils = JsonUtilsHolder.get();
+    private final SensitiveFieldMasker sensitiveFieldMasker;
 
     /**
      * 构造函数，初始化请求日志处理器、日志配置属性和服务名称
@@ -65,6 +65,7 @@ public class RequestLogAspect {
     public RequestLogAspect(RequestLogHandler requestLogHandler, RefinexLoggingProperties properties, Environment environment) {
         this.requestLogHandler = requestLogHandler;
         this.properties = properties;
+        this.sensitiveFieldMasker = new SensitiveFieldMasker(() -> properties.getRequestLog().getSensitiveFields());
         this.serviceName = environment.getProperty("spring.application.name", "refinex-service");
     }
 
@@ -269,7 +270,7 @@ public class RequestLogAspect {
         wrapper.getCharacterEncoding();
         String charset = wrapper.getCharacterEncoding();
         String payload = new String(buf, 0, buf.length, Charset.forName(charset));
-        return maskSensitiveFields(StringUtils.abbreviate(payload, maxLength));
+        return sensitiveFieldMasker.mask(StringUtils.abbreviate(payload, maxLength));
     }
 
     /**
@@ -286,36 +287,6 @@ public class RequestLogAspect {
         }
 
         String payload = jsonUtils.toJson(result);
-        return StringUtils.abbreviate(payload, maxLength);
-    }
-
-    /**
-     * 对敏感字段进行脱敏处理，将指定字段的值替换为 "***"
-     *
-     * @param payload 原始字符串
-     * @return 脱敏后的字符串
-     */
-    private String maskSensitiveFields(@Nullable String payload) {
-        if (StringUtils.isBlank(payload)) {
-            return payload;
-        }
-
-        String masked = payload;
-
-        for (String field : properties.getRequestLog().getSensitiveFields()) {
-            String regex = "(\"" + Pattern.quote(field) + "\"\\s*:\\s*)(\".*?\"|\\d+|true|false|null)";
-            Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
-            Matcher matcher = pattern.matcher(masked);
-
-            StringBuilder buffer = new StringBuilder();
-            while (matcher.find()) {
-                matcher.appendReplacement(buffer, matcher.group(1) + "\"***\"");
-            }
-
-            matcher.appendTail(buffer);
-            masked = buffer.toString();
-        }
-
-        return masked;
+        return sensitiveFieldMasker.mask(StringUtils.abbreviate(payload, maxLength));
     }
 }
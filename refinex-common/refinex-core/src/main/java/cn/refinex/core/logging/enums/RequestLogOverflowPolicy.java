@@ -0,0 +1,25 @@
+package cn.refinex.core.logging.enums;
+
+/**
+ * 异步请求日志缓冲区溢出策略
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public enum RequestLogOverflowPolicy {
+
+    /**
+     * 缓冲区已满时直接丢弃新日志
+     */
+    DROP,
+
+    /**
+     * 缓冲区超过高水位后按采样率保留日志, 已满时丢弃
+     */
+    SAMPLE,
+
+    /**
+     * 缓冲区已满时阻塞请求线程等待空位, 超过等待时间后丢弃
+     */
+    BLOCK,
+}
@@ -0,0 +1,318 @@
+package cn.refinex.core.logging.filter;
+
+import cn.refinex.core.util.StringUtils;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 旁路采集响应包装器
+ * <p>
+ * 与 {@link org.springframework.web.util.ContentCachingResponseWrapper} 不同，响应字节直接写入原始输出流，
+ * 不在堆内缓存完整响应体，也不需要在请求结束时回写；仅旁路复制前 N 个字节，由 {@link TraceLoggingFilter}
+ * 在请求结束日志中输出（开启记录响应体时）。
+ * <p>
+ * 在首次写出时检测流式响应，命中以下任一条件时不再采集，只做透传：
+ * <ul>
+ *     <li>Content-Type 为 {@code text/event-stream}（SSE）</li>
+ *     <li>响应头声明 {@code Transfer-Encoding: chunked}</li>
+ *     <li>请求已进入异步处理（Servlet async / 响应式返回值）</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class TeeCapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    /**
+     * 当前请求，用于判断是否进入异步处理
+     */
+    private final HttpServletRequest request;
+
+    /**
+     * 最大采集字节数
+     */
+    private final int captureLimit;
+
+    /**
+     * 采集缓冲区（延迟创建）
+     */
+    private ByteArrayOutputStream captured;
+
+    /**
+     * 是否因超出采集上限而截断
+     */
+    private boolean truncated;
+
+    /**
+     * 是否判定为流式响应（null 表示尚未判定）
+     */
+    private Boolean streaming;
+
+    /**
+     * 旁路输出流
+     */
+    private TeeOutputStream outputStream;
+
+    /**
+     * 基于旁路输出流的 Writer
+     */
+    private PrintWriter writer;
+
+    /**
+     * 构造函数
+     *
+     * @param request      当前请求
+     * @param response     原始响应
+     * @param captureLimit 最大采集字节数，小于等于 0 表示不采集
+     */
+    public TeeCapturingResponseWrapper(HttpServletRequest request, HttpServletResponse response, int captureLimit) {
+        super(response);
+        this.request = request;
+        this.captureLimit = Math.max(captureLimit, 0);
+    }
+
+    @NullMarked
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called on this response");
+        }
+        return teeOutputStream();
+    }
+
+    @NullMarked
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called on this response");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(teeOutputStream(), resolveCharset()), false);
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * 刷新 {@link #getWriter()} 中尚未写出的字符
+     * <p>
+     * 容器结束请求时只刷新原始响应自身的 Writer，包装器创建的 Writer 需由调用方在请求结束时刷新。
+     */
+    public void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        discardCaptured();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        discardCaptured();
+        this.streaming = null;
+    }
+
+    /**
+     * 获取已采集的响应体文本
+     *
+     * @return 采集内容文本，未采集时为 null
+     */
+    public String getCapturedContentAsString() {
+        if (captured == null || captured.size() == 0) {
+            return null;
+        }
+        return captured.toString(resolveCharset());
+    }
+
+    /**
+     * 采集内容是否被截断
+     *
+     * @return true-响应体超过采集上限
+     */
+    public boolean isCaptureTruncated() {
+        return truncated;
+    }
+
+    /**
+     * 是否判定为流式响应
+     *
+     * @return true-流式响应（未采集响应体）
+     */
+    public boolean isStreaming() {
+        return Boolean.TRUE.equals(streaming);
+    }
+
+    /**
+     * 获取旁路输出流
+     *
+     * @return 旁路输出流
+     * @throws IOException 获取原始输出流失败
+     */
+    private TeeOutputStream teeOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    /**
+     * 采集写出的字节，超出上限的部分只标记截断
+     *
+     * @param b   字节数组
+     * @param off 起始偏移
+     * @param len 长度
+     */
+    private void capture(byte[] b, int off, int len) {
+        if (captureLimit == 0 || len <= 0 || detectStreaming()) {
+            return;
+        }
+        if (captured == null) {
+            captured = new ByteArrayOutputStream(Math.min(captureLimit, 1024));
+        }
+
+        int remaining = captureLimit - captured.size();
+        if (remaining <= 0) {
+            truncated = true;
+            return;
+        }
+        if (len > remaining) {
+            truncated = true;
+        }
+        captured.write(b, off, Math.min(len, remaining));
+    }
+
+    /**
+     * 首次写出时判定是否为流式响应，判定结果在整个响应周期内保持不变
+     *
+     * @return true-流式响应
+     */
+    private boolean detectStreaming() {
+        if (streaming == null) {
+            streaming = isEventStream() || isChunked() || request.isAsyncStarted();
+        }
+        return streaming;
+    }
+
+    /**
+     * Content-Type 是否为 text/event-stream
+     *
+     * @return true-SSE 响应
+     */
+    private boolean isEventStream() {
+        String contentType = getContentType();
+        return StringUtils.isNotBlank(contentType)
+                && contentType.regionMatches(true, 0, MediaType.TEXT_EVENT_STREAM_VALUE, 0, MediaType.TEXT_EVENT_STREAM_VALUE.length());
+    }
+
+    /**
+     * 是否显式声明了分块传输
+     *
+     * @return true-分块传输
+     */
+    private boolean isChunked() {
+        String transferEncoding = getHeader(HttpHeaders.TRANSFER_ENCODING);
+        return transferEncoding != null && transferEncoding.toLowerCase().contains("chunked");
+    }
+
+    /**
+     * 清空采集内容
+     */
+    private void discardCaptured() {
+        if (captured != null) {
+            captured.reset();
+        }
+        this.truncated = false;
+    }
+
+    /**
+     * 解析响应字符集，未设置时使用 UTF-8
+     *
+     * @return 字符集
+     */
+    private Charset resolveCharset() {
+        String encoding = getCharacterEncoding();
+        try {
+            return StringUtils.isNotBlank(encoding) ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * 透传写出并旁路采集的输出流
+     */
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        /**
+         * 原始输出流
+         */
+        private final ServletOutputStream delegate;
+
+        /**
+         * 单字节写出复用的缓冲
+         */
+        private final byte[] single = new byte[1];
+
+        TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            single[0] = (byte) b;
+            capture(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -5,8 +5,11 @@ import cn.refinex.core.autoconfigure.properties.RefinexLoggingProperties;
 import cn.refinex.core.logging.constants.LoggingConstants;
 import cn.refinex.core.logging.context.TraceContext;
 import cn.refinex.core.logging.context.TraceContextHolder;
+import cn.refinex.core.logging.support.SensitiveFieldMasker;
 import cn.refinex.core.util.ServletUtils;
 import cn.refinex.core.util.StringUtils;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -21,7 +24,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -33,7 +35,8 @@ import java.util.*;
  *     <li>DataSign 补偿 & TraceId 生成</li>
  *     <li>MDC 填充 (traceId/dataSign)</li>
  *     <li>请求生命周期日志</li>
- *     <li>请求/响应体缓存，供 @RequestLog 使用</li>
+ *     <li>请求体缓存，供 @RequestLog 使用</li>
+ *     <li>开启记录响应体时旁路采集响应体前 N 字节（敏感字段脱敏后输出），响应直接透传，不影响 SSE 等流式输出</li>
  * </ul>
  *
  * @author Refinex
@@ -43,6 +46,7 @@ import java.util.*;
 public class TraceLoggingFilter extends OncePerRequestFilter {
 
     private final RefinexLoggingProperties properties;
+    private final SensitiveFieldMasker sensitiveFieldMasker;
 
     /**
      * 构造函数，初始化日志配置属性
@@ -51,6 +55,7 @@ public class TraceLoggingFilter extends OncePerRequestFilter {
      */
     public TraceLoggingFilter(RefinexLoggingProperties properties) {
         this.properties = properties;
+        this.sensitiveFieldMasker = new SensitiveFieldMasker(() -> properties.getRequestLog().getSensitiveFields());
     }
 
     /**
@@ -108,14 +113,18 @@ public class TraceLoggingFilter extends OncePerRequestFilter {
         String dataSign = ensureIdentifier(incomingDataSign);
         String traceId = ensureIdentifier(incomingTraceId);
 
-        // 创建 TraceAwareRequestWrapper 和 ContentCachingResponseWrapper，并将 DataSign 和 TraceId 添加到请求和响应头中
+        // 创建 TraceAwareRequestWrapper 和 TeeCapturingResponseWrapper，并将 DataSign 和 TraceId 添加到请求和响应头中
         TraceAwareRequestWrapper requestWrapper = new TraceAwareRequestWrapper(request, cacheLimit);
         requestWrapper.putHeader(properties.getDataSignHeader(), dataSign);
         requestWrapper.putHeader(properties.getTraceIdHeader(), traceId);
 
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
-        responseWrapper.setHeader(properties.getDataSignHeader(), dataSign);
-        responseWrapper.setHeader(properties.getTraceIdHeader(), traceId);
+        // 响应体不整体缓存，只在开启记录响应体时旁路采集前 N 字节，字节直接写入原始响应，保证流式输出的首字节时间不受影响
+        TeeCapturingResponseWrapper teeWrapper = properties.getRequestLog().isRecordResponseBody()
+                ? new TeeCapturingResponseWrapper(requestWrapper, response, properties.getRequestLog().getResponseCaptureLimit())
+                : null;
+        HttpServletResponse chainResponse = teeWrapper != null ? teeWrapper : response;
+        chainResponse.setHeader(properties.getDataSignHeader(), dataSign);
+        chainResponse.setHeader(properties.getTraceIdHeader(), traceId);
 
         // 记录请求开始时间，并将相关属性（DataSign、TraceId、请求和响应包装器）存储在请求属性中，以便后续使用
         long startTime = System.currentTimeMillis();
@@ -123,7 +132,9 @@ public class TraceLoggingFilter extends OncePerRequestFilter {
         requestWrapper.setAttribute(LoggingConstants.ATTRIBUTE_DATA_SIGN, dataSign);
         requestWrapper.setAttribute(LoggingConstants.ATTRIBUTE_TRACE_ID, traceId);
         requestWrapper.setAttribute(LoggingConstants.ATTRIBUTE_REQUEST_WRAPPER, requestWrapper);
-        requestWrapper.setAttribute(LoggingConstants.ATTRIBUTE_RESPONSE_WRAPPER, responseWrapper);
+        if (teeWrapper != null) {
+            requestWrapper.setAttribute(LoggingConstants.ATTRIBUTE_RESPONSE_WRAPPER, teeWrapper);
+        }
 
         // 从请求包装器中获取请求 URI、HTTP 方法和客户端 IP 地址
         String requestUri = requestWrapper.getRequestURI();
@@ -141,21 +152,61 @@ public class TraceLoggingFilter extends OncePerRequestFilter {
 
         try {
             // 使用包装后的请求和响应对象继续过滤链，以便后续处理器可以访问这些对象并记录请求和响应体
-            filterChain.doFilter(requestWrapper, responseWrapper);
+            filterChain.doFilter(requestWrapper, chainResponse);
+            if (teeWrapper != null && !requestWrapper.isAsyncStarted()) {
+                teeWrapper.flushWriter();
+            }
         } finally {
-            // 计算请求处理的持续时间，并记录请求结束日志，包括 HTTP 方法、请求 URI、响应状态码、持续时间、DataSign 和 TraceId
-            long duration = System.currentTimeMillis() - startTime;
-            int status = responseWrapper.getStatus();
-            log.info("Request end   <- {} {} status={} duration={}ms dataSign={} traceId={}", httpMethod, requestUri, status, duration, dataSign, traceId);
+            if (requestWrapper.isAsyncStarted()) {
+                // 异步/流式响应：请求线程已返回但响应仍在输出，结束日志延迟到异步完成时记录
+                requestWrapper.getAsyncContext().addListener(new RequestEndListener(httpMethod, requestUri, startTime, dataSign, traceId, chainResponse));
+                log.info("Request async <- {} {} dataSign={} traceId={}", httpMethod, requestUri, dataSign, traceId);
+            } else {
+                logRequestEnd(httpMethod, requestUri, chainResponse.getStatus(), startTime, dataSign, traceId);
+                if (teeWrapper != null) {
+                    logResponseBody(httpMethod, requestUri, teeWrapper);
+                }
+            }
 
-            // 将响应体复制回原始响应对象，并清理 TraceContextHolder 和 MDC 中的相关属性，以避免内存泄漏
-            responseWrapper.copyBodyToResponse();
+            // 清理 TraceContextHolder 和 MDC 中的相关属性，以避免内存泄漏
             TraceContextHolder.clear();
             MDC.remove(LoggingConstants.MDC_TRACE_ID);
             MDC.remove(LoggingConstants.MDC_DATA_SIGN);
         }
     }
 
+    /**
+     * 记录请求结束日志，包括 HTTP 方法、请求 URI、响应状态码、持续时间、DataSign 和 TraceId
+     *
+     * @param httpMethod HTTP 方法
+     * @param requestUri 请求 URI
+     * @param status     响应状态码
+     * @param startTime  请求开始时间
+     * @param dataSign   DataSign
+     * @param traceId    TraceId
+     */
+    private static void logRequestEnd(String httpMethod, String requestUri, int status, long startTime, String dataSign, String traceId) {
+        long duration = System.currentTimeMillis() - startTime;
+        log.info("Request end   <- {} {} status={} duration={}ms dataSign={} traceId={}", httpMethod, requestUri, status, duration, dataSign, traceId);
+    }
+
+    /**
+     * 输出旁路采集的响应体前缀（敏感字段脱敏），流式响应与空响应不输出
+     *
+     * @param httpMethod      HTTP 方法
+     * @param requestUri      请求 URI
+     * @param responseWrapper 响应包装器
+     */
+    private void logResponseBody(String httpMethod, String requestUri, TeeCapturingResponseWrapper responseWrapper) {
+        if (responseWrapper.isStreaming()) {
+            return;
+        }
+        String body = sensitiveFieldMasker.mask(responseWrapper.getCapturedContentAsString());
+        if (body != null) {
+            log.info("Response body <- {} {} body={}{}", httpMethod, requestUri, body, responseWrapper.isCaptureTruncated() ? "..." : "");
+        }
+    }
+
     /**
      * 确保提供的字符串是一个有效的标识符，如果字符串不为空且不全是空白，则返回修剪后的字符串；否则，生成一个新的 UUID 作为标识符。
      *
@@ -170,6 +221,49 @@ public class TraceLoggingFilter extends OncePerRequestFilter {
         return IdUtil.fastSimpleUUID();
     }
 
+    /**
+     * 异步请求完成监听器，在异步响应结束时记录请求结束日志
+     *
+     * @param httpMethod      HTTP 方法
+     * @param requestUri      请求 URI
+     * @param startTime       请求开始时间
+     * @param dataSign        DataSign
+     * @param traceId         TraceId
+     * @param responseWrapper 响应包装器
+     */
+    private record RequestEndListener(String httpMethod, String requestUri, long startTime, String dataSign, String traceId,
+                                      HttpServletResponse responseWrapper) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            MDC.put(LoggingConstants.MDC_TRACE_ID, traceId);
+            MDC.put(LoggingConstants.MDC_DATA_SIGN, dataSign);
+            try {
+                logRequestEnd(httpMethod, requestUri, responseWrapper.getStatus(), startTime, dataSign, traceId);
+            } finally {
+                MDC.remove(LoggingConstants.MDC_TRACE_ID);
+                MDC.remove(LoggingConstants.MDC_DATA_SIGN);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            log.warn("Request async timeout {} {} dataSign={} traceId={}", httpMethod, requestUri, dataSign, traceId);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            Throwable ex = event.getThrowable();
+            log.warn("Request async error {} {} dataSign={} traceId={} error={}", httpMethod, requestUri, dataSign, traceId, ex != null ? ex.getMessage() : null);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 重新进入异步处理时需要再次注册监听器
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
     /**
      * 额外 header 支持的 ContentCachingRequestWrapper
      */
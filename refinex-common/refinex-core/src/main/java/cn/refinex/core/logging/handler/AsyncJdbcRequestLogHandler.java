@@ -0,0 +1,469 @@
+package cn.refinex.core.logging.handler;
+
+import cn.refinex.core.autoconfigure.properties.RefinexLoggingProperties;
+import cn.refinex.core.concurrent.MpscRingBuffer;
+import cn.refinex.core.logging.enums.RequestLogOverflowPolicy;
+import cn.refinex.core.logging.model.RequestLogEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 异步批量 JDBC 请求日志持久化
+ * <p>
+ * 请求线程只负责把日志写入有界无锁环形缓冲区，后台刷写线程按批次大小或时间间隔（先到者为准）
+ * 调用 {@link JdbcRequestLogHandler#batchInsert(List)} 批量写库，数据库往返不再占用请求线程。
+ * <ul>
+ *     <li>缓冲区满时按 {@link RequestLogOverflowPolicy} 处理：丢弃、高水位采样或限时阻塞</li>
+ *     <li>批次写库遇到数据库异常时按配置重试，重试仍失败才计入失败数量</li>
+ *     <li>容器关闭时先拒绝新的入队（改为同步写库），等待进行中的入队完成后再刷出缓冲区内的剩余日志，
+ *     不会有日志在最后一次刷写之后进入缓冲区</li>
+ *     <li>队列深度、丢弃数量、失败数量、重试次数、刷写耗时通过 getter 暴露，供监控指标绑定</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class AsyncJdbcRequestLogHandler implements RequestLogHandler, InitializingBean, DisposableBean {
+
+    /**
+     * BLOCK 策略下等待空位时的单次休眠时间（纳秒）
+     */
+    private static final long BLOCK_PARK_NANOS = 100_000L;
+
+    /**
+     * 写库重试的退避基数（毫秒），第 N 次重试前等待 N 倍
+     */
+    private static final long RETRY_BACKOFF_MS = 200L;
+
+    /**
+     * 同步写库的委托处理器
+     */
+    private final JdbcRequestLogHandler delegate;
+
+    /**
+     * 日志缓冲区
+     */
+    private final MpscRingBuffer<RequestLogEntry> buffer;
+
+    /**
+     * 批次大小
+     */
+    private final int batchSize;
+
+    /**
+     * 刷写间隔（纳秒）
+     */
+    private final long flushIntervalNanos;
+
+    /**
+     * 溢出策略
+     */
+    private final RequestLogOverflowPolicy overflowPolicy;
+
+    /**
+     * 采样率：超过高水位后每 N 条保留 1 条
+     */
+    private final int sampleRate;
+
+    /**
+     * 采样高水位（元素数量）
+     */
+    private final int sampleHighWatermark;
+
+    /**
+     * BLOCK 策略最长等待时间（纳秒）
+     */
+    private final long blockTimeoutNanos;
+
+    /**
+     * 停机时等待刷写完成的最长时间（毫秒）
+     */
+    private final long shutdownTimeoutMs;
+
+    /**
+     * 批次写库失败后的重试次数
+     */
+    private final int flushRetries;
+
+    /**
+     * 采样计数器
+     */
+    private final AtomicLong sampleCounter = new AtomicLong();
+
+    /**
+     * 正在入队的请求线程数量，关闭时等待其归零后再做最后一次刷写
+     */
+    private final AtomicInteger activeProducers = new AtomicInteger();
+
+    /**
+     * 丢弃数量
+     */
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * 写库成功数量
+     */
+    private final LongAdder flushedCount = new LongAdder();
+
+    /**
+     * 写库失败数量
+     */
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * 写库失败批次数量（重试后仍失败）
+     */
+    private final LongAdder failedBatchCount = new LongAdder();
+
+    /**
+     * 写库重试次数
+     */
+    private final LongAdder retryCount = new LongAdder();
+
+    /**
+     * 刷写次数
+     */
+    private final LongAdder flushCount = new LongAdder();
+
+    /**
+     * 刷写累计耗时（纳秒）
+     */
+    private final LongAdder flushTotalNanos = new LongAdder();
+
+    /**
+     * 最近一次刷写耗时（纳秒）
+     */
+    private volatile long lastFlushNanos;
+
+    /**
+     * 是否已关闭（未启动或已关闭时不再入队，退化为同步写入）
+     */
+    private volatile boolean closed = true;
+
+    /**
+     * 刷写线程是否继续循环
+     */
+    private volatile boolean running;
+
+    /**
+     * 后台刷写线程
+     */
+    private Thread flusher;
+
+    /**
+     * 构造函数
+     *
+     * @param delegate   同步写库的委托处理器
+     * @param properties 日志配置
+     */
+    public AsyncJdbcRequestLogHandler(JdbcRequestLogHandler delegate, RefinexLoggingProperties properties) {
+        RefinexLoggingProperties.AsyncProperties async = properties.getRequestLog().getAsync();
+        this.delegate = delegate;
+        this.buffer = new MpscRingBuffer<>(async.getBufferSize());
+        this.batchSize = Math.max(1, async.getBatchSize());
+        this.flushIntervalNanos = Math.max(1L, async.getFlushInterval().toNanos());
+        this.overflowPolicy = async.getOverflowPolicy();
+        this.sampleRate = Math.max(1, async.getSampleRate());
+        this.sampleHighWatermark = (int) (buffer.capacity() * Math.clamp(async.getSampleHighWatermark(), 0.0d, 1.0d));
+        this.blockTimeoutNanos = async.getBlockTimeout().toNanos();
+        this.shutdownTimeoutMs = async.getShutdownTimeout().toMillis();
+        this.flushRetries = Math.max(0, async.getFlushRetries());
+    }
+
+    /**
+     * 启动后台刷写线程
+     */
+    @Override
+    public void afterPropertiesSet() {
+        this.running = true;
+        this.closed = false;
+        this.flusher = Thread.ofPlatform()
+                .name("request-log-flusher")
+                .daemon(true)
+                .start(this::flushLoop);
+    }
+
+    /**
+     * 处理请求日志
+     *
+     * @param entry   日志实体
+     * @param persist 是否持久化
+     */
+    @Override
+    public void handle(RequestLogEntry entry, boolean persist) {
+        if (!persist || entry == null) {
+            return;
+        }
+
+        // 先登记再检查关闭标识：关闭方先置标识再等待登记数归零，两者至少一方能看到对方
+        activeProducers.incrementAndGet();
+        try {
+            if (closed) {
+                // 未启动或已关闭，直接同步写库，避免日志丢失
+                delegate.handle(entry, true);
+                return;
+            }
+
+            if (!enqueue(entry)) {
+                droppedCount.increment();
+                return;
+            }
+
+            if (buffer.size() >= batchSize) {
+                LockSupport.unpark(flusher);
+            }
+        } finally {
+            activeProducers.decrementAndGet();
+        }
+    }
+
+    /**
+     * 停止接收新日志并刷出缓冲区
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        this.closed = true;
+        Thread thread = this.flusher;
+        if (thread == null) {
+            return;
+        }
+
+        // 等待已通过关闭检查的入队完成，之后缓冲区不会再有新日志
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMs);
+        while (activeProducers.get() > 0 && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+        }
+
+        this.running = false;
+        LockSupport.unpark(thread);
+        thread.join(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        if (thread.isAlive()) {
+            log.warn("Request log flusher did not finish in {}ms, pending entries: {}", shutdownTimeoutMs, buffer.size());
+        }
+    }
+
+    /**
+     * 按溢出策略写入缓冲区
+     *
+     * @param entry 日志实体
+     * @return 是否写入成功
+     */
+    private boolean enqueue(RequestLogEntry entry) {
+        return switch (overflowPolicy) {
+            case DROP -> buffer.offer(entry);
+            case SAMPLE -> {
+                if (buffer.size() >= sampleHighWatermark && sampleCounter.getAndIncrement() % sampleRate != 0) {
+                    yield false;
+                }
+                yield buffer.offer(entry);
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                while (!buffer.offer(entry)) {
+                    if (closed || System.nanoTime() - deadline >= 0) {
+                        yield false;
+                    }
+                    LockSupport.unpark(flusher);
+                    LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                }
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * 后台刷写循环：批次满或等待超过刷写间隔时写库
+     */
+    private void flushLoop() {
+        List<RequestLogEntry> batch = new ArrayList<>(batchSize);
+        long batchStartNanos = System.nanoTime();
+
+        while (running) {
+            boolean wasEmpty = batch.isEmpty();
+            buffer.drainTo(batch, batchSize - batch.size());
+            long now = System.nanoTime();
+
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+            if (wasEmpty) {
+                batchStartNanos = now;
+            }
+
+            long waited = now - batchStartNanos;
+            if (batch.size() >= batchSize || waited >= flushIntervalNanos) {
+                flush(batch);
+                continue;
+            }
+            LockSupport.parkNanos(this, flushIntervalNanos - waited);
+        }
+
+        // 停机：刷出缓冲区中剩余的日志
+        do {
+            buffer.drainTo(batch, batchSize - batch.size());
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        } while (!buffer.isEmpty());
+    }
+
+    /**
+     * 批量写库并记录耗时，数据库异常时按配置重试
+     *
+     * @param batch 日志批次（写库后清空）
+     */
+    private void flush(List<RequestLogEntry> batch) {
+        long start = System.nanoTime();
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    delegate.batchInsert(batch);
+                    flushedCount.add(batch.size());
+                    return;
+                } catch (DataAccessException ex) {
+                    if (attempt >= flushRetries || !backoff(attempt + 1)) {
+                        failedCount.add(batch.size());
+                        failedBatchCount.increment();
+                        log.error("Failed to persist request log batch after {} attempts, size={}: {}", attempt + 1, batch.size(), ex.getMessage());
+                        return;
+                    }
+                    retryCount.increment();
+                    log.warn("Failed to persist request log batch, size={}, retry {}/{}: {}", batch.size(), attempt + 1, flushRetries, ex.getMessage());
+                }
+            }
+        } catch (RuntimeException ex) {
+            failedCount.add(batch.size());
+            failedBatchCount.increment();
+            log.error("Unexpected error while persisting request log batch, size={}", batch.size(), ex);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            lastFlushNanos = elapsed;
+            flushTotalNanos.add(elapsed);
+            flushCount.increment();
+            batch.clear();
+        }
+    }
+
+    /**
+     * 重试前退避，停机期间不等待
+     *
+     * @param retry 第几次重试
+     * @return false 刷写线程被中断
+     */
+    private boolean backoff(int retry) {
+        if (!running) {
+            return true;
+        }
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS * retry);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // ========================= 监控指标 =========================
+
+    /**
+     * 当前队列深度
+     *
+     * @return 缓冲区中待写入的日志数量
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * 缓冲区容量
+     *
+     * @return 容量
+     */
+    public int getQueueCapacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * 累计丢弃数量
+     *
+     * @return 丢弃数量
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 累计写库成功数量
+     *
+     * @return 成功数量
+     */
+    public long getFlushedCount() {
+        return flushedCount.sum();
+    }
+
+    /**
+     * 累计写库失败数量
+     *
+     * @return 失败数量
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 累计写库失败批次数量（重试后仍失败）
+     *
+     * @return 失败批次数量
+     */
+    public long getFailedBatchCount() {
+        return failedBatchCount.sum();
+    }
+
+    /**
+     * 累计写库重试次数
+     *
+     * @return 重试次数
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * 累计刷写次数
+     *
+     * @return 刷写次数
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    /**
+     * 累计刷写耗时（纳秒）
+     *
+     * @return 累计耗时
+     */
+    public long getFlushTotalNanos() {
+        return flushTotalNanos.sum();
+    }
+
+    /**
+     * 最近一次刷写耗时（纳秒）
+     *
+     * @return 最近一次耗时
+     */
+    public long getLastFlushNanos() {
+        return lastFlushNanos;
+    }
+}
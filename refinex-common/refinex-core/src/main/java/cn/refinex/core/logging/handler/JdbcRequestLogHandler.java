@@ -2,14 +2,17 @@ package cn.refinex.core.logging.handler;
 
 import cn.refinex.core.autoconfigure.properties.RefinexLoggingProperties;
 import cn.refinex.core.logging.model.RequestLogEntry;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.util.List;
 
 /**
  * JDBC 请求日志持久化
@@ -18,12 +21,7 @@ import java.time.ZonedDateTime;
  * @since 1.0.0
  */
 @Slf4j
-public record JdbcRequestLogHandler(
-        /* JDBC 模板 */
-        NamedParameterJdbcTemplate jdbcTemplate,
-        /* 日志配置 */
-        RefinexLoggingProperties properties
-) implements RequestLogHandler {
+public class JdbcRequestLogHandler implements RequestLogHandler {
 
     /* SQL 插入语句模板 */
     private static final String INSERT_SQL = """
@@ -38,6 +36,35 @@ public record JdbcRequestLogHandler(
                 :controller, :methodName, :requestBody, :responseBody, :errorMessage, :durationMs, :createTime)
             """;
 
+    /**
+     * JDBC 模板
+     */
+    @Getter
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 日志配置
+     */
+    @Getter
+    private final RefinexLoggingProperties properties;
+
+    /**
+     * 插入语句（表名在构造时确定，只格式化一次）
+     */
+    private final String insertSql;
+
+    /**
+     * 构造函数
+     *
+     * @param jdbcTemplate JDBC 模板
+     * @param properties   日志配置
+     */
+    public JdbcRequestLogHandler(NamedParameterJdbcTemplate jdbcTemplate, RefinexLoggingProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.insertSql = INSERT_SQL.formatted(properties.getRequestLog().getTableName());
+    }
+
     /**
      * 处理请求日志
      *
@@ -50,9 +77,40 @@ public record JdbcRequestLogHandler(
             return;
         }
 
-        String sql = INSERT_SQL.formatted(properties.getRequestLog().getTableName());
-        ZonedDateTime createTime = Instant.ofEpochMilli(entry.timestamp()).atZone(ZoneId.systemDefault());
-        MapSqlParameterSource params = new MapSqlParameterSource()
+        try {
+            jdbcTemplate.update(insertSql, toParams(entry));
+        } catch (DataAccessException ex) {
+            log.error("Failed to persist request log: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 批量持久化请求日志
+     *
+     * @param entries 日志实体列表
+     * @throws DataAccessException 写入失败
+     */
+    public void batchInsert(List<RequestLogEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = new SqlParameterSource[entries.size()];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = toParams(entries.get(i));
+        }
+        jdbcTemplate.batchUpdate(insertSql, batch);
+    }
+
+    /**
+     * 构建插入参数
+     *
+     * @param entry 日志实体
+     * @return 插入参数
+     */
+    private static MapSqlParameterSource toParams(RequestLogEntry entry) {
+        LocalDateTime createTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.timestamp()), ZoneId.systemDefault());
+        return new MapSqlParameterSource()
                 .addValue("serviceName", entry.serviceName())
                 .addValue("title", entry.title())
                 .addValue("bizType", entry.type() != null ? entry.type().name() : null)
@@ -73,12 +131,6 @@ public record JdbcRequestLogHandler(
                 .addValue("responseBody", entry.responseBody())
                 .addValue("errorMessage", entry.errorMessage())
                 .addValue("durationMs", entry.durationMs())
-                .addValue("createTime", createTime.toLocalDateTime());
-
-        try {
-            jdbcTemplate.update(sql, params);
-        } catch (DataAccessException ex) {
-            log.error("Failed to persist request log: {}", ex.getMessage());
-        }
+                .addValue("createTime", createTime);
     }
 }
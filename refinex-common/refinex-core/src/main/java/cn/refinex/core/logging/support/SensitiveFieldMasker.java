@@ -0,0 +1,103 @@
+package cn.refinex.core.logging.support;
+
+import cn.refinex.core.util.StringUtils;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 日志敏感字段脱敏
+ * <p>
+ * 将 JSON 文本中指定字段（忽略大小写）的值替换为 {@code "***"}，请求日志切面与请求过滤器的响应体日志共用。
+ * 被截断的文本中未闭合的字符串值同样会被替换，避免截断位置恰好在敏感值中间时泄露前半段。
+ * <p>
+ * 所有字段合并为一个正则，字段列表变化时（如配置刷新）重新编译。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class SensitiveFieldMasker {
+
+    /**
+     * 脱敏后的值
+     */
+    private static final String MASKED_VALUE = "\"***\"";
+
+    private final Supplier<List<String>> fieldsSupplier;
+
+    /**
+     * 当前编译结果
+     */
+    private volatile Compiled compiled = new Compiled(List.of(), null);
+
+    /**
+     * 构造函数
+     *
+     * @param fieldsSupplier 敏感字段名称，每次脱敏时读取
+     */
+    public SensitiveFieldMasker(Supplier<List<String>> fieldsSupplier) {
+        this.fieldsSupplier = fieldsSupplier;
+    }
+
+    /**
+     * 对敏感字段进行脱敏处理
+     *
+     * @param payload 原始字符串
+     * @return 脱敏后的字符串
+     */
+    public @Nullable String mask(@Nullable String payload) {
+        if (StringUtils.isBlank(payload)) {
+            return payload;
+        }
+
+        Pattern pattern = currentPattern();
+        if (pattern == null) {
+            return payload;
+        }
+        Matcher matcher = pattern.matcher(payload);
+        if (!matcher.find()) {
+            return payload;
+        }
+
+        StringBuilder buffer = new StringBuilder(payload.length());
+        do {
+            matcher.appendReplacement(buffer, Matcher.quoteReplacement(matcher.group(1) + MASKED_VALUE));
+        } while (matcher.find());
+        matcher.appendTail(buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * 获取与当前字段列表对应的正则
+     *
+     * @return 正则，没有敏感字段时为 null
+     */
+    private @Nullable Pattern currentPattern() {
+        List<String> fields = fieldsSupplier.get();
+        Compiled current = compiled;
+        if (current.fields().equals(fields)) {
+            return current.pattern();
+        }
+
+        List<String> snapshot = List.copyOf(fields);
+        Pattern pattern = snapshot.isEmpty() ? null : Pattern.compile(
+                "(\"(?:" + snapshot.stream().map(Pattern::quote).collect(Collectors.joining("|")) + ")\"\\s*:\\s*)"
+                        + "(\"(?:[^\"\\\\]|\\\\.)*(?:\"|$)|-?\\d+(?:\\.\\d+)?|true|false|null)",
+                Pattern.CASE_INSENSITIVE);
+        compiled = new Compiled(snapshot, pattern);
+        return pattern;
+    }
+
+    /**
+     * 编译结果
+     *
+     * @param fields  字段列表
+     * @param pattern 正则
+     */
+    private record Compiled(List<String> fields, @Nullable Pattern pattern) {
+    }
+}
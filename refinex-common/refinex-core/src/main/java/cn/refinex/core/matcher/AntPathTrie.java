@@ -0,0 +1,392 @@
+package cn.refinex.core.matcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Ant 风格路径模式的编译结果（按路径段构建的前缀树）
+ * <p>
+ * 所有模式在构建时合并为一棵树：字面量段走哈希表，{@code *}、{@code {var}} 匹配单个段，
+ * {@code **} 匹配零个或多个段，{@code *.html}、{@code v?} 等段内通配符以正则匹配单个段。
+ * 匹配时以 NFA 方式在路径上单次遍历，同时推进所有仍可能匹配的节点，耗时与模式数量无关，
+ * 只取决于路径段数和同时活跃的节点数。
+ * <p>
+ * 匹配结果与 Spring {@code AntPathMatcher} 一致，包括末尾斜杠：模式不以 {@code **} 结尾时，路径与模式是否以 "/" 结尾须相同；
+ * 例外是以单个 {@code *} 结尾（且之前没有 {@code **}）的模式，匹配少一段且以 "/" 结尾的路径，如 {@code /api/*} 匹配 {@code /api/}。
+ * <p>
+ * 实例不可变，可在多线程间共享；模式变化时重新编译并整体替换（见 {@link RefreshablePathMatcher}）。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class AntPathTrie {
+
+    /**
+     * 未匹配
+     */
+    public static final int NO_MATCH = -1;
+
+    /**
+     * 空模式集合，不匹配任何路径
+     */
+    public static final AntPathTrie EMPTY = compile(List.of(), false);
+
+    /**
+     * 根节点
+     */
+    private final Node root;
+
+    /**
+     * 编译的模式（按配置顺序）
+     */
+    private final List<String> patterns;
+
+    /**
+     * 是否忽略大小写
+     */
+    private final boolean caseInsensitive;
+
+    private AntPathTrie(Node root, List<String> patterns, boolean caseInsensitive) {
+        this.root = root;
+        this.patterns = patterns;
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    /**
+     * 编译路径模式
+     *
+     * @param patterns        路径模式，空白项被忽略
+     * @param caseInsensitive 是否忽略大小写
+     * @return 编译结果
+     */
+    public static AntPathTrie compile(Collection<String> patterns, boolean caseInsensitive) {
+        Node root = new Node(false, false);
+        List<String> compiled = new ArrayList<>(patterns.size());
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isBlank()) {
+                continue;
+            }
+            String normalized = caseInsensitive ? pattern.trim().toLowerCase(Locale.ROOT) : pattern.trim();
+            List<String> segments = tokenize(normalized);
+            Node node = root;
+            for (String segment : segments) {
+                node = node.child(segment, caseInsensitive);
+            }
+
+            int index = compiled.size();
+            String last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if ("**".equals(last)) {
+                node.terminal = earliest(node.terminal, index);
+                node.slashTerminal = earliest(node.slashTerminal, index);
+            } else if (normalized.endsWith("/")) {
+                node.slashTerminal = earliest(node.slashTerminal, index);
+            } else {
+                node.terminal = earliest(node.terminal, index);
+            }
+            if ("*".equals(last) && !node.underDeep) {
+                node.starTerminal = earliest(node.starTerminal, index);
+            }
+            compiled.add(pattern.trim());
+        }
+        return new AntPathTrie(root, List.copyOf(compiled), caseInsensitive);
+    }
+
+    /**
+     * 是否匹配任一模式
+     *
+     * @param path 请求路径
+     * @return true 匹配
+     */
+    public boolean matches(String path) {
+        return match(path) != NO_MATCH;
+    }
+
+    /**
+     * 返回匹配的第一个模式（按配置顺序）
+     *
+     * @param path 请求路径
+     * @return 模式，未匹配时为 null
+     */
+    public String matchPattern(String path) {
+        int index = match(path);
+        return index == NO_MATCH ? null : patterns.get(index);
+    }
+
+    /**
+     * 返回匹配的第一个模式（按配置顺序）的下标
+     *
+     * @param path 请求路径
+     * @return 模式下标，未匹配时为 {@link #NO_MATCH}
+     */
+    public int match(String path) {
+        if (patterns.isEmpty() || path == null) {
+            return NO_MATCH;
+        }
+
+        String target = caseInsensitive ? path.toLowerCase(Locale.ROOT) : path;
+        List<Node> current = new ArrayList<>(4);
+        enter(current, root);
+
+        int length = target.length();
+        int start = 0;
+        while (start < length && !current.isEmpty()) {
+            if (target.charAt(start) == '/') {
+                start++;
+                continue;
+            }
+            int end = target.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            String segment = target.substring(start, end);
+
+            List<Node> next = new ArrayList<>(4);
+            for (Node node : current) {
+                if (node.deep) {
+                    enter(next, node);
+                }
+                Node literal = node.literals.get(segment);
+                if (literal != null) {
+                    enter(next, literal);
+                }
+                if (node.any != null) {
+                    enter(next, node.any);
+                }
+                for (GlobEdge glob : node.globs) {
+                    if (glob.pattern().matcher(segment).matches()) {
+                        enter(next, glob.node());
+                    }
+                }
+            }
+            current = next;
+            start = end;
+        }
+
+        boolean trailingSlash = target.endsWith("/");
+        int best = NO_MATCH;
+        for (Node node : current) {
+            best = earliest(best, trailingSlash ? node.slashTerminal : node.terminal);
+            // 以 "/" 结尾的路径可以匹配在此之后只剩一个 "*" 段的模式
+            if (trailingSlash && node.any != null) {
+                best = earliest(best, node.any.starTerminal);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 获取编译的模式
+     *
+     * @return 模式（按配置顺序）
+     */
+    public List<String> patterns() {
+        return patterns;
+    }
+
+    /**
+     * 是否没有任何模式
+     *
+     * @return true 为空
+     */
+    public boolean isEmpty() {
+        return patterns.isEmpty();
+    }
+
+    /**
+     * 取两个模式下标中较早的一个
+     *
+     * @param current 当前下标，可为 {@link #NO_MATCH}
+     * @param index   候选下标，可为 {@link #NO_MATCH}
+     * @return 较早的下标
+     */
+    private static int earliest(int current, int index) {
+        if (current == NO_MATCH) {
+            return index;
+        }
+        return index == NO_MATCH ? current : Math.min(current, index);
+    }
+
+    /**
+     * 激活节点；节点后接 {@code **} 时其可以匹配零个段，一并激活
+     *
+     * @param states 活跃节点
+     * @param node   节点
+     */
+    private static void enter(List<Node> states, Node node) {
+        for (Node state : states) {
+            if (state == node) {
+                return;
+            }
+        }
+        states.add(node);
+        if (node.anyDeep != null) {
+            enter(states, node.anyDeep);
+        }
+    }
+
+    /**
+     * 按 "/" 拆分路径段，忽略空段
+     *
+     * @param path 路径
+     * @return 路径段
+     */
+    private static List<String> tokenize(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 树节点
+     */
+    private static final class Node {
+
+        /**
+         * 字面量段 -> 子节点
+         */
+        private final Map<String, Node> literals = new HashMap<>();
+
+        /**
+         * 段内通配符 -> 子节点
+         */
+        private final List<GlobEdge> globs = new ArrayList<>();
+
+        /**
+         * 是否为 {@code **} 节点（可以连续匹配任意个段）
+         */
+        private final boolean deep;
+
+        /**
+         * 祖先节点中是否有 {@code **} 节点
+         */
+        private final boolean underDeep;
+
+        /**
+         * 单段通配（{@code *} 或 {@code {var}}）子节点
+         */
+        private Node any;
+
+        /**
+         * 多段通配（{@code **}）子节点
+         */
+        private Node anyDeep;
+
+        /**
+         * 在此结束、不以 "/" 结尾的第一个模式下标（以 {@code **} 结尾的模式同时记入两种结尾）
+         */
+        private int terminal = NO_MATCH;
+
+        /**
+         * 在此结束、以 "/" 结尾的第一个模式下标
+         */
+        private int slashTerminal = NO_MATCH;
+
+        /**
+         * 在此结束、最后一段为 {@code *} 且之前没有 {@code **} 的第一个模式下标
+         */
+        private int starTerminal = NO_MATCH;
+
+        private Node(boolean deep, boolean underDeep) {
+            this.deep = deep;
+            this.underDeep = underDeep;
+        }
+
+        /**
+         * 获取或创建子节点
+         *
+         * @param segment         模式段
+         * @param caseInsensitive 是否忽略大小写
+         * @return 子节点
+         */
+        private Node child(String segment, boolean caseInsensitive) {
+            if ("**".equals(segment)) {
+                if (anyDeep == null) {
+                    anyDeep = new Node(true, deep || underDeep);
+                }
+                return anyDeep;
+            }
+            if ("*".equals(segment) || isVariable(segment)) {
+                if (any == null) {
+                    any = new Node(false, deep || underDeep);
+                }
+                return any;
+            }
+            if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                for (GlobEdge glob : globs) {
+                    if (glob.source().equals(segment)) {
+                        return glob.node();
+                    }
+                }
+                GlobEdge glob = new GlobEdge(segment, toRegex(segment, caseInsensitive), new Node(false, deep || underDeep));
+                globs.add(glob);
+                return glob.node();
+            }
+            return literals.computeIfAbsent(segment, key -> new Node(false, deep || underDeep));
+        }
+
+        /**
+         * 是否为完整的路径变量段（如 {@code {id}}）
+         *
+         * @param segment 模式段
+         * @return true 路径变量
+         */
+        private static boolean isVariable(String segment) {
+            return segment.length() > 2 && segment.charAt(0) == '{' && segment.indexOf('}') == segment.length() - 1;
+        }
+
+        /**
+         * 将段内通配符转换为正则：{@code *} 与 {@code {var}} 匹配任意字符，{@code ?} 匹配单个字符
+         *
+         * @param segment         模式段
+         * @param caseInsensitive 是否忽略大小写
+         * @return 正则
+         */
+        private static Pattern toRegex(String segment, boolean caseInsensitive) {
+            StringBuilder regex = new StringBuilder();
+            StringBuilder literal = new StringBuilder();
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                int close = c == '{' ? segment.indexOf('}', i) : -1;
+                if (c != '*' && c != '?' && close < 0) {
+                    literal.append(c);
+                    continue;
+                }
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                if (c == '?') {
+                    regex.append('.');
+                } else {
+                    regex.append(".*");
+                    if (close > 0) {
+                        i = close;
+                    }
+                }
+            }
+            if (!literal.isEmpty()) {
+                regex.append(Pattern.quote(literal.toString()));
+            }
+            return Pattern.compile(regex.toString(), caseInsensitive ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+        }
+    }
+
+    /**
+     * 段内通配符边
+     *
+     * @param source  模式段
+     * @param pattern 段正则
+     * @param node    子节点
+     */
+    private record GlobEdge(String source, Pattern pattern, Node node) {
+    }
+}
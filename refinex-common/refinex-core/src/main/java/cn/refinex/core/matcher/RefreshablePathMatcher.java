@@ -0,0 +1,77 @@
+package cn.refinex.core.matcher;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 随配置刷新的路径匹配器
+ * <p>
+ * 每次匹配时从配置读取模式列表，列表实例变化（Nacos 刷新后配置绑定会替换列表）时重新编译
+ * {@link AntPathTrie} 并整体替换；列表未变化时只有一次引用比较，不重复编译。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class RefreshablePathMatcher {
+
+    /**
+     * 模式来源
+     */
+    private final Supplier<? extends List<String>> source;
+
+    /**
+     * 是否忽略大小写
+     */
+    private final boolean caseInsensitive;
+
+    /**
+     * 当前编译结果及其对应的模式列表
+     */
+    private volatile Compiled compiled;
+
+    /**
+     * 构造函数
+     *
+     * @param source          模式来源（通常为配置类的 getter）
+     * @param caseInsensitive 是否忽略大小写
+     */
+    public RefreshablePathMatcher(Supplier<? extends List<String>> source, boolean caseInsensitive) {
+        this.source = source;
+        this.caseInsensitive = caseInsensitive;
+    }
+
+    /**
+     * 是否匹配任一模式
+     *
+     * @param path 请求路径
+     * @return true 匹配
+     */
+    public boolean matches(String path) {
+        return current().matches(path);
+    }
+
+    /**
+     * 获取当前编译结果，模式列表变化时重新编译
+     *
+     * @return 编译结果
+     */
+    public AntPathTrie current() {
+        List<String> patterns = source.get();
+        Compiled snapshot = compiled;
+        if (snapshot == null || snapshot.patterns() != patterns) {
+            AntPathTrie trie = patterns == null ? AntPathTrie.EMPTY : AntPathTrie.compile(patterns, caseInsensitive);
+            snapshot = new Compiled(patterns, trie);
+            compiled = snapshot;
+        }
+        return snapshot.trie();
+    }
+
+    /**
+     * 编译结果
+     *
+     * @param patterns 模式列表（用于判断是否变化）
+     * @param trie     编译结果
+     */
+    private record Compiled(List<String> patterns, AntPathTrie trie) {
+    }
+}
@@ -1,17 +1,23 @@
 package cn.refinex.core.util;
 
+import cn.hutool.core.convert.Convert;
 import cn.hutool.core.util.ClassUtil;
 import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 反射工具类
@@ -26,6 +32,10 @@ import java.util.stream.Collectors;
  *   <li>泛型处理：获取泛型类型、泛型参数</li>
  *   <li>属性拷贝：对象属性复制、深拷贝</li>
  * </ul>
+ * <p>
+ * 字段、方法等元数据按类建立索引并保存在 {@link ClassValue} 中：查询无全局锁，
+ * 类卸载时索引随之回收。方法调用与字段读写优先通过缓存的 {@link MethodHandle} 执行。
+ * </p>
  *
  * @author Refinex
  * @since 1.0.0
@@ -35,24 +45,32 @@ import java.util.stream.Collectors;
 public final class ReflectUtils {
 
     /**
-     * 方法缓存
+     * 缓存最大容量
      */
-    private static final Map<String, Method> METHOD_CACHE = new ConcurrentHashMap<>(256);
+    private static final int MAX_CACHE_SIZE = 500;
 
     /**
-     * 字段缓存
+     * 类缓存（弱引用值，不阻止类卸载）
      */
-    private static final Map<String, Field> FIELD_CACHE = new ConcurrentHashMap<>(256);
+    private static final Cache<String, Class<?>> CLASS_CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHE_SIZE)
+            .weakValues()
+            .build();
 
     /**
-     * 类缓存
+     * 用于生成 MethodHandle 的 Lookup
      */
-    private static final Map<String, Class<?>> CLASS_CACHE = new ConcurrentHashMap<>(128);
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
     /**
-     * 缓存最大容量
+     * 累计建立索引的类数量
      */
-    private static final int MAX_CACHE_SIZE = 500;
+    private static final LongAdder INDEXED_CLASS_COUNT = new LongAdder();
+
+    /**
+     * 类元数据索引，清除缓存时整体替换
+     */
+    private static volatile ClassValue<ClassMetadata> metadataIndex = newMetadataIndex();
 
     // ==================== 类操作 ====================
 
@@ -82,7 +100,7 @@ public final class ReflectUtils {
         validateNotBlank(className, "类名不能为空");
 
         // 从缓存中获取
-        Class<?> cachedClass = CLASS_CACHE.get(className);
+        Class<?> cachedClass = CLASS_CACHE.getIfPresent(className);
         if (cachedClass != null) {
             return cachedClass;
         }
@@ -90,7 +108,7 @@ public final class ReflectUtils {
         try {
             Class<?> clazz = ClassUtil.loadClass(className, initialize);
             if (clazz != null) {
-                cacheClass(className, clazz);
+                CLASS_CACHE.put(className, clazz);
             }
             return clazz;
         } catch (Exception e) {
@@ -365,7 +383,7 @@ public final class ReflectUtils {
         validateNotBlank(methodName, "方法名不能为空");
 
         try {
-            return (T) ReflectUtil.invoke(obj, methodName, args);
+            return (T) metadata(obj.getClass()).invoke(obj, methodName, args);
         } catch (Exception e) {
             log.error("调用方法失败: {}.{}, 参数: {}",
                     obj.getClass().getName(), methodName, Arrays.toString(args), e);
@@ -389,22 +407,7 @@ public final class ReflectUtils {
         validateNotBlank(methodName, "方法名不能为空");
 
         try {
-            Method method = getMethod(clazz, methodName, getParameterTypes(args));
-            if (method == null) {
-                log.error("未找到静态方法: {}.{}", clazz.getName(), methodName);
-                return null;
-            }
-
-            // 仅在必要时尝试解除访问限制
-            if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
-                try {
-                    method.setAccessible(true);
-                } catch (Exception e) {
-                    log.warn("方法访问受限 (JDK17+ 模块系统)：{}.{}", clazz.getName(), methodName);
-                }
-            }
-
-            return (T) method.invoke(null, args);
+            return (T) metadata(clazz).invoke(null, methodName, args);
         } catch (Exception e) {
             log.error("调用静态方法失败: {}.{}, 参数: {}", clazz.getName(), methodName, Arrays.toString(args), e);
             return null;
@@ -424,18 +427,8 @@ public final class ReflectUtils {
         validateNotNull(clazz, "类对象不能为null");
         validateNotBlank(methodName, "方法名不能为空");
 
-        String cacheKey = generateMethodCacheKey(clazz, methodName, parameterTypes);
-        Method cachedMethod = METHOD_CACHE.get(cacheKey);
-        if (cachedMethod != null) {
-            return cachedMethod;
-        }
-
         try {
-            Method method = ReflectUtil.getMethod(clazz, methodName, parameterTypes);
-            if (method != null) {
-                cacheMethod(cacheKey, method);
-            }
-            return method;
+            return metadata(clazz).findMethod(methodName, parameterTypes);
         } catch (Exception e) {
             log.error("获取方法失败: {}.{}", clazz.getName(), methodName, e);
             return null;
@@ -451,7 +444,7 @@ public final class ReflectUtils {
      */
     public static List<Method> getAllMethods(Class<?> clazz) {
         validateNotNull(clazz, "类对象不能为null");
-        return Arrays.asList(ReflectUtil.getMethods(clazz));
+        return metadata(clazz).methods();
     }
 
     /**
@@ -536,8 +529,11 @@ public final class ReflectUtils {
         validateNotNull(obj, "对象实例不能为null");
         validateNotBlank(fieldName, "字段名不能为空");
 
+        // 与 Hutool 保持一致：传入 Class 时读取其静态字段
+        Class<?> clazz = obj instanceof Class<?> type ? type : obj.getClass();
         try {
-            return (T) ReflectUtil.getFieldValue(obj, fieldName);
+            FieldAccessor accessor = metadata(clazz).findFieldAccessor(fieldName);
+            return accessor == null ? null : (T) accessor.get(obj);
         } catch (Exception e) {
             log.error("获取字段值失败: {}.{}", obj.getClass().getName(), fieldName, e);
             return null;
@@ -559,13 +555,12 @@ public final class ReflectUtils {
         validateNotBlank(fieldName, "字段名不能为空");
 
         try {
-            Field field = getField(clazz, fieldName);
-            if (field == null) {
+            FieldAccessor accessor = metadata(clazz).findFieldAccessor(fieldName);
+            if (accessor == null) {
                 log.error("获取静态字段值失败，未找到静态字段: {}.{}", clazz.getName(), fieldName);
                 return null;
             }
-            field.setAccessible(true);
-            return (T) field.get(null);
+            return (T) accessor.get(null);
         } catch (Exception e) {
             log.error("获取静态字段值失败: {}.{}", clazz.getName(), fieldName, e);
             return null;
@@ -584,8 +579,14 @@ public final class ReflectUtils {
         validateNotNull(obj, "对象实例不能为null");
         validateNotBlank(fieldName, "字段名不能为空");
 
+        Class<?> clazz = obj instanceof Class<?> type ? type : obj.getClass();
         try {
-            ReflectUtil.setFieldValue(obj, fieldName, value);
+            FieldAccessor accessor = metadata(clazz).findFieldAccessor(fieldName);
+            if (accessor == null) {
+                log.error("设置字段值失败，未找到字段: {}.{}", clazz.getName(), fieldName);
+                return;
+            }
+            accessor.set(obj, value);
         } catch (Exception e) {
             log.error("设置字段值失败: {}.{} = {}", obj.getClass().getName(), fieldName, value, e);
         }
@@ -605,13 +606,12 @@ public final class ReflectUtils {
         validateNotBlank(fieldName, "字段名不能为空");
 
         try {
-            Field field = getField(clazz, fieldName);
-            if (field == null) {
+            FieldAccessor accessor = metadata(clazz).findFieldAccessor(fieldName);
+            if (accessor == null) {
                 log.error("未找到静态字段: {}.{}", clazz.getName(), fieldName);
                 return false;
             }
-            field.setAccessible(true);
-            field.set(null, value);
+            accessor.set(null, value);
             return true;
         } catch (Exception e) {
             log.error("设置静态字段值失败: {}.{} = {}", clazz.getName(), fieldName, value, e);
@@ -631,18 +631,8 @@ public final class ReflectUtils {
         validateNotNull(clazz, "类对象不能为null");
         validateNotBlank(fieldName, "字段名不能为空");
 
-        String cacheKey = clazz.getName() + "#" + fieldName;
-        Field cachedField = FIELD_CACHE.get(cacheKey);
-        if (cachedField != null) {
-            return cachedField;
-        }
-
         try {
-            Field field = ReflectUtil.getField(clazz, fieldName);
-            if (field != null) {
-                cacheField(cacheKey, field);
-            }
-            return field;
+            return metadata(clazz).findField(fieldName);
         } catch (Exception e) {
             log.error("获取字段失败: {}.{}", clazz.getName(), fieldName, e);
             return null;
@@ -658,7 +648,7 @@ public final class ReflectUtils {
      */
     public static List<Field> getAllFields(Class<?> clazz) {
         validateNotNull(clazz, "类对象不能为null");
-        return Arrays.asList(ReflectUtil.getFields(clazz));
+        return metadata(clazz).fields();
     }
 
     /**
@@ -939,15 +929,11 @@ public final class ReflectUtils {
         validateNotNull(target, "目标对象不能为null");
 
         try {
-            List<Field> sourceFields = getAllFields(source.getClass());
-            List<Field> targetFields = getAllFields(target.getClass());
+            ClassMetadata targetMetadata = metadata(target.getClass());
 
-            Map<String, Field> targetFieldMap = targetFields.stream()
-                    .collect(Collectors.toMap(Field::getName, field -> field, (f1, f2) -> f1));
-
-            for (Field sourceField : sourceFields) {
+            for (Field sourceField : getAllFields(source.getClass())) {
                 String fieldName = sourceField.getName();
-                Field targetField = targetFieldMap.get(fieldName);
+                Field targetField = targetMetadata.findField(fieldName);
 
                 if (targetField != null && isFinalField(targetField)) {
                     Object value = getFieldValue(source, fieldName);
@@ -978,67 +964,40 @@ public final class ReflectUtils {
     // ==================== 缓存管理 ====================
 
     /**
-     * 缓存类对象
-     *
-     * @param className 类名
-     * @param clazz     类对象
-     */
-    private static synchronized void cacheClass(String className, Class<?> clazz) {
-        if (CLASS_CACHE.size() >= MAX_CACHE_SIZE) {
-            clearOldestCache(CLASS_CACHE);
-        }
-        CLASS_CACHE.put(className, clazz);
-    }
-
-    /**
-     * 缓存方法对象
+     * 获取类元数据索引
      *
-     * @param cacheKey 缓存键
-     * @param method   方法对象
-     */
-    private static synchronized void cacheMethod(String cacheKey, Method method) {
-        if (METHOD_CACHE.size() >= MAX_CACHE_SIZE) {
-            clearOldestCache(METHOD_CACHE);
-        }
-        METHOD_CACHE.put(cacheKey, method);
-    }
-
-    /**
-     * 缓存字段对象
-     *
-     * @param cacheKey 缓存键
-     * @param field    字段对象
+     * @param clazz 类对象
+     * @return 类元数据
      */
-    private static synchronized void cacheField(String cacheKey, Field field) {
-        if (FIELD_CACHE.size() >= MAX_CACHE_SIZE) {
-            clearOldestCache(FIELD_CACHE);
-        }
-        FIELD_CACHE.put(cacheKey, field);
+    private static ClassMetadata metadata(Class<?> clazz) {
+        return metadataIndex.get(clazz);
     }
 
     /**
-     * 清除最旧的缓存
+     * 创建类元数据索引
      *
-     * @param <K>   键类型
-     * @param <V>   值类型
-     * @param cache 缓存Map
-     */
-    private static <K, V> void clearOldestCache(Map<K, V> cache) {
-        Iterator<K> iterator = cache.keySet().iterator();
-        for (int i = 0; i < 250 && iterator.hasNext(); i++) {
-            iterator.next();
-            iterator.remove();
-        }
-        log.debug("清除{}个最旧的缓存", 250);
+     * @return 类元数据索引
+     */
+    private static ClassValue<ClassMetadata> newMetadataIndex() {
+        return new ClassValue<>() {
+            @Override
+            protected ClassMetadata computeValue(Class<?> type) {
+                INDEXED_CLASS_COUNT.increment();
+                return new ClassMetadata(type);
+            }
+        };
     }
 
     /**
      * 清除所有缓存
+     * <p>
+     * {@link ClassValue} 无法遍历清空，这里整体替换索引实例，旧索引随其实例一起被回收。
+     * </p>
      */
-    public static synchronized void clearAllCaches() {
-        METHOD_CACHE.clear();
-        FIELD_CACHE.clear();
-        CLASS_CACHE.clear();
+    public static void clearAllCaches() {
+        metadataIndex = newMetadataIndex();
+        INDEXED_CLASS_COUNT.reset();
+        CLASS_CACHE.invalidateAll();
         log.info("所有反射缓存已清除");
     }
 
@@ -1049,40 +1008,13 @@ public final class ReflectUtils {
      */
     public static Map<String, Integer> getCacheSizes() {
         Map<String, Integer> sizes = HashMap.newHashMap(4);
-        sizes.put("methodCache", METHOD_CACHE.size());
-        sizes.put("fieldCache", FIELD_CACHE.size());
-        sizes.put("classCache", CLASS_CACHE.size());
+        sizes.put("classCache", (int) CLASS_CACHE.estimatedSize());
+        sizes.put("indexedClasses", INDEXED_CLASS_COUNT.intValue());
         return sizes;
     }
 
     // ==================== 工具方法 ====================
 
-    /**
-     * 生成方法缓存键
-     *
-     * @param clazz          类对象
-     * @param methodName     方法名
-     * @param parameterTypes 参数类型数组
-     * @return 缓存键
-     */
-    private static String generateMethodCacheKey(Class<?> clazz, String methodName, Class<?>[] parameterTypes) {
-        StringBuilder key = new StringBuilder(clazz.getName())
-                .append("#")
-                .append(methodName)
-                .append("(");
-
-        if (parameterTypes != null && parameterTypes.length > 0) {
-            for (int i = 0; i < parameterTypes.length; i++) {
-                if (i > 0) {
-                    key.append(",");
-                }
-                key.append(parameterTypes[i].getName());
-            }
-        }
-        key.append(")");
-        return key.toString();
-    }
-
     /**
      * 获取参数类型数组
      *
@@ -1125,4 +1057,287 @@ public final class ReflectUtils {
             throw new IllegalArgumentException(message);
         }
     }
+
+    // ==================== 类元数据 ====================
+
+    /**
+     * 单个类的反射元数据
+     * <p>
+     * 字段在建立索引时一次性解析；方法列表、方法查找结果与 MethodHandle 在首次使用时解析并缓存。
+     * 仅当参数类型与当前类处于同一类加载器（或为启动类加载器）时才缓存方法查找结果，
+     * 避免父加载器中的类持有子加载器类型而阻止其卸载。
+     * </p>
+     */
+    private static final class ClassMetadata {
+
+        /**
+         * 类对象
+         */
+        private final Class<?> type;
+
+        /**
+         * 全部字段（含父类字段）
+         */
+        private final List<Field> fields;
+
+        /**
+         * 字段名 -> 字段，子类字段优先
+         */
+        private final Map<String, Field> fieldsByName;
+
+        /**
+         * 全部方法（延迟解析）
+         */
+        private volatile List<Method> methods;
+
+        /**
+         * 方法查找结果
+         */
+        private final Map<MethodKey, Optional<Method>> methodLookups = new ConcurrentHashMap<>();
+
+        /**
+         * 方法 -> 调用句柄，无法生成句柄时为空
+         */
+        private final Map<Method, Optional<MethodHandle>> methodHandles = new ConcurrentHashMap<>();
+
+        /**
+         * 字段名 -> 字段访问器
+         */
+        private final Map<String, FieldAccessor> fieldAccessors = new ConcurrentHashMap<>();
+
+        ClassMetadata(Class<?> type) {
+            this.type = type;
+            this.fields = List.of(ReflectUtil.getFields(type));
+
+            Map<String, Field> byName = HashMap.newHashMap(fields.size());
+            for (Field field : fields) {
+                byName.putIfAbsent(ReflectUtil.getFieldName(field), field);
+            }
+            this.fieldsByName = Map.copyOf(byName);
+        }
+
+        List<Field> fields() {
+            return fields;
+        }
+
+        Field findField(String name) {
+            return fieldsByName.get(name);
+        }
+
+        List<Method> methods() {
+            List<Method> result = methods;
+            if (result == null) {
+                result = List.of(ReflectUtil.getMethods(type));
+                methods = result;
+            }
+            return result;
+        }
+
+        Method findMethod(String name, Class<?>[] parameterTypes) {
+            MethodKey key = new MethodKey(name, parameterTypes == null ? new Class<?>[0] : parameterTypes);
+            Optional<Method> cached = methodLookups.get(key);
+            if (cached != null) {
+                return cached.orElse(null);
+            }
+
+            Method method = ReflectUtil.getMethod(type, name, key.parameterTypes());
+            if (isSameLoader(key.parameterTypes())) {
+                methodLookups.putIfAbsent(key, Optional.ofNullable(method));
+            }
+            return method;
+        }
+
+        /**
+         * 按实参类型查找方法并调用
+         *
+         * @param target 目标对象，静态方法传 null
+         * @param name   方法名
+         * @param args   方法参数
+         * @return 方法返回值，void 方法返回 null
+         * @throws ReflectiveOperationException 未找到方法或方法执行抛出异常
+         */
+        Object invoke(Object target, String name, Object[] args) throws ReflectiveOperationException {
+            Object[] actualArgs = args == null ? new Object[0] : args;
+            Method method = findMethod(name, getParameterTypes(actualArgs));
+            if (method == null) {
+                throw new NoSuchMethodException(type.getName() + "." + name);
+            }
+
+            MethodHandle handle = methodHandles.computeIfAbsent(method, ClassMetadata::toInvoker).orElse(null);
+            if (handle == null) {
+                // 无法生成句柄（如模块系统限制），退回反射调用
+                return method.invoke(target, actualArgs);
+            }
+            try {
+                return (Object) handle.invokeExact(target, actualArgs);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        FieldAccessor findFieldAccessor(String name) {
+            FieldAccessor accessor = fieldAccessors.get(name);
+            if (accessor != null) {
+                return accessor;
+            }
+            Field field = findField(name);
+            return field == null ? null : fieldAccessors.computeIfAbsent(name, key -> FieldAccessor.of(field));
+        }
+
+        /**
+         * 参数类型是否均由当前类的类加载器或启动类加载器加载
+         *
+         * @param parameterTypes 参数类型
+         * @return 是否可以缓存
+         */
+        private boolean isSameLoader(Class<?>[] parameterTypes) {
+            ClassLoader loader = type.getClassLoader();
+            for (Class<?> parameterType : parameterTypes) {
+                ClassLoader parameterLoader = parameterType.getClassLoader();
+                if (parameterLoader != null && parameterLoader != loader) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 生成统一签名 (Object, Object[])Object 的调用句柄
+         *
+         * @param method 方法对象
+         * @return 调用句柄，无法生成时为空
+         */
+        private static Optional<MethodHandle> toInvoker(Method method) {
+            try {
+                ReflectUtil.setAccessible(method);
+                boolean isStatic = Modifier.isStatic(method.getModifiers());
+                int parameterCount = method.getParameterCount();
+
+                MethodHandle handle = LOOKUP.unreflect(method).asFixedArity();
+                handle = handle.asType(MethodType.genericMethodType(parameterCount + (isStatic ? 0 : 1)))
+                        .asSpreader(Object[].class, parameterCount);
+                if (isStatic) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                return Optional.of(handle);
+            } catch (IllegalAccessException | RuntimeException e) {
+                log.debug("无法为方法生成 MethodHandle，使用反射调用: {}", method, e);
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * 方法查找键
+     *
+     * @param name           方法名
+     * @param parameterTypes 参数类型
+     */
+    private record MethodKey(String name, Class<?>[] parameterTypes) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MethodKey(String otherName, Class<?>[] otherTypes)
+                    && name.equals(otherName)
+                    && Arrays.equals(parameterTypes, otherTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public String toString() {
+            return name + Arrays.toString(parameterTypes);
+        }
+    }
+
+    /**
+     * 字段访问器
+     * <p>
+     * getter 签名为 (Object)Object，setter 签名为 (Object, Object)void，静态字段忽略第一个参数；
+     * 无法生成句柄时为 null，退回 {@link Field} 反射读写。
+     * </p>
+     *
+     * @param field  字段对象
+     * @param getter 读取句柄
+     * @param setter 写入句柄
+     */
+    private record FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+
+        static FieldAccessor of(Field field) {
+            MethodHandle getter = null;
+            MethodHandle setter = null;
+            try {
+                ReflectUtil.setAccessible(field);
+                boolean isStatic = Modifier.isStatic(field.getModifiers());
+
+                getter = LOOKUP.unreflectGetter(field);
+                if (isStatic) {
+                    getter = MethodHandles.dropArguments(getter, 0, Object.class);
+                }
+                getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+
+                // 静态 final 字段不可写，保留 getter 即可
+                if (!(isStatic && Modifier.isFinal(field.getModifiers()))) {
+                    setter = LOOKUP.unreflectSetter(field);
+                    if (isStatic) {
+                        setter = MethodHandles.dropArguments(setter, 0, Object.class);
+                    }
+                    setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+                }
+            } catch (IllegalAccessException | RuntimeException e) {
+                log.debug("无法为字段生成 MethodHandle，使用反射读写: {}", field, e);
+            }
+            return new FieldAccessor(field, getter, setter);
+        }
+
+        Object get(Object target) {
+            if (getter == null) {
+                return ReflectUtil.getFieldValue(target, field);
+            }
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void set(Object target, Object value) {
+            if (setter == null) {
+                ReflectUtil.setFieldValue(target, field, value);
+                return;
+            }
+            try {
+                setter.invokeExact(target, adapt(value));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * 与 Hutool 保持一致的值适配：null 取类型默认值，类型不兼容时尝试转换
+         *
+         * @param value 原始值
+         * @return 适配后的值
+         */
+        private Object adapt(Object value) {
+            Class<?> fieldType = field.getType();
+            if (value == null) {
+                return ClassUtil.getDefaultValue(fieldType);
+            }
+            if (!ClassUtil.isAssignable(fieldType, value.getClass())) {
+                Object converted = Convert.convertQuietly(fieldType, value);
+                if (converted != null) {
+                    return converted;
+                }
+            }
+            return value;
+        }
+    }
 }
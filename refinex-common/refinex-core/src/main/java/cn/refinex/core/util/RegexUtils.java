@@ -2,6 +2,8 @@ package cn.refinex.core.util;
 
 import cn.hutool.core.util.ReUtil;
 import cn.hutool.core.util.StrUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +24,20 @@ import java.util.regex.PatternSyntaxException;
 public final class RegexUtils {
 
     /**
-     * Pattern 缓存，避免重复编译
+     * 缓存最大容量
      */
-    private static final Map<String, Pattern> PATTERN_CACHE = new HashMap<>(64);
+    private static final int MAX_CACHE_SIZE = 100;
 
     /**
-     * 缓存最大容量
+     * Pattern 缓存，避免重复编译
+     * <p>
+     * 基于 Caffeine（W-TinyLFU 淘汰、无全局锁），仅用于调用方传入的动态正则，预定义正则使用下方的静态常量。
+     * </p>
      */
-    private static final int MAX_CACHE_SIZE = 100;
+    private static final Cache<PatternKey, Pattern> PATTERN_CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHE_SIZE)
+            .recordStats()
+            .build();
 
     // ==================== 预定义正则表达式模式 ====================
 
@@ -186,6 +194,53 @@ public final class RegexUtils {
      */
     public static final String QQ = "^[1-9][0-9]{4,10}$";
 
+    // ==================== 预编译正则表达式 ====================
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL);
+    private static final Pattern MOBILE_PATTERN = Pattern.compile(MOBILE);
+    private static final Pattern TELEPHONE_PATTERN = Pattern.compile(TELEPHONE);
+    private static final Pattern ID_CARD_PATTERN = Pattern.compile(ID_CARD);
+    private static final Pattern ZIP_CODE_PATTERN = Pattern.compile(ZIP_CODE);
+    private static final Pattern IPV4_PATTERN = Pattern.compile(IPV4);
+    private static final Pattern IPV6_PATTERN = Pattern.compile(IPV6);
+    private static final Pattern URL_PATTERN = Pattern.compile(URL);
+    private static final Pattern USERNAME_PATTERN = Pattern.compile(USERNAME);
+    private static final Pattern STRONG_PASSWORD_PATTERN = Pattern.compile(STRONG_PASSWORD);
+    private static final Pattern MEDIUM_PASSWORD_PATTERN = Pattern.compile(MEDIUM_PASSWORD);
+    private static final Pattern INTEGER_PATTERN = Pattern.compile(INTEGER);
+    private static final Pattern POSITIVE_INTEGER_PATTERN = Pattern.compile(POSITIVE_INTEGER);
+    private static final Pattern NON_NEGATIVE_INTEGER_PATTERN = Pattern.compile(NON_NEGATIVE_INTEGER);
+    private static final Pattern DECIMAL_PATTERN = Pattern.compile(DECIMAL);
+    private static final Pattern NUMBER_PATTERN = Pattern.compile(NUMBER);
+    private static final Pattern CHINESE_PATTERN = Pattern.compile(CHINESE);
+    private static final Pattern LETTER_PATTERN = Pattern.compile(LETTER);
+    private static final Pattern ALPHANUMERIC_PATTERN = Pattern.compile(ALPHANUMERIC);
+    private static final Pattern DATE_PATTERN = Pattern.compile(DATE);
+    private static final Pattern TIME_PATTERN = Pattern.compile(TIME);
+    private static final Pattern DATETIME_PATTERN = Pattern.compile(DATETIME);
+    private static final Pattern BANK_CARD_PATTERN = Pattern.compile(BANK_CARD);
+    private static final Pattern CAR_NUMBER_PATTERN = Pattern.compile(CAR_NUMBER);
+    private static final Pattern MAC_ADDRESS_PATTERN = Pattern.compile(MAC_ADDRESS);
+    private static final Pattern HEX_COLOR_PATTERN = Pattern.compile(HEX_COLOR);
+    private static final Pattern WECHAT_PATTERN = Pattern.compile(WECHAT);
+    private static final Pattern QQ_PATTERN = Pattern.compile(QQ);
+    private static final Pattern DIGITS_PATTERN = Pattern.compile("\\d+");
+    private static final Pattern LETTERS_PATTERN = Pattern.compile("[a-zA-Z]+");
+    private static final Pattern CHINESE_CHARS_PATTERN = Pattern.compile("[\\u4e00-\\u9fa5]+");
+    private static final Pattern CHINESE_CHAR_PATTERN = Pattern.compile("[\\u4e00-\\u9fa5]");
+    private static final Pattern EMOJI_PATTERN = Pattern.compile("[\\ud83c\\udc00-\\ud83c\\udfff]|[\\ud83d\\udc00-\\ud83d\\udfff]|[\\u2600-\\u27ff]");
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]+>");
+    private static final Pattern SPECIAL_CHARS_PATTERN = Pattern.compile("[^a-zA-Z0-9\\u4e00-\\u9fa5\\s]");
+    private static final Pattern LOWER_CASE_PATTERN = Pattern.compile("[a-z]");
+    private static final Pattern UPPER_CASE_PATTERN = Pattern.compile("[A-Z]");
+    private static final Pattern DIGIT_PATTERN = Pattern.compile("\\d");
+    private static final Pattern NON_ALPHANUMERIC_PATTERN = Pattern.compile("[^a-zA-Z0-9]");
+    private static final Pattern MOBILE_MASK_PATTERN = Pattern.compile("(\\d{3})\\d{4}(\\d{4})");
+    private static final Pattern ID_CARD_MASK_PATTERN = Pattern.compile("(\\d{6})\\d{8}(\\d{4})");
+    private static final Pattern EMAIL_MASK_PATTERN = Pattern.compile("(\\w{1,3})\\w*@");
+    private static final Pattern BANK_CARD_MASK_PATTERN = Pattern.compile("(\\d{4})\\d*(\\d{4})");
+
     // ==================== 预定义模式验证方法 ====================
 
     /**
@@ -195,7 +250,7 @@ public final class RegexUtils {
      * @return 是否为有效邮箱
      */
     public static boolean isEmail(String email) {
-        return matches(email, EMAIL);
+        return matches(email, EMAIL_PATTERN);
     }
 
     /**
@@ -205,7 +260,7 @@ public final class RegexUtils {
      * @return 是否为有效手机号
      */
     public static boolean isMobile(String mobile) {
-        return matches(mobile, MOBILE);
+        return matches(mobile, MOBILE_PATTERN);
     }
 
     /**
@@ -215,7 +270,7 @@ public final class RegexUtils {
      * @return 是否为有效固定电话
      */
     public static boolean isTelephone(String telephone) {
-        return matches(telephone, TELEPHONE);
+        return matches(telephone, TELEPHONE_PATTERN);
     }
 
     /**
@@ -238,7 +293,7 @@ public final class RegexUtils {
      * @return 是否为有效身份证号
      */
     public static boolean isIdCard(String idCard) {
-        if (!matches(idCard, ID_CARD)) {
+        if (!matches(idCard, ID_CARD_PATTERN)) {
             return false;
         }
         return validateIdCardChecksum(idCard);
@@ -275,7 +330,7 @@ public final class RegexUtils {
      * @return 是否为有效邮政编码
      */
     public static boolean isZipCode(String zipCode) {
-        return matches(zipCode, ZIP_CODE);
+        return matches(zipCode, ZIP_CODE_PATTERN);
     }
 
     /**
@@ -285,7 +340,7 @@ public final class RegexUtils {
      * @return 是否为有效IPv4地址
      */
     public static boolean isIpv4(String ipv4) {
-        return matches(ipv4, IPV4);
+        return matches(ipv4, IPV4_PATTERN);
     }
 
     /**
@@ -295,7 +350,7 @@ public final class RegexUtils {
      * @return 是否为有效IPv6地址
      */
     public static boolean isIpv6(String ipv6) {
-        return matches(ipv6, IPV6);
+        return matches(ipv6, IPV6_PATTERN);
     }
 
     /**
@@ -305,7 +360,7 @@ public final class RegexUtils {
      * @return 是否为有效URL
      */
     public static boolean isUrl(String url) {
-        return matches(url, URL);
+        return matches(url, URL_PATTERN);
     }
 
     /**
@@ -315,7 +370,7 @@ public final class RegexUtils {
      * @return 是否为有效用户名
      */
     public static boolean isUsername(String username) {
-        return matches(username, USERNAME);
+        return matches(username, USERNAME_PATTERN);
     }
 
     /**
@@ -325,7 +380,7 @@ public final class RegexUtils {
      * @return 是否为强密码
      */
     public static boolean isStrongPassword(String password) {
-        return matches(password, STRONG_PASSWORD);
+        return matches(password, STRONG_PASSWORD_PATTERN);
     }
 
     /**
@@ -335,7 +390,7 @@ public final class RegexUtils {
      * @return 是否为中等强度密码
      */
     public static boolean isMediumPassword(String password) {
-        return matches(password, MEDIUM_PASSWORD);
+        return matches(password, MEDIUM_PASSWORD_PATTERN);
     }
 
     /**
@@ -345,7 +400,7 @@ public final class RegexUtils {
      * @return 是否为整数
      */
     public static boolean isInteger(String str) {
-        return matches(str, INTEGER);
+        return matches(str, INTEGER_PATTERN);
     }
 
     /**
@@ -355,7 +410,7 @@ public final class RegexUtils {
      * @return 是否为正整数
      */
     public static boolean isPositiveInteger(String str) {
-        return matches(str, POSITIVE_INTEGER);
+        return matches(str, POSITIVE_INTEGER_PATTERN);
     }
 
     /**
@@ -365,7 +420,7 @@ public final class RegexUtils {
      * @return 是否为非负整数
      */
     public static boolean isNonNegativeInteger(String str) {
-        return matches(str, NON_NEGATIVE_INTEGER);
+        return matches(str, NON_NEGATIVE_INTEGER_PATTERN);
     }
 
     /**
@@ -375,7 +430,7 @@ public final class RegexUtils {
      * @return 是否为浮点数
      */
     public static boolean isDecimal(String str) {
-        return matches(str, DECIMAL);
+        return matches(str, DECIMAL_PATTERN);
     }
 
     /**
@@ -385,7 +440,7 @@ public final class RegexUtils {
      * @return 是否为数字
      */
     public static boolean isNumber(String str) {
-        return matches(str, NUMBER);
+        return matches(str, NUMBER_PATTERN);
     }
 
     /**
@@ -395,7 +450,7 @@ public final class RegexUtils {
      * @return 是否全为中文字符
      */
     public static boolean isChinese(String str) {
-        return matches(str, CHINESE);
+        return matches(str, CHINESE_PATTERN);
     }
 
     /**
@@ -405,7 +460,7 @@ public final class RegexUtils {
      * @return 是否全为英文字母
      */
     public static boolean isLetter(String str) {
-        return matches(str, LETTER);
+        return matches(str, LETTER_PATTERN);
     }
 
     /**
@@ -415,7 +470,7 @@ public final class RegexUtils {
      * @return 是否全为字母和数字
      */
     public static boolean isAlphanumeric(String str) {
-        return matches(str, ALPHANUMERIC);
+        return matches(str, ALPHANUMERIC_PATTERN);
     }
 
     /**
@@ -425,7 +480,7 @@ public final class RegexUtils {
      * @return 是否为有效日期格式
      */
     public static boolean isDate(String date) {
-        return matches(date, DATE);
+        return matches(date, DATE_PATTERN);
     }
 
     /**
@@ -435,7 +490,7 @@ public final class RegexUtils {
      * @return 是否为有效时间格式
      */
     public static boolean isTime(String time) {
-        return matches(time, TIME);
+        return matches(time, TIME_PATTERN);
     }
 
     /**
@@ -445,7 +500,7 @@ public final class RegexUtils {
      * @return 是否为有效日期时间格式
      */
     public static boolean isDateTime(String datetime) {
-        return matches(datetime, DATETIME);
+        return matches(datetime, DATETIME_PATTERN);
     }
 
     /**
@@ -455,7 +510,7 @@ public final class RegexUtils {
      * @return 是否为有效银行卡号
      */
     public static boolean isBankCard(String bankCard) {
-        return matches(bankCard, BANK_CARD);
+        return matches(bankCard, BANK_CARD_PATTERN);
     }
 
     /**
@@ -465,7 +520,7 @@ public final class RegexUtils {
      * @return 是否为有效车牌号
      */
     public static boolean isCarNumber(String carNumber) {
-        return matches(carNumber, CAR_NUMBER);
+        return matches(carNumber, CAR_NUMBER_PATTERN);
     }
 
     /**
@@ -475,7 +530,7 @@ public final class RegexUtils {
      * @return 是否为有效MAC地址
      */
     public static boolean isMacAddress(String macAddress) {
-        return matches(macAddress, MAC_ADDRESS);
+        return matches(macAddress, MAC_ADDRESS_PATTERN);
     }
 
     /**
@@ -485,7 +540,7 @@ public final class RegexUtils {
      * @return 是否为有效十六进制颜色代码
      */
     public static boolean isHexColor(String hexColor) {
-        return matches(hexColor, HEX_COLOR);
+        return matches(hexColor, HEX_COLOR_PATTERN);
     }
 
     /**
@@ -495,7 +550,7 @@ public final class RegexUtils {
      * @return 是否为有效微信号
      */
     public static boolean isWechat(String wechat) {
-        return matches(wechat, WECHAT);
+        return matches(wechat, WECHAT_PATTERN);
     }
 
     /**
@@ -505,7 +560,7 @@ public final class RegexUtils {
      * @return 是否为有效QQ号
      */
     public static boolean isQQ(String qq) {
-        return matches(qq, QQ);
+        return matches(qq, QQ_PATTERN);
     }
 
     // ==================== 基础正则匹配方法 ====================
@@ -575,6 +630,62 @@ public final class RegexUtils {
         }
     }
 
+    /**
+     * 判断字符串是否匹配已编译的正则表达式
+     *
+     * @param input   输入字符串
+     * @param pattern 已编译的正则表达式
+     * @return 是否匹配
+     */
+    private static boolean matches(String input, Pattern pattern) {
+        return StrUtil.isNotBlank(input) && pattern.matcher(input).matches();
+    }
+
+    /**
+     * 判断字符串是否包含匹配已编译正则表达式的内容
+     *
+     * @param input   输入字符串
+     * @param pattern 已编译的正则表达式
+     * @return 是否包含匹配内容
+     */
+    private static boolean contains(String input, Pattern pattern) {
+        return StrUtil.isNotBlank(input) && pattern.matcher(input).find();
+    }
+
+    /**
+     * 提取所有匹配已编译正则表达式的字符串
+     *
+     * @param input   输入字符串
+     * @param pattern 已编译的正则表达式
+     * @return 所有匹配的字符串列表
+     */
+    private static List<String> extractAll(String input, Pattern pattern) {
+        if (StrUtil.isBlank(input)) {
+            return Collections.emptyList();
+        }
+        Matcher matcher = pattern.matcher(input);
+        List<String> results = new ArrayList<>();
+        while (matcher.find()) {
+            results.add(matcher.group());
+        }
+        return results;
+    }
+
+    /**
+     * 替换所有匹配已编译正则表达式的内容
+     *
+     * @param input       输入字符串
+     * @param pattern     已编译的正则表达式
+     * @param replacement 替换内容
+     * @return 替换后的字符串
+     */
+    private static String replaceAll(String input, Pattern pattern, String replacement) {
+        if (StrUtil.isBlank(input)) {
+            return input;
+        }
+        return pattern.matcher(input).replaceAll(replacement == null ? "" : replacement);
+    }
+
     // ==================== 正则提取方法 ====================
 
     /**
@@ -628,7 +739,7 @@ public final class RegexUtils {
             return Collections.emptyList();
         }
         try {
-            return ReUtil.findAll(regex, input, 0);
+            return extractAll(input, getPattern(regex));
         } catch (Exception e) {
             log.error("提取所有匹配字符串失败: regex={}, input={}", regex, input, e);
             return Collections.emptyList();
@@ -838,50 +949,51 @@ public final class RegexUtils {
 
     /**
      * 获取Pattern对象（带缓存和标志位）
+     * <p>
+     * 命中时无锁读取；未命中时同一键只会编译一次，容量超限后由 Caffeine 按访问频率淘汰。
+     * </p>
      *
      * @param regex 正则表达式
      * @param flags 标志位
      * @return Pattern对象
      */
-    private static synchronized Pattern getPattern(String regex, int flags) {
-        String key = regex + "_" + flags;
-        Pattern pattern = PATTERN_CACHE.get(key);
-
-        if (pattern == null) {
-            // 检查缓存大小，防止内存溢出
-            if (PATTERN_CACHE.size() >= MAX_CACHE_SIZE) {
-                // 清除最早的一半缓存
-                Iterator<String> iterator = PATTERN_CACHE.keySet().iterator();
-                int removeCount = MAX_CACHE_SIZE / 2;
-                for (int i = 0; i < removeCount && iterator.hasNext(); i++) {
-                    iterator.next();
-                    iterator.remove();
-                }
-                log.debug("Pattern缓存已满，清除{}个最早的缓存", removeCount);
-            }
-
-            pattern = Pattern.compile(regex, flags);
-            PATTERN_CACHE.put(key, pattern);
-        }
-
-        return pattern;
+    private static Pattern getPattern(String regex, int flags) {
+        return PATTERN_CACHE.get(new PatternKey(regex, flags), key -> Pattern.compile(key.regex(), key.flags()));
     }
 
     /**
      * 清除Pattern缓存
      */
-    public static synchronized void clearPatternCache() {
-        PATTERN_CACHE.clear();
+    public static void clearPatternCache() {
+        PATTERN_CACHE.invalidateAll();
         log.info("Pattern缓存已清除");
     }
 
     /**
      * 获取Pattern缓存大小
      *
-     * @return 缓存大小
+     * @return 缓存大小（估算值）
      */
     public static int getPatternCacheSize() {
-        return PATTERN_CACHE.size();
+        return (int) PATTERN_CACHE.estimatedSize();
+    }
+
+    /**
+     * 获取Pattern缓存命中次数
+     *
+     * @return 命中次数
+     */
+    public static long getPatternCacheHitCount() {
+        return PATTERN_CACHE.stats().hitCount();
+    }
+
+    /**
+     * 获取Pattern缓存未命中次数（即编译次数）
+     *
+     * @return 未命中次数
+     */
+    public static long getPatternCacheMissCount() {
+        return PATTERN_CACHE.stats().missCount();
     }
 
     /**
@@ -916,7 +1028,7 @@ public final class RegexUtils {
         if (!isMobile(mobile)) {
             return mobile;
         }
-        return mobile.replaceAll("(\\d{3})\\d{4}(\\d{4})", "$1****$2");
+        return MOBILE_MASK_PATTERN.matcher(mobile).replaceAll("$1****$2");
     }
 
     /**
@@ -929,10 +1041,10 @@ public final class RegexUtils {
      * @return 脱敏后的身份证号
      */
     public static String desensitizeIdCard(String idCard) {
-        if (!matches(idCard, ID_CARD)) {
+        if (!matches(idCard, ID_CARD_PATTERN)) {
             return idCard;
         }
-        return idCard.replaceAll("(\\d{6})\\d{8}(\\d{4})", "$1********$2");
+        return ID_CARD_MASK_PATTERN.matcher(idCard).replaceAll("$1********$2");
     }
 
     /**
@@ -948,7 +1060,7 @@ public final class RegexUtils {
         if (!isEmail(email)) {
             return email;
         }
-        return email.replaceAll("(\\w{1,3})\\w*@", "$1***@");
+        return EMAIL_MASK_PATTERN.matcher(email).replaceAll("$1***@");
     }
 
     /**
@@ -964,7 +1076,7 @@ public final class RegexUtils {
         if (!isBankCard(bankCard)) {
             return bankCard;
         }
-        return bankCard.replaceAll("(\\d{4})\\d*(\\d{4})", "$1 **** **** $2");
+        return BANK_CARD_MASK_PATTERN.matcher(bankCard).replaceAll("$1 **** **** $2");
     }
 
     /**
@@ -982,7 +1094,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return input;
         }
-        return input.replaceAll(regex, replacement);
+        return replaceAll(input, regex, replacement);
     }
 
     /**
@@ -1047,7 +1159,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return "";
         }
-        return String.join("", extractAll(input, "\\d+"));
+        return String.join("", extractAll(input, DIGITS_PATTERN));
     }
 
     /**
@@ -1060,7 +1172,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return "";
         }
-        return String.join("", extractAll(input, "[a-zA-Z]+"));
+        return String.join("", extractAll(input, LETTERS_PATTERN));
     }
 
     /**
@@ -1073,7 +1185,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return "";
         }
-        return String.join("", extractAll(input, "[\\u4e00-\\u9fa5]+"));
+        return String.join("", extractAll(input, CHINESE_CHARS_PATTERN));
     }
 
     /**
@@ -1086,7 +1198,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return Collections.emptyList();
         }
-        return extractAll(input, EMAIL);
+        return extractAll(input, EMAIL_PATTERN);
     }
 
     /**
@@ -1099,7 +1211,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return Collections.emptyList();
         }
-        return extractAll(input, URL);
+        return extractAll(input, URL_PATTERN);
     }
 
     /**
@@ -1112,7 +1224,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return Collections.emptyList();
         }
-        return extractAll(input, MOBILE);
+        return extractAll(input, MOBILE_PATTERN);
     }
 
     /**
@@ -1125,7 +1237,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return Collections.emptyList();
         }
-        return extractAll(input, IPV4);
+        return extractAll(input, IPV4_PATTERN);
     }
 
     /**
@@ -1135,7 +1247,7 @@ public final class RegexUtils {
      * @return 是否包含中文
      */
     public static boolean containsChinese(String input) {
-        return contains(input, "[\\u4e00-\\u9fa5]");
+        return contains(input, CHINESE_CHAR_PATTERN);
     }
 
     /**
@@ -1148,8 +1260,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return false;
         }
-        String emojiRegex = "[\\ud83c\\udc00-\\ud83c\\udfff]|[\\ud83d\\udc00-\\ud83d\\udfff]|[\\u2600-\\u27ff]";
-        return contains(input, emojiRegex);
+        return EMOJI_PATTERN.matcher(input).find();
     }
 
     /**
@@ -1159,7 +1270,7 @@ public final class RegexUtils {
      * @return 移除空白字符后的字符串
      */
     public static String removeWhitespace(String input) {
-        return removeAll(input, "\\s+");
+        return replaceAll(input, WHITESPACE_PATTERN, "");
     }
 
     /**
@@ -1169,7 +1280,7 @@ public final class RegexUtils {
      * @return 移除HTML标签后的字符串
      */
     public static String removeHtmlTags(String input) {
-        return removeAll(input, "<[^>]+>");
+        return replaceAll(input, HTML_TAG_PATTERN, "");
     }
 
     /**
@@ -1182,7 +1293,7 @@ public final class RegexUtils {
         if (StrUtil.isBlank(input)) {
             return input;
         }
-        return input.replaceAll("[^a-zA-Z0-9\\u4e00-\\u9fa5\\s]", "");
+        return SPECIAL_CHARS_PATTERN.matcher(input).replaceAll("");
     }
 
     /**
@@ -1207,22 +1318,22 @@ public final class RegexUtils {
         }
 
         // 包含小写字母
-        if (contains(password, "[a-z]")) {
+        if (contains(password, LOWER_CASE_PATTERN)) {
             strength++;
         }
 
         // 包含大写字母
-        if (contains(password, "[A-Z]")) {
+        if (contains(password, UPPER_CASE_PATTERN)) {
             strength++;
         }
 
         // 包含数字
-        if (contains(password, "\\d")) {
+        if (contains(password, DIGIT_PATTERN)) {
             strength++;
         }
 
         // 包含特殊字符
-        if (contains(password, "[^a-zA-Z0-9]")) {
+        if (contains(password, NON_ALPHANUMERIC_PATTERN)) {
             strength++;
         }
 
@@ -1273,4 +1384,12 @@ public final class RegexUtils {
         return Arrays.stream(inputs).anyMatch(input -> matches(input, regex));
     }
 
+    /**
+     * Pattern 缓存键
+     *
+     * @param regex 正则表达式
+     * @param flags 标志位
+     */
+    private record PatternKey(String regex, int flags) {
+    }
 }
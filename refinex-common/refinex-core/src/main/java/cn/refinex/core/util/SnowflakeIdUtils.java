@@ -1,5 +1,12 @@
 package cn.refinex.core.util;
 
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
 /**
  * 分布式唯一ID生成器 - Snowflake 算法实现
  * <p>
@@ -11,9 +18,12 @@ package cn.refinex.core.util;
  * - 保证分布式下唯一性
  * - 每毫秒最多生成 4096 个 ID，由 12 位序列号决定
  * <p>
- * 改进：
- * - 支持时钟回拨容错策略（可配置）
- * - 更优雅的单例与线程安全处理
+ * 实现：
+ * - 时间戳与序列号打包在同一个 {@link AtomicLong} 中（时间戳左移 12 位 | 序列号），通过 CAS 无锁推进
+ * - 序列号溢出或时钟回拨时不自旋、不抛异常，而是借用未来毫秒（序列号进位到时间戳）继续发号
+ * - 借用量超过上限时让出 CPU 等待时钟追上，避免 ID 时间戳无限超前
+ * - {@link #nextIds(int)} 一次 CAS 预留一段连续 ID，适合批量写入
+ * - 节点ID租约失效时通过 {@link #suspend()} 暂停发号（发号抛出异常），重新分配到节点ID后通过 {@link #resume(long, long)} 恢复
  *
  * @author Refinex
  * @since 1.0.0
@@ -34,9 +44,9 @@ public class SnowflakeIdUtils {
 
     /** 最大值 */
     /** 最大工作节点ID */
-    private static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
+    public static final long MAX_WORKER_ID = ~(-1L << WORKER_ID_BITS);
     /** 最大数据中心ID */
-    private static final long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS);
+    public static final long MAX_DATACENTER_ID = ~(-1L << DATACENTER_ID_BITS);
 
     /** 位移量 */
     /** 工作节点ID左移位数 */
@@ -49,18 +59,23 @@ public class SnowflakeIdUtils {
     /** 序列掩码 */
     private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
 
+    /** 每毫秒可用序列号数量，同时也是批量预留的单次上限 */
+    private static final int SEQUENCE_PER_MILLIS = (int) (SEQUENCE_MASK + 1);
+
+    /** 默认允许借用的未来毫秒数 */
+    public static final long DEFAULT_MAX_BORROW_MS = 1000L;
+
+    /** 借用超限时单次等待的最长时间（毫秒） */
+    private static final long MAX_PARK_MS = 10L;
+
     // ============================== 成员变量 ===================================
-    /** 工作节点ID */
-    private final long workerId;
-    /** 数据中心ID */
-    private final long datacenterId;
-    /** 序列号 */
-    private long sequence = 0L;
-    /** 上次生成ID的时间戳 */
-    private long lastTimestamp = -1L;
-
-    /** 时钟回拨允许的最大容忍毫秒数，默认2ms（可配置） */
-    private final long maxBackwardMs;
+    /** 当前节点，暂停发号时为 null */
+    private volatile Node node;
+    /** 最近一次发放的状态：(时间戳 - TWEPOCH) 左移 12 位 | 序列号 */
+    private final AtomicLong state = new AtomicLong();
+
+    /** 允许借用的未来毫秒数上限（时钟回拨或序列号溢出时借用） */
+    private final long maxBorrowMs;
 
     // ============================== 构造方法 ===================================
 
@@ -71,7 +86,7 @@ public class SnowflakeIdUtils {
      * @param datacenterId 数据中心ID，范围 0-31
      */
     public SnowflakeIdUtils(long workerId, long datacenterId) {
-        this(workerId, datacenterId, 2L);
+        this(workerId, datacenterId, DEFAULT_MAX_BORROW_MS);
     }
 
     /**
@@ -79,79 +94,153 @@ public class SnowflakeIdUtils {
      *
      * @param workerId     工作节点ID，范围 0-31
      * @param datacenterId 数据中心ID，范围 0-31
-     * @param maxBackwardMs 时钟回拨允许的最大容忍毫秒数，默认2ms（可配置）
+     * @param maxBorrowMs  允许借用的未来毫秒数上限，时钟回拨或单毫秒内序列号耗尽时借用
      */
-    public SnowflakeIdUtils(long workerId, long datacenterId, long maxBackwardMs) {
-        if (workerId > MAX_WORKER_ID || workerId < 0) {
-            throw new IllegalArgumentException(String.format("WorkerId 必须在 0-%d 范围内", MAX_WORKER_ID));
-        }
-        if (datacenterId > MAX_DATACENTER_ID || datacenterId < 0) {
-            throw new IllegalArgumentException(String.format("DatacenterId 必须在 0-%d 范围内", MAX_DATACENTER_ID));
+    public SnowflakeIdUtils(long workerId, long datacenterId, long maxBorrowMs) {
+        if (maxBorrowMs < 0) {
+            throw new IllegalArgumentException("MaxBorrowMs 不能小于 0");
         }
 
-        this.workerId = workerId;
-        this.datacenterId = datacenterId;
-        this.maxBackwardMs = maxBackwardMs;
+        this.node = Node.of(workerId, datacenterId);
+        this.maxBorrowMs = maxBorrowMs;
     }
 
     // ============================== 生成方法 ===================================
 
     /**
-     * 获取下一个唯一ID（线程安全）
+     * 获取下一个唯一ID（线程安全，无锁）
      *
      * @return long 唯一ID
      */
-    public synchronized long nextId() {
-        long timestamp = timeGen();
-
-        // 处理时钟回拨: 若当前时间戳小于上次生成ID的时间戳，可能是时钟回拨
-        if (timestamp < lastTimestamp) {
-            // 时钟回拨检测: 计算回拨偏移量
-            long offset = lastTimestamp - timestamp;
-            // 若回拨偏移量小于等于最大容忍毫秒数，等待到 lastTimestamp 后继续
-            if (offset <= maxBackwardMs) {
-                // 等待到 lastTimestamp 后继续
-                timestamp = tilNextMillis(lastTimestamp);
-            } else {
-                // 时钟回拨超出容忍范围，抛出异常
-                throw new RuntimeException(String.format("时钟回拨超过容忍范围：%d ms", offset));
-            }
+    public long nextId() {
+        Node current = requireNode();
+        return toId(reserve(1), current);
+    }
+
+    /**
+     * 批量获取唯一ID（线程安全，无锁）
+     * <p>
+     * 每次 CAS 最多预留 4096 个连续 ID，同一批次内的 ID 严格递增。
+     *
+     * @param n 数量
+     * @return 唯一ID数组
+     */
+    public long[] nextIds(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("批量获取 ID 的数量必须大于 0");
         }
 
-        // 同一毫秒内自增序列
-        if (lastTimestamp == timestamp) {
-            sequence = (sequence + 1) & SEQUENCE_MASK;
-            if (sequence == 0) {
-                // 序列溢出，等到下一毫秒
-                timestamp = tilNextMillis(lastTimestamp);
+        Node current = requireNode();
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            int count = Math.min(n - filled, SEQUENCE_PER_MILLIS);
+            long first = reserve(count);
+            for (int i = 0; i < count; i++) {
+                ids[filled++] = toId(first + i, current);
             }
-        } else {
-            // 毫秒变更，序列重置
-            sequence = 0L;
         }
+        return ids;
+    }
 
-        // 更新上次生成ID的时间戳
-        lastTimestamp = timestamp;
+    /**
+     * 暂停发号（节点ID租约失效，当前节点ID可能已被其他实例占用）
+     */
+    public void suspend() {
+        this.node = null;
+    }
 
-        // 生成ID: 组合时间戳、数据中心ID、工作节点ID、序列号
-        return ((timestamp - TWEPOCH) << TIMESTAMP_LEFT_SHIFT)
-                | (datacenterId << DATACENTER_ID_SHIFT)
-                | (workerId << WORKER_ID_SHIFT)
-                | sequence;
+    /**
+     * 使用新的节点ID恢复发号
+     *
+     * @param workerId     工作节点ID，范围 0-31
+     * @param datacenterId 数据中心ID，范围 0-31
+     */
+    public void resume(long workerId, long datacenterId) {
+        this.node = Node.of(workerId, datacenterId);
     }
 
     /**
-     * 等待直到下一个毫秒，确保生成的ID时间戳是严格递增的
+     * 是否暂停发号
      *
-     * @param lastTimestamp 上次生成ID的时间戳
-     * @return 下一个毫秒的时间戳
+     * @return 暂停时为 true
      */
-    private long tilNextMillis(long lastTimestamp) {
-        long timestamp = timeGen();
-        while (timestamp <= lastTimestamp) {
-            timestamp = timeGen();
+    public boolean isSuspended() {
+        return node == null;
+    }
+
+    /**
+     * 获取工作节点ID
+     *
+     * @return 工作节点ID，暂停发号时为 -1
+     */
+    public long getWorkerId() {
+        Node current = node;
+        return current != null ? current.workerId() : -1L;
+    }
+
+    /**
+     * 获取数据中心ID
+     *
+     * @return 数据中心ID，暂停发号时为 -1
+     */
+    public long getDatacenterId() {
+        Node current = node;
+        return current != null ? current.datacenterId() : -1L;
+    }
+
+    /**
+     * 获取当前节点，暂停发号时抛出异常
+     *
+     * @return 当前节点
+     */
+    private Node requireNode() {
+        Node current = node;
+        if (current == null) {
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "雪花算法节点ID租约已失效，暂停发号");
+        }
+        return current;
+    }
+
+    /**
+     * 预留 count 个连续状态值
+     * <p>
+     * 起点取「当前毫秒的第一个序列号」与「上次发放状态 + 1」中的较大者：
+     * 时钟正常前进时从新毫秒开始；同一毫秒、序列号溢出或时钟回拨时沿用上次状态继续递增，
+     * 序列号溢出会自然进位到时间戳，即借用未来毫秒。
+     *
+     * @param count 数量（1 - 4096）
+     * @return 第一个状态值
+     */
+    private long reserve(int count) {
+        while (true) {
+            long current = state.get();
+            long now = timeGen() - TWEPOCH;
+            long first = Math.max(now << SEQUENCE_BITS, current + 1);
+            long last = first + count - 1;
+
+            // 借用超过上限：等待时钟追上，不忙等也不抛异常
+            long borrowed = (last >>> SEQUENCE_BITS) - now;
+            if (borrowed > maxBorrowMs) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(Math.min(borrowed - maxBorrowMs, MAX_PARK_MS)));
+                continue;
+            }
+
+            if (state.compareAndSet(current, last)) {
+                return first;
+            }
         }
-        return timestamp;
+    }
+
+    /**
+     * 将状态值转换为ID: 组合时间戳、数据中心ID、工作节点ID、序列号
+     *
+     * @param packed  状态值
+     * @param current 当前节点
+     * @return 唯一ID
+     */
+    private static long toId(long packed, Node current) {
+        return ((packed >>> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT) | current.bits() | (packed & SEQUENCE_MASK);
     }
 
     /**
@@ -162,4 +251,24 @@ public class SnowflakeIdUtils {
     private long timeGen() {
         return System.currentTimeMillis();
     }
+
+    /**
+     * 节点
+     *
+     * @param workerId     工作节点ID
+     * @param datacenterId 数据中心ID
+     * @param bits         数据中心ID与工作节点ID组合后的位段
+     */
+    private record Node(long workerId, long datacenterId, long bits) {
+
+        static Node of(long workerId, long datacenterId) {
+            if (workerId > MAX_WORKER_ID || workerId < 0) {
+                throw new IllegalArgumentException(String.format("WorkerId 必须在 0-%d 范围内", MAX_WORKER_ID));
+            }
+            if (datacenterId > MAX_DATACENTER_ID || datacenterId < 0) {
+                throw new IllegalArgumentException(String.format("DatacenterId 必须在 0-%d 范围内", MAX_DATACENTER_ID));
+            }
+            return new Node(workerId, datacenterId, (datacenterId << DATACENTER_ID_SHIFT) | (workerId << WORKER_ID_SHIFT));
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package cn.refinex.core.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 雪花算法节点ID分配器
+ * <p>
+ * 用于在多实例部署时为每个实例分配互不冲突的节点ID，节点ID由数据中心ID（高 5 位）与工作节点ID（低 5 位）组成，
+ * 取值范围 0-1023。容器中存在该类型的 Bean 时，{@link SnowflakeIdUtils} 使用其分配结果代替静态配置。
+ * 基于租约的实现在租约失效时通过 {@link #addNodeIdListener(IntConsumer)} 通知 ID 生成器暂停发号，重新分配后再恢复。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface SnowflakeWorkerIdAssigner {
+
+    /**
+     * 节点ID数量上限
+     */
+    int MAX_NODE_COUNT = (int) ((SnowflakeIdUtils.MAX_DATACENTER_ID + 1) * (SnowflakeIdUtils.MAX_WORKER_ID + 1));
+
+    /**
+     * 租约失效（无可用节点ID）
+     */
+    int INVALID_NODE_ID = -1;
+
+    /**
+     * 为当前实例分配节点ID
+     *
+     * @return 节点ID，范围 0-1023
+     */
+    int assignNodeId();
+
+    /**
+     * 注册节点ID变更监听：租约失效时以 {@link #INVALID_NODE_ID} 通知，重新分配到节点ID后通知新的节点ID
+     *
+     * @param listener 监听器
+     */
+    default void addNodeIdListener(IntConsumer listener) {
+    }
+
+    /**
+     * 从节点ID中解析工作节点ID
+     *
+     * @param nodeId 节点ID
+     * @return 工作节点ID
+     */
+    static long workerIdOf(int nodeId) {
+        return nodeId & SnowflakeIdUtils.MAX_WORKER_ID;
+    }
+
+    /**
+     * 从节点ID中解析数据中心ID
+     *
+     * @param nodeId 节点ID
+     * @return 数据中心ID
+     */
+    static long datacenterIdOf(int nodeId) {
+        return (nodeId >> 5) & SnowflakeIdUtils.MAX_DATACENTER_ID;
+    }
+}
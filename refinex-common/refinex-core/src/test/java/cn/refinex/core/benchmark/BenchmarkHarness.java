@@ -0,0 +1,207 @@
+package cn.refinex.core.benchmark;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 基准测试工具 - 各模块 {@code main()} 方式的独立基准测试共用，无需 Spring 容器
+ * <p>
+ * 固定先预热 {@value #WARMUP_ROUNDS} 轮、再测量 {@value #MEASURE_ROUNDS} 轮，按每次操作耗时（纳秒）输出最小值与平均值。
+ * 操作返回值累加后写入 volatile 字段，避免被 JIT 当作无用代码消除。
+ * 其他模块通过 refinex-core 的 test-jar 引用。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class BenchmarkHarness {
+
+    /**
+     * 预热轮数
+     */
+    public static final int WARMUP_ROUNDS = 3;
+
+    /**
+     * 测量轮数
+     */
+    public static final int MEASURE_ROUNDS = 5;
+
+    /**
+     * 操作结果累加值
+     */
+    private static volatile long sink;
+
+    private BenchmarkHarness() {
+    }
+
+    /**
+     * 单线程测量
+     *
+     * @param iterations 每轮操作次数
+     * @param operation  操作，参数为本轮内的序号
+     * @return 测量结果
+     */
+    public static Result measure(int iterations, Operation operation) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            run(iterations, operation);
+        }
+        double[] nanosPerOp = new double[MEASURE_ROUNDS];
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            long start = System.nanoTime();
+            run(iterations, operation);
+            nanosPerOp[round] = (double) (System.nanoTime() - start) / iterations;
+        }
+        return new Result(nanosPerOp);
+    }
+
+    /**
+     * 多线程测量：各线程同时开始、各执行相同次数，耗时按总操作数平摊（即吞吐量的倒数）
+     *
+     * @param threads    线程数
+     * @param iterations 每个线程每轮的操作次数
+     * @param operation  操作，参数为本线程本轮内的序号
+     * @return 测量结果
+     */
+    public static Result measureConcurrent(int threads, int iterations, Operation operation) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                runConcurrent(executor, threads, iterations, operation);
+            }
+            double[] nanosPerOp = new double[MEASURE_ROUNDS];
+            for (int round = 0; round < MEASURE_ROUNDS; round++) {
+                nanosPerOp[round] = (double) runConcurrent(executor, threads, iterations, operation) / ((long) threads * iterations);
+            }
+            return new Result(nanosPerOp);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 输出测量结果
+     *
+     * @param name   名称
+     * @param result 测量结果
+     */
+    public static void report(String name, Result result) {
+        System.out.printf("%-24s min=%.1f ns/op, avg=%.1f ns/op%n", name, result.min(), result.avg());
+    }
+
+    /**
+     * 生成权限编码样本，如 {@code system:res0:list}，按模块与操作轮换
+     *
+     * @param count 数量
+     * @return 保持生成顺序的权限编码集合
+     */
+    public static Set<String> permissionCodes(int count) {
+        String[] modules = {"system", "kb", "ai", "chat", "monitor"};
+        String[] actions = {"list", "query", "add", "edit", "remove", "export"};
+        Set<String> permissions = new LinkedHashSet<>();
+        for (int i = 0; permissions.size() < count; i++) {
+            permissions.add(modules[i % modules.length] + ":res" + (i / actions.length) + ":" + actions[i % actions.length]);
+        }
+        return permissions;
+    }
+
+    private static void run(int iterations, Operation operation) {
+        long result = 0;
+        for (int i = 0; i < iterations; i++) {
+            result += operation.run(i);
+        }
+        sink += result;
+    }
+
+    /**
+     * 执行一轮多线程测量
+     *
+     * @return 本轮耗时（纳秒），从全部线程就绪开始到全部线程结束
+     */
+    private static long runConcurrent(ExecutorService executor, int threads, int iterations, Operation operation) {
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        LongAdder results = new LongAdder();
+        Future<?>[] futures = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            futures[t] = executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                long result = 0;
+                for (int i = 0; i < iterations; i++) {
+                    result += operation.run(i);
+                }
+                results.add(result);
+                return null;
+            });
+        }
+        try {
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+            sink += results.sum();
+            return elapsed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("基准测试被中断", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("基准测试执行失败", e);
+        }
+    }
+
+    /**
+     * 被测操作
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * 执行一次操作
+         *
+         * @param index 序号
+         * @return 任意结果值，参与累加以防止被优化掉
+         */
+        long run(int index);
+    }
+
+    /**
+     * 测量结果
+     *
+     * @param nanosPerOp 每轮的每次操作耗时（纳秒）
+     */
+    public record Result(double[] nanosPerOp) {
+
+        /**
+         * 最小耗时
+         *
+         * @return 纳秒
+         */
+        public double min() {
+            double min = Double.MAX_VALUE;
+            for (double value : nanosPerOp) {
+                min = Math.min(min, value);
+            }
+            return min;
+        }
+
+        /**
+         * 平均耗时
+         *
+         * @return 纳秒
+         */
+        public double avg() {
+            double sum = 0;
+            for (double value : nanosPerOp) {
+                sum += value;
+            }
+            return sum / nanosPerOp.length;
+        }
+    }
+}
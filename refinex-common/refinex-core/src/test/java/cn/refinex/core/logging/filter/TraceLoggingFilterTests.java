@@ -0,0 +1,194 @@
+package cn.refinex.core.logging.filter;
+
+import cn.refinex.core.autoconfigure.properties.RefinexLoggingProperties;
+import cn.refinex.core.logging.constants.LoggingConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * TraceLoggingFilter 测试 - 响应字节直接透传，流式响应的首字节时间不受过滤器影响
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+class TraceLoggingFilterTests {
+
+    /**
+     * 处理器在首个事件之后继续执行的时长
+     */
+    private static final long HANDLER_TAIL_MILLIS = 300L;
+
+    /**
+     * SSE 首个事件在处理器返回前到达底层响应，且不采集响应体
+     */
+    @Test
+    void sseFirstByteIsNotDelayedUntilHandlerReturns() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/chat/stream");
+        FirstByteRecordingResponse response = new FirstByteRecordingResponse(new MockHttpServletResponse());
+        AtomicReference<String> seenBeforeReturn = new AtomicReference<>();
+
+        long start = System.nanoTime();
+        FilterChain chain = (req, res) -> {
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            ServletOutputStream out = res.getOutputStream();
+            out.write("data: first\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            seenBeforeReturn.set(response.mock().getContentAsString());
+            sleep(HANDLER_TAIL_MILLIS);
+            out.write("data: second\n\n".getBytes(StandardCharsets.UTF_8));
+        };
+        RefinexLoggingProperties properties = new RefinexLoggingProperties();
+        properties.getRequestLog().setRecordResponseBody(true);
+        new TraceLoggingFilter(properties).doFilter(request, response, chain);
+        long end = System.nanoTime();
+
+        assertEquals("data: first\n\n", seenBeforeReturn.get());
+        assertTrue(response.firstByteNanos() > 0);
+        // 首字节时间与处理器总耗时无关：早于处理器结束至少 HANDLER_TAIL_MILLIS
+        assertTrue(end - response.firstByteNanos() >= TimeUnit.MILLISECONDS.toNanos(HANDLER_TAIL_MILLIS),
+                "首字节被延迟到处理器结束后才写出");
+        assertTrue(response.firstByteNanos() - start < end - start);
+        assertEquals("data: first\n\ndata: second\n\n", response.mock().getContentAsString());
+
+        TeeCapturingResponseWrapper wrapper = responseWrapper(request);
+        assertTrue(wrapper.isStreaming());
+        assertNull(wrapper.getCapturedContentAsString());
+    }
+
+    /**
+     * 普通响应完整透传，只旁路采集前 N 字节
+     */
+    @Test
+    void regularResponseIsPassedThroughAndPrefixCaptured() throws Exception {
+        RefinexLoggingProperties properties = new RefinexLoggingProperties();
+        properties.getRequestLog().setRecordResponseBody(true);
+        properties.getRequestLog().setResponseCaptureLimit(16);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String body = "{\"code\":200,\"msg\":\"ok\",\"data\":{\"id\":1,\"name\":\"refinex\"}}";
+
+        FilterChain chain = (req, res) -> {
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getWriter().write(body);
+        };
+        new TraceLoggingFilter(properties).doFilter(request, response, chain);
+
+        assertEquals(body, response.getContentAsString());
+        TeeCapturingResponseWrapper wrapper = responseWrapper(request);
+        assertFalse(wrapper.isStreaming());
+        assertEquals(body.substring(0, 16), wrapper.getCapturedContentAsString());
+        assertTrue(wrapper.isCaptureTruncated());
+    }
+
+    /**
+     * 未开启记录响应体时不包装响应，处理器直接写入原始响应
+     */
+    @Test
+    void responseIsNotWrappedWhenResponseBodyIsNotRecorded() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Object> seenResponse = new AtomicReference<>();
+
+        FilterChain chain = (req, res) -> {
+            seenResponse.set(res);
+            res.getWriter().write("{\"password\":\"secret\"}");
+        };
+        new TraceLoggingFilter(new RefinexLoggingProperties()).doFilter(request, response, chain);
+
+        assertSame(response, seenResponse.get());
+        assertNull(request.getAttribute(LoggingConstants.ATTRIBUTE_RESPONSE_WRAPPER));
+        assertEquals("{\"password\":\"secret\"}", response.getContentAsString());
+        assertEquals(1, response.getHeaders(new RefinexLoggingProperties().getTraceIdHeader()).size());
+    }
+
+    private static TeeCapturingResponseWrapper responseWrapper(MockHttpServletRequest request) {
+        return (TeeCapturingResponseWrapper) request.getAttribute(LoggingConstants.ATTRIBUTE_RESPONSE_WRAPPER);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("等待被中断", e);
+        }
+    }
+
+    /**
+     * 记录底层输出流首次写出时间的响应
+     */
+    private static final class FirstByteRecordingResponse extends HttpServletResponseWrapper {
+
+        private final MockHttpServletResponse mock;
+        private final AtomicLong firstByteNanos = new AtomicLong();
+        private ServletOutputStream outputStream;
+
+        FirstByteRecordingResponse(MockHttpServletResponse mock) {
+            super(mock);
+            this.mock = mock;
+        }
+
+        MockHttpServletResponse mock() {
+            return mock;
+        }
+
+        long firstByteNanos() {
+            return firstByteNanos.get();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        firstByteNanos.compareAndSet(0L, System.nanoTime());
+                        delegate.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        firstByteNanos.compareAndSet(0L, System.nanoTime());
+                        delegate.write(b, off, len);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package cn.refinex.core.logging.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * SensitiveFieldMasker 测试
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+class SensitiveFieldMaskerTests {
+
+    private final SensitiveFieldMasker masker = new SensitiveFieldMasker(() -> List.of("password", "token", "mobile"));
+
+    @Test
+    void masksConfiguredFieldsIgnoringCase() {
+        assertEquals("{\"username\":\"admin\",\"Password\":\"***\",\"mobile\":\"***\",\"age\":18}",
+                masker.mask("{\"username\":\"admin\",\"Password\":\"p@ss\",\"mobile\":13800000000,\"age\":18}"));
+        assertEquals("{\"data\":{\"token\" : \"***\",\"expire\":7200}}",
+                masker.mask("{\"data\":{\"token\" : \"eyJ.a.b\",\"expire\":7200}}"));
+    }
+
+    @Test
+    void masksWholeStringValueIncludingEscapedQuotes() {
+        assertEquals("{\"password\":\"***\",\"name\":\"x\"}", masker.mask("{\"password\":\"a\\\"b,c\",\"name\":\"x\"}"));
+    }
+
+    @Test
+    void masksUnterminatedValueInTruncatedPayload() {
+        assertEquals("{\"id\":1,\"token\":\"***\"", masker.mask("{\"id\":1,\"token\":\"eyJhbGciOiJIUzI1Ni"));
+    }
+
+    @Test
+    void leavesOtherPayloadsUntouched() {
+        assertEquals("{\"passwordHint\":\"pet\"}", masker.mask("{\"passwordHint\":\"pet\"}"));
+        assertEquals("plain text", masker.mask("plain text"));
+        assertNull(masker.mask(null));
+    }
+
+    @Test
+    void followsFieldListChanges() {
+        List<String> fields = new ArrayList<>(List.of("password"));
+        SensitiveFieldMasker refreshable = new SensitiveFieldMasker(() -> fields);
+        assertEquals("{\"idCard\":\"110\"}", refreshable.mask("{\"idCard\":\"110\"}"));
+
+        fields.add("idCard");
+        assertEquals("{\"idCard\":\"***\"}", refreshable.mask("{\"idCard\":\"110\"}"));
+    }
+}
@@ -0,0 +1,137 @@
+package cn.refinex.core.matcher;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AntPathTrie 测试 - 匹配结果与此前白名单使用的 {@link AntPathMatcher} 一致
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+class AntPathTrieTests {
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @Test
+    void doubleWildcardMatchesZeroOrMoreSegments() {
+        assertSameAsAntPathMatcher("/api/**", "/api", "/api/", "/api/a", "/api/a/b/c", "/api/a/b/c/", "/apix", "/other/api");
+        assertSameAsAntPathMatcher("/api/**/detail", "/api/detail", "/api/a/detail", "/api/a/b/detail", "/api/a/detail/", "/api/a/b");
+        assertSameAsAntPathMatcher("/**", "/", "/a", "/a/b/");
+        assertSameAsAntPathMatcher("/**/*.js", "/app.js", "/static/app.js", "/static/app.css", "/static/app.js/");
+    }
+
+    @Test
+    void variableAndSingleWildcardMatchOneSegment() {
+        assertSameAsAntPathMatcher("/users/{id}", "/users/1", "/users/1/", "/users", "/users/", "/users/1/roles");
+        assertSameAsAntPathMatcher("/users/{id}/roles", "/users/1/roles", "/users/roles", "/users/1/2/roles");
+        assertSameAsAntPathMatcher("/users/*", "/users/1", "/users/", "/users", "/users/1/", "/users/1/2");
+        assertSameAsAntPathMatcher("/*", "/", "/a", "/a/", "/a/b");
+    }
+
+    @Test
+    void inSegmentWildcardsMatchWithinOneSegment() {
+        assertSameAsAntPathMatcher("/static/*.js", "/static/app.js", "/static/.js", "/static/app.css", "/static/a/app.js", "/static/app.js/");
+        assertSameAsAntPathMatcher("/api/v?/users", "/api/v1/users", "/api/v12/users", "/api/v/users");
+        assertSameAsAntPathMatcher("/files/{name}.pdf", "/files/report.pdf", "/files/report.doc");
+    }
+
+    @Test
+    void trailingSlashMustAgreeUnlessPatternEndsWithDoubleWildcard() {
+        assertSameAsAntPathMatcher("/auth/login", "/auth/login", "/auth/login/", "/auth//login");
+        assertSameAsAntPathMatcher("/auth/login/", "/auth/login", "/auth/login/");
+        assertSameAsAntPathMatcher("/api/**/users", "/api/a/users", "/api/a/users/");
+        assertSameAsAntPathMatcher("/", "/", "/a");
+    }
+
+    @Test
+    void returnsFirstMatchingPatternInConfigurationOrder() {
+        AntPathTrie trie = AntPathTrie.compile(List.of("/api/**", "/api/users/{id}", "/api/users/1"), false);
+
+        assertEquals("/api/**", trie.matchPattern("/api/users/1"));
+        assertEquals(0, trie.match("/api/users/1"));
+
+        AntPathTrie specificFirst = AntPathTrie.compile(List.of("/api/users/1", "/api/users/{id}", "/api/**"), false);
+        assertEquals(0, specificFirst.match("/api/users/1"));
+        assertEquals(1, specificFirst.match("/api/users/2"));
+        assertEquals(2, specificFirst.match("/api/roles"));
+        assertNull(specificFirst.matchPattern("/other"));
+    }
+
+    @Test
+    void ignoresCaseWhenRequested() {
+        AntPathTrie trie = AntPathTrie.compile(List.of("/Admin/**", "/static/*.JS"), true);
+
+        assertTrue(trie.matches("/admin/users"));
+        assertTrue(trie.matches("/ADMIN/Users"));
+        assertTrue(trie.matches("/static/App.js"));
+        assertFalse(AntPathTrie.compile(List.of("/Admin/**"), false).matches("/admin/users"));
+    }
+
+    @Test
+    void blankPatternsAreIgnored() {
+        AntPathTrie trie = AntPathTrie.compile(List.of(" ", "/a"), false);
+
+        assertEquals(List.of("/a"), trie.patterns());
+        assertTrue(trie.matches("/a"));
+        assertFalse(AntPathTrie.EMPTY.matches("/a"));
+    }
+
+    /**
+     * 随机模式集合与路径：前缀树返回的下标与按配置顺序逐个调用 AntPathMatcher 的第一个命中一致
+     */
+    @Test
+    void agreesWithAntPathMatcherOnRandomPatternSets() {
+        String[] patternSegments = {"a", "b", "x", "*", "**", "{id}", "*.js", "v?"};
+        String[] pathSegments = {"a", "b", "x", "y", "app.js", "v1"};
+        Random random = new Random(42);
+
+        for (int set = 0; set < 2_000; set++) {
+            List<String> patterns = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                patterns.add(randomPath(random, patternSegments, 4));
+            }
+            AntPathTrie trie = AntPathTrie.compile(patterns, false);
+
+            for (int i = 0; i < 10; i++) {
+                String path = randomPath(random, pathSegments, 5);
+                int expected = AntPathTrie.NO_MATCH;
+                for (int index = 0; index < patterns.size(); index++) {
+                    if (antPathMatcher.match(patterns.get(index), path)) {
+                        expected = index;
+                        break;
+                    }
+                }
+                assertEquals(expected, trie.match(path), () -> "patterns=" + patterns + ", path=" + path);
+            }
+        }
+    }
+
+    private void assertSameAsAntPathMatcher(String pattern, String... paths) {
+        AntPathTrie trie = AntPathTrie.compile(List.of(pattern), false);
+        for (String path : paths) {
+            assertEquals(antPathMatcher.match(pattern, path), trie.matches(path), () -> "pattern=" + pattern + ", path=" + path);
+        }
+    }
+
+    private static String randomPath(Random random, String[] segments, int maxSegments) {
+        StringBuilder path = new StringBuilder();
+        int count = random.nextInt(maxSegments);
+        for (int i = 0; i < count; i++) {
+            path.append('/').append(segments[random.nextInt(segments.length)]);
+        }
+        if (count == 0 || random.nextInt(3) == 0) {
+            path.append('/');
+        }
+        return path.toString();
+    }
+}
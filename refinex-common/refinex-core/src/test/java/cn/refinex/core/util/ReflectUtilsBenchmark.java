@@ -0,0 +1,143 @@
+package cn.refinex.core.util;
+
+import cn.hutool.core.util.ReflectUtil;
+import cn.refinex.core.benchmark.BenchmarkHarness;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ReflectUtils 基准测试 - 独立运行，无需 Spring 容器
+ * <p>
+ * 在 1、8 个线程下对比以下实现读取字段、调用方法与查找方法的每次耗时，并校验三者结果一致：
+ * <ul>
+ *     <li>reflectUtils：当前实现，按类以 {@link ClassValue} 索引的元数据</li>
+ *     <li>legacy：此前的实现，字段读取与方法调用直接委托 hutool {@link ReflectUtil}，方法查找使用拼接字符串作键的缓存</li>
+ *     <li>plain：调用方自行持有 {@link Field} / {@link Method} 的 JDK 反射，作为下限参考</li>
+ * </ul>
+ * <p>
+ * 运行方式：在 IDE 中直接运行 {@link #main(String[])}，可通过参数指定每个线程的操作次数，如 {@code 1000000}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class ReflectUtilsBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 8};
+
+    /**
+     * 此前方法查找使用的缓存，键为 {@code 类名#方法名(参数类型,...)}
+     */
+    private static final Map<String, Method> LEGACY_METHOD_CACHE = new ConcurrentHashMap<>(256);
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        Sample[] samples = new Sample[16];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = new Sample(10_000L + i, "user" + i);
+        }
+        Field field = Sample.class.getDeclaredField("username");
+        field.setAccessible(true);
+        Method getter = Sample.class.getMethod("getUserId");
+
+        // 结果一致性校验
+        for (Sample sample : samples) {
+            String expected = (String) field.get(sample);
+            Object userId = getter.invoke(sample);
+            if (!Objects.equals(expected, ReflectUtils.getFieldValue(sample, "username"))
+                    || !Objects.equals(expected, ReflectUtil.getFieldValue(sample, "username"))
+                    || !Objects.equals(userId, ReflectUtils.invoke(sample, "getUserId"))
+                    || !Objects.equals(userId, ReflectUtil.invoke(sample, "getUserId"))) {
+                throw new IllegalStateException("反射结果不一致: " + sample.getUsername());
+            }
+        }
+        if (!getter.equals(ReflectUtils.getMethod(Sample.class, "getUserId"))
+                || !getter.equals(legacyGetMethod(Sample.class, "getUserId"))) {
+            throw new IllegalStateException("方法查找结果不一致");
+        }
+
+        for (int threads : THREAD_COUNTS) {
+            int perThread = Math.max(1, iterations / threads);
+            BenchmarkHarness.report("field reflectUtils x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> ReflectUtils.<String>getFieldValue(samples[i & 15], "username").length()));
+            BenchmarkHarness.report("field legacy x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> ((String) ReflectUtil.getFieldValue(samples[i & 15], "username")).length()));
+            BenchmarkHarness.report("field plain x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> plainGet(field, samples[i & 15]).length()));
+
+            BenchmarkHarness.report("invoke reflectUtils x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> ReflectUtils.<Long>invoke(samples[i & 15], "getUserId")));
+            BenchmarkHarness.report("invoke legacy x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> ReflectUtil.<Long>invoke(samples[i & 15], "getUserId")));
+            BenchmarkHarness.report("invoke plain x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> plainInvoke(getter, samples[i & 15])));
+
+            BenchmarkHarness.report("getMethod reflectUtils x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> ReflectUtils.getMethod(Sample.class, "setUsername", String.class).getParameterCount()));
+            BenchmarkHarness.report("getMethod legacy x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> legacyGetMethod(Sample.class, "setUsername", String.class).getParameterCount()));
+        }
+    }
+
+    private static String plainGet(Field field, Sample sample) {
+        try {
+            return (String) field.get(sample);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long plainInvoke(Method method, Sample sample) {
+        try {
+            return (Long) method.invoke(sample);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 此前的方法查找：每次拼接缓存键，未命中时委托 hutool 查找
+     */
+    private static Method legacyGetMethod(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
+        StringBuilder key = new StringBuilder(clazz.getName()).append('#').append(methodName).append('(');
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                key.append(',');
+            }
+            key.append(parameterTypes[i].getName());
+        }
+        key.append(')');
+        return LEGACY_METHOD_CACHE.computeIfAbsent(key.toString(), k -> ReflectUtil.getMethod(clazz, methodName, parameterTypes));
+    }
+
+    /**
+     * 反射目标样本
+     */
+    public static class Sample {
+
+        private Long userId;
+        private String username;
+
+        public Sample(Long userId, String username) {
+            this.userId = userId;
+            this.username = username;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package cn.refinex.core.util;
+
+import cn.refinex.core.benchmark.BenchmarkHarness;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * RegexUtils 基准测试 - 独立运行，无需 Spring 容器
+ * <p>
+ * 在 1、8、64 个线程下对比当前实现与此前以 {@code synchronized} 保护 {@link HashMap} 缓存的实现的每次匹配耗时，
+ * 并校验两者的匹配结果一致。场景：
+ * <ul>
+ *     <li>validator：预定义校验（邮箱），当前实现直接使用预编译的静态 Pattern</li>
+ *     <li>dynamic：调用方传入的动态正则，50 个，全部可以放入缓存</li>
+ *     <li>churn：动态正则 300 个，超过缓存容量 100，持续淘汰与重新编译</li>
+ * </ul>
+ * <p>
+ * 运行方式：在 IDE 中直接运行 {@link #main(String[])}，可通过参数指定每个线程的匹配次数，如 {@code 200000}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class RegexUtilsBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 8, 64};
+
+    private static final String[] EMAILS = {"admin@refinex.cn", "user.name+tag@example.com", "not-an-email", "a@b", "dev@sub.domain.org"};
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        String[] dynamicRegexes = buildRegexes(50);
+        String[] churnRegexes = buildRegexes(300);
+        String[] inputs = {"order-000123", "ORDER-123", "order-9", "invoice-000123"};
+
+        // 结果一致性校验
+        for (String email : EMAILS) {
+            if (RegexUtils.isEmail(email) != LegacyPatternCache.matches(email, RegexUtils.EMAIL)) {
+                throw new IllegalStateException("匹配结果不一致: email=" + email);
+            }
+        }
+        for (String regex : churnRegexes) {
+            for (String input : inputs) {
+                if (RegexUtils.matches(input, regex) != LegacyPatternCache.matches(input, regex)) {
+                    throw new IllegalStateException("匹配结果不一致: regex=" + regex + ", input=" + input);
+                }
+            }
+        }
+
+        for (int threads : THREAD_COUNTS) {
+            int perThread = Math.max(1, iterations / threads);
+            BenchmarkHarness.report("validator x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> RegexUtils.isEmail(EMAILS[i % EMAILS.length]) ? 1 : 0));
+            BenchmarkHarness.report("validator legacy x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> LegacyPatternCache.matches(EMAILS[i % EMAILS.length], RegexUtils.EMAIL) ? 1 : 0));
+            BenchmarkHarness.report("dynamic x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> RegexUtils.matches(inputs[i % inputs.length], dynamicRegexes[i % dynamicRegexes.length]) ? 1 : 0));
+            BenchmarkHarness.report("dynamic legacy x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> LegacyPatternCache.matches(inputs[i % inputs.length], dynamicRegexes[i % dynamicRegexes.length]) ? 1 : 0));
+            BenchmarkHarness.report("churn x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> RegexUtils.matches(inputs[i % inputs.length], churnRegexes[i % churnRegexes.length]) ? 1 : 0));
+            BenchmarkHarness.report("churn legacy x" + threads, BenchmarkHarness.measureConcurrent(threads, perThread,
+                    i -> LegacyPatternCache.matches(inputs[i % inputs.length], churnRegexes[i % churnRegexes.length]) ? 1 : 0));
+        }
+        System.out.printf("pattern cache: size=%d, hits=%d, misses=%d%n",
+                RegexUtils.getPatternCacheSize(), RegexUtils.getPatternCacheHitCount(), RegexUtils.getPatternCacheMissCount());
+    }
+
+    /**
+     * 生成互不相同的动态正则，如 {@code ^order-\d{1,6}$}
+     */
+    private static String[] buildRegexes(int count) {
+        String[] prefixes = {"order", "invoice", "ORDER", "refund"};
+        String[] regexes = new String[count];
+        for (int i = 0; i < count; i++) {
+            regexes[i] = "^" + prefixes[i % prefixes.length] + "-\\d{" + (i / prefixes.length % 6 + 1) + "," + (i / prefixes.length + 6) + "}$";
+        }
+        return regexes;
+    }
+
+    /**
+     * 此前的实现：{@code synchronized} 保护的 {@link HashMap} 缓存，键为 {@code regex_flags}，满时清除一半
+     */
+    private static final class LegacyPatternCache {
+
+        private static final int MAX_CACHE_SIZE = 100;
+        private static final Map<String, Pattern> PATTERN_CACHE = new HashMap<>(64);
+
+        static boolean matches(String input, String regex) {
+            return getPattern(regex, 0).matcher(input).matches();
+        }
+
+        private static synchronized Pattern getPattern(String regex, int flags) {
+            String key = regex + "_" + flags;
+            Pattern pattern = PATTERN_CACHE.get(key);
+            if (pattern == null) {
+                if (PATTERN_CACHE.size() >= MAX_CACHE_SIZE) {
+                    Iterator<String> iterator = PATTERN_CACHE.keySet().iterator();
+                    for (int i = 0; i < MAX_CACHE_SIZE / 2 && iterator.hasNext(); i++) {
+                        iterator.next();
+                        iterator.remove();
+                    }
+                }
+                pattern = Pattern.compile(regex, flags);
+                PATTERN_CACHE.put(key, pattern);
+            }
+            return pattern;
+        }
+    }
+}
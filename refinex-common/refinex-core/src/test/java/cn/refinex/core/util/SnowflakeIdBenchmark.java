@@ -0,0 +1,151 @@
+package cn.refinex.core.util;
+
+import cn.refinex.core.benchmark.BenchmarkHarness;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+
+/**
+ * SnowflakeIdUtils 基准测试 - 独立运行，无需 Spring 容器
+ * <p>
+ * 在 1、8、64 个线程下对比无锁实现（单个与批量获取）与此前以 {@code synchronized} 保护状态的实现的每次发号耗时，
+ * 并分别校验各线程并发生成的全部 ID 没有重复。此前的实现每毫秒最多生成 4096 个 ID，持续满负荷时受时钟限制；
+ * 无锁实现可预支最多 1 秒的时间戳，短时突发不受此限制，预支额度用完后同样受时钟限制。
+ * <p>
+ * 运行方式：在 IDE 中直接运行 {@link #main(String[])}，可通过参数指定每个线程的发号次数，如 {@code 200000}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class SnowflakeIdBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 8, 64};
+
+    /**
+     * 批量获取的数量
+     */
+    private static final int BATCH_SIZE = 100;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        SnowflakeIdUtils current = new SnowflakeIdUtils(1, 1);
+        LegacySnowflakeIdUtils legacy = new LegacySnowflakeIdUtils(1, 1);
+
+        // 唯一性校验
+        for (int threads : THREAD_COUNTS) {
+            assertUnique("lockFree", threads, iterations, current::nextId);
+            assertUnique("synchronized", threads, iterations, legacy::nextId);
+        }
+        System.out.printf("unique ids verified: threads=%s, idsPerThread=%d%n", Arrays.toString(THREAD_COUNTS), iterations);
+
+        for (int threads : THREAD_COUNTS) {
+            int perThread = Math.max(1, iterations / threads);
+            BenchmarkHarness.report("lockFree x" + threads,
+                    BenchmarkHarness.measureConcurrent(threads, perThread, i -> current.nextId()));
+            BenchmarkHarness.report("lockFree batch x" + threads,
+                    BenchmarkHarness.measureConcurrent(threads, Math.max(1, perThread / BATCH_SIZE), i -> current.nextIds(BATCH_SIZE)[0]));
+            BenchmarkHarness.report("synchronized x" + threads,
+                    BenchmarkHarness.measureConcurrent(threads, perThread, i -> legacy.nextId()));
+        }
+        System.out.printf("batch 结果为每批耗时, 每个 ID 的耗时需再除以 %d%n", BATCH_SIZE);
+    }
+
+    /**
+     * 多个线程同时发号，校验全部 ID 没有重复
+     */
+    private static void assertUnique(String name, int threads, int iterations, LongSupplier generator) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            @SuppressWarnings("unchecked")
+            Future<long[]>[] futures = new Future[threads];
+            for (int t = 0; t < threads; t++) {
+                futures[t] = executor.submit(() -> {
+                    long[] ids = new long[iterations];
+                    for (int i = 0; i < iterations; i++) {
+                        ids[i] = generator.getAsLong();
+                    }
+                    return ids;
+                });
+            }
+            long[] all = new long[threads * iterations];
+            for (int t = 0; t < threads; t++) {
+                System.arraycopy(futures[t].get(), 0, all, t * iterations, iterations);
+            }
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                if (all[i] == all[i - 1]) {
+                    throw new IllegalStateException("ID 重复: " + name + " x" + threads + ", id=" + all[i]);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("唯一性校验被中断", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("唯一性校验执行失败", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 此前的实现：{@code synchronized} 保护时间戳与序列号，时钟回拨在容忍范围内时等待
+     */
+    private static final class LegacySnowflakeIdUtils {
+
+        private static final long TWEPOCH = 1420041600000L;
+        private static final long WORKER_ID_BITS = 5L;
+        private static final long DATACENTER_ID_BITS = 5L;
+        private static final long SEQUENCE_BITS = 12L;
+        private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
+        private static final long DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+        private static final long TIMESTAMP_LEFT_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATACENTER_ID_BITS;
+        private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+        private static final long MAX_BACKWARD_MS = 2L;
+
+        private final long workerId;
+        private final long datacenterId;
+        private long sequence = 0L;
+        private long lastTimestamp = -1L;
+
+        LegacySnowflakeIdUtils(long workerId, long datacenterId) {
+            this.workerId = workerId;
+            this.datacenterId = datacenterId;
+        }
+
+        synchronized long nextId() {
+            long timestamp = System.currentTimeMillis();
+            if (timestamp < lastTimestamp) {
+                long offset = lastTimestamp - timestamp;
+                if (offset > MAX_BACKWARD_MS) {
+                    throw new IllegalStateException(String.format("时钟回拨超过容忍范围：%d ms", offset));
+                }
+                timestamp = tilNextMillis(lastTimestamp);
+            }
+            if (lastTimestamp == timestamp) {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    timestamp = tilNextMillis(lastTimestamp);
+                }
+            } else {
+                sequence = 0L;
+            }
+            lastTimestamp = timestamp;
+            return ((timestamp - TWEPOCH) << TIMESTAMP_LEFT_SHIFT)
+                    | (datacenterId << DATACENTER_ID_SHIFT)
+                    | (workerId << WORKER_ID_SHIFT)
+                    | sequence;
+        }
+
+        private static long tilNextMillis(long lastTimestamp) {
+            long timestamp = System.currentTimeMillis();
+            while (timestamp <= lastTimestamp) {
+                timestamp = System.currentTimeMillis();
+            }
+            return timestamp;
+        }
+    }
+}
@@ -6,14 +6,22 @@ import cn.refinex.jdbc.dialect.DatabaseDialect;
 import cn.refinex.jdbc.dialect.MySQLDialect;
 import cn.refinex.jdbc.dialect.OracleDialect;
 import cn.refinex.jdbc.dialect.PostgreSQLDialect;
+import cn.refinex.jdbc.mapper.RowMapperRegistry;
 import cn.refinex.jdbc.masker.DefaultSensitiveDataMasker;
 import cn.refinex.jdbc.masker.SensitiveDataMasker;
+import cn.refinex.jdbc.statement.SqlStatementCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
@@ -69,6 +77,29 @@ public class RefinexJdbcTemplateAutoConfiguration {
         };
     }
 
+    /**
+     * 配置实体行映射器注册表
+     *
+     * @return 行映射器注册表实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RowMapperRegistry rowMapperRegistry() {
+        return new RowMapperRegistry();
+    }
+
+    /**
+     * 配置 SQL 语句缓存
+     *
+     * @param properties 配置属性
+     * @return SQL 语句缓存实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SqlStatementCache sqlStatementCache(JdbcTemplateProperties properties) {
+        return new SqlStatementCache(properties.getStatementCacheSize());
+    }
+
     /**
      * 配置事务定义
      *
@@ -93,6 +124,8 @@ public class RefinexJdbcTemplateAutoConfiguration {
      * @param transactionDefinition      事务定义（可选）
      * @param properties                 配置属性
      * @param databaseDialect            数据库方言
+     * @param rowMapperRegistry          实体行映射器注册表
+     * @param sqlStatementCache          SQL 语句缓存
      * @return JDBC 模板管理器实例
      */
     @Bean
@@ -103,7 +136,14 @@ public class RefinexJdbcTemplateAutoConfiguration {
             TransactionDefinition transactionDefinition,
             JdbcTemplateProperties properties,
             SensitiveDataMasker sensitiveDataMasker,
-            DatabaseDialect databaseDialect) {
+            DatabaseDialect databaseDialect,
+            RowMapperRegistry rowMapperRegistry,
+            SqlStatementCache sqlStatementCache) {
+
+        // NamedParameterJdbcTemplate 内部的 ParsedSql 缓存默认仅 256 条，与语句缓存容量对齐
+        if (namedParameterJdbcTemplate.getCacheLimit() < sqlStatementCache.getMaximumSize()) {
+            namedParameterJdbcTemplate.setCacheLimit(sqlStatementCache.getMaximumSize());
+        }
 
         JdbcTemplateManager manager = new JdbcTemplateManager(
                 namedParameterJdbcTemplate,
@@ -113,11 +153,47 @@ public class RefinexJdbcTemplateAutoConfiguration {
 
         manager.setSensitiveDataMasker(sensitiveDataMasker);
         manager.setDatabaseDialect(databaseDialect);
+        manager.setRowMapperRegistry(rowMapperRegistry);
+        manager.setSqlStatementCache(sqlStatementCache);
         manager.setLowerCaseColumnNames(properties.isLowerCaseColumnNames());
         manager.setSlowQueryThresholdMs(properties.getSlowQueryThresholdMs());
         manager.setEnableColumnConflictCheck(properties.isEnableColumnConflictCheck());
         manager.setLogFormat(properties.getLogFormat());
+        manager.setEstimateCountLimit(properties.getEstimateCountLimit());
 
         return manager;
     }
+
+    /**
+     * SQL 语句缓存监控指标（存在 Micrometer 时注册）
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class SqlStatementCacheMetricsConfiguration {
+
+        /**
+         * 缓存数量、命中、未命中与淘汰次数
+         */
+        @Bean
+        public MeterBinder sqlStatementCacheMetricsBinder(ObjectProvider<SqlStatementCache> sqlStatementCache) {
+            return (MeterRegistry registry) -> {
+                SqlStatementCache cache = sqlStatementCache.getIfAvailable();
+                if (cache == null) {
+                    return;
+                }
+                Gauge.builder("refinex.jdbc.statement-cache.size", cache, SqlStatementCache::size)
+                        .description("SQL statements held in the statement cache")
+                        .register(registry);
+                FunctionCounter.builder("refinex.jdbc.statement-cache.hits", cache, SqlStatementCache::getHitCount)
+                        .description("Statement cache lookups served by a cached statement")
+                        .register(registry);
+                FunctionCounter.builder("refinex.jdbc.statement-cache.misses", cache, SqlStatementCache::getMissCount)
+                        .description("Statement cache lookups that created a new statement")
+                        .register(registry);
+                FunctionCounter.builder("refinex.jdbc.statement-cache.evictions", cache, SqlStatementCache::getEvictionCount)
+                        .description("Statements evicted from the statement cache")
+                        .register(registry);
+            };
+        }
+    }
 }
@@ -92,4 +92,14 @@ public class JdbcTemplateProperties {
      */
     private String logFormat = "text";
 
+    /**
+     * SQL 语句缓存最大数量（缓存解析结果、统计 SQL 与分页模板），默认 512
+     */
+    private int statementCacheSize = 512;
+
+    /**
+     * 游标分页估算总数的统计上限，超过上限时返回上限值，默认 10000
+     */
+    private long estimateCountLimit = 10000;
+
 }
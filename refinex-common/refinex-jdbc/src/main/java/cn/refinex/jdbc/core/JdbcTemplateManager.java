@@ -2,7 +2,9 @@ package cn.refinex.jdbc.core;
 
 import cn.hutool.core.util.StrUtil;
 import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.api.CursorPageResponse;
 import cn.refinex.core.api.PageResponse;
+import cn.refinex.core.domain.CursorPageQuery;
 import cn.refinex.core.domain.PageQuery;
 import cn.refinex.core.exception.BusinessException;
 import cn.refinex.core.exception.SystemException;
@@ -11,8 +13,14 @@ import cn.refinex.jdbc.callback.TransactionCallback;
 import cn.refinex.jdbc.dialect.DatabaseDialect;
 import cn.refinex.jdbc.dialect.MySQLDialect;
 import cn.refinex.jdbc.enums.LogFormatType;
+import cn.refinex.jdbc.keyset.KeysetCursorCodec;
+import cn.refinex.jdbc.keyset.KeysetQueryBuilder;
+import cn.refinex.jdbc.keyset.KeysetRowMapper;
+import cn.refinex.jdbc.mapper.RowMapperRegistry;
 import cn.refinex.core.domain.SortOrder;
 import cn.refinex.jdbc.masker.SensitiveDataMasker;
+import cn.refinex.jdbc.statement.SqlStatement;
+import cn.refinex.jdbc.statement.SqlStatementCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Getter;
 import lombok.Setter;
@@ -20,8 +28,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.jspecify.annotations.NonNull;
 import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
@@ -96,6 +105,26 @@ public class JdbcTemplateManager {
     @Setter
     private String logFormat = LogFormatType.TEXT.getValue();
 
+    /**
+     * 实体行映射器注册表（按实体类型缓存预编译的映射元数据）
+     */
+    @Getter
+    @Setter
+    private RowMapperRegistry rowMapperRegistry = new RowMapperRegistry();
+
+    /**
+     * SQL 语句缓存（缓存分页查询派生的统计 SQL 与分页模板）
+     */
+    @Getter
+    @Setter
+    private SqlStatementCache sqlStatementCache = new SqlStatementCache();
+
+    /**
+     * 游标分页估算总数的统计上限
+     */
+    @Setter
+    private long estimateCountLimit = 10_000;
+
     /**
      * JSON 对象映射器
      */
@@ -512,7 +541,7 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            List<T> result = this.namedParameterJdbcTemplate.query(sql, params, new BeanPropertyRowMapper<>(rowMapperClass));
+            List<T> result = this.namedParameterJdbcTemplate.query(sql, params, this.rowMapperRegistry.getRowMapper(rowMapperClass));
 
             if (logSql) {
                 long elapsedMs = (System.nanoTime() - start) / 1_000_000;
@@ -671,7 +700,7 @@ public class JdbcTemplateManager {
         Exception exception = null;
 
         try {
-            result = this.namedParameterJdbcTemplate.queryForObject(sql, params, new BeanPropertyRowMapper<>(rowMapperClass));
+            result = this.namedParameterJdbcTemplate.queryForObject(sql, params, this.rowMapperRegistry.getRowMapper(rowMapperClass));
             rowCount = 1;
         } catch (EmptyResultDataAccessException e) {
             // 查询无结果，返回 null
@@ -721,17 +750,18 @@ public class JdbcTemplateManager {
 
         try {
             // 查询总记录数
-            String countSql = buildCountSql(sql);
+            String countSql = this.sqlStatementCache.get(sql).getCountSql();
             Long total = this.queryLong(countSql, params, logSql);
             if (total == null || total == 0) {
                 return PageResponse.empty(pageQuery.getCurrent(), pageQuery.getSize());
             }
 
             // 构建分页 SQL
-            String pageSql = buildPageSql(sql, pageQuery);
+            Map<String, Object> pageParams = new LinkedHashMap<>(params);
+            String pageSql = buildPageSql(sql, pageQuery, pageParams);
 
             // 查询分页数据
-            List<Map<String, Object>> records = this.queryList(pageSql, params, logSql);
+            List<Map<String, Object>> records = this.queryList(pageSql, pageParams, logSql);
 
             if (logSql) {
                 long elapsedMs = (System.nanoTime() - start) / 1_000_000;
@@ -784,17 +814,18 @@ public class JdbcTemplateManager {
 
         try {
             // 查询总记录数
-            String countSql = buildCountSql(sql);
+            String countSql = this.sqlStatementCache.get(sql).getCountSql();
             Long total = this.queryLong(countSql, params, logSql);
             if (total == null || total == 0) {
                 return PageResponse.empty(pageQuery.getCurrent(), pageQuery.getSize());
             }
 
             // 构建分页 SQL
-            String pageSql = buildPageSql(sql, pageQuery);
+            Map<String, Object> pageParams = new LinkedHashMap<>(params);
+            String pageSql = buildPageSql(sql, pageQuery, pageParams);
 
             // 查询分页数据
-            List<T> records = this.queryList(pageSql, params, logSql, rowMapperClass);
+            List<T> records = this.queryList(pageSql, pageParams, logSql, rowMapperClass);
 
             if (logSql) {
                 long elapsedMs = (System.nanoTime() - start) / 1_000_000;
@@ -812,6 +843,67 @@ public class JdbcTemplateManager {
         }
     }
 
+    // ========================= 游标分页查询方法 =========================
+
+    /**
+     * 游标分页查询（Map 结果）
+     *
+     * @param sql         SQL 语句（不含排序与分页语句）
+     * @param params      参数
+     * @param cursorQuery 游标分页参数
+     * @return 游标分页结果
+     */
+    public CursorPageResponse<Map<String, Object>> queryCursorPage(String sql, Map<String, Object> params, CursorPageQuery cursorQuery) {
+        return this.queryCursorPage(sql, params, cursorQuery, false);
+    }
+
+    /**
+     * 游标分页查询（Map 结果）
+     *
+     * @param sql         SQL 语句（不含排序与分页语句）
+     * @param params      参数
+     * @param cursorQuery 游标分页参数
+     * @param logSql      是否记录 SQL 日志
+     * @return 游标分页结果
+     */
+    public CursorPageResponse<Map<String, Object>> queryCursorPage(String sql, Map<String, Object> params, @NonNull CursorPageQuery cursorQuery, boolean logSql) {
+        CursorPageResponse<Map<String, Object>> response = doQueryCursorPage("queryCursorPage", sql, params, cursorQuery, logSql, new ColumnMapRowMapper());
+        if (!lowerCaseColumnNames) {
+            return response;
+        }
+        return new CursorPageResponse<>(transformColumnNamesToLowerCase(response.records(), null),
+                response.size(), response.nextCursor(), response.hasNext(), response.total(), response.totalExact());
+    }
+
+    /**
+     * 游标分页查询（实体映射）
+     *
+     * @param sql            SQL 语句（不含排序与分页语句）
+     * @param params         参数
+     * @param cursorQuery    游标分页参数
+     * @param rowMapperClass 行映射类
+     * @param <T>            实体类型
+     * @return 游标分页结果
+     */
+    public <T> CursorPageResponse<T> queryCursorPage(String sql, Map<String, Object> params, CursorPageQuery cursorQuery, Class<T> rowMapperClass) {
+        return this.queryCursorPage(sql, params, cursorQuery, false, rowMapperClass);
+    }
+
+    /**
+     * 游标分页查询（实体映射）
+     *
+     * @param sql            SQL 语句（不含排序与分页语句）
+     * @param params         参数
+     * @param cursorQuery    游标分页参数
+     * @param logSql         是否记录 SQL 日志
+     * @param rowMapperClass 行映射类
+     * @param <T>            实体类型
+     * @return 游标分页结果
+     */
+    public <T> CursorPageResponse<T> queryCursorPage(String sql, Map<String, Object> params, @NonNull CursorPageQuery cursorQuery, boolean logSql, @NonNull Class<T> rowMapperClass) {
+        return doQueryCursorPage("queryCursorPageTyped", sql, params, cursorQuery, logSql, this.rowMapperRegistry.getRowMapper(rowMapperClass));
+    }
+
     // ========================= 更新方法 =========================
 
     /**
@@ -1350,38 +1442,23 @@ public class JdbcTemplateManager {
         return transformed;
     }
 
-    /**
-     * 构建统计 SQL
-     *
-     * @param sql 原始 SQL
-     * @return 统计 SQL
-     */
-    private String buildCountSql(String sql) {
-        String upperSql = sql.toUpperCase().trim();
-
-        // 简单处理，移除 ORDER BY 子句
-        int orderByIndex = upperSql.lastIndexOf("ORDER BY");
-        if (orderByIndex > 0) {
-            sql = sql.substring(0, orderByIndex);
-        }
-
-        return "SELECT COUNT(*) FROM (" + sql + ") tmp_count";
-    }
-
     /**
      * 构建分页 SQL
+     * <p>
+     * 方言支持分页模板时，偏移量与限制数量写入 {@code pageParams} 作为绑定参数，
+     * 同一查询的各页共用一条缓存的 SQL 文本；否则回退为拼接字面量。
      *
-     * @param sql       原始 SQL
-     * @param pageQuery 分页参数
+     * @param sql        原始 SQL
+     * @param pageQuery  分页参数
+     * @param pageParams 查询参数（可写副本，用于追加分页参数）
      * @return 分页 SQL
      */
-    private String buildPageSql(String sql, PageQuery pageQuery) {
+    private String buildPageSql(String sql, PageQuery pageQuery, Map<String, Object> pageParams) {
         if (Objects.isNull(databaseDialect)) {
             throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "数据库方言未初始化");
         }
 
-        StringBuilder sb = new StringBuilder(sql);
-
+        String orderedSql = sql;
         List<SortOrder> orderList = pageQuery.getOrderList();
         if (orderList != null && !orderList.isEmpty()) {
             List<String> allowedColumns = orderList.stream()
@@ -1389,11 +1466,115 @@ public class JdbcTemplateManager {
                     .toList();
             String orderByClause = pageQuery.buildOrderByClause(allowedColumns);
             if (orderByClause != null && !orderByClause.isEmpty()) {
-                sb.append(orderByClause);
+                orderedSql = sql + orderByClause;
             }
         }
 
-        return databaseDialect.getLimitSql(sb.toString(), pageQuery.getOffset(), pageQuery.getLimit());
+        return applyLimit(orderedSql, pageQuery.getOffset(), pageQuery.getLimit(), pageParams);
+    }
+
+    /**
+     * 追加分页限制
+     * <p>
+     * 方言支持分页模板时，偏移量与限制数量写入 {@code pageParams} 作为绑定参数，否则回退为拼接字面量。
+     *
+     * @param orderedSql 已排序的 SQL
+     * @param offset     偏移量
+     * @param limit      限制数量
+     * @param pageParams 查询参数（可写副本，用于追加分页参数）
+     * @return 分页 SQL
+     */
+    private String applyLimit(String orderedSql, long offset, long limit, Map<String, Object> pageParams) {
+        SqlStatement statement = this.sqlStatementCache.get(orderedSql);
+        String limitTemplate = statement.getLimitTemplate(databaseDialect);
+        if (limitTemplate == null) {
+            return databaseDialect.getLimitSql(orderedSql, offset, limit);
+        }
+
+        pageParams.put(DatabaseDialect.OFFSET_PARAM, offset);
+        pageParams.put(DatabaseDialect.LIMIT_PARAM, limit);
+        return limitTemplate;
+    }
+
+    /**
+     * 执行游标分页查询
+     * <p>
+     * 多取一行判断是否有下一页；当前页最后一行的排序键值编码为下一页游标。
+     * 总数仅在首页按 {@link CursorPageQuery.CountMode} 统计。
+     *
+     * @param operation   操作名称（用于日志）
+     * @param sql         SQL 语句
+     * @param params      参数
+     * @param cursorQuery 游标分页参数
+     * @param logSql      是否记录 SQL 日志
+     * @param rowMapper   行映射器
+     * @param <T>         实体类型
+     * @return 游标分页结果
+     */
+    private <T> CursorPageResponse<T> doQueryCursorPage(String operation, String sql, Map<String, Object> params,
+                                                        CursorPageQuery cursorQuery, boolean logSql, RowMapper<T> rowMapper) {
+        validateSql(sql);
+        params = ensureParamsNotNull(params);
+        cursorQuery.validate();
+        if (Objects.isNull(databaseDialect)) {
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "数据库方言未初始化");
+        }
+
+        long start = System.nanoTime();
+        Exception exception = null;
+
+        try {
+            int size = cursorQuery.getSize().intValue();
+            List<SortOrder> orders = KeysetQueryBuilder.resolveOrders(cursorQuery.getOrderList(), cursorQuery.getUniqueKey());
+            int fingerprint = KeysetQueryBuilder.fingerprint(sql, orders);
+            boolean firstPage = cursorQuery.isFirstPage();
+
+            // 构建游标分页 SQL
+            Map<String, Object> pageParams = new LinkedHashMap<>(params);
+            if (!firstPage) {
+                Object[] keyValues = KeysetCursorCodec.decode(cursorQuery.getCursor(), fingerprint, orders.size());
+                KeysetQueryBuilder.bindKeyValues(pageParams, keyValues);
+            }
+            String keysetSql = KeysetQueryBuilder.build(sql, orders, !firstPage, databaseDialect.supportsRowValueComparison());
+            String pageSql = applyLimit(keysetSql, 0, size + 1L, pageParams);
+
+            // 查询分页数据（多取一行）
+            KeysetRowMapper<T> keysetRowMapper = new KeysetRowMapper<>(rowMapper, orders, size);
+            List<T> records = this.namedParameterJdbcTemplate.query(pageSql, pageParams, keysetRowMapper);
+
+            String nextCursor = null;
+            if (records.size() > size) {
+                records = new ArrayList<>(records.subList(0, size));
+                nextCursor = KeysetCursorCodec.encode(fingerprint, keysetRowMapper.getLastKeyValues());
+            }
+
+            // 统计总数（仅首页）
+            Long total = null;
+            boolean totalExact = false;
+            if (firstPage && cursorQuery.getCountMode() == CursorPageQuery.CountMode.EXACT) {
+                total = this.queryLong(this.sqlStatementCache.get(sql).getCountSql(), params, logSql);
+                totalExact = true;
+            } else if (firstPage && cursorQuery.getCountMode() == CursorPageQuery.CountMode.ESTIMATE) {
+                Map<String, Object> countParams = new LinkedHashMap<>(params);
+                String cappedSql = applyLimit(sql, 0, estimateCountLimit, countParams);
+                total = this.queryLong("SELECT COUNT(*) FROM (" + cappedSql + ") tmp_count", countParams, logSql);
+                totalExact = total != null && total < estimateCountLimit;
+            }
+
+            if (logSql) {
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                this.logSqlStructured(operation, pageSql, pageParams, elapsedMs, null, records.size(), null);
+            }
+
+            return CursorPageResponse.of(records, size, nextCursor, total, totalExact);
+        } catch (Exception e) {
+            exception = e;
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            if (logSql) {
+                this.logSqlStructured(operation, sql, params, elapsedMs, null, 0, exception);
+            }
+            throw e;
+        }
     }
 
     /**
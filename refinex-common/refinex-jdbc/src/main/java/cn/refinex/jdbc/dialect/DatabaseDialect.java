@@ -8,6 +8,16 @@ package cn.refinex.jdbc.dialect;
  */
 public interface DatabaseDialect {
 
+    /**
+     * 分页模板中偏移量的命名参数名
+     */
+    String OFFSET_PARAM = "refinexPageOffset";
+
+    /**
+     * 分页模板中限制数量的命名参数名
+     */
+    String LIMIT_PARAM = "refinexPageLimit";
+
     /**
      * 获取分页 SQL
      *
@@ -18,6 +28,30 @@ public interface DatabaseDialect {
      */
     String getLimitSql(String sql, long offset, long limit);
 
+    /**
+     * 获取分页模板 SQL
+     * <p>
+     * 偏移量与限制数量以命名参数 {@link #OFFSET_PARAM}、{@link #LIMIT_PARAM} 绑定，而不是拼接到 SQL 中，
+     * 同一查询的不同页使用相同的 SQL 文本，可以命中 SQL 解析缓存与数据库的预编译语句缓存。
+     *
+     * @param sql 原始 SQL
+     * @return 分页模板 SQL，返回 null 表示不支持，调用方回退到 {@link #getLimitSql(String, long, long)}
+     */
+    default String getLimitTemplate(String sql) {
+        return null;
+    }
+
+    /**
+     * 是否支持行值比较
+     * <p>
+     * 支持时游标分页使用 {@code (a, b) > (:k0, :k1)} 形式的条件，否则展开为等价的 OR 条件。
+     *
+     * @return 是否支持
+     */
+    default boolean supportsRowValueComparison() {
+        return false;
+    }
+
     /**
      * 是否支持自动生成主键
      *
@@ -27,6 +27,27 @@ public class MySQLDialect implements DatabaseDialect {
         return sql + " LIMIT " + offset + ", " + limit;
     }
 
+    /**
+     * 获取分页模板 SQL
+     *
+     * @param sql 原始 SQL
+     * @return 分页模板 SQL
+     */
+    @Override
+    public String getLimitTemplate(String sql) {
+        return sql + " LIMIT :" + OFFSET_PARAM + ", :" + LIMIT_PARAM;
+    }
+
+    /**
+     * 是否支持行值比较
+     *
+     * @return MySQL 支持行值比较
+     */
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
     /**
      * 是否支持自动生成主键
      * <p>
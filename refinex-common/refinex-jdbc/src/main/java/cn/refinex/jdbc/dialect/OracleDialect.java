@@ -37,6 +37,22 @@ public class OracleDialect implements DatabaseDialect {
                 ") WHERE row_id >= " + startRow;
     }
 
+    /**
+     * 获取分页模板 SQL
+     * <p>
+     * 结束行为 {@code offset + limit}，起始行条件 {@code row_id > offset} 等价于 {@code row_id >= offset + 1}。
+     *
+     * @param sql 原始 SQL
+     * @return 分页模板 SQL
+     */
+    @Override
+    public String getLimitTemplate(String sql) {
+        return "SELECT * FROM (SELECT tmp_page.*, ROWNUM row_id FROM (" +
+                sql +
+                ") tmp_page WHERE ROWNUM <= :" + OFFSET_PARAM + " + :" + LIMIT_PARAM +
+                ") WHERE row_id > :" + OFFSET_PARAM;
+    }
+
     /**
      * 是否支持自动生成主键
      *
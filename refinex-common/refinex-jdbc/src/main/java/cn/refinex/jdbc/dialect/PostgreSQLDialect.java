@@ -26,6 +26,27 @@ public class PostgreSQLDialect implements DatabaseDialect {
         return sql + " LIMIT " + limit + " OFFSET " + offset;
     }
 
+    /**
+     * 获取分页模板 SQL
+     *
+     * @param sql 原始 SQL
+     * @return 分页模板 SQL
+     */
+    @Override
+    public String getLimitTemplate(String sql) {
+        return sql + " LIMIT :" + LIMIT_PARAM + " OFFSET :" + OFFSET_PARAM;
+    }
+
+    /**
+     * 是否支持行值比较
+     *
+     * @return PostgreSQL 支持行值比较
+     */
+    @Override
+    public boolean supportsRowValueComparison() {
+        return true;
+    }
+
     /**
      * 是否支持自动生成主键
      * <p>
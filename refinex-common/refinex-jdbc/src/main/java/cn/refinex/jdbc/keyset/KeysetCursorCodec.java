@@ -0,0 +1,194 @@
+package cn.refinex.jdbc.keyset;
+
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.BusinessException;
+import cn.refinex.core.exception.SystemException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.Base64;
+import java.util.zip.CRC32;
+
+/**
+ * 游标编解码器
+ * <p>
+ * 游标内容为：格式版本、排序指纹、上一页最后一行的排序键值（带类型标记）。二进制编码后使用 URL 安全的 Base64 输出，
+ * 对调用方不透明。解码时还原为原始 Java 类型，作为绑定参数传给 JDBC，时间、精确小数等类型的比较语义不变。
+ * <p>
+ * 排序指纹由 SQL 与排序字段计算，更换查询或排序后旧游标会被拒绝；末尾的 CRC32 校验和用于拒绝被修改或截断的游标
+ * （不是签名，排序键值只决定下一页的起点，以绑定参数传入，不影响查询权限）。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursorCodec {
+
+    /**
+     * 游标格式版本
+     */
+    private static final byte VERSION = 2;
+
+    /**
+     * 校验和长度（字节）
+     */
+    private static final int CHECKSUM_LENGTH = Integer.BYTES;
+
+    private static final byte TYPE_LONG = 1;
+    private static final byte TYPE_DECIMAL = 2;
+    private static final byte TYPE_DOUBLE = 3;
+    private static final byte TYPE_STRING = 4;
+    private static final byte TYPE_LOCAL_DATE_TIME = 5;
+    private static final byte TYPE_LOCAL_DATE = 6;
+    private static final byte TYPE_OFFSET_DATE_TIME = 7;
+    private static final byte TYPE_BOOLEAN = 8;
+
+    /**
+     * 编码游标
+     *
+     * @param fingerprint 排序指纹
+     * @param values      排序键值
+     * @return 游标字符串
+     */
+    public static String encode(int fingerprint, Object[] values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(fingerprint);
+            out.writeByte(values.length);
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+            out.writeInt(checksum(bytes.toByteArray(), bytes.size()));
+        } catch (IOException e) {
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "游标编码失败", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * 解码游标
+     *
+     * @param cursor      游标字符串
+     * @param fingerprint 当前查询的排序指纹
+     * @param keyCount    排序键数量
+     * @return 排序键值
+     * @throws BusinessException 游标格式错误、被修改或与当前查询不匹配
+     */
+    public static Object[] decode(String cursor, int fingerprint, int keyCount) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("分页游标无效", e);
+        }
+        int length = bytes.length - CHECKSUM_LENGTH;
+        if (length <= 0 || checksum(bytes, length) != ByteBuffer.wrap(bytes, length, CHECKSUM_LENGTH).getInt()) {
+            throw new BusinessException("分页游标无效");
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length))) {
+            if (in.readByte() != VERSION || in.readInt() != fingerprint || in.readUnsignedByte() != keyCount) {
+                throw new BusinessException("分页游标与当前查询不匹配");
+            }
+            Object[] values = new Object[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                values[i] = readValue(in);
+            }
+            if (in.available() > 0) {
+                throw new IOException("Trailing bytes in cursor");
+            }
+            return values;
+        } catch (IOException | IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException("分页游标无效", e);
+        }
+    }
+
+    /**
+     * 写入带类型标记的值
+     *
+     * @param out   输出流
+     * @param value 值
+     * @throws IOException 写入失败
+     */
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        switch (value) {
+            case Long v -> writeLong(out, v);
+            case Integer v -> writeLong(out, v);
+            case Short v -> writeLong(out, v);
+            case Byte v -> writeLong(out, v);
+            case BigInteger v -> writeString(out, TYPE_DECIMAL, v.toString());
+            case BigDecimal v -> writeString(out, TYPE_DECIMAL, v.toPlainString());
+            case Double v -> writeDouble(out, v);
+            case Float v -> writeDouble(out, v);
+            case String v -> writeString(out, TYPE_STRING, v);
+            case Timestamp v -> writeString(out, TYPE_LOCAL_DATE_TIME, v.toLocalDateTime().toString());
+            case LocalDateTime v -> writeString(out, TYPE_LOCAL_DATE_TIME, v.toString());
+            case java.sql.Date v -> writeString(out, TYPE_LOCAL_DATE, v.toLocalDate().toString());
+            case LocalDate v -> writeString(out, TYPE_LOCAL_DATE, v.toString());
+            case OffsetDateTime v -> writeString(out, TYPE_OFFSET_DATE_TIME, v.toString());
+            case Boolean v -> {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(v);
+            }
+            default -> throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR,
+                    "游标分页不支持的排序键类型: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * 读取带类型标记的值
+     *
+     * @param in 输入流
+     * @return 值
+     * @throws IOException 读取失败
+     */
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_LONG -> in.readLong();
+            case TYPE_DECIMAL -> new BigDecimal(in.readUTF());
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_STRING -> in.readUTF();
+            case TYPE_LOCAL_DATE_TIME -> LocalDateTime.parse(in.readUTF());
+            case TYPE_LOCAL_DATE -> LocalDate.parse(in.readUTF());
+            case TYPE_OFFSET_DATE_TIME -> OffsetDateTime.parse(in.readUTF());
+            case TYPE_BOOLEAN -> in.readBoolean();
+            default -> throw new IOException("Unknown cursor value type: " + type);
+        };
+    }
+
+    /**
+     * 计算前 length 个字节的 CRC32 校验和
+     *
+     * @param bytes  字节
+     * @param length 参与计算的长度
+     * @return 校验和
+     */
+    private static int checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    private static void writeLong(DataOutputStream out, long value) throws IOException {
+        out.writeByte(TYPE_LONG);
+        out.writeLong(value);
+    }
+
+    private static void writeDouble(DataOutputStream out, double value) throws IOException {
+        out.writeByte(TYPE_DOUBLE);
+        out.writeDouble(value);
+    }
+
+    private static void writeString(DataOutputStream out, byte type, String value) throws IOException {
+        out.writeByte(type);
+        out.writeUTF(value);
+    }
+}
@@ -0,0 +1,234 @@
+package cn.refinex.jdbc.keyset;
+
+import cn.refinex.core.domain.SortOrder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 游标分页 SQL 构建器
+ * <p>
+ * 将原始 SQL 包装为派生表，按排序字段追加 Keyset 条件与 ORDER BY：
+ * <pre>{@code
+ * SELECT * FROM (original_sql) tmp_keyset
+ * WHERE (create_time, id) < (:refinexKeyset0, :refinexKeyset1)
+ * ORDER BY create_time DESC, id DESC
+ * }</pre>
+ * 排序方向一致且方言支持行值比较时使用行值比较；否则展开为等价的 OR 条件，
+ * 例如 {@code (a > :k0) OR (a = :k0 AND id > :k1)}，兼容 Oracle 以及混合排序方向。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetQueryBuilder {
+
+    /**
+     * 排序键值命名参数前缀
+     */
+    public static final String KEY_PARAM_PREFIX = "refinexKeyset";
+
+    /**
+     * 允许的列名（防 SQL 注入）
+     */
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    /**
+     * 解析排序字段，末尾追加唯一键保证排序稳定
+     *
+     * @param orderList 排序字段
+     * @param uniqueKey 唯一键列
+     * @return 排序字段（包含唯一键）
+     */
+    public static List<SortOrder> resolveOrders(List<SortOrder> orderList, String uniqueKey) {
+        List<SortOrder> orders = new ArrayList<>();
+        boolean containsUniqueKey = false;
+        if (orderList != null) {
+            for (SortOrder order : orderList) {
+                if (order == null || order.getColumn() == null) {
+                    continue;
+                }
+                validateColumn(order.getColumn());
+                orders.add(new SortOrder(order.getColumn(), !Boolean.FALSE.equals(order.getAsc())));
+                containsUniqueKey |= order.getColumn().equalsIgnoreCase(uniqueKey);
+            }
+        }
+        if (!containsUniqueKey) {
+            validateColumn(uniqueKey);
+            // 唯一键沿用最后一个排序字段的方向，行值比较更容易命中
+            boolean asc = orders.isEmpty() || orders.getLast().getAsc();
+            orders.add(new SortOrder(uniqueKey, asc));
+        }
+        return List.copyOf(orders);
+    }
+
+    /**
+     * 计算排序指纹，用于校验游标与当前查询是否匹配
+     *
+     * @param sql    原始 SQL
+     * @param orders 排序字段
+     * @return 排序指纹
+     */
+    public static int fingerprint(String sql, List<SortOrder> orders) {
+        int hash = sql.hashCode();
+        for (SortOrder order : orders) {
+            hash = 31 * hash + Objects.hash(order.getColumn().toLowerCase(), order.getAsc());
+        }
+        return hash;
+    }
+
+    /**
+     * 构建游标分页 SQL
+     *
+     * @param sql               原始 SQL
+     * @param orders            排序字段（包含唯一键）
+     * @param withPredicate     是否追加 Keyset 条件（首页不追加）
+     * @param rowValueSupported 方言是否支持行值比较
+     * @return 游标分页 SQL（不含分页限制）
+     */
+    public static String build(String sql, List<SortOrder> orders, boolean withPredicate, boolean rowValueSupported) {
+        StringBuilder sb = new StringBuilder(sql.length() + 128)
+                .append("SELECT * FROM (").append(sql).append(") tmp_keyset");
+
+        if (withPredicate) {
+            sb.append(" WHERE ");
+            if (rowValueSupported && isSameDirection(orders)) {
+                appendRowValuePredicate(sb, orders);
+            } else {
+                appendExpandedPredicate(sb, orders);
+            }
+        }
+
+        sb.append(" ORDER BY ");
+        for (int i = 0; i < orders.size(); i++) {
+            SortOrder order = orders.get(i);
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(order.getColumn()).append(order.getAsc() ? " ASC" : " DESC");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 将排序键值写入查询参数
+     *
+     * @param params 查询参数
+     * @param values 排序键值
+     */
+    public static void bindKeyValues(Map<String, Object> params, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            params.put(KEY_PARAM_PREFIX + i, values[i]);
+        }
+    }
+
+    /**
+     * 校验排序列在结果集中存在且不可为 NULL
+     * <p>
+     * NULL 不参与比较，可为 NULL 的排序列会使 Keyset 条件漏行，也无法编码为游标。
+     * 可为 NULL 的列需在 SQL 中用 {@code COALESCE} 转为非空值后再作为排序列。
+     *
+     * @param metaData 结果集元数据
+     * @param columns  排序列（包含唯一键）
+     * @throws SQLException 读取元数据失败
+     */
+    public static void validateNotNullable(ResultSetMetaData metaData, String[] columns) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        for (String column : columns) {
+            int index = 0;
+            for (int i = 1; i <= columnCount && index == 0; i++) {
+                if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    index = i;
+                }
+            }
+            if (index == 0) {
+                throw new IllegalArgumentException("排序列不在查询结果中: " + column);
+            }
+            if (metaData.isNullable(index) == ResultSetMetaData.columnNullable) {
+                throw new IllegalArgumentException("游标分页的排序列不能为可空列: " + column);
+            }
+        }
+    }
+
+    /**
+     * 行值比较：(a, b) > (:k0, :k1)
+     *
+     * @param sb     SQL 构建器
+     * @param orders 排序字段
+     */
+    private static void appendRowValuePredicate(StringBuilder sb, List<SortOrder> orders) {
+        StringBuilder values = new StringBuilder();
+        sb.append('(');
+        for (int i = 0; i < orders.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+                values.append(", ");
+            }
+            sb.append(orders.get(i).getColumn());
+            values.append(':').append(KEY_PARAM_PREFIX).append(i);
+        }
+        sb.append(") ").append(operator(orders.getFirst())).append(" (").append(values).append(')');
+    }
+
+    /**
+     * 展开比较：(a > :k0) OR (a = :k0 AND b > :k1)
+     *
+     * @param sb     SQL 构建器
+     * @param orders 排序字段
+     */
+    private static void appendExpandedPredicate(StringBuilder sb, List<SortOrder> orders) {
+        sb.append('(');
+        for (int i = 0; i < orders.size(); i++) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append('(');
+            for (int j = 0; j < i; j++) {
+                sb.append(orders.get(j).getColumn()).append(" = :").append(KEY_PARAM_PREFIX).append(j).append(" AND ");
+            }
+            SortOrder order = orders.get(i);
+            sb.append(order.getColumn()).append(' ').append(operator(order)).append(" :").append(KEY_PARAM_PREFIX).append(i);
+            sb.append(')');
+        }
+        sb.append(')');
+    }
+
+    /**
+     * 排序方向是否一致
+     *
+     * @param orders 排序字段
+     * @return 是否一致
+     */
+    private static boolean isSameDirection(List<SortOrder> orders) {
+        boolean asc = orders.getFirst().getAsc();
+        return orders.stream().allMatch(order -> order.getAsc() == asc);
+    }
+
+    /**
+     * 获取比较运算符
+     *
+     * @param order 排序字段
+     * @return 升序为 {@code >}，降序为 {@code <}
+     */
+    private static String operator(SortOrder order) {
+        return order.getAsc() ? ">" : "<";
+    }
+
+    /**
+     * 校验列名
+     *
+     * @param column 列名
+     */
+    private static void validateColumn(String column) {
+        if (column == null || !COLUMN_PATTERN.matcher(column).matches()) {
+            throw new IllegalArgumentException("非法的排序列: " + column);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package cn.refinex.jdbc.keyset;
+
+import cn.refinex.core.domain.SortOrder;
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 游标分页行映射器
+ * <p>
+ * 委托原行映射器完成映射，同时在当前页最后一行读取排序键值，用于生成下一页游标。
+ * 查询多取一行用于判断是否有下一页，该行不参与游标生成。映射首行前按结果集元数据拒绝可为 NULL 的排序列，
+ * 不依赖数据中是否实际出现 NULL。仅供单次查询使用。
+ *
+ * @param <T> 实体类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class KeysetRowMapper<T> implements RowMapper<T> {
+
+    /**
+     * 原行映射器
+     */
+    private final RowMapper<T> delegate;
+
+    /**
+     * 排序列
+     */
+    private final String[] columns;
+
+    /**
+     * 需要读取排序键值的行号（从 0 开始）
+     */
+    private final int cursorRow;
+
+    /**
+     * 当前页最后一行的排序键值
+     */
+    private Object[] lastKeyValues;
+
+    /**
+     * 构造函数
+     *
+     * @param delegate 原行映射器
+     * @param orders   排序字段（包含唯一键）
+     * @param pageSize 每页大小
+     */
+    public KeysetRowMapper(RowMapper<T> delegate, List<SortOrder> orders, int pageSize) {
+        this.delegate = delegate;
+        this.columns = orders.stream().map(SortOrder::getColumn).toArray(String[]::new);
+        this.cursorRow = pageSize - 1;
+    }
+
+    @Override
+    public T mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+        if (rowNum == 0) {
+            KeysetQueryBuilder.validateNotNullable(rs.getMetaData(), columns);
+        }
+        T row = delegate.mapRow(rs, rowNum);
+        if (rowNum == cursorRow) {
+            Object[] values = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                values[i] = rs.getObject(columns[i]);
+                if (values[i] == null) {
+                    // 驱动未报告可空性时的兜底
+                    throw new IllegalArgumentException("游标分页的排序列值不能为 NULL: " + columns[i]);
+                }
+            }
+            this.lastKeyValues = values;
+        }
+        return row;
+    }
+
+    /**
+     * 获取当前页最后一行的排序键值
+     *
+     * @return 排序键值，结果不足一页时为 null
+     */
+    public Object[] getLastKeyValues() {
+        return lastKeyValues;
+    }
+}
@@ -0,0 +1,318 @@
+package cn.refinex.jdbc.mapper;
+
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 实体映射元数据
+ * <p>
+ * 每个实体类型只构建一次：解析无参构造器与全部可写属性，并通过 {@link LambdaMetafactory} 将 setter 编译为
+ * {@link BiConsumer}（不满足条件时回退为 {@link MethodHandle}）。列名到属性的绑定按 {@link ResultSetMetaData}
+ * 的列布局缓存，相同布局的查询不再重复解析列名。
+ * <p>
+ * 列名匹配规则与 {@link org.springframework.jdbc.core.BeanPropertyRowMapper} 保持一致：
+ * 属性名小写形式与下划线形式（例如 {@code mobileCipher} 对应 {@code mobilecipher} 与 {@code mobile_cipher}）。
+ * NULL 值的处理同样与其默认配置一致：包装类型属性赋值为 null，基本类型属性抛出 {@link TypeMismatchException}。
+ *
+ * @param <T> 实体类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+final class BeanMappingMetadata<T> {
+
+    /**
+     * 单个实体类型最多缓存的列布局数量
+     */
+    private static final int MAX_LAYOUT_CACHE_SIZE = 64;
+
+    /**
+     * 类型转换服务（列值类型与属性类型不一致时兜底）
+     */
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    /**
+     * 实体类型
+     */
+    @Getter
+    private final Class<T> mappedClass;
+
+    /**
+     * 无参构造器句柄，类型为 {@code ()Object}
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * 规范化列名 -> 属性赋值器
+     */
+    private final Map<String, PropertySetter> setters;
+
+    /**
+     * 列布局签名 -> 按列序号排列的属性赋值器（未匹配的列为 null）
+     */
+    private final ConcurrentMap<String, PropertySetter[]> layoutCache = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数，解析实体类型并编译所有 setter
+     *
+     * @param mappedClass 实体类型
+     */
+    BeanMappingMetadata(Class<T> mappedClass) {
+        this.mappedClass = mappedClass;
+
+        MethodHandles.Lookup lookup = resolveLookup(mappedClass);
+        this.constructor = resolveConstructor(lookup, mappedClass);
+
+        PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(mappedClass);
+        Map<String, PropertySetter> resolved = HashMap.newHashMap(descriptors.length * 2);
+        for (PropertyDescriptor descriptor : descriptors) {
+            Method writeMethod = descriptor.getWriteMethod();
+            if (writeMethod == null) {
+                continue;
+            }
+
+            PropertySetter setter = new PropertySetter(
+                    descriptor.getName(),
+                    writeMethod.getParameterTypes()[0],
+                    compileSetter(lookup, mappedClass, writeMethod)
+            );
+
+            resolved.put(lowerCaseName(descriptor.getName()), setter);
+            String underscoredName = underscoreName(descriptor.getName());
+            if (!underscoredName.equals(lowerCaseName(descriptor.getName()))) {
+                resolved.put(underscoredName, setter);
+            }
+        }
+        this.setters = Map.copyOf(resolved);
+    }
+
+    /**
+     * 创建实体实例
+     *
+     * @return 实体实例
+     */
+    @SuppressWarnings("unchecked")
+    T newInstance() {
+        try {
+            return (T) (Object) constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "实体实例化失败: " + mappedClass.getName(), e);
+        }
+    }
+
+    /**
+     * 解析结果集列布局，返回按列序号排列的属性赋值器
+     *
+     * @param metaData 结果集元数据
+     * @return 属性赋值器数组，下标 i 对应第 i + 1 列
+     * @throws SQLException 读取元数据失败
+     */
+    PropertySetter[] resolveLayout(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] columnNames = new String[columnCount];
+        StringBuilder signature = new StringBuilder(columnCount * 16);
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+            signature.append(columnNames[i]).append(',');
+        }
+
+        String layoutKey = signature.toString();
+        PropertySetter[] layout = layoutCache.get(layoutKey);
+        if (layout != null) {
+            return layout;
+        }
+
+        layout = new PropertySetter[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            String normalized = StringUtils.delete(columnNames[i], " ").toLowerCase();
+            layout[i] = setters.get(normalized);
+        }
+
+        if (layoutCache.size() < MAX_LAYOUT_CACHE_SIZE) {
+            layoutCache.putIfAbsent(layoutKey, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * 获取可访问实体私有成员的 Lookup，失败时退回当前类的 Lookup
+     *
+     * @param mappedClass 实体类型
+     * @return Lookup
+     */
+    private static MethodHandles.Lookup resolveLookup(Class<?> mappedClass) {
+        try {
+            return MethodHandles.privateLookupIn(mappedClass, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.lookup();
+        }
+    }
+
+    /**
+     * 解析无参构造器
+     *
+     * @param lookup      Lookup
+     * @param mappedClass 实体类型
+     * @return 构造器句柄，类型为 {@code ()Object}
+     */
+    private static MethodHandle resolveConstructor(MethodHandles.Lookup lookup, Class<?> mappedClass) {
+        try {
+            Constructor<?> declared = mappedClass.getDeclaredConstructor();
+            declared.setAccessible(true);
+            return lookup.unreflectConstructor(declared).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "实体缺少可访问的无参构造器: " + mappedClass.getName(), e);
+        }
+    }
+
+    /**
+     * 编译 setter
+     * <p>
+     * 优先使用 {@link LambdaMetafactory} 生成 {@link BiConsumer}，调用开销与直接调用 setter 基本一致；
+     * 当实体与本模块不在同一类加载器等原因导致生成失败时，回退为适配后的 {@link MethodHandle}。
+     * 链式 setter（返回 this）同样适用，返回值会被丢弃。
+     *
+     * @param lookup      Lookup
+     * @param mappedClass 实体类型
+     * @param writeMethod setter 方法
+     * @return 赋值器
+     */
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> compileSetter(MethodHandles.Lookup lookup, Class<?> mappedClass, Method writeMethod) {
+        MethodHandle target;
+        try {
+            writeMethod.setAccessible(true);
+            target = lookup.unreflect(writeMethod);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "无法访问实体属性 setter: " + writeMethod, e);
+        }
+
+        Class<?> parameterType = ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0]);
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    target,
+                    MethodType.methodType(void.class, mappedClass, parameterType)
+            );
+            return (BiConsumer<Object, Object>) callSite.getTarget().invokeExact();
+        } catch (Throwable e) {
+            log.debug("LambdaMetafactory 生成 setter 失败，回退为 MethodHandle: {}", writeMethod, e);
+        }
+
+        MethodHandle adapted = target.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (bean, value) -> {
+            try {
+                adapted.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "调用实体属性 setter 失败: " + writeMethod, e);
+            }
+        };
+    }
+
+    /**
+     * 属性名转小写
+     *
+     * @param name 属性名
+     * @return 小写属性名
+     */
+    private static String lowerCaseName(String name) {
+        return name.toLowerCase();
+    }
+
+    /**
+     * 属性名转下划线形式，例如 {@code mobileCipher -> mobile_cipher}
+     *
+     * @param name 属性名
+     * @return 下划线形式
+     */
+    private static String underscoreName(String name) {
+        if (name.isEmpty()) {
+            return name;
+        }
+
+        StringBuilder result = new StringBuilder(name.length() + 8);
+        result.append(Character.toLowerCase(name.charAt(0)));
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                result.append('_').append(Character.toLowerCase(c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 属性赋值器
+     *
+     * @param propertyName 属性名
+     * @param propertyType 属性类型
+     * @param setter       编译后的 setter
+     */
+    record PropertySetter(String propertyName, Class<?> propertyType, BiConsumer<Object, Object> setter) {
+
+        /**
+         * 读取指定列并赋值到实体
+         *
+         * @param bean        实体实例
+         * @param rs          结果集
+         * @param columnIndex 列序号（从 1 开始）
+         * @throws SQLException          读取列值失败
+         * @throws TypeMismatchException 列值为 NULL 而属性为基本类型（与 BeanPropertyRowMapper 默认行为一致）
+         */
+        void apply(Object bean, ResultSet rs, int columnIndex) throws SQLException {
+            Object value = JdbcUtils.getResultSetValue(rs, columnIndex, propertyType);
+            if (value == null) {
+                if (propertyType.isPrimitive()) {
+                    throw new TypeMismatchException(new PropertyChangeEvent(bean, propertyName, null, null), propertyType);
+                }
+                setter.accept(bean, null);
+                return;
+            }
+
+            if (!ClassUtils.isAssignableValue(propertyType, value)) {
+                try {
+                    value = CONVERSION_SERVICE.convert(value, propertyType);
+                } catch (RuntimeException e) {
+                    throw new TypeMismatchDataAccessException(
+                            "列值类型无法转换: column=" + columnIndex + ", property=" + propertyName + ", type=" + propertyType.getName(), e);
+                }
+            }
+            setter.accept(bean, value);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package cn.refinex.jdbc.mapper;
+
+import org.jspecify.annotations.NonNull;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 预编译实体行映射器
+ * <p>
+ * 由 {@link RowMapperRegistry} 按查询创建的轻量对象，复用实体类型共享的 {@link BeanMappingMetadata}。
+ * 首行映射时根据结果集元数据解析一次列绑定，其余行直接按列序号调用已编译的 setter。
+ * <p>
+ * 该对象持有单次查询的列布局，非线程安全，不应跨查询复用。
+ *
+ * @param <T> 实体类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class PrecompiledBeanRowMapper<T> implements RowMapper<T> {
+
+    /**
+     * 实体映射元数据
+     */
+    private final BeanMappingMetadata<T> metadata;
+
+    /**
+     * 当前结果集的列绑定（首行解析）
+     */
+    private BeanMappingMetadata.PropertySetter[] layout;
+
+    /**
+     * 构造函数
+     *
+     * @param metadata 实体映射元数据
+     */
+    PrecompiledBeanRowMapper(BeanMappingMetadata<T> metadata) {
+        this.metadata = metadata;
+    }
+
+    /**
+     * 映射单行数据
+     *
+     * @param rs     结果集
+     * @param rowNum 行号
+     * @return 实体实例
+     * @throws SQLException 读取结果集失败
+     */
+    @Override
+    public T mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+        BeanMappingMetadata.PropertySetter[] bindings = this.layout;
+        if (bindings == null) {
+            bindings = metadata.resolveLayout(rs.getMetaData());
+            this.layout = bindings;
+        }
+
+        T instance = metadata.newInstance();
+        for (int i = 0; i < bindings.length; i++) {
+            BeanMappingMetadata.PropertySetter setter = bindings[i];
+            if (setter != null) {
+                setter.apply(instance, rs, i + 1);
+            }
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,66 @@
+package cn.refinex.jdbc.mapper;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 实体行映射器注册表
+ * <p>
+ * 按实体类型缓存 {@link BeanMappingMetadata}，替代每次查询都重新内省实体的 {@code new BeanPropertyRowMapper<>(clazz)}。
+ * 实体元数据（构造器、setter、列布局）只在首次使用时构建一次，后续查询仅创建一个轻量的 {@link PrecompiledBeanRowMapper}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class RowMapperRegistry {
+
+    /**
+     * 实体类型 -> 映射元数据
+     */
+    private final ConcurrentMap<Class<?>, BeanMappingMetadata<?>> metadataCache = new ConcurrentHashMap<>();
+
+    /**
+     * 获取实体行映射器
+     *
+     * @param mappedClass 实体类型
+     * @param <T>         实体类型
+     * @return 行映射器（每次调用返回新实例，仅供单次查询使用）
+     */
+    public <T> RowMapper<T> getRowMapper(Class<T> mappedClass) {
+        return new PrecompiledBeanRowMapper<>(getMetadata(mappedClass));
+    }
+
+    /**
+     * 已缓存的实体类型数量
+     *
+     * @return 缓存数量
+     */
+    public int size() {
+        return metadataCache.size();
+    }
+
+    /**
+     * 清空缓存（例如热部署后实体类被重新加载）
+     */
+    public void clear() {
+        metadataCache.clear();
+    }
+
+    /**
+     * 获取实体映射元数据，不存在时构建
+     *
+     * @param mappedClass 实体类型
+     * @param <T>         实体类型
+     * @return 映射元数据
+     */
+    @SuppressWarnings("unchecked")
+    private <T> BeanMappingMetadata<T> getMetadata(Class<T> mappedClass) {
+        BeanMappingMetadata<?> metadata = metadataCache.get(mappedClass);
+        if (metadata == null) {
+            metadata = metadataCache.computeIfAbsent(mappedClass, key -> new BeanMappingMetadata<>(mappedClass));
+        }
+        return (BeanMappingMetadata<T>) metadata;
+    }
+}
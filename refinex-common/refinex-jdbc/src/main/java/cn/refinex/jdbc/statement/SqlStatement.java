@@ -0,0 +1,104 @@
+package cn.refinex.jdbc.statement;
+
+import cn.refinex.jdbc.dialect.DatabaseDialect;
+import lombok.Getter;
+
+/**
+ * 预编译的 SQL 语句
+ * <p>
+ * 保存分页查询派生出的统计 SQL 与方言分页模板，实例由 {@link SqlStatementCache} 按 SQL 文本缓存，派生 SQL 只在首次使用时构建一次。
+ * 命名参数的解析结果由 {@code NamedParameterJdbcTemplate} 自身的解析缓存保存（容量与本缓存一致），此处不重复保存。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class SqlStatement {
+
+    /**
+     * ORDER BY 关键字
+     */
+    private static final String ORDER_BY = "ORDER BY";
+
+    /**
+     * 原始 SQL
+     */
+    @Getter
+    private final String sql;
+
+    /**
+     * 统计 SQL（延迟构建）
+     */
+    private volatile String countSql;
+
+    /**
+     * 方言分页模板（延迟构建）
+     */
+    private volatile LimitTemplate limitTemplate;
+
+    /**
+     * 构造函数
+     *
+     * @param sql 原始 SQL
+     */
+    SqlStatement(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * 获取统计 SQL
+     * <p>
+     * 移除最后一个 {@code ORDER BY} 子句后包装为 {@code SELECT COUNT(*)}。
+     *
+     * @return 统计 SQL
+     */
+    public String getCountSql() {
+        String result = countSql;
+        if (result == null) {
+            int orderByIndex = lastIndexOfIgnoreCase(sql, ORDER_BY);
+            String body = orderByIndex > 0 ? sql.substring(0, orderByIndex) : sql;
+            result = "SELECT COUNT(*) FROM (" + body + ") tmp_count";
+            countSql = result;
+        }
+        return result;
+    }
+
+    /**
+     * 获取方言分页模板
+     *
+     * @param dialect 数据库方言
+     * @return 分页模板 SQL，方言不支持时返回 null
+     */
+    public String getLimitTemplate(DatabaseDialect dialect) {
+        LimitTemplate cached = limitTemplate;
+        if (cached == null || cached.dialect() != dialect) {
+            cached = new LimitTemplate(dialect, dialect.getLimitTemplate(sql));
+            limitTemplate = cached;
+        }
+        return cached.sql();
+    }
+
+    /**
+     * 忽略大小写查找子串最后一次出现的位置，不复制原字符串
+     *
+     * @param text   文本
+     * @param target 子串
+     * @return 位置，未找到返回 -1
+     */
+    private static int lastIndexOfIgnoreCase(String text, String target) {
+        for (int i = text.length() - target.length(); i >= 0; i--) {
+            if (text.regionMatches(true, i, target, 0, target.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 方言分页模板
+     *
+     * @param dialect 数据库方言
+     * @param sql     分页模板 SQL
+     */
+    private record LimitTemplate(DatabaseDialect dialect, String sql) {
+    }
+}
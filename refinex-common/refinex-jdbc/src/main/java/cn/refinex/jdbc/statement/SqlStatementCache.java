@@ -0,0 +1,113 @@
+package cn.refinex.jdbc.statement;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * SQL 语句缓存
+ * <p>
+ * 按 SQL 文本缓存 {@link SqlStatement}，容量有上限（W-TinyLFU 淘汰），命中率、淘汰次数可通过 getter 观测。
+ * 仓储层的热点 SQL 在每个 JVM 内只派生一次统计 SQL 与分页模板。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class SqlStatementCache {
+
+    /**
+     * 默认最大缓存数量
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    /**
+     * SQL 文本 -> 预编译语句
+     */
+    private final Cache<String, SqlStatement> cache;
+
+    /**
+     * 最大缓存数量
+     */
+    private final int maximumSize;
+
+    /**
+     * 构造函数，使用默认容量
+     */
+    public SqlStatementCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param maximumSize 最大缓存数量
+     */
+    public SqlStatementCache(int maximumSize) {
+        this.maximumSize = Math.max(1, maximumSize);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(this.maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 获取预编译语句，不存在时创建并缓存（不解析 SQL，统计 SQL 与分页模板在首次使用时构建）
+     *
+     * @param sql SQL 文本
+     * @return 预编译语句
+     */
+    public SqlStatement get(String sql) {
+        return cache.get(sql, SqlStatement::new);
+    }
+
+    /**
+     * 最大缓存数量
+     *
+     * @return 最大缓存数量
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * 当前缓存数量（估算值）
+     *
+     * @return 缓存数量
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 累计命中次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * 累计未命中次数（即创建语句的次数）
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * 累计淘汰次数
+     *
+     * @return 淘汰次数
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,93 @@
+package cn.refinex.jdbc.keyset;
+
+import cn.refinex.core.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * KeysetCursorCodec 测试 - 排序键值按原始类型往返，被修改、截断或不匹配的游标被拒绝
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+class KeysetCursorCodecTests {
+
+    private static final int FINGERPRINT = 0x5EED;
+
+    /**
+     * 各类型排序键值编码后按原始类型还原
+     */
+    @Test
+    void valuesRoundTripWithTheirTypes() {
+        LocalDateTime time = LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123_000_000);
+        Object[] values = {
+                42L, 7, new BigDecimal("12.50"), 0.25d, "用户", time, LocalDate.of(2026, 10, 17),
+                OffsetDateTime.of(time, ZoneOffset.ofHours(8)), true
+        };
+        Object[] expected = {
+                42L, 7L, new BigDecimal("12.50"), 0.25d, "用户", time, LocalDate.of(2026, 10, 17),
+                OffsetDateTime.of(time, ZoneOffset.ofHours(8)), true
+        };
+
+        String cursor = KeysetCursorCodec.encode(FINGERPRINT, values);
+
+        assertArrayEquals(expected, KeysetCursorCodec.decode(cursor, FINGERPRINT, values.length));
+        assertArrayEquals(new Object[]{time}, KeysetCursorCodec.decode(
+                KeysetCursorCodec.encode(FINGERPRINT, new Object[]{Timestamp.valueOf(time)}), FINGERPRINT, 1));
+    }
+
+    /**
+     * 修改任意一个字节的游标被拒绝
+     */
+    @Test
+    void tamperedCursorIsRejected() {
+        byte[] bytes = Base64.getUrlDecoder().decode(KeysetCursorCodec.encode(FINGERPRINT, new Object[]{"2026-10-17", 1000L}));
+
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] tampered = bytes.clone();
+            tampered[i] ^= 0x01;
+            String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(tampered);
+            assertThrows(BusinessException.class, () -> KeysetCursorCodec.decode(cursor, FINGERPRINT, 2), "byte " + i);
+        }
+    }
+
+    /**
+     * 截断、追加字节或非 Base64 的游标被拒绝
+     */
+    @Test
+    void malformedCursorIsRejected() {
+        String cursor = KeysetCursorCodec.encode(FINGERPRINT, new Object[]{1000L});
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        byte[] extended = Arrays.copyOf(bytes, bytes.length + 1);
+
+        assertThrows(BusinessException.class, () -> KeysetCursorCodec.decode(
+                Base64.getUrlEncoder().withoutPadding().encodeToString(truncated), FINGERPRINT, 1));
+        assertThrows(BusinessException.class, () -> KeysetCursorCodec.decode(
+                Base64.getUrlEncoder().withoutPadding().encodeToString(extended), FINGERPRINT, 1));
+        assertThrows(BusinessException.class, () -> KeysetCursorCodec.decode("not a cursor!", FINGERPRINT, 1));
+        assertThrows(BusinessException.class, () -> KeysetCursorCodec.decode("", FINGERPRINT, 1));
+    }
+
+    /**
+     * 其他查询或排序生成的游标被拒绝
+     */
+    @Test
+    void cursorOfAnotherQueryIsRejected() {
+        String cursor = KeysetCursorCodec.encode(FINGERPRINT, new Object[]{1000L});
+
+        assertThrows(BusinessException.class, () -> KeysetCursorCodec.decode(cursor, FINGERPRINT + 1, 1));
+        assertThrows(BusinessException.class, () -> KeysetCursorCodec.decode(cursor, FINGERPRINT, 2));
+    }
+}
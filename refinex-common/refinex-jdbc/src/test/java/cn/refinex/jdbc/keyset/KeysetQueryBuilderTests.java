@@ -0,0 +1,141 @@
+package cn.refinex.jdbc.keyset;
+
+import cn.refinex.core.domain.SortOrder;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * KeysetQueryBuilder 测试 - 排序字段解析、行值比较与展开条件、可空排序列校验
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+class KeysetQueryBuilderTests {
+
+    private static final String SQL = "SELECT id, create_time, name FROM sys_user WHERE status = :status";
+
+    /**
+     * 未包含唯一键时追加在末尾，方向沿用最后一个排序字段
+     */
+    @Test
+    void uniqueKeyIsAppendedWithLastDirection() {
+        List<SortOrder> orders = KeysetQueryBuilder.resolveOrders(List.of(SortOrder.desc("create_time")), "id");
+
+        assertEquals(List.of(SortOrder.desc("create_time"), SortOrder.desc("id")), orders);
+        assertEquals(List.of(SortOrder.asc("id")), KeysetQueryBuilder.resolveOrders(List.of(), "id"));
+        // 已包含唯一键（忽略大小写）时不重复追加
+        assertEquals(List.of(SortOrder.asc("name"), SortOrder.desc("ID")),
+                KeysetQueryBuilder.resolveOrders(List.of(SortOrder.asc("name"), SortOrder.desc("ID")), "id"));
+    }
+
+    /**
+     * 非法列名被拒绝
+     */
+    @Test
+    void illegalColumnIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetQueryBuilder.resolveOrders(List.of(SortOrder.asc("name; DROP TABLE sys_user")), "id"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetQueryBuilder.resolveOrders(List.of(), "id desc"));
+    }
+
+    /**
+     * 首页只追加 ORDER BY
+     */
+    @Test
+    void firstPageHasNoPredicate() {
+        List<SortOrder> orders = List.of(SortOrder.desc("create_time"), SortOrder.desc("id"));
+
+        assertEquals("SELECT * FROM (" + SQL + ") tmp_keyset ORDER BY create_time DESC, id DESC",
+                KeysetQueryBuilder.build(SQL, orders, false, true));
+    }
+
+    /**
+     * 方向一致且方言支持时使用行值比较
+     */
+    @Test
+    void sameDirectionUsesRowValueComparison() {
+        List<SortOrder> orders = List.of(SortOrder.desc("create_time"), SortOrder.desc("id"));
+
+        assertEquals("SELECT * FROM (" + SQL + ") tmp_keyset"
+                        + " WHERE (create_time, id) < (:refinexKeyset0, :refinexKeyset1)"
+                        + " ORDER BY create_time DESC, id DESC",
+                KeysetQueryBuilder.build(SQL, orders, true, true));
+    }
+
+    /**
+     * 混合方向展开为 OR 条件，每个字段按自身方向比较
+     */
+    @Test
+    void mixedDirectionsAreExpanded() {
+        List<SortOrder> orders = List.of(SortOrder.asc("name"), SortOrder.desc("create_time"), SortOrder.asc("id"));
+
+        assertEquals("SELECT * FROM (" + SQL + ") tmp_keyset WHERE ("
+                        + "(name > :refinexKeyset0)"
+                        + " OR (name = :refinexKeyset0 AND create_time < :refinexKeyset1)"
+                        + " OR (name = :refinexKeyset0 AND create_time = :refinexKeyset1 AND id > :refinexKeyset2))"
+                        + " ORDER BY name ASC, create_time DESC, id ASC",
+                KeysetQueryBuilder.build(SQL, orders, true, true));
+    }
+
+    /**
+     * 方言不支持行值比较时，方向一致也展开
+     */
+    @Test
+    void rowValueUnsupportedIsExpanded() {
+        List<SortOrder> orders = List.of(SortOrder.desc("create_time"), SortOrder.desc("id"));
+
+        assertEquals("SELECT * FROM (" + SQL + ") tmp_keyset WHERE ("
+                        + "(create_time < :refinexKeyset0)"
+                        + " OR (create_time = :refinexKeyset0 AND id < :refinexKeyset1))"
+                        + " ORDER BY create_time DESC, id DESC",
+                KeysetQueryBuilder.build(SQL, orders, true, false));
+    }
+
+    /**
+     * 排序指纹随 SQL、排序字段与方向变化，列名大小写不影响
+     */
+    @Test
+    void fingerprintDependsOnSqlAndOrders() {
+        List<SortOrder> orders = List.of(SortOrder.desc("create_time"), SortOrder.desc("id"));
+        int fingerprint = KeysetQueryBuilder.fingerprint(SQL, orders);
+
+        assertEquals(fingerprint, KeysetQueryBuilder.fingerprint(SQL, List.of(SortOrder.desc("CREATE_TIME"), SortOrder.desc("id"))));
+        assertNotEquals(fingerprint, KeysetQueryBuilder.fingerprint(SQL + " AND deleted = 0", orders));
+        assertNotEquals(fingerprint, KeysetQueryBuilder.fingerprint(SQL, List.of(SortOrder.asc("create_time"), SortOrder.desc("id"))));
+    }
+
+    /**
+     * 可为 NULL 或不在结果集中的排序列被拒绝
+     */
+    @Test
+    void nullableSortColumnIsRejected() {
+        ResultSetMetaData metaData = metaData(new String[]{"ID", "create_time", "remark"},
+                new int[]{ResultSetMetaData.columnNoNulls, ResultSetMetaData.columnNoNulls, ResultSetMetaData.columnNullable});
+
+        assertDoesNotThrow(() -> KeysetQueryBuilder.validateNotNullable(metaData, new String[]{"create_time", "id"}));
+        IllegalArgumentException nullable = assertThrows(IllegalArgumentException.class,
+                () -> KeysetQueryBuilder.validateNotNullable(metaData, new String[]{"remark", "id"}));
+        assertEquals("游标分页的排序列不能为可空列: remark", nullable.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> KeysetQueryBuilder.validateNotNullable(metaData, new String[]{"update_time", "id"}));
+    }
+
+    private static ResultSetMetaData metaData(String[] labels, int[] nullability) {
+        return (ResultSetMetaData) Proxy.newProxyInstance(KeysetQueryBuilderTests.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> labels.length;
+                    case "getColumnLabel" -> labels[(int) args[0] - 1];
+                    case "isNullable" -> nullability[(int) args[0] - 1];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,164 @@
+package cn.refinex.jdbc.mapper;
+
+import cn.refinex.core.benchmark.BenchmarkHarness;
+import lombok.Data;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * 行映射器基准测试 - 独立运行，无需 Spring 容器与数据库
+ * <p>
+ * 以与 {@code sys_user} 相同的 22 列（含审计字段）为样本，结果集由内存中的行数据模拟，不含驱动与网络开销。
+ * 对比两种映射方式每映射一行的耗时，并校验两者映射出的实体一致：
+ * <ul>
+ *     <li>registry：{@link RowMapperRegistry} 缓存的预编译映射器，每次查询创建一个轻量映射器</li>
+ *     <li>beanPropertyRowMapper：此前每次查询 {@code new BeanPropertyRowMapper<>(clazz)}</li>
+ * </ul>
+ * 每次查询读取的行数可调，行数越少，{@code BeanPropertyRowMapper} 每次查询的内省开销占比越大。
+ * <p>
+ * 运行方式：在 IDE 中直接运行 {@link #main(String[])}，可通过参数指定每次查询的行数与查询次数，如 {@code 20 100000}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class RowMapperBenchmark {
+
+    private static final String[] COLUMNS = {
+            "id", "username", "mobile_cipher", "mobile_index", "email_cipher", "email_index", "password", "nickname",
+            "sex", "avatar", "account_status", "last_login_time", "last_login_ip", "deleted", "delete_by", "delete_time",
+            "remark", "status", "create_by", "create_time", "update_by", "update_time"
+    };
+
+    public static void main(String[] args) {
+        int rowsPerQuery = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int queries = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+
+        Object[][] rows = buildRows(rowsPerQuery);
+        RowMapperRegistry registry = new RowMapperRegistry();
+
+        // 结果一致性校验
+        UserRow[] expected = mapAll(new BeanPropertyRowMapper<>(UserRow.class), rows);
+        UserRow[] actual = mapAll(registry.getRowMapper(UserRow.class), rows);
+        for (int i = 0; i < rows.length; i++) {
+            if (!expected[i].equals(actual[i])) {
+                throw new IllegalStateException("映射结果不一致: row=" + i + ", expected=" + expected[i] + ", actual=" + actual[i]);
+            }
+        }
+        System.out.printf("columns=%d, rowsPerQuery=%d%n", COLUMNS.length, rowsPerQuery);
+
+        // 结果按每次查询计时，除以每次查询的行数即为每行耗时
+        BenchmarkHarness.report("registry", BenchmarkHarness.measure(queries,
+                i -> mapAll(registry.getRowMapper(UserRow.class), rows).length));
+        BenchmarkHarness.report("beanPropertyRowMapper", BenchmarkHarness.measure(queries,
+                i -> mapAll(new BeanPropertyRowMapper<>(UserRow.class), rows).length));
+    }
+
+    /**
+     * 按查询的方式映射全部行：同一个映射器依次映射每一行
+     */
+    private static UserRow[] mapAll(RowMapper<UserRow> rowMapper, Object[][] rows) {
+        InMemoryResultSet resultSet = new InMemoryResultSet(rows);
+        ResultSet rs = resultSet.proxy();
+        UserRow[] result = new UserRow[rows.length];
+        try {
+            for (int i = 0; i < rows.length; i++) {
+                resultSet.row = i;
+                result[i] = rowMapper.mapRow(rs, i);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+
+    private static Object[][] buildRows(int count) {
+        Object[][] rows = new Object[count][];
+        LocalDateTime time = LocalDateTime.of(2026, 10, 17, 9, 30, 0);
+        for (int i = 0; i < count; i++) {
+            long id = 10_000L + i;
+            rows[i] = new Object[]{
+                    id, "user" + id, "v1:" + "c".repeat(48), "h".repeat(64), "v1:" + "e".repeat(56), "i".repeat(64),
+                    "$2a$10$" + "p".repeat(53), "用户" + id, "MALE", "https://cdn.refinex.cn/avatar/" + id + ".png", 1,
+                    time.plusMinutes(i), "192.168.10." + (i % 255), 0, null, null,
+                    i % 3 == 0 ? null : "备注" + i, 1, 1L, time, 1L, time.plusHours(1)
+            };
+        }
+        return rows;
+    }
+
+    /**
+     * 内存结果集：只实现 {@code JdbcUtils#getResultSetValue} 与列名解析用到的方法
+     */
+    private static final class InMemoryResultSet {
+
+        private final Object[][] rows;
+        private int row;
+        private boolean lastWasNull;
+
+        InMemoryResultSet(Object[][] rows) {
+            this.rows = rows;
+        }
+
+        ResultSet proxy() {
+            ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                    RowMapperBenchmark.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                    (p, method, args) -> switch (method.getName()) {
+                        case "getColumnCount" -> COLUMNS.length;
+                        case "getColumnLabel", "getColumnName" -> COLUMNS[(int) args[0] - 1];
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+            return (ResultSet) Proxy.newProxyInstance(
+                    RowMapperBenchmark.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (p, method, args) -> switch (method.getName()) {
+                        case "getMetaData" -> metaData;
+                        case "wasNull" -> lastWasNull;
+                        case "getString" -> (String) value(args[0]);
+                        case "getLong" -> value(args[0]) instanceof Number number ? number.longValue() : 0L;
+                        case "getInt" -> value(args[0]) instanceof Number number ? number.intValue() : 0;
+                        case "getObject" -> value(args[0]);
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private Object value(Object column) {
+            Object value = rows[row][(int) column - 1];
+            lastWasNull = value == null;
+            return value;
+        }
+    }
+
+    /**
+     * 与 {@code sys_user} 结构相同的实体样本
+     */
+    @Data
+    public static class UserRow {
+        private Long id;
+        private String username;
+        private String mobileCipher;
+        private String mobileIndex;
+        private String emailCipher;
+        private String emailIndex;
+        private String password;
+        private String nickname;
+        private String sex;
+        private String avatar;
+        private Integer accountStatus;
+        private LocalDateTime lastLoginTime;
+        private String lastLoginIp;
+        private Integer deleted;
+        private Long deleteBy;
+        private LocalDateTime deleteTime;
+        private String remark;
+        private Integer status;
+        private Long createBy;
+        private LocalDateTime createTime;
+        private Long updateBy;
+        private LocalDateTime updateTime;
+    }
+}
@@ -1,13 +1,26 @@
 package cn.refinex.redis.autoconfigure;
 
 import cn.hutool.core.util.StrUtil;
+import cn.refinex.redis.cache.CacheInvalidationPublisher;
 import cn.refinex.redis.cache.TimeoutRedisCacheManager;
+import cn.refinex.redis.cache.TwoLevelRedisCache;
+import cn.refinex.redis.cache.TwoLevelRedisCacheManager;
 import cn.refinex.redis.autoconfigure.properties.RefinexRedisProperties;
+import cn.refinex.redis.serializer.VersionedRedisSerializer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.cache.autoconfigure.CacheProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
@@ -15,6 +28,9 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.util.StringUtils;
 
@@ -41,16 +57,17 @@ public class RefinexCacheAutoConfiguration {
      * 配置 RedisCacheConfiguration。
      * <p>
      * 1. 设置缓存键前缀为单冒号（:），避免 Redis Desktop Manager 显示多余空格。
-     * 2. 使用 JSON 序列化方式存储缓存值。
+     * 2. 使用与 RedisTemplate 相同的值序列化器存储缓存值。
      * 3. 应用 CacheProperties.Redis 的配置（如 TTL、是否缓存空值、是否使用键前缀）。
      * </p>
      *
      * @param cacheProperties Spring Boot 缓存属性配置
+     * @param valueSerializer Redis 值序列化器
      * @return RedisCacheConfiguration 实例
      */
     @Bean
     @Primary
-    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties) {
+    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties, VersionedRedisSerializer valueSerializer) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
 
         // 设置缓存键前缀，使用单冒号（:）分隔
@@ -64,9 +81,9 @@ public class RefinexCacheAutoConfiguration {
             return cacheName + StrUtil.COLON;
         });
 
-        // 设置 JSON 序列化方式
+        // 设置值序列化方式（与 RedisTemplate 一致）
         config = config.serializeValuesWith(RedisSerializationContext.SerializationPair
-                .fromSerializer(RefinexRedisAutoConfiguration.buildRedisSerializer()));
+                .fromSerializer(valueSerializer));
 
         // 应用 CacheProperties.Redis 配置
         CacheProperties.Redis redisProperties = cacheProperties.getRedis();
@@ -85,6 +102,9 @@ public class RefinexCacheAutoConfiguration {
 
     /**
      * 配置 RedisCacheManager，支持自定义过期时间。
+     * <p>
+     * 启用本地缓存时创建 {@link TwoLevelRedisCacheManager}，每个缓存增加本地 Caffeine 缓存，
+     * 写入与删除通过 Redis Pub/Sub 通知其他节点删除本地副本。
      *
      * @param redisTemplate           Redis 模板
      * @param redisCacheConfiguration Redis 缓存配置
@@ -103,7 +123,95 @@ public class RefinexCacheAutoConfiguration {
         RedisConnectionFactory connectionFactory = Objects.requireNonNull(redisTemplate.getConnectionFactory(), "RedisConnectionFactory must not be null");
         RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(batchSize));
 
+        // 启用本地缓存时创建二级缓存管理器
+        RefinexRedisProperties.LocalCacheProperties localCache = refinexRedisProperties.getLocalCache();
+        if (localCache.isEnabled()) {
+            CacheInvalidationPublisher publisher = new CacheInvalidationPublisher(
+                    new StringRedisTemplate(connectionFactory), localCache.getInvalidationChannel());
+            return new TwoLevelRedisCacheManager(cacheWriter, redisCacheConfiguration, publisher,
+                    localCache.getMaximumSize(), localCache.getMaximumTtl());
+        }
+
         // 创建 TimeoutRedisCacheManager
         return new TimeoutRedisCacheManager(cacheWriter, redisCacheConfiguration);
     }
+
+    /**
+     * 订阅二级缓存失效通知
+     *
+     * @param connectionFactory      Redis 连接工厂
+     * @param redisCacheManager      缓存管理器
+     * @param refinexRedisProperties 自定义缓存属性配置
+     * @return Redis 消息监听容器
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "refinex.redis.local-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           RedisCacheManager redisCacheManager,
+                                                                           RefinexRedisProperties refinexRedisProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (redisCacheManager instanceof TwoLevelRedisCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager,
+                    new ChannelTopic(refinexRedisProperties.getLocalCache().getInvalidationChannel()));
+        }
+        return container;
+    }
+
+    /**
+     * 二级缓存监控指标（存在 Micrometer 时注册）
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class TwoLevelCacheMetricsConfiguration {
+
+        /**
+         * 每个缓存的本地数量、各级命中次数与命中率，缓存在运行时创建时再注册
+         *
+         * @param redisCacheManager 缓存管理器
+         * @return MeterBinder
+         */
+        @Bean
+        public MeterBinder twoLevelCacheMetricsBinder(ObjectProvider<RedisCacheManager> redisCacheManager) {
+            return (MeterRegistry registry) -> {
+                if (redisCacheManager.getIfAvailable() instanceof TwoLevelRedisCacheManager manager) {
+                    manager.onCacheCreated(cache -> bindCache(registry, cache));
+                }
+            };
+        }
+
+        /**
+         * 注册单个缓存的指标
+         *
+         * @param registry 指标注册表
+         * @param cache    二级缓存
+         */
+        private static void bindCache(MeterRegistry registry, TwoLevelRedisCache cache) {
+            Tags tags = Tags.of("cache", cache.getName());
+            Gauge.builder("refinex.cache.local.size", cache, TwoLevelRedisCache::getLocalSize)
+                    .tags(tags)
+                    .description("Entries held in the local cache tier")
+                    .register(registry);
+            FunctionCounter.builder("refinex.cache.gets", cache, TwoLevelRedisCache::getLocalHitCount)
+                    .tags(tags.and("result", "local-hit"))
+                    .description("Cache lookups served by the local tier")
+                    .register(registry);
+            FunctionCounter.builder("refinex.cache.gets", cache, TwoLevelRedisCache::getRemoteHitCount)
+                    .tags(tags.and("result", "redis-hit"))
+                    .description("Cache lookups served by Redis after a local miss")
+                    .register(registry);
+            FunctionCounter.builder("refinex.cache.gets", cache, TwoLevelRedisCache::getMissCount)
+                    .tags(tags.and("result", "miss"))
+                    .description("Cache lookups that missed both tiers")
+                    .register(registry);
+            Gauge.builder("refinex.cache.hit.ratio", cache, TwoLevelRedisCache::getLocalHitRatio)
+                    .tags(tags.and("level", "local"))
+                    .description("Share of lookups served by the local tier")
+                    .register(registry);
+            Gauge.builder("refinex.cache.hit.ratio", cache, TwoLevelRedisCache::getRemoteHitRatio)
+                    .tags(tags.and("level", "redis"))
+                    .description("Share of local misses served by Redis")
+                    .register(registry);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package cn.refinex.redis.autoconfigure;
+
+import cn.refinex.redis.reactive.ReactiveRedisService;
+import cn.refinex.redis.serializer.VersionedRedisSerializer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import reactor.core.publisher.Flux;
+
+/**
+ * 响应式 Redis 自动配置类，仅在响应式 Web 应用（网关）中生效
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@AutoConfiguration(after = RefinexRedisAutoConfiguration.class)
+@ConditionalOnClass(Flux.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class RefinexReactiveRedisAutoConfiguration {
+
+    /**
+     * 创建响应式 RedisTemplate，键与值的序列化方式与 RedisTemplate 一致
+     *
+     * @param connectionFactory 响应式 Redis 连接工厂
+     * @param valueSerializer   Redis 值序列化器
+     * @return ReactiveRedisTemplate 实例
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "refinexReactiveRedisTemplate")
+    public ReactiveRedisTemplate<String, Object> refinexReactiveRedisTemplate(ReactiveRedisConnectionFactory connectionFactory,
+                                                                              VersionedRedisSerializer valueSerializer) {
+        RedisSerializationContext<String, Object> serializationContext = RedisSerializationContext
+                .<String, Object>newSerializationContext(RedisSerializer.string())
+                .key(RedisSerializer.string())
+                .value(valueSerializer)
+                .hashKey(RedisSerializer.string())
+                .hashValue(valueSerializer)
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, serializationContext);
+    }
+
+    /**
+     * 创建响应式 Redis 服务
+     *
+     * @param refinexReactiveRedisTemplate 响应式 RedisTemplate
+     * @return ReactiveRedisService 实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactiveRedisService reactiveRedisService(ReactiveRedisTemplate<String, Object> refinexReactiveRedisTemplate) {
+        return new ReactiveRedisService(refinexReactiveRedisTemplate);
+    }
+}
@@ -1,13 +1,19 @@
 package cn.refinex.redis.autoconfigure;
 
-import cn.hutool.core.util.ReflectUtil;
+import cn.refinex.core.autoconfigure.properties.RefinexProperties;
+import cn.refinex.core.util.SnowflakeWorkerIdAssigner;
 import cn.refinex.redis.autoconfigure.properties.RefinexRedisProperties;
+import cn.refinex.redis.serializer.JacksonRedisValueCodec;
+import cn.refinex.redis.serializer.RedisValueCodec;
+import cn.refinex.redis.serializer.VersionedRedisSerializer;
+import cn.refinex.redis.snowflake.RedisSnowflakeWorkerIdAssigner;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.jspecify.annotations.NonNull;
 import org.redisson.spring.starter.RedissonAutoConfigurationV2;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -15,6 +21,9 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.support.collections.RedisProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 基于 Redis 的自动配置类，优先于 {@link RedissonAutoConfigurationV2} 执行
  * copy from <a href="https://github.com/YunaiV/yudao-cloud/blob/master/yudao-framework/yudao-spring-boot-starter-redis/src/main/java/cn/iocoder/yudao/framework/redis/config/YudaoRedisAutoConfiguration.java">...</a>
@@ -27,14 +36,39 @@ import org.springframework.data.redis.support.collections.RedisProperties;
 public class RefinexRedisAutoConfiguration {
 
     /**
-     * 创建 RedisTemplate Bean，使用 JSON 序列化方式
+     * 创建 Redis 值序列化器，写入格式由 {@code refinex.redis.serializer} 配置，读取时按值头部识别格式
+     *
+     * @param refinexRedisProperties 自定义 Redis 属性配置
+     * @param customCodecs           自定义编解码器
+     * @return Redis 值序列化器
+     * @throws IllegalArgumentException 如果配置的编解码器不存在
+     */
+    @Bean
+    public VersionedRedisSerializer refinexRedisValueSerializer(RefinexRedisProperties refinexRedisProperties,
+                                                                ObjectProvider<RedisValueCodec> customCodecs) {
+        List<RedisValueCodec> codecs = new ArrayList<>();
+        codecs.add(JacksonRedisValueCodec.json());
+        codecs.add(JacksonRedisValueCodec.smile());
+        customCodecs.orderedStream().forEach(codecs::add);
+
+        RefinexRedisProperties.SerializerProperties serializerProperties = refinexRedisProperties.getSerializer();
+        RedisValueCodec writeCodec = codecs.stream()
+                .filter(codec -> codec.name().equalsIgnoreCase(serializerProperties.getCodec()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("未知的 Redis 编解码器: " + serializerProperties.getCodec()));
+        return new VersionedRedisSerializer(writeCodec, codecs, serializerProperties.getCompressionThreshold());
+    }
+
+    /**
+     * 创建 RedisTemplate Bean
      *
-     * @param factory Redis 连接工厂
+     * @param factory         Redis 连接工厂
+     * @param valueSerializer Redis 值序列化器
      * @return RedisTemplate 实例
      * @throws NullPointerException 如果 factory 为 null
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(@NonNull RedisConnectionFactory factory) {
+    public RedisTemplate<String, Object> redisTemplate(@NonNull RedisConnectionFactory factory, VersionedRedisSerializer valueSerializer) {
         // 创建 RedisTemplate 对象
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         // 设置 RedisConnection 工厂
@@ -42,27 +76,36 @@ public class RefinexRedisAutoConfiguration {
         // 使用 String 序列化方式，序列化 KEY 和 HASH KEY
         template.setKeySerializer(RedisSerializer.string());
         template.setHashKeySerializer(RedisSerializer.string());
-        // 使用 JSON 序列化方式序列化 VALUE 和 HASH VALUE
-        RedisSerializer<?> serializer = buildRedisSerializer();
-        template.setValueSerializer(serializer);
-        template.setHashValueSerializer(serializer);
+        // 使用带版本头的序列化方式序列化 VALUE 和 HASH VALUE
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
         return template;
     }
 
+    /**
+     * 基于 Redis 租约的雪花算法节点ID分配器，多实例部署时自动分配互不冲突的节点ID
+     *
+     * @param redisTemplate     RedisTemplate
+     * @param refinexProperties Refinex 全局配置
+     * @return 节点ID分配器
+     */
+    @Bean
+    @ConditionalOnMissingBean(SnowflakeWorkerIdAssigner.class)
+    @ConditionalOnProperty(prefix = "refinex.snowflake.worker-id-lease", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisSnowflakeWorkerIdAssigner redisSnowflakeWorkerIdAssigner(RedisTemplate<String, Object> redisTemplate, RefinexProperties refinexProperties) {
+        return new RedisSnowflakeWorkerIdAssigner(redisTemplate, refinexProperties.getSnowflake().getWorkerIdLease().getTtl());
+    }
+
     /**
      * 构建 JSON 序列化器，支持 LocalDateTime 等 Java 8 时间类型的序列化。
+     * <p>
+     * 写入格式与原有 JSON 序列化器一致，同时可以读取 Smile 等二进制格式写入的值，
+     * 供无法注入 {@link VersionedRedisSerializer} Bean 的组件使用。
      *
      * @return RedisSerializer 实例
-     * @throws IllegalStateException 如果无法创建 JSON 序列化器
      */
     public static RedisSerializer<@NonNull Object> buildRedisSerializer() {
-        // 创建 Jackson JSON 序列化器
-        RedisSerializer<@NonNull Object> json = RedisSerializer.json();
-
-        // 配置 ObjectMapper 支持 Java 8 时间类型
-        ObjectMapper objectMapper = (ObjectMapper) ReflectUtil.getFieldValue(json, "mapper");
-        objectMapper.registerModules(new JavaTimeModule());
-        return json;
+        return VersionedRedisSerializer.json();
     }
 
 }
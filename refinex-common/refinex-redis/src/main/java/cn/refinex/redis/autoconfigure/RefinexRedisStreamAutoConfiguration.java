@@ -0,0 +1,147 @@
+package cn.refinex.redis.autoconfigure;
+
+import cn.refinex.core.autoconfigure.RefinexLoggingAutoConfiguration;
+import cn.refinex.core.autoconfigure.properties.RefinexLoggingProperties;
+import cn.refinex.core.logging.handler.JdbcRequestLogHandler;
+import cn.refinex.core.logging.handler.RequestLogHandler;
+import cn.refinex.core.logging.model.RequestLogEntry;
+import cn.refinex.redis.autoconfigure.properties.RefinexRedisProperties;
+import cn.refinex.redis.stream.RedisStreamConsumer;
+import cn.refinex.redis.stream.RedisStreamPublisher;
+import cn.refinex.redis.stream.RedisStreamRequestLogHandler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Redis Streams 事件管道自动配置
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@AutoConfiguration(after = RefinexRedisAutoConfiguration.class, before = RefinexLoggingAutoConfiguration.class,
+        afterName = "org.springframework.boot.jdbc.autoconfigure.JdbcTemplateAutoConfiguration")
+public class RefinexRedisStreamAutoConfiguration {
+
+    /**
+     * Stream 消息发布器
+     *
+     * @param redisTemplate          RedisTemplate
+     * @param refinexRedisProperties Redis 配置
+     * @return 消息发布器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RedisStreamPublisher redisStreamPublisher(RedisTemplate<String, Object> redisTemplate,
+                                                     RefinexRedisProperties refinexRedisProperties) {
+        return new RedisStreamPublisher(redisTemplate, refinexRedisProperties.getStream().getMaxLength());
+    }
+
+    /**
+     * 请求日志经 Redis Streams 持久化（{@code refinex.redis.stream.request-log.enabled=true} 且存在数据源时启用）
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(NamedParameterJdbcTemplate.class)
+    @ConditionalOnBean(NamedParameterJdbcTemplate.class)
+    @ConditionalOnProperty(prefix = "refinex.redis.stream.request-log", name = "enabled", havingValue = "true")
+    static class RequestLogStreamConfiguration {
+
+        /**
+         * 请求日志处理器：请求线程只执行 XADD，Redis 不可用时同步写库
+         *
+         * @param publisher              消息发布器
+         * @param jdbcTemplate           JDBC 模板
+         * @param loggingProperties      日志配置
+         * @param refinexRedisProperties Redis 配置
+         * @return 请求日志处理器
+         */
+        @Bean
+        public RequestLogHandler redisStreamRequestLogHandler(RedisStreamPublisher publisher,
+                                                              NamedParameterJdbcTemplate jdbcTemplate,
+                                                              RefinexLoggingProperties loggingProperties,
+                                                              RefinexRedisProperties refinexRedisProperties) {
+            return new RedisStreamRequestLogHandler(publisher, new JdbcRequestLogHandler(jdbcTemplate, loggingProperties),
+                    refinexRedisProperties.getStream().getRequestLog().getStream());
+        }
+
+        /**
+         * 请求日志消费者：批量写入请求日志表
+         *
+         * @param redisTemplate          RedisTemplate
+         * @param publisher              消息发布器
+         * @param jdbcTemplate           JDBC 模板
+         * @param loggingProperties      日志配置
+         * @param refinexRedisProperties Redis 配置
+         * @return 消费者
+         */
+        @Bean
+        public RedisStreamConsumer<RequestLogEntry> requestLogStreamConsumer(RedisTemplate<String, Object> redisTemplate,
+                                                                             RedisStreamPublisher publisher,
+                                                                             NamedParameterJdbcTemplate jdbcTemplate,
+                                                                             RefinexLoggingProperties loggingProperties,
+                                                                             RefinexRedisProperties refinexRedisProperties) {
+            RefinexRedisProperties.StreamProperties streamProperties = refinexRedisProperties.getStream();
+            JdbcRequestLogHandler jdbcHandler = new JdbcRequestLogHandler(jdbcTemplate, loggingProperties);
+            return new RedisStreamConsumer<>(redisTemplate, publisher,
+                    streamProperties.getRequestLog().getStream(), streamProperties.getRequestLog().getGroup(),
+                    RequestLogEntry.class, jdbcHandler::batchInsert, streamProperties);
+        }
+    }
+
+    /**
+     * Stream 消费监控指标（存在 Micrometer 时注册）
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class RedisStreamMetricsConfiguration {
+
+        /**
+         * 每个消费者的 Stream 长度、未确认数量（积压）及处理、失败、死信计数
+         *
+         * @param consumers 消费者
+         * @return MeterBinder
+         */
+        @Bean
+        public MeterBinder redisStreamMetricsBinder(ObjectProvider<RedisStreamConsumer<?>> consumers) {
+            return (MeterRegistry registry) -> consumers.orderedStream().forEach(consumer -> {
+                Tags tags = Tags.of("stream", consumer.getStream(), "group", consumer.getGroup());
+                Gauge.builder("refinex.redis.stream.length", consumer, RedisStreamConsumer::getStreamLength)
+                        .tags(tags)
+                        .description("Entries retained in the stream")
+                        .register(registry);
+                Gauge.builder("refinex.redis.stream.pending", consumer, RedisStreamConsumer::getPendingCount)
+                        .tags(tags)
+                        .description("Entries delivered to the group but not yet acknowledged")
+                        .register(registry);
+                FunctionCounter.builder("refinex.redis.stream.messages", consumer, RedisStreamConsumer::getProcessedCount)
+                        .tags(tags.and("result", "processed"))
+                        .description("Stream entries handled and acknowledged")
+                        .register(registry);
+                FunctionCounter.builder("refinex.redis.stream.messages", consumer, RedisStreamConsumer::getFailedCount)
+                        .tags(tags.and("result", "failed"))
+                        .description("Stream deliveries that failed and were left pending")
+                        .register(registry);
+                FunctionCounter.builder("refinex.redis.stream.messages", consumer, RedisStreamConsumer::getDeadLetterCount)
+                        .tags(tags.and("result", "dead-letter"))
+                        .description("Stream entries moved to the dead-letter stream")
+                        .register(registry);
+                FunctionCounter.builder("refinex.redis.stream.claimed", consumer, RedisStreamConsumer::getClaimedCount)
+                        .tags(tags)
+                        .description("Idle pending entries reclaimed for redelivery")
+                        .register(registry);
+            });
+        }
+    }
+}
@@ -3,6 +3,8 @@ package cn.refinex.redis.autoconfigure.properties;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 /**
  * Refinex Redis 配置类
  *
@@ -17,4 +19,121 @@ public class RefinexRedisProperties {
      * redis scan 一次返回数量, 默认 30
      */
     private Integer redisScanBatchSize = 30;
+
+    /**
+     * 二级缓存（本地 Caffeine + Redis）配置
+     */
+    private LocalCacheProperties localCache = new LocalCacheProperties();
+
+    /**
+     * 值序列化配置（RedisTemplate 与 Spring Cache 共用）
+     */
+    private SerializerProperties serializer = new SerializerProperties();
+
+    /**
+     * Redis Streams 事件管道配置
+     */
+    private StreamProperties stream = new StreamProperties();
+
+    @Data
+    public static class LocalCacheProperties {
+
+        /**
+         * 是否为 Spring Cache 启用本地缓存
+         */
+        private boolean enabled = true;
+
+        /**
+         * 每个缓存的默认本地容量，可通过缓存名称 "key#ttl#size" 单独指定
+         */
+        private long maximumSize = 1000L;
+
+        /**
+         * 本地缓存有效期上限，实际有效期取 Redis 过期时间与该值中的较小值
+         */
+        private Duration maximumTtl = Duration.ofSeconds(60);
+
+        /**
+         * 失效通知频道
+         */
+        private String invalidationChannel = "refinex:cache:invalidation";
+    }
+
+    @Data
+    public static class SerializerProperties {
+
+        /**
+         * 写入使用的编解码器：json（默认，与原有格式一致）、smile（二进制）或自定义 RedisValueCodec 的名称。
+         * 读取时按值头部自动识别，切换前需确保所有节点均已升级
+         */
+        private String codec = "json";
+
+        /**
+         * 压缩阈值（字节），序列化结果不小于该值时使用 Deflate 压缩，小于等于 0 表示不压缩
+         */
+        private int compressionThreshold = 0;
+    }
+
+    @Data
+    public static class StreamProperties {
+
+        /**
+         * 单个 Stream 保留的最大消息数（XADD MAXLEN ~ 近似裁剪），小于等于 0 表示不裁剪
+         */
+        private long maxLength = 100_000L;
+
+        /**
+         * 每次 XREADGROUP 读取的最大消息数，同时作为处理器的批次大小
+         */
+        private int batchSize = 100;
+
+        /**
+         * XREADGROUP 阻塞等待时间，需小于 Redis 客户端的命令超时时间
+         */
+        private Duration blockTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 检查未确认消息（PEL）的间隔，同时刷新积压指标
+         */
+        private Duration claimInterval = Duration.ofSeconds(30);
+
+        /**
+         * 未确认消息空闲超过该时间后被重新认领处理（消费者宕机或处理失败）
+         */
+        private Duration claimMinIdle = Duration.ofMinutes(1);
+
+        /**
+         * 最大投递次数，超过后转入死信 Stream 并确认
+         */
+        private int maxDeliveries = 5;
+
+        /**
+         * 死信 Stream 后缀
+         */
+        private String deadLetterSuffix = ":dlq";
+
+        /**
+         * 请求日志经 Redis Streams 持久化配置
+         */
+        private RequestLogStreamProperties requestLog = new RequestLogStreamProperties();
+    }
+
+    @Data
+    public static class RequestLogStreamProperties {
+
+        /**
+         * 是否将请求日志写入 Redis Streams，由消费组批量写库（替代进程内缓冲区，重启不丢失）
+         */
+        private boolean enabled = false;
+
+        /**
+         * Stream 键
+         */
+        private String stream = "refinex:stream:request-log";
+
+        /**
+         * 消费组
+         */
+        private String group = "request-log-writer";
+    }
 }
@@ -0,0 +1,109 @@
+package cn.refinex.redis.cache;
+
+import cn.hutool.core.util.IdUtil;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 二级缓存失效通知发布器
+ * <p>
+ * 本节点写入或删除缓存后，通过 Redis Pub/Sub 广播失效消息，其他节点收到后删除各自的本地副本。
+ * 消息格式为 {@code 操作\n节点标识\n缓存名称\n缓存键}，操作 {@code E} 表示删除单个键，{@code C} 表示清空缓存。
+ * <p>
+ * 发布失败只记录日志，不影响本次缓存操作；其他节点的本地副本会在本地有效期到达后过期。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    private static final char SEPARATOR = '\n';
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 失效通知频道
+     */
+    @Getter
+    private final String channel;
+
+    /**
+     * 当前节点标识，用于忽略本节点发出的消息
+     */
+    @Getter
+    private final String nodeId = IdUtil.fastSimpleUUID();
+
+    /**
+     * 构造函数
+     *
+     * @param stringRedisTemplate StringRedisTemplate
+     * @param channel             失效通知频道
+     */
+    public CacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate, String channel) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channel = channel;
+    }
+
+    /**
+     * 广播删除单个键
+     *
+     * @param cacheName 缓存名称
+     * @param key       转换后的缓存键
+     */
+    public void publishEvict(String cacheName, String key) {
+        publish(OP_EVICT, cacheName, key);
+    }
+
+    /**
+     * 广播清空缓存
+     *
+     * @param cacheName 缓存名称
+     */
+    public void publishClear(String cacheName) {
+        publish(OP_CLEAR, cacheName, "");
+    }
+
+    /**
+     * 解析失效消息
+     *
+     * @param body 消息内容
+     * @return 失效消息，格式错误或由本节点发出时返回 null
+     */
+    public @Nullable Invalidation decode(String body) {
+        String[] parts = body.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length != 4 || nodeId.equals(parts[1])) {
+            return null;
+        }
+        return new Invalidation(parts[2], OP_CLEAR.equals(parts[0]) ? null : parts[3]);
+    }
+
+    /**
+     * 发布失效消息
+     *
+     * @param op        操作
+     * @param cacheName 缓存名称
+     * @param key       缓存键
+     */
+    private void publish(String op, String cacheName, String key) {
+        String message = op + SEPARATOR + nodeId + SEPARATOR + cacheName + SEPARATOR + key;
+        try {
+            stringRedisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            log.warn("二级缓存失效通知发布失败: cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 失效消息
+     *
+     * @param cacheName 缓存名称
+     * @param key       缓存键，为 null 时表示清空缓存
+     */
+    public record Invalidation(String cacheName, @Nullable String key) {
+    }
+}
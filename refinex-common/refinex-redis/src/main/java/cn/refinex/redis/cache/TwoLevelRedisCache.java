@@ -0,0 +1,184 @@
+package cn.refinex.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 二级缓存：本地 Caffeine（L1）+ Redis（L2）
+ * <p>
+ * 读取时先查本地缓存，未命中再查 Redis 并回填本地；写入与删除先写 Redis，再更新本地缓存，
+ * 并通过 {@link CacheInvalidationPublisher} 通知其他节点删除各自的本地副本。
+ * 本地缓存的有效期不超过 Redis 的过期时间，即使失效通知丢失，本地数据的陈旧时间也有上限。
+ * <p>
+ * 本地缓存直接保存反序列化后的对象，命中时返回同一实例，调用方不应修改缓存返回的对象。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@NullMarked
+public class TwoLevelRedisCache extends RedisCache {
+
+    /**
+     * 本地缓存，键为转换后的缓存键，值为存储值（可能是 NullValue）
+     */
+    private final Cache<String, Object> localCache;
+
+    /**
+     * 失效通知发布器
+     */
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 构造函数
+     *
+     * @param name                  缓存名称
+     * @param cacheWriter           Redis 缓存写入器
+     * @param cacheConfiguration    Redis 缓存配置
+     * @param localCache            本地缓存
+     * @param invalidationPublisher 失效通知发布器
+     */
+    public TwoLevelRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration,
+                              Cache<String, Object> localCache, CacheInvalidationPublisher invalidationPublisher) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.localCache = localCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    protected @Nullable Object lookup(Object key) {
+        String localKey = convertKey(key);
+        Object value = localCache.getIfPresent(localKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+
+        value = super.lookup(key);
+        if (value != null) {
+            remoteHits.increment();
+            localCache.put(localKey, value);
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        super.put(key, value);
+        String localKey = convertKey(key);
+        localCache.put(localKey, toStoreValue(value));
+        invalidationPublisher.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        ValueWrapper previous = super.putIfAbsent(key, value);
+        // 无法确定 Redis 中最终的值，删除本地副本，下次读取时回填
+        String localKey = convertKey(key);
+        localCache.invalidate(localKey);
+        if (previous == null) {
+            invalidationPublisher.publishEvict(getName(), localKey);
+        }
+        return previous;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        String localKey = convertKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(getName());
+    }
+
+    /**
+     * 删除本地副本（收到其他节点的失效通知时调用，不写 Redis）
+     *
+     * @param localKey 转换后的缓存键
+     */
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 清空本地副本（收到其他节点的失效通知时调用，不写 Redis）
+     */
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 获取本地缓存数量
+     *
+     * @return 本地缓存数量
+     */
+    public long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    /**
+     * 获取本地缓存命中次数
+     *
+     * @return 命中次数
+     */
+    public long getLocalHitCount() {
+        return localHits.sum();
+    }
+
+    /**
+     * 获取 Redis 命中次数（本地未命中）
+     *
+     * @return 命中次数
+     */
+    public long getRemoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    /**
+     * 获取两级均未命中的次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 获取本地缓存命中率（本地命中 / 总读取次数）
+     *
+     * @return 命中率，没有读取时为 0
+     */
+    public double getLocalHitRatio() {
+        long local = localHits.sum();
+        long total = local + remoteHits.sum() + misses.sum();
+        return total == 0 ? 0D : (double) local / total;
+    }
+
+    /**
+     * 获取 Redis 命中率（Redis 命中 / 本地未命中的读取次数）
+     *
+     * @return 命中率，没有读取到 Redis 时为 0
+     */
+    public double getRemoteHitRatio() {
+        long remote = remoteHits.sum();
+        long total = remote + misses.sum();
+        return total == 0 ? 0D : (double) remote / total;
+    }
+}
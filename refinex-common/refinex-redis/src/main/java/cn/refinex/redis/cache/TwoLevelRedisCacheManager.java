@@ -0,0 +1,201 @@
+package cn.refinex.redis.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 二级缓存管理器，在 {@link TimeoutRedisCacheManager} 之上为每个缓存增加本地 Caffeine 缓存
+ * <p>
+ * 缓存名称沿用 "key#ttl" 格式，并支持第三段指定本地缓存容量，例如 {@code user_info#30m#500}：
+ * <ul>
+ *     <li>Redis 过期时间为 30 分钟；</li>
+ *     <li>本地缓存最多 500 条，未指定时使用默认容量；</li>
+ *     <li>本地缓存有效期取 Redis 过期时间与本地有效期上限中的较小值。</li>
+ * </ul>
+ * 管理器同时作为失效通知的监听器，收到其他节点的消息后删除对应缓存的本地副本。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class TwoLevelRedisCacheManager extends TimeoutRedisCacheManager implements MessageListener {
+
+    /**
+     * 缓存名称分隔符
+     */
+    private static final String SPLIT = "#";
+
+    /**
+     * 失效通知发布器
+     */
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * 默认本地缓存容量
+     */
+    private final long defaultLocalMaximumSize;
+
+    /**
+     * 本地缓存有效期上限
+     */
+    private final Duration localMaximumTtl;
+
+    /**
+     * 已创建的二级缓存，键为去除 TTL 后的缓存名称
+     */
+    private final Map<String, List<TwoLevelRedisCache>> twoLevelCaches = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存创建回调（用于注册监控指标）
+     */
+    private final List<Consumer<TwoLevelRedisCache>> cacheCreatedListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 构造函数
+     *
+     * @param cacheWriter               Redis 缓存写入器
+     * @param defaultCacheConfiguration 默认缓存配置
+     * @param invalidationPublisher     失效通知发布器
+     * @param defaultLocalMaximumSize   默认本地缓存容量
+     * @param localMaximumTtl           本地缓存有效期上限
+     */
+    public TwoLevelRedisCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration defaultCacheConfiguration,
+                                     CacheInvalidationPublisher invalidationPublisher, long defaultLocalMaximumSize, Duration localMaximumTtl) {
+        super(cacheWriter, defaultCacheConfiguration);
+        this.invalidationPublisher = invalidationPublisher;
+        this.defaultLocalMaximumSize = defaultLocalMaximumSize;
+        this.localMaximumTtl = localMaximumTtl;
+    }
+
+    /**
+     * 创建二级缓存
+     *
+     * @param name        缓存名称，可能包含 TTL 与本地缓存容量（如 "key#30s#500"）
+     * @param cacheConfig 缓存配置
+     * @return 二级缓存实例
+     */
+    @NullMarked
+    @Override
+    protected RedisCache createRedisCache(String name, @Nullable RedisCacheConfiguration cacheConfig) {
+        // 解析本地缓存容量，剩余部分交给父类解析 TTL
+        long localMaximumSize = defaultLocalMaximumSize;
+        String[] names = name.split(SPLIT);
+        if (names.length == 3) {
+            localMaximumSize = parseLocalMaximumSize(names[2]);
+            name = names[0] + SPLIT + names[1];
+        }
+
+        RedisCache redisCache = super.createRedisCache(name, cacheConfig);
+        RedisCacheConfiguration resolvedConfig = redisCache.getCacheConfiguration();
+
+        TwoLevelRedisCache cache = new TwoLevelRedisCache(
+                redisCache.getName(),
+                getCacheWriter(),
+                resolvedConfig,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(resolveLocalTtl(resolvedConfig))
+                        .build(),
+                invalidationPublisher
+        );
+
+        twoLevelCaches.computeIfAbsent(cache.getName(), k -> new CopyOnWriteArrayList<>()).add(cache);
+        cacheCreatedListeners.forEach(listener -> listener.accept(cache));
+        return cache;
+    }
+
+    /**
+     * 处理其他节点的失效通知
+     *
+     * @param message 消息
+     * @param pattern 订阅模式
+     */
+    @Override
+    public void onMessage(Message message, byte @Nullable [] pattern) {
+        CacheInvalidationPublisher.Invalidation invalidation =
+                invalidationPublisher.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (invalidation == null) {
+            return;
+        }
+
+        List<TwoLevelRedisCache> caches = twoLevelCaches.get(invalidation.cacheName());
+        if (caches == null) {
+            return;
+        }
+        for (TwoLevelRedisCache cache : caches) {
+            if (invalidation.key() == null) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(invalidation.key());
+            }
+        }
+    }
+
+    /**
+     * 获取已创建的二级缓存
+     *
+     * @return 二级缓存集合
+     */
+    public Collection<TwoLevelRedisCache> getTwoLevelCaches() {
+        return twoLevelCaches.values().stream().flatMap(List::stream).toList();
+    }
+
+    /**
+     * 注册缓存创建回调，已创建的缓存会立即回调
+     *
+     * @param listener 回调
+     */
+    public synchronized void onCacheCreated(Consumer<TwoLevelRedisCache> listener) {
+        cacheCreatedListeners.add(listener);
+        getTwoLevelCaches().forEach(listener);
+    }
+
+    /**
+     * 计算本地缓存有效期：Redis 过期时间与本地有效期上限中的较小值
+     *
+     * @param cacheConfig 缓存配置
+     * @return 本地缓存有效期
+     */
+    private Duration resolveLocalTtl(RedisCacheConfiguration cacheConfig) {
+        Duration redisTtl = cacheConfig.getTtlFunction().getTimeToLive("", null);
+        if (redisTtl == null || redisTtl.isZero() || redisTtl.isNegative()) {
+            return localMaximumTtl;
+        }
+        return redisTtl.compareTo(localMaximumTtl) < 0 ? redisTtl : localMaximumTtl;
+    }
+
+    /**
+     * 解析本地缓存容量
+     *
+     * @param sizeStr 容量字符串
+     * @return 本地缓存容量
+     * @throws IllegalArgumentException 如果格式无效或不大于 0
+     */
+    private long parseLocalMaximumSize(String sizeStr) {
+        try {
+            long size = Long.parseLong(sizeStr.trim());
+            if (size <= 0) {
+                throw new IllegalArgumentException("Local cache size must be positive: " + sizeStr);
+            }
+            return size;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid local cache size format: " + sizeStr, e);
+        }
+    }
+}
@@ -0,0 +1,602 @@
+package cn.refinex.redis.core;
+
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Redis 批量操作
+ * <p>
+ * 收集多条命令后一次性发送，多个命令只需要一次网络往返。每个操作立即返回 {@link CompletableFuture}，
+ * 执行后完成：
+ * <pre>{@code
+ * RedisBatch batch = redisService.batch();
+ * CompletableFuture<Long> count = batch.string().increment(failKey);
+ * batch.expire(failKey, ttl);
+ * batch.execute();
+ * Long failCount = count.join();
+ * }</pre>
+ * <ul>
+ *     <li>{@link #execute()}：管道执行，命令之间不保证原子性；</li>
+ *     <li>{@link #executeInTransaction()}：以 {@code MULTI/EXEC} 包裹，命令原子执行；</li>
+ *     <li>{@link #executeAsync()}：在虚拟线程中执行管道，不阻塞调用线程。</li>
+ * </ul>
+ * 每个操作对应一条返回非状态回复的 Redis 命令，结果按顺序与操作一一对应。批量对象非线程安全，只能执行一次。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisBatch {
+
+    /**
+     * 异步执行使用的虚拟线程执行器
+     */
+    private static final ExecutorService ASYNC_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 已收集的操作
+     */
+    private final List<Operation<?>> operations = new ArrayList<>();
+
+    private final StringOperations stringOperations = new StringOperations();
+    private final HashOperations hashOperations = new HashOperations();
+    private final SetOperations setOperations = new SetOperations();
+    private final ZSetOperations zSetOperations = new ZSetOperations();
+
+    /**
+     * 是否已执行
+     */
+    private boolean executed;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate RedisTemplate
+     */
+    public RedisBatch(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========== 通用操作 ==========
+
+    /**
+     * 删除 key
+     *
+     * @param key 键
+     * @return true 删除成功
+     */
+    public CompletableFuture<Boolean> delete(String key) {
+        return add(ops -> ops.delete(key), RedisBatch::toBoolean);
+    }
+
+    /**
+     * 判断 key 是否存在
+     *
+     * @param key 键
+     * @return true 存在
+     */
+    public CompletableFuture<Boolean> hasKey(String key) {
+        return add(ops -> ops.hasKey(key), RedisBatch::toBoolean);
+    }
+
+    /**
+     * 设置 key 的过期时间
+     *
+     * @param key      键
+     * @param duration 过期时间
+     * @return true 设置成功
+     */
+    public CompletableFuture<Boolean> expire(String key, Duration duration) {
+        return add(ops -> ops.expire(key, duration), RedisBatch::toBoolean);
+    }
+
+    /**
+     * 获取 key 的过期时间
+     *
+     * @param key 键
+     * @return 过期时间（秒），-1 表示永不过期，-2 表示 key 不存在
+     */
+    public CompletableFuture<Long> getExpire(String key) {
+        return add(ops -> ops.getExpire(key), RedisBatch::toLong);
+    }
+
+    // ========== 数据类型操作 ==========
+
+    /**
+     * 获取 String 类型批量操作
+     *
+     * @return String 类型批量操作
+     */
+    public StringOperations string() {
+        return stringOperations;
+    }
+
+    /**
+     * 获取 Hash 类型批量操作
+     *
+     * @return Hash 类型批量操作
+     */
+    public HashOperations hash() {
+        return hashOperations;
+    }
+
+    /**
+     * 获取 Set 类型批量操作
+     *
+     * @return Set 类型批量操作
+     */
+    public SetOperations set() {
+        return setOperations;
+    }
+
+    /**
+     * 获取 ZSet 类型批量操作
+     *
+     * @return ZSet 类型批量操作
+     */
+    public ZSetOperations zSet() {
+        return zSetOperations;
+    }
+
+    // ========== 执行 ==========
+
+    /**
+     * 获取已收集的操作数量
+     *
+     * @return 操作数量
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * 以管道方式执行
+     */
+    public void execute() {
+        run(false);
+    }
+
+    /**
+     * 以事务（MULTI/EXEC）方式执行
+     */
+    public void executeInTransaction() {
+        run(true);
+    }
+
+    /**
+     * 在虚拟线程中以管道方式执行
+     *
+     * @return 全部操作完成后完成的 Future
+     */
+    public CompletableFuture<Void> executeAsync() {
+        return executeAsync(ASYNC_EXECUTOR);
+    }
+
+    /**
+     * 在指定执行器中以管道方式执行
+     *
+     * @param executor 执行器
+     * @return 全部操作完成后完成的 Future
+     */
+    public CompletableFuture<Void> executeAsync(Executor executor) {
+        return CompletableFuture.runAsync(this::execute, executor);
+    }
+
+    /**
+     * 执行已收集的操作并完成对应的 Future
+     *
+     * @param transactional 是否以事务方式执行
+     */
+    private void run(boolean transactional) {
+        if (executed) {
+            throw new IllegalStateException("RedisBatch 只能执行一次");
+        }
+        executed = true;
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        List<Object> results;
+        try {
+            results = transactional ? redisTemplate.execute(transactionCallback()) : redisTemplate.executePipelined(pipelineCallback());
+        } catch (Exception e) {
+            log.error("Redis 批量执行失败，operations: {}, transactional: {}", operations.size(), transactional, e);
+            SystemException exception = new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+            operations.forEach(operation -> operation.future().completeExceptionally(exception));
+            throw exception;
+        }
+
+        if (results == null || results.size() != operations.size()) {
+            log.error("Redis 批量执行结果数量不匹配，operations: {}, results: {}", operations.size(), results == null ? null : results.size());
+            SystemException exception = new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+            operations.forEach(operation -> operation.future().completeExceptionally(exception));
+            throw exception;
+        }
+
+        for (int i = 0; i < operations.size(); i++) {
+            operations.get(i).complete(results.get(i));
+        }
+    }
+
+    /**
+     * 管道回调：依次发送全部命令
+     *
+     * @return 会话回调
+     */
+    private SessionCallback<Object> pipelineCallback() {
+        return new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(@NonNull RedisOperations<K, V> operations) throws DataAccessException {
+                sendAll((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        };
+    }
+
+    /**
+     * 事务回调：MULTI 后发送全部命令，EXEC 返回结果
+     *
+     * @return 会话回调
+     */
+    private SessionCallback<List<Object>> transactionCallback() {
+        return new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(@NonNull RedisOperations<K, V> operations) throws DataAccessException {
+                operations.multi();
+                sendAll((RedisOperations<String, Object>) operations);
+                return operations.exec();
+            }
+        };
+    }
+
+    /**
+     * 发送全部命令
+     *
+     * @param ops Redis 操作
+     */
+    private void sendAll(RedisOperations<String, Object> ops) {
+        for (Operation<?> operation : operations) {
+            operation.command().accept(ops);
+        }
+    }
+
+    /**
+     * 添加操作
+     *
+     * @param command   命令
+     * @param converter 结果转换
+     * @param <T>       结果类型
+     * @return 结果 Future
+     */
+    private <T> CompletableFuture<T> add(Consumer<RedisOperations<String, Object>> command, Function<Object, T> converter) {
+        if (executed) {
+            throw new IllegalStateException("RedisBatch 已执行，不能再添加操作");
+        }
+        Operation<T> operation = new Operation<>(command, converter, new CompletableFuture<>());
+        operations.add(operation);
+        return operation.future();
+    }
+
+    private static Boolean toBoolean(Object result) {
+        return (Boolean) result;
+    }
+
+    private static Long toLong(Object result) {
+        return result == null ? null : ((Number) result).longValue();
+    }
+
+    private static Double toDouble(Object result) {
+        return result == null ? null : ((Number) result).doubleValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T toType(Object result, Class<T> clazz) {
+        if (result == null || clazz.isInstance(result)) {
+            return (T) result;
+        }
+        throw new ClassCastException("无法将值转换为指定类型: " + clazz.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Object> toSet(Object result) {
+        return (Set<Object>) result;
+    }
+
+    /**
+     * 已收集的操作
+     *
+     * @param command   命令
+     * @param converter 结果转换
+     * @param future    结果 Future
+     * @param <T>       结果类型
+     */
+    private record Operation<T>(Consumer<RedisOperations<String, Object>> command, Function<Object, T> converter, CompletableFuture<T> future) {
+
+        /**
+         * 转换结果并完成 Future，转换失败时以异常完成
+         *
+         * @param result 原始结果
+         */
+        void complete(Object result) {
+            try {
+                future.complete(converter.apply(result));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * String 类型批量操作
+     */
+    public class StringOperations {
+
+        /**
+         * 设置值
+         *
+         * @param key   键
+         * @param value 值
+         * @return true 设置成功
+         */
+        public CompletableFuture<Boolean> set(String key, Object value) {
+            return add(ops -> ops.opsForValue().set(key, value), RedisBatch::toBoolean);
+        }
+
+        /**
+         * 设置值并指定过期时间
+         *
+         * @param key      键
+         * @param value    值
+         * @param duration 过期时间
+         * @return true 设置成功
+         */
+        public CompletableFuture<Boolean> set(String key, Object value, Duration duration) {
+            return add(ops -> ops.opsForValue().set(key, value, duration), RedisBatch::toBoolean);
+        }
+
+        /**
+         * 当 key 不存在时设置值并指定过期时间
+         *
+         * @param key      键
+         * @param value    值
+         * @param duration 过期时间
+         * @return true 设置成功
+         */
+        public CompletableFuture<Boolean> setIfAbsent(String key, Object value, Duration duration) {
+            return add(ops -> ops.opsForValue().setIfAbsent(key, value, duration), RedisBatch::toBoolean);
+        }
+
+        /**
+         * 获取值
+         *
+         * @param key   键
+         * @param clazz 值类型
+         * @param <T>   值类型
+         * @return 值
+         */
+        public <T> CompletableFuture<T> get(String key, Class<T> clazz) {
+            return add(ops -> ops.opsForValue().get(key), result -> toType(result, clazz));
+        }
+
+        /**
+         * 获取值并删除
+         *
+         * @param key   键
+         * @param clazz 值类型
+         * @param <T>   值类型
+         * @return 值
+         */
+        public <T> CompletableFuture<T> getAndDelete(String key, Class<T> clazz) {
+            return add(ops -> ops.opsForValue().getAndDelete(key), result -> toType(result, clazz));
+        }
+
+        /**
+         * 递增 1
+         *
+         * @param key 键
+         * @return 递增后的值
+         */
+        public CompletableFuture<Long> increment(String key) {
+            return add(ops -> ops.opsForValue().increment(key), RedisBatch::toLong);
+        }
+
+        /**
+         * 递增指定值
+         *
+         * @param key   键
+         * @param delta 增量
+         * @return 递增后的值
+         */
+        public CompletableFuture<Long> increment(String key, long delta) {
+            return add(ops -> ops.opsForValue().increment(key, delta), RedisBatch::toLong);
+        }
+    }
+
+    /**
+     * Hash 类型批量操作
+     */
+    public class HashOperations {
+
+        /**
+         * 设置字段值
+         *
+         * @param key   键
+         * @param field 字段
+         * @param value 值
+         * @return true 新增字段，false 覆盖已有字段
+         */
+        public CompletableFuture<Boolean> put(String key, String field, Object value) {
+            return add(ops -> ops.opsForHash().put(key, field, value), RedisBatch::toBoolean);
+        }
+
+        /**
+         * 获取字段值
+         *
+         * @param key   键
+         * @param field 字段
+         * @param clazz 值类型
+         * @param <T>   值类型
+         * @return 值
+         */
+        public <T> CompletableFuture<T> get(String key, String field, Class<T> clazz) {
+            return add(ops -> ops.opsForHash().get(key, field), result -> toType(result, clazz));
+        }
+
+        /**
+         * 删除字段
+         *
+         * @param key    键
+         * @param fields 字段
+         * @return 删除的字段数量
+         */
+        public CompletableFuture<Long> delete(String key, Object... fields) {
+            return add(ops -> ops.opsForHash().delete(key, fields), RedisBatch::toLong);
+        }
+
+        /**
+         * 字段值递增
+         *
+         * @param key   键
+         * @param field 字段
+         * @param delta 增量
+         * @return 递增后的值
+         */
+        public CompletableFuture<Long> increment(String key, String field, long delta) {
+            return add(ops -> ops.opsForHash().increment(key, field, delta), RedisBatch::toLong);
+        }
+    }
+
+    /**
+     * Set 类型批量操作
+     */
+    public class SetOperations {
+
+        /**
+         * 添加元素
+         *
+         * @param key    键
+         * @param values 元素
+         * @return 新增的元素数量
+         */
+        public CompletableFuture<Long> add(String key, Object... values) {
+            return RedisBatch.this.add(ops -> ops.opsForSet().add(key, values), RedisBatch::toLong);
+        }
+
+        /**
+         * 移除元素
+         *
+         * @param key    键
+         * @param values 元素
+         * @return 移除的元素数量
+         */
+        public CompletableFuture<Long> remove(String key, Object... values) {
+            return RedisBatch.this.add(ops -> ops.opsForSet().remove(key, values), RedisBatch::toLong);
+        }
+
+        /**
+         * 判断是否为成员
+         *
+         * @param key   键
+         * @param value 元素
+         * @return true 是成员
+         */
+        public CompletableFuture<Boolean> isMember(String key, Object value) {
+            return RedisBatch.this.add(ops -> ops.opsForSet().isMember(key, value), RedisBatch::toBoolean);
+        }
+
+        /**
+         * 获取全部成员
+         *
+         * @param key 键
+         * @return 成员集合
+         */
+        public CompletableFuture<Set<Object>> members(String key) {
+            return RedisBatch.this.add(ops -> ops.opsForSet().members(key), RedisBatch::toSet);
+        }
+    }
+
+    /**
+     * ZSet 类型批量操作
+     */
+    public class ZSetOperations {
+
+        /**
+         * 添加元素
+         *
+         * @param key   键
+         * @param value 元素
+         * @param score 分数
+         * @return true 新增元素
+         */
+        public CompletableFuture<Boolean> add(String key, Object value, double score) {
+            return RedisBatch.this.add(ops -> ops.opsForZSet().add(key, value, score), RedisBatch::toBoolean);
+        }
+
+        /**
+         * 移除元素
+         *
+         * @param key    键
+         * @param values 元素
+         * @return 移除的元素数量
+         */
+        public CompletableFuture<Long> remove(String key, Object... values) {
+            return RedisBatch.this.add(ops -> ops.opsForZSet().remove(key, values), RedisBatch::toLong);
+        }
+
+        /**
+         * 增加元素分数
+         *
+         * @param key   键
+         * @param value 元素
+         * @param delta 增量
+         * @return 增加后的分数
+         */
+        public CompletableFuture<Double> incrementScore(String key, Object value, double delta) {
+            return RedisBatch.this.add(ops -> ops.opsForZSet().incrementScore(key, value, delta), RedisBatch::toDouble);
+        }
+
+        /**
+         * 获取元素分数
+         *
+         * @param key   键
+         * @param value 元素
+         * @return 分数
+         */
+        public CompletableFuture<Double> score(String key, Object value) {
+            return RedisBatch.this.add(ops -> ops.opsForZSet().score(key, value), RedisBatch::toDouble);
+        }
+
+        /**
+         * 按索引区间获取元素（升序）
+         *
+         * @param key   键
+         * @param start 开始索引
+         * @param end   结束索引
+         * @return 元素集合
+         */
+        public CompletableFuture<Set<Object>> range(String key, long start, long end) {
+            return RedisBatch.this.add(ops -> ops.opsForZSet().range(key, start, end), RedisBatch::toSet);
+        }
+    }
+}
@@ -3,16 +3,31 @@ package cn.refinex.redis.core;
 import cn.refinex.core.api.ApiStatus;
 import cn.refinex.core.exception.SystemException;
 import cn.refinex.redis.core.basic.*;
+import cn.refinex.redis.script.RedisAtomicService;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisConnectionUtils;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Redis 统一服务入口
@@ -36,6 +51,12 @@ public class RedisService {
     private final RedisListService listService;
     private final RedisSetService setService;
     private final RedisZSetService zSetService;
+    private final RedisAtomicService atomicService;
+
+    /**
+     * SCAN 默认 COUNT 提示值
+     */
+    public static final long DEFAULT_SCAN_COUNT = 1000L;
 
     // ========== 通用操作 ==========
 
@@ -183,19 +204,122 @@ public class RedisService {
 
     /**
      * 查找匹配的 key
+     * <p>
+     * 基于 SCAN 实现，不会像 KEYS 一样长时间阻塞 Redis；匹配的 key 较多时请使用 {@link #scan(String, long)} 逐个处理。
      *
      * @param pattern 匹配模式
      * @return 匹配的 key 集合
      */
     public Set<String> keys(String pattern) {
+        try (Stream<String> keys = scan(pattern, DEFAULT_SCAN_COUNT)) {
+            return keys.collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * 以游标方式遍历匹配的 key
+     * <p>
+     * 返回的流按需向 Redis 发送 SCAN 命令，使用完毕后必须关闭（建议使用 try-with-resources）。
+     * 集群模式下依次遍历全部主节点。遍历期间新增或删除的 key 可能被遗漏或重复返回。
+     *
+     * @param pattern 匹配模式
+     * @param count   每次 SCAN 的 COUNT 提示值
+     * @return key 流
+     */
+    public Stream<String> scan(String pattern, long count) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(count).build();
+        RedisConnectionFactory connectionFactory = redisTemplate.getRequiredConnectionFactory();
+        RedisConnection connection = null;
         try {
-            return redisTemplate.keys(pattern);
+            connection = RedisConnectionUtils.getConnection(connectionFactory);
+            if (!(connection instanceof RedisClusterConnection clusterConnection)) {
+                RedisConnectionUtils.releaseConnection(connection, connectionFactory);
+                Cursor<String> cursor = redisTemplate.scan(options);
+                return cursor.stream().onClose(cursor::close);
+            }
+
+            // 集群模式：SCAN 只遍历单个节点，需要对每个主节点分别遍历
+            RedisConnection heldConnection = connection;
+            List<Cursor<byte[]>> cursors = new ArrayList<>();
+            return StreamSupport.stream(clusterConnection.clusterGetNodes().spliterator(), false)
+                    .filter(RedisClusterNode::isMaster)
+                    .flatMap(node -> {
+                        Cursor<byte[]> cursor = clusterConnection.scan(node, options);
+                        cursors.add(cursor);
+                        return cursor.stream();
+                    })
+                    .map(key -> RedisSerializer.string().deserialize(key))
+                    .onClose(() -> {
+                        cursors.forEach(Cursor::close);
+                        RedisConnectionUtils.releaseConnection(heldConnection, connectionFactory);
+                    });
         } catch (Exception e) {
-            log.error("查找匹配的 key 失败，pattern: {}", pattern, e);
+            if (connection != null) {
+                RedisConnectionUtils.releaseConnection(connection, connectionFactory);
+            }
+            log.error("遍历匹配的 key 失败，pattern: {}, count: {}", pattern, count, e);
             throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 删除匹配的 key
+     * <p>
+     * 以 SCAN 遍历匹配的 key，每满 batchSize 个以 UNLINK 删除一次，内存回收在 Redis 后台线程进行。
+     *
+     * @param pattern   匹配模式
+     * @param batchSize 每批删除的数量，同时作为 SCAN 的 COUNT 提示值
+     * @return 删除的数量
+     */
+    public long deleteByPattern(String pattern, int batchSize) {
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Stream<String> keys = scan(pattern, batchSize)) {
+            Iterator<String> iterator = keys.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= batchSize || !iterator.hasNext()) {
+                    Long count = redisTemplate.unlink(batch);
+                    deleted += count != null ? count : 0L;
+                    batch.clear();
+                }
+            }
+            return deleted;
+        } catch (SystemException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("删除匹配的 key 失败，pattern: {}, deleted: {}", pattern, deleted, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 向指定频道发布消息
+     *
+     * @param channel 频道
+     * @param message 消息（按 value 序列化器序列化）
+     * @return 接收到消息的订阅者数量
+     */
+    public Long publish(String channel, Object message) {
+        try {
+            return redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            log.error("发布消息失败，channel: {}", channel, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // ========== 批量操作 ==========
+
+    /**
+     * 创建批量操作，收集多条命令后以管道或事务方式一次发送
+     *
+     * @return RedisBatch
+     */
+    public RedisBatch batch() {
+        return new RedisBatch(redisTemplate);
+    }
+
     // ========== 数据类型专业化服务访问器 ==========
 
     /**
@@ -243,4 +367,13 @@ public class RedisService {
         return zSetService;
     }
 
+    /**
+     * 获取基于 Lua 脚本的原子操作服务（限流、计数、锁）
+     *
+     * @return RedisAtomicService
+     */
+    public RedisAtomicService atomic() {
+        return atomicService;
+    }
+
 }
@@ -0,0 +1,40 @@
+package cn.refinex.redis.reactive;
+
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+
+/**
+ * 响应式 Redis 服务的异常转换
+ * <p>
+ * 与阻塞式服务保持一致：记录错误日志，向调用方抛出 {@link SystemException}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReactiveRedisErrors {
+
+    /**
+     * 记录错误日志并转换为系统异常
+     *
+     * @param e       原始异常
+     * @param message 日志模板
+     * @param args    日志参数
+     * @return 系统异常
+     */
+    public static SystemException failure(Throwable e, String message, Object... args) {
+        if (e instanceof SystemException systemException) {
+            return systemException;
+        }
+        Object[] logArgs = Arrays.copyOf(args, args.length + 1);
+        logArgs[args.length] = e;
+        log.error(message, logArgs);
+        return new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+    }
+}
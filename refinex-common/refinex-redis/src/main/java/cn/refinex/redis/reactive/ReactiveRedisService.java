@@ -0,0 +1,274 @@
+package cn.refinex.redis.reactive;
+
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+import cn.refinex.redis.reactive.basic.ReactiveRedisHashService;
+import cn.refinex.redis.reactive.basic.ReactiveRedisListService;
+import cn.refinex.redis.reactive.basic.ReactiveRedisSetService;
+import cn.refinex.redis.reactive.basic.ReactiveRedisStringService;
+import cn.refinex.redis.reactive.basic.ReactiveRedisZSetService;
+import lombok.Getter;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static cn.refinex.redis.reactive.ReactiveRedisErrors.failure;
+
+/**
+ * 响应式 Redis 统一服务入口
+ * <p>
+ * 与 {@link cn.refinex.redis.core.RedisService} 提供相同结构的 API，基于 {@link ReactiveRedisTemplate}，
+ * 键与值的序列化方式与阻塞式 RedisTemplate 一致，两者可以读写同一份数据。
+ * 仅在响应式 Web 应用（网关）中自动配置，所有操作均不阻塞事件循环线程。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Getter
+public class ReactiveRedisService {
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+    private final ReactiveRedisStringService stringService;
+    private final ReactiveRedisHashService hashService;
+    private final ReactiveRedisListService listService;
+    private final ReactiveRedisSetService setService;
+    private final ReactiveRedisZSetService zSetService;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate 响应式 RedisTemplate
+     */
+    public ReactiveRedisService(ReactiveRedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.stringService = new ReactiveRedisStringService(redisTemplate);
+        this.hashService = new ReactiveRedisHashService(redisTemplate);
+        this.listService = new ReactiveRedisListService(redisTemplate);
+        this.setService = new ReactiveRedisSetService(redisTemplate);
+        this.zSetService = new ReactiveRedisZSetService(redisTemplate);
+    }
+
+    // ========== 通用操作 ==========
+
+    /**
+     * 判断 key 是否存在
+     *
+     * @param key 键
+     * @return true 存在，false 不存在
+     */
+    public Mono<Boolean> hasKey(String key) {
+        return redisTemplate.hasKey(key)
+                .onErrorMap(e -> failure(e, "判断 key 是否存在失败，key: {}", key));
+    }
+
+    /**
+     * 删除 key
+     *
+     * @param keys 键
+     * @return 删除的数量
+     */
+    public Mono<Long> delete(String... keys) {
+        return redisTemplate.delete(keys)
+                .onErrorMap(e -> failure(e, "删除 key 失败，keys: {}", (Object) keys));
+    }
+
+    /**
+     * 异步删除 key（UNLINK），大 key 的内存回收在 Redis 后台线程进行
+     *
+     * @param keys 键
+     * @return 删除的数量
+     */
+    public Mono<Long> unlink(String... keys) {
+        return redisTemplate.unlink(keys)
+                .onErrorMap(e -> failure(e, "异步删除 key 失败，keys: {}", (Object) keys));
+    }
+
+    /**
+     * 设置 key 的过期时间
+     *
+     * @param key      键
+     * @param duration 过期时间
+     * @return true 设置成功
+     */
+    public Mono<Boolean> expire(String key, Duration duration) {
+        return redisTemplate.expire(key, duration)
+                .onErrorMap(e -> failure(e, "设置 key 过期时间失败，key: {}, duration: {}", key, duration));
+    }
+
+    /**
+     * 获取 key 的剩余过期时间
+     *
+     * @param key 键
+     * @return 剩余过期时间，永不过期时为 {@link Duration#ZERO}，key 不存在时为空
+     */
+    public Mono<Duration> getExpire(String key) {
+        return redisTemplate.getExpire(key)
+                .onErrorMap(e -> failure(e, "获取 key 过期时间失败，key: {}", key));
+    }
+
+    /**
+     * 移除 key 的过期时间
+     *
+     * @param key 键
+     * @return true 移除成功
+     */
+    public Mono<Boolean> persist(String key) {
+        return redisTemplate.persist(key)
+                .onErrorMap(e -> failure(e, "移除 key 过期时间失败，key: {}", key));
+    }
+
+    /**
+     * 以游标方式遍历匹配的 key
+     * <p>
+     * 按订阅方的请求量逐批发送 SCAN 命令，不会像 KEYS 一样长时间阻塞 Redis。
+     * 遍历期间新增或删除的 key 可能被遗漏或重复返回。
+     * <p>
+     * 仅支持单机与哨兵模式。集群模式下直接返回错误，不返回不完整的结果；需要遍历集群时使用
+     * {@link cn.refinex.redis.core.RedisService#scan(String, long)}（依次遍历全部主节点，需在弹性线程池中执行）。
+     *
+     * @param pattern 匹配模式
+     * @param count   每次 SCAN 的 COUNT 提示值
+     * @return key 流
+     */
+    public Flux<String> scan(String pattern, long count) {
+        if (isClusterMode()) {
+            return Flux.error(new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "响应式 SCAN 不支持集群模式，pattern: " + pattern));
+        }
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(count).build();
+        return redisTemplate.scan(options)
+                .onErrorMap(e -> failure(e, "遍历匹配的 key 失败，pattern: {}, count: {}", pattern, count));
+    }
+
+    /**
+     * 删除匹配的 key
+     * <p>
+     * 以 SCAN 遍历匹配的 key，每满 batchSize 个以 UNLINK 删除一次。与 {@link #scan(String, long)} 相同，仅支持单机与哨兵模式。
+     *
+     * @param pattern   匹配模式
+     * @param batchSize 每批删除的数量，同时作为 SCAN 的 COUNT 提示值
+     * @return 删除的数量
+     */
+    public Mono<Long> deleteByPattern(String pattern, int batchSize) {
+        return scan(pattern, batchSize)
+                .buffer(batchSize)
+                .concatMap(keys -> unlink(keys.toArray(String[]::new)))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * 是否为集群模式
+     *
+     * @return 连接工厂为集群配置时返回 true
+     */
+    private boolean isClusterMode() {
+        return redisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory factory && factory.isClusterAware();
+    }
+
+    // ========== Lua 脚本 ==========
+
+    /**
+     * 执行 Lua 脚本（EVALSHA，脚本缓存丢失时自动回退为 EVAL）
+     * <p>
+     * 参数序列化规则与 {@link cn.refinex.redis.serializer.ScriptArgumentSerializer} 一致：数值与布尔按十进制文本传入，
+     * 其余参数使用值序列化器，与写入命令的值字节一致。
+     *
+     * @param script 脚本
+     * @param keys   键
+     * @param args   参数
+     * @param <T>    返回值类型
+     * @return 脚本返回值
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Flux<T> execute(RedisScript<T> script, List<String> keys, Object... args) {
+        RedisSerializationContext.SerializationPair<Object> valuePair = redisTemplate.getSerializationContext().getValueSerializationPair();
+        RedisElementWriter<Object> argumentWriter = value -> value instanceof Number || value instanceof Boolean
+                ? ByteBuffer.wrap(String.valueOf(value).getBytes(StandardCharsets.UTF_8))
+                : valuePair.getWriter().write(value);
+        return redisTemplate.execute(script, keys, Arrays.asList(args), argumentWriter, (RedisElementReader<T>) valuePair.getReader())
+                .onErrorMap(e -> failure(e, "执行 Lua 脚本失败，sha1: {}, keys: {}", script.getSha1(), keys));
+    }
+
+    // ========== 发布订阅 ==========
+
+    /**
+     * 向指定频道发布消息
+     *
+     * @param channel 频道
+     * @param message 消息（按 value 序列化器序列化）
+     * @return 接收到消息的订阅者数量
+     */
+    public Mono<Long> publish(String channel, Object message) {
+        return redisTemplate.convertAndSend(channel, message)
+                .onErrorMap(e -> failure(e, "发布消息失败，channel: {}", channel));
+    }
+
+    /**
+     * 订阅频道，取消订阅时自动退订
+     *
+     * @param channels 频道
+     * @return 消息流
+     */
+    public Flux<? extends ReactiveSubscription.Message<String, Object>> listenToChannel(String... channels) {
+        return redisTemplate.listenToChannel(channels);
+    }
+
+    // ========== 数据类型专业化服务访问器 ==========
+
+    /**
+     * 获取 String 类型操作服务
+     *
+     * @return ReactiveRedisStringService
+     */
+    public ReactiveRedisStringService string() {
+        return stringService;
+    }
+
+    /**
+     * 获取 Hash 类型操作服务
+     *
+     * @return ReactiveRedisHashService
+     */
+    public ReactiveRedisHashService hash() {
+        return hashService;
+    }
+
+    /**
+     * 获取 List 类型操作服务
+     *
+     * @return ReactiveRedisListService
+     */
+    public ReactiveRedisListService list() {
+        return listService;
+    }
+
+    /**
+     * 获取 Set 类型操作服务
+     *
+     * @return ReactiveRedisSetService
+     */
+    public ReactiveRedisSetService set() {
+        return setService;
+    }
+
+    /**
+     * 获取 ZSet 类型操作服务
+     *
+     * @return ReactiveRedisZSetService
+     */
+    public ReactiveRedisZSetService zSet() {
+        return zSetService;
+    }
+}
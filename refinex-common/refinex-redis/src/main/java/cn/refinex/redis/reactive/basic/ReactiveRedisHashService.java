@@ -0,0 +1,190 @@
+package cn.refinex.redis.reactive.basic;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static cn.refinex.redis.reactive.ReactiveRedisErrors.failure;
+
+/**
+ * 响应式 Redis Hash 类型操作服务
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ReactiveRedisHashService {
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 设置字段值
+     *
+     * @param key   键
+     * @param field 字段
+     * @param value 值
+     * @return true 新增字段，false 覆盖已有字段
+     */
+    public Mono<Boolean> put(String key, String field, Object value) {
+        return ops().put(key, field, value)
+                .onErrorMap(e -> failure(e, "设置 Hash 字段失败，key: {}, field: {}", key, field));
+    }
+
+    /**
+     * 仅当字段不存在时设置值
+     *
+     * @param key   键
+     * @param field 字段
+     * @param value 值
+     * @return true 设置成功，false 字段已存在
+     */
+    public Mono<Boolean> putIfAbsent(String key, String field, Object value) {
+        return ops().putIfAbsent(key, field, value)
+                .onErrorMap(e -> failure(e, "不存在时设置 Hash 字段失败，key: {}, field: {}", key, field));
+    }
+
+    /**
+     * 批量设置字段值
+     *
+     * @param key 键
+     * @param map 字段与值
+     * @return true 设置成功
+     */
+    public Mono<Boolean> putAll(String key, Map<String, Object> map) {
+        return ops().putAll(key, map)
+                .onErrorMap(e -> failure(e, "批量设置 Hash 字段失败，key: {}, fields: {}", key, map.keySet()));
+    }
+
+    /**
+     * 获取字段值
+     *
+     * @param key   键
+     * @param field 字段
+     * @return 值，不存在时为空
+     */
+    public Mono<Object> get(String key, String field) {
+        return ops().get(key, field)
+                .onErrorMap(e -> failure(e, "获取 Hash 字段失败，key: {}, field: {}", key, field));
+    }
+
+    /**
+     * 获取指定类型的字段值
+     *
+     * @param key   键
+     * @param field 字段
+     * @param clazz 值类型
+     * @param <T>   值类型
+     * @return 值，不存在或类型不匹配时为空
+     */
+    public <T> Mono<T> get(String key, String field, Class<T> clazz) {
+        return get(key, field).filter(clazz::isInstance).map(clazz::cast);
+    }
+
+    /**
+     * 批量获取字段值
+     *
+     * @param key    键
+     * @param fields 字段集合
+     * @return 值列表，与字段顺序一致
+     */
+    public Mono<List<Object>> multiGet(String key, Collection<String> fields) {
+        return ops().multiGet(key, fields)
+                .onErrorMap(e -> failure(e, "批量获取 Hash 字段失败，key: {}, fields: {}", key, fields));
+    }
+
+    /**
+     * 删除字段
+     *
+     * @param key    键
+     * @param fields 字段
+     * @return 删除的字段数量
+     */
+    public Mono<Long> delete(String key, Object... fields) {
+        return ops().remove(key, fields)
+                .onErrorMap(e -> failure(e, "删除 Hash 字段失败，key: {}", key));
+    }
+
+    /**
+     * 判断字段是否存在
+     *
+     * @param key   键
+     * @param field 字段
+     * @return true 存在
+     */
+    public Mono<Boolean> hasKey(String key, String field) {
+        return ops().hasKey(key, field)
+                .onErrorMap(e -> failure(e, "判断 Hash 字段是否存在失败，key: {}, field: {}", key, field));
+    }
+
+    /**
+     * 获取全部字段与值
+     *
+     * @param key 键
+     * @return 字段与值
+     */
+    public Flux<Map.Entry<String, Object>> entries(String key) {
+        return ops().entries(key)
+                .onErrorMap(e -> failure(e, "获取 Hash 全部字段失败，key: {}", key));
+    }
+
+    /**
+     * 获取全部字段
+     *
+     * @param key 键
+     * @return 字段
+     */
+    public Flux<String> keys(String key) {
+        return ops().keys(key)
+                .onErrorMap(e -> failure(e, "获取 Hash 字段名失败，key: {}", key));
+    }
+
+    /**
+     * 获取全部值
+     *
+     * @param key 键
+     * @return 值
+     */
+    public Flux<Object> values(String key) {
+        return ops().values(key)
+                .onErrorMap(e -> failure(e, "获取 Hash 全部值失败，key: {}", key));
+    }
+
+    /**
+     * 字段值递增
+     *
+     * @param key   键
+     * @param field 字段
+     * @param delta 增量
+     * @return 递增后的值
+     */
+    public Mono<Long> increment(String key, String field, long delta) {
+        return ops().increment(key, field, delta)
+                .onErrorMap(e -> failure(e, "Hash 字段递增失败，key: {}, field: {}, delta: {}", key, field, delta));
+    }
+
+    /**
+     * 获取字段数量
+     *
+     * @param key 键
+     * @return 字段数量
+     */
+    public Mono<Long> size(String key) {
+        return ops().size(key)
+                .onErrorMap(e -> failure(e, "获取 Hash 字段数量失败，key: {}", key));
+    }
+
+    /**
+     * Hash 操作，字段使用 String 序列化，值使用 value 序列化器
+     *
+     * @return Hash 操作
+     */
+    private ReactiveHashOperations<String, String, Object> ops() {
+        return redisTemplate.opsForHash();
+    }
+}
@@ -0,0 +1,179 @@
+package cn.refinex.redis.reactive.basic;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static cn.refinex.redis.reactive.ReactiveRedisErrors.failure;
+
+/**
+ * 响应式 Redis List 类型操作服务
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ReactiveRedisListService {
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 从左侧插入
+     *
+     * @param key   键
+     * @param value 值
+     * @return 插入后的列表长度
+     */
+    public Mono<Long> leftPush(String key, Object value) {
+        return redisTemplate.opsForList().leftPush(key, value)
+                .onErrorMap(e -> failure(e, "List 左侧插入失败，key: {}", key));
+    }
+
+    /**
+     * 从左侧批量插入
+     *
+     * @param key    键
+     * @param values 值
+     * @return 插入后的列表长度
+     */
+    public Mono<Long> leftPushAll(String key, Object... values) {
+        return redisTemplate.opsForList().leftPushAll(key, values)
+                .onErrorMap(e -> failure(e, "List 左侧批量插入失败，key: {}", key));
+    }
+
+    /**
+     * 从右侧插入
+     *
+     * @param key   键
+     * @param value 值
+     * @return 插入后的列表长度
+     */
+    public Mono<Long> rightPush(String key, Object value) {
+        return redisTemplate.opsForList().rightPush(key, value)
+                .onErrorMap(e -> failure(e, "List 右侧插入失败，key: {}", key));
+    }
+
+    /**
+     * 从右侧批量插入
+     *
+     * @param key    键
+     * @param values 值
+     * @return 插入后的列表长度
+     */
+    public Mono<Long> rightPushAll(String key, Object... values) {
+        return redisTemplate.opsForList().rightPushAll(key, values)
+                .onErrorMap(e -> failure(e, "List 右侧批量插入失败，key: {}", key));
+    }
+
+    /**
+     * 从左侧弹出
+     *
+     * @param key 键
+     * @return 弹出的值，列表为空时为空
+     */
+    public Mono<Object> leftPop(String key) {
+        return redisTemplate.opsForList().leftPop(key)
+                .onErrorMap(e -> failure(e, "List 左侧弹出失败，key: {}", key));
+    }
+
+    /**
+     * 从左侧阻塞弹出（不占用线程，等待期间占用一个连接）
+     *
+     * @param key      键
+     * @param duration 最长等待时间
+     * @return 弹出的值，超时为空
+     */
+    public Mono<Object> leftPop(String key, Duration duration) {
+        return redisTemplate.opsForList().leftPop(key, duration)
+                .onErrorMap(e -> failure(e, "List 左侧阻塞弹出失败，key: {}, duration: {}", key, duration));
+    }
+
+    /**
+     * 从右侧弹出
+     *
+     * @param key 键
+     * @return 弹出的值，列表为空时为空
+     */
+    public Mono<Object> rightPop(String key) {
+        return redisTemplate.opsForList().rightPop(key)
+                .onErrorMap(e -> failure(e, "List 右侧弹出失败，key: {}", key));
+    }
+
+    /**
+     * 获取指定下标的值
+     *
+     * @param key   键
+     * @param index 下标
+     * @return 值
+     */
+    public Mono<Object> index(String key, long index) {
+        return redisTemplate.opsForList().index(key, index)
+                .onErrorMap(e -> failure(e, "List 获取下标值失败，key: {}, index: {}", key, index));
+    }
+
+    /**
+     * 设置指定下标的值
+     *
+     * @param key   键
+     * @param index 下标
+     * @param value 值
+     * @return true 设置成功
+     */
+    public Mono<Boolean> set(String key, long index, Object value) {
+        return redisTemplate.opsForList().set(key, index, value)
+                .onErrorMap(e -> failure(e, "List 设置下标值失败，key: {}, index: {}", key, index));
+    }
+
+    /**
+     * 获取指定范围的值
+     *
+     * @param key   键
+     * @param start 开始下标
+     * @param end   结束下标（-1 表示最后一个）
+     * @return 值
+     */
+    public Flux<Object> range(String key, long start, long end) {
+        return redisTemplate.opsForList().range(key, start, end)
+                .onErrorMap(e -> failure(e, "List 获取范围值失败，key: {}, start: {}, end: {}", key, start, end));
+    }
+
+    /**
+     * 只保留指定范围的值
+     *
+     * @param key   键
+     * @param start 开始下标
+     * @param end   结束下标
+     * @return true 操作成功
+     */
+    public Mono<Boolean> trim(String key, long start, long end) {
+        return redisTemplate.opsForList().trim(key, start, end)
+                .onErrorMap(e -> failure(e, "List 裁剪失败，key: {}, start: {}, end: {}", key, start, end));
+    }
+
+    /**
+     * 删除指定值
+     *
+     * @param key   键
+     * @param count 删除数量（0 删除全部，正数从左侧开始，负数从右侧开始）
+     * @param value 值
+     * @return 删除的数量
+     */
+    public Mono<Long> remove(String key, long count, Object value) {
+        return redisTemplate.opsForList().remove(key, count, value)
+                .onErrorMap(e -> failure(e, "List 删除值失败，key: {}, count: {}", key, count));
+    }
+
+    /**
+     * 获取列表长度
+     *
+     * @param key 键
+     * @return 列表长度
+     */
+    public Mono<Long> size(String key) {
+        return redisTemplate.opsForList().size(key)
+                .onErrorMap(e -> failure(e, "获取 List 长度失败，key: {}", key));
+    }
+}
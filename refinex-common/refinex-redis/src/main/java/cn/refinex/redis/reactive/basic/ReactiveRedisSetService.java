@@ -0,0 +1,89 @@
+package cn.refinex.redis.reactive.basic;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static cn.refinex.redis.reactive.ReactiveRedisErrors.failure;
+
+/**
+ * 响应式 Redis Set 类型操作服务
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ReactiveRedisSetService {
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 添加成员
+     *
+     * @param key    键
+     * @param values 成员
+     * @return 新增的成员数量
+     */
+    public Mono<Long> add(String key, Object... values) {
+        return redisTemplate.opsForSet().add(key, values)
+                .onErrorMap(e -> failure(e, "Set 添加成员失败，key: {}", key));
+    }
+
+    /**
+     * 删除成员
+     *
+     * @param key    键
+     * @param values 成员
+     * @return 删除的成员数量
+     */
+    public Mono<Long> remove(String key, Object... values) {
+        return redisTemplate.opsForSet().remove(key, values)
+                .onErrorMap(e -> failure(e, "Set 删除成员失败，key: {}", key));
+    }
+
+    /**
+     * 判断是否为成员
+     *
+     * @param key   键
+     * @param value 值
+     * @return true 是成员
+     */
+    public Mono<Boolean> isMember(String key, Object value) {
+        return redisTemplate.opsForSet().isMember(key, value)
+                .onErrorMap(e -> failure(e, "Set 判断成员失败，key: {}", key));
+    }
+
+    /**
+     * 获取全部成员
+     *
+     * @param key 键
+     * @return 成员
+     */
+    public Flux<Object> members(String key) {
+        return redisTemplate.opsForSet().members(key)
+                .onErrorMap(e -> failure(e, "Set 获取全部成员失败，key: {}", key));
+    }
+
+    /**
+     * 随机弹出一个成员
+     *
+     * @param key 键
+     * @return 成员，集合为空时为空
+     */
+    public Mono<Object> pop(String key) {
+        return redisTemplate.opsForSet().pop(key)
+                .onErrorMap(e -> failure(e, "Set 弹出成员失败，key: {}", key));
+    }
+
+    /**
+     * 获取成员数量
+     *
+     * @param key 键
+     * @return 成员数量
+     */
+    public Mono<Long> size(String key) {
+        return redisTemplate.opsForSet().size(key)
+                .onErrorMap(e -> failure(e, "获取 Set 成员数量失败，key: {}", key));
+    }
+}
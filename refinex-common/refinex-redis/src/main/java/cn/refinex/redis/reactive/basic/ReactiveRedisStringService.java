@@ -0,0 +1,188 @@
+package cn.refinex.redis.reactive.basic;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static cn.refinex.redis.reactive.ReactiveRedisErrors.failure;
+
+/**
+ * 响应式 Redis String 类型操作服务
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ReactiveRedisStringService {
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 设置值
+     *
+     * @param key   键
+     * @param value 值
+     * @return true 设置成功
+     */
+    public Mono<Boolean> set(String key, Object value) {
+        return redisTemplate.opsForValue().set(key, value)
+                .onErrorMap(e -> failure(e, "设置值失败，key: {}", key));
+    }
+
+    /**
+     * 设置值并指定过期时间
+     *
+     * @param key      键
+     * @param value    值
+     * @param duration 过期时间
+     * @return true 设置成功
+     */
+    public Mono<Boolean> set(String key, Object value, Duration duration) {
+        return redisTemplate.opsForValue().set(key, value, duration)
+                .onErrorMap(e -> failure(e, "设置值并指定过期时间失败，key: {}, duration: {}", key, duration));
+    }
+
+    /**
+     * 仅当 key 不存在时设置值并指定过期时间
+     *
+     * @param key      键
+     * @param value    值
+     * @param duration 过期时间
+     * @return true 设置成功，false key 已存在
+     */
+    public Mono<Boolean> setIfAbsent(String key, Object value, Duration duration) {
+        return redisTemplate.opsForValue().setIfAbsent(key, value, duration)
+                .onErrorMap(e -> failure(e, "不存在时设置值失败，key: {}, duration: {}", key, duration));
+    }
+
+    /**
+     * 仅当 key 存在时设置值并指定过期时间
+     *
+     * @param key      键
+     * @param value    值
+     * @param duration 过期时间
+     * @return true 设置成功，false key 不存在
+     */
+    public Mono<Boolean> setIfPresent(String key, Object value, Duration duration) {
+        return redisTemplate.opsForValue().setIfPresent(key, value, duration)
+                .onErrorMap(e -> failure(e, "存在时设置值失败，key: {}, duration: {}", key, duration));
+    }
+
+    /**
+     * 获取值
+     *
+     * @param key 键
+     * @return 值，不存在时为空
+     */
+    public Mono<Object> get(String key) {
+        return redisTemplate.opsForValue().get(key)
+                .onErrorMap(e -> failure(e, "获取值失败，key: {}", key));
+    }
+
+    /**
+     * 获取指定类型的值
+     *
+     * @param key   键
+     * @param clazz 值类型
+     * @param <T>   值类型
+     * @return 值，不存在或类型不匹配时为空
+     */
+    public <T> Mono<T> get(String key, Class<T> clazz) {
+        return get(key).filter(clazz::isInstance).map(clazz::cast);
+    }
+
+    /**
+     * 设置新值并返回旧值
+     *
+     * @param key   键
+     * @param value 新值
+     * @return 旧值
+     */
+    public Mono<Object> getAndSet(String key, Object value) {
+        return redisTemplate.opsForValue().getAndSet(key, value)
+                .onErrorMap(e -> failure(e, "设置新值并返回旧值失败，key: {}", key));
+    }
+
+    /**
+     * 获取值并删除
+     *
+     * @param key 键
+     * @return 值
+     */
+    public Mono<Object> getAndDelete(String key) {
+        return redisTemplate.opsForValue().getAndDelete(key)
+                .onErrorMap(e -> failure(e, "获取值并删除失败，key: {}", key));
+    }
+
+    /**
+     * 批量设置值
+     *
+     * @param map 键值对
+     * @return true 设置成功
+     */
+    public Mono<Boolean> multiSet(Map<String, Object> map) {
+        return redisTemplate.opsForValue().multiSet(map)
+                .onErrorMap(e -> failure(e, "批量设置值失败，keys: {}", map.keySet()));
+    }
+
+    /**
+     * 批量获取值
+     *
+     * @param keys 键集合
+     * @return 值列表，与键顺序一致，不存在的键对应 null
+     */
+    public Mono<List<Object>> multiGet(Collection<String> keys) {
+        return redisTemplate.opsForValue().multiGet(keys)
+                .onErrorMap(e -> failure(e, "批量获取值失败，keys: {}", keys));
+    }
+
+    /**
+     * 递增 1
+     *
+     * @param key 键
+     * @return 递增后的值
+     */
+    public Mono<Long> increment(String key) {
+        return redisTemplate.opsForValue().increment(key)
+                .onErrorMap(e -> failure(e, "递增失败，key: {}", key));
+    }
+
+    /**
+     * 递增指定值
+     *
+     * @param key   键
+     * @param delta 增量
+     * @return 递增后的值
+     */
+    public Mono<Long> increment(String key, long delta) {
+        return redisTemplate.opsForValue().increment(key, delta)
+                .onErrorMap(e -> failure(e, "递增失败，key: {}, delta: {}", key, delta));
+    }
+
+    /**
+     * 递减 1
+     *
+     * @param key 键
+     * @return 递减后的值
+     */
+    public Mono<Long> decrement(String key) {
+        return redisTemplate.opsForValue().decrement(key)
+                .onErrorMap(e -> failure(e, "递减失败，key: {}", key));
+    }
+
+    /**
+     * 获取值的长度
+     *
+     * @param key 键
+     * @return 值的长度
+     */
+    public Mono<Long> size(String key) {
+        return redisTemplate.opsForValue().size(key)
+                .onErrorMap(e -> failure(e, "获取值的长度失败，key: {}", key));
+    }
+}
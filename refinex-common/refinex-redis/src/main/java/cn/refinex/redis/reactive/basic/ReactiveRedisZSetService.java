@@ -0,0 +1,185 @@
+package cn.refinex.redis.reactive.basic;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static cn.refinex.redis.reactive.ReactiveRedisErrors.failure;
+
+/**
+ * 响应式 Redis ZSet 类型操作服务
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ReactiveRedisZSetService {
+
+    private final ReactiveRedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 添加成员
+     *
+     * @param key   键
+     * @param value 成员
+     * @param score 分数
+     * @return true 新增成员，false 更新已有成员的分数
+     */
+    public Mono<Boolean> add(String key, Object value, double score) {
+        return redisTemplate.opsForZSet().add(key, value, score)
+                .onErrorMap(e -> failure(e, "ZSet 添加成员失败，key: {}, score: {}", key, score));
+    }
+
+    /**
+     * 删除成员
+     *
+     * @param key    键
+     * @param values 成员
+     * @return 删除的成员数量
+     */
+    public Mono<Long> remove(String key, Object... values) {
+        return redisTemplate.opsForZSet().remove(key, values)
+                .onErrorMap(e -> failure(e, "ZSet 删除成员失败，key: {}", key));
+    }
+
+    /**
+     * 增加成员分数
+     *
+     * @param key   键
+     * @param value 成员
+     * @param delta 增量
+     * @return 增加后的分数
+     */
+    public Mono<Double> incrementScore(String key, Object value, double delta) {
+        return redisTemplate.opsForZSet().incrementScore(key, value, delta)
+                .onErrorMap(e -> failure(e, "ZSet 增加分数失败，key: {}, delta: {}", key, delta));
+    }
+
+    /**
+     * 获取成员分数
+     *
+     * @param key   键
+     * @param value 成员
+     * @return 分数，成员不存在时为空
+     */
+    public Mono<Double> score(String key, Object value) {
+        return redisTemplate.opsForZSet().score(key, value)
+                .onErrorMap(e -> failure(e, "ZSet 获取分数失败，key: {}", key));
+    }
+
+    /**
+     * 获取成员排名（分数从小到大）
+     *
+     * @param key   键
+     * @param value 成员
+     * @return 排名（从 0 开始），成员不存在时为空
+     */
+    public Mono<Long> rank(String key, Object value) {
+        return redisTemplate.opsForZSet().rank(key, value)
+                .onErrorMap(e -> failure(e, "ZSet 获取排名失败，key: {}", key));
+    }
+
+    /**
+     * 获取成员排名（分数从大到小）
+     *
+     * @param key   键
+     * @param value 成员
+     * @return 排名（从 0 开始），成员不存在时为空
+     */
+    public Mono<Long> reverseRank(String key, Object value) {
+        return redisTemplate.opsForZSet().reverseRank(key, value)
+                .onErrorMap(e -> failure(e, "ZSet 获取倒序排名失败，key: {}", key));
+    }
+
+    /**
+     * 按下标范围获取成员（分数从小到大）
+     *
+     * @param key   键
+     * @param start 开始下标
+     * @param end   结束下标（-1 表示最后一个）
+     * @return 成员
+     */
+    public Flux<Object> range(String key, long start, long end) {
+        return redisTemplate.opsForZSet().range(key, Range.closed(start, end))
+                .onErrorMap(e -> failure(e, "ZSet 获取范围成员失败，key: {}, start: {}, end: {}", key, start, end));
+    }
+
+    /**
+     * 按下标范围获取成员及分数（分数从小到大）
+     *
+     * @param key   键
+     * @param start 开始下标
+     * @param end   结束下标（-1 表示最后一个）
+     * @return 成员及分数
+     */
+    public Flux<ZSetOperations.TypedTuple<Object>> rangeWithScores(String key, long start, long end) {
+        return redisTemplate.opsForZSet().rangeWithScores(key, Range.closed(start, end))
+                .onErrorMap(e -> failure(e, "ZSet 获取范围成员及分数失败，key: {}, start: {}, end: {}", key, start, end));
+    }
+
+    /**
+     * 按下标范围获取成员（分数从大到小）
+     *
+     * @param key   键
+     * @param start 开始下标
+     * @param end   结束下标（-1 表示最后一个）
+     * @return 成员
+     */
+    public Flux<Object> reverseRange(String key, long start, long end) {
+        return redisTemplate.opsForZSet().reverseRange(key, Range.closed(start, end))
+                .onErrorMap(e -> failure(e, "ZSet 获取倒序范围成员失败，key: {}, start: {}, end: {}", key, start, end));
+    }
+
+    /**
+     * 按分数范围获取成员（分数从小到大）
+     *
+     * @param key 键
+     * @param min 最小分数
+     * @param max 最大分数
+     * @return 成员
+     */
+    public Flux<Object> rangeByScore(String key, double min, double max) {
+        return redisTemplate.opsForZSet().rangeByScore(key, Range.closed(min, max))
+                .onErrorMap(e -> failure(e, "ZSet 按分数获取成员失败，key: {}, min: {}, max: {}", key, min, max));
+    }
+
+    /**
+     * 统计分数范围内的成员数量
+     *
+     * @param key 键
+     * @param min 最小分数
+     * @param max 最大分数
+     * @return 成员数量
+     */
+    public Mono<Long> count(String key, double min, double max) {
+        return redisTemplate.opsForZSet().count(key, Range.closed(min, max))
+                .onErrorMap(e -> failure(e, "ZSet 统计分数范围成员失败，key: {}, min: {}, max: {}", key, min, max));
+    }
+
+    /**
+     * 按分数范围删除成员
+     *
+     * @param key 键
+     * @param min 最小分数
+     * @param max 最大分数
+     * @return 删除的成员数量
+     */
+    public Mono<Long> removeRangeByScore(String key, double min, double max) {
+        return redisTemplate.opsForZSet().removeRangeByScore(key, Range.closed(min, max))
+                .onErrorMap(e -> failure(e, "ZSet 按分数删除成员失败，key: {}, min: {}, max: {}", key, min, max));
+    }
+
+    /**
+     * 获取成员数量
+     *
+     * @param key 键
+     * @return 成员数量
+     */
+    public Mono<Long> size(String key) {
+        return redisTemplate.opsForZSet().size(key)
+                .onErrorMap(e -> failure(e, "获取 ZSet 成员数量失败，key: {}", key));
+    }
+}
@@ -0,0 +1,38 @@
+package cn.refinex.redis.script;
+
+/**
+ * 比较并删除的执行结果
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public enum CompareAndDeleteResult {
+
+    /**
+     * 值相等，已删除
+     */
+    DELETED,
+
+    /**
+     * 值不相等，未删除
+     */
+    MISMATCH,
+
+    /**
+     * 键不存在
+     */
+    ABSENT;
+
+    /**
+     * 由脚本返回值转换
+     *
+     * @param reply 脚本返回值：1 已删除，0 值不相等，-1 键不存在
+     * @return 执行结果
+     */
+    static CompareAndDeleteResult of(Long reply) {
+        if (reply == null || reply < 0) {
+            return ABSENT;
+        }
+        return reply == 1L ? DELETED : MISMATCH;
+    }
+}
@@ -0,0 +1,33 @@
+package cn.refinex.redis.script;
+
+import java.util.List;
+
+/**
+ * 限流脚本执行结果
+ *
+ * @param allowed          是否允许通过
+ * @param remaining        剩余次数（令牌桶为剩余令牌数）
+ * @param retryAfterMillis 被拒绝时建议的重试等待时间（毫秒），允许时为 0
+ * @author Refinex
+ * @since 1.0.0
+ */
+public record RateLimitResult(boolean allowed, long remaining, long retryAfterMillis) {
+
+    /**
+     * 由脚本返回的 {@code {allowed, remaining, retryAfter}} 构建
+     *
+     * @param reply 脚本返回值
+     * @return 限流结果
+     */
+    static RateLimitResult of(List<?> reply) {
+        return new RateLimitResult(
+                toLong(reply.get(0)) == 1L,
+                toLong(reply.get(1)),
+                toLong(reply.get(2))
+        );
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+}
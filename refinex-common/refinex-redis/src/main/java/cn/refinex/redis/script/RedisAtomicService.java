@@ -0,0 +1,260 @@
+package cn.refinex.redis.script;
+
+import cn.hutool.core.util.IdUtil;
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 原子操作服务
+ * <p>
+ * 基于 Lua 脚本提供限流、计数、锁等需要"读-判断-写"的原子操作，单次网络往返完成，不存在并发竞态。
+ * 脚本通过 {@link RedisScriptRegistry} 预加载并以 EVALSHA 执行。
+ * <p>
+ * 集群模式下，同一次调用涉及的多个键必须位于同一槽位（使用 {@code {hashTag}}）。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@SuppressWarnings("rawtypes")
+public class RedisAtomicService {
+
+    private final RedisScriptRegistry scriptRegistry;
+
+    private final RedisScript<List> fixedWindowScript;
+    private final RedisScript<List> slidingWindowScript;
+    private final RedisScript<List> tokenBucketScript;
+    private final RedisScript<Long> incrementWithLockScript;
+    private final RedisScript<Long> compareAndDeleteScript;
+    private final RedisScript<Long> compareAndExpireScript;
+    private final RedisScript<Long> generationScript;
+    private final RedisScript<Long> setIfGenerationScript;
+
+    /**
+     * 构造函数，登记内置脚本
+     *
+     * @param scriptRegistry 脚本注册表
+     */
+    public RedisAtomicService(RedisScriptRegistry scriptRegistry) {
+        this.scriptRegistry = scriptRegistry;
+        this.fixedWindowScript = scriptRegistry.register("fixed_window", List.class);
+        this.slidingWindowScript = scriptRegistry.register("sliding_window", List.class);
+        this.tokenBucketScript = scriptRegistry.register("token_bucket", List.class);
+        this.incrementWithLockScript = scriptRegistry.register("increment_with_lock", Long.class);
+        this.compareAndDeleteScript = scriptRegistry.register("compare_and_delete", Long.class);
+        this.compareAndExpireScript = scriptRegistry.register("compare_and_expire", Long.class);
+        this.generationScript = scriptRegistry.register("generation", Long.class);
+        this.setIfGenerationScript = scriptRegistry.register("set_if_generation", Long.class);
+    }
+
+    // ========== 限流 ==========
+
+    /**
+     * 固定窗口限流：窗口内最多允许 limit 次
+     *
+     * @param key    计数键
+     * @param limit  窗口内允许次数
+     * @param window 窗口长度
+     * @return 限流结果
+     */
+    public RateLimitResult fixedWindow(String key, long limit, Duration window) {
+        try {
+            List reply = scriptRegistry.execute(fixedWindowScript, List.of(key), limit, window.toMillis());
+            return RateLimitResult.of(reply);
+        } catch (Exception e) {
+            log.error("固定窗口限流执行失败，key: {}, limit: {}, window: {}", key, limit, window, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 滑动窗口限流：任意 window 时长内最多允许 limit 次
+     * <p>
+     * 每次通过的请求在有序集合中占用一个成员，适合限制次数较小的场景（如短信、登录）。
+     *
+     * @param key    窗口键
+     * @param limit  窗口内允许次数
+     * @param window 窗口长度
+     * @return 限流结果
+     */
+    public RateLimitResult slidingWindow(String key, long limit, Duration window) {
+        try {
+            List reply = scriptRegistry.execute(slidingWindowScript, List.of(key), limit, window.toMillis(), IdUtil.fastSimpleUUID());
+            return RateLimitResult.of(reply);
+        } catch (Exception e) {
+            log.error("滑动窗口限流执行失败，key: {}, limit: {}, window: {}", key, limit, window, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 令牌桶限流：桶容量为 capacity，每秒补充 refillPerSecond 个令牌
+     *
+     * @param key             令牌桶键
+     * @param capacity        桶容量（允许的突发量）
+     * @param refillPerSecond 每秒补充令牌数
+     * @param permits         本次申请令牌数
+     * @return 限流结果
+     */
+    public RateLimitResult tokenBucket(String key, long capacity, double refillPerSecond, long permits) {
+        if (capacity <= 0 || refillPerSecond <= 0 || permits <= 0) {
+            throw new IllegalArgumentException("令牌桶容量、补充速率与申请数量必须大于 0");
+        }
+        try {
+            List reply = scriptRegistry.execute(tokenBucketScript, List.of(key), capacity, refillPerSecond, permits);
+            return RateLimitResult.of(reply);
+        } catch (Exception e) {
+            log.error("令牌桶限流执行失败，key: {}, capacity: {}, refillPerSecond: {}", key, capacity, refillPerSecond, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // ========== 计数 ==========
+
+    /**
+     * 计数并刷新有效期，达到阈值时写入锁定标识
+     *
+     * @param counterKey   计数键
+     * @param lockKey      锁定键
+     * @param counterTtl   计数有效期（每次计数刷新）
+     * @param threshold    锁定阈值，小于等于 0 时不锁定
+     * @param lockDuration 锁定时长
+     * @return 计数后的值
+     */
+    public long incrementWithLock(String counterKey, String lockKey, Duration counterTtl, long threshold, Duration lockDuration) {
+        try {
+            Long count = scriptRegistry.execute(incrementWithLockScript, List.of(counterKey, lockKey),
+                    counterTtl.toMillis(), threshold, lockDuration.toMillis(), 1);
+            return count != null ? count : 0L;
+        } catch (Exception e) {
+            log.error("计数并锁定执行失败，counterKey: {}, lockKey: {}, threshold: {}", counterKey, lockKey, threshold, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // ========== 比较并操作 ==========
+
+    /**
+     * 值相等时删除
+     * <p>
+     * 期望值按 value 序列化器序列化后与存储值比较，与 {@code RedisStringService#set} 写入的值一致。
+     *
+     * @param key      键
+     * @param expected 期望值
+     * @return 执行结果
+     */
+    public CompareAndDeleteResult compareAndDelete(String key, Object expected) {
+        try {
+            return CompareAndDeleteResult.of(scriptRegistry.execute(compareAndDeleteScript, List.of(key), expected));
+        } catch (Exception e) {
+            log.error("比较并删除执行失败，key: {}", key, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // ========== 锁 ==========
+
+    /**
+     * 释放锁：仅当锁仍归属 owner 时删除
+     *
+     * @param key   锁键
+     * @param owner 持有者标识
+     * @return true 释放成功
+     */
+    public boolean unlock(String key, Object owner) {
+        return compareAndDelete(key, owner) == CompareAndDeleteResult.DELETED;
+    }
+
+    /**
+     * 锁续期：仅当锁仍归属 owner 时刷新过期时间
+     *
+     * @param key   锁键
+     * @param owner 持有者标识
+     * @param ttl   过期时间
+     * @return true 续期成功
+     */
+    public boolean renewLock(String key, Object owner, Duration ttl) {
+        try {
+            Long result = scriptRegistry.execute(compareAndExpireScript, List.of(key), owner, ttl.toMillis());
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.error("锁续期执行失败，key: {}, ttl: {}", key, ttl, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    // ========== 版本号 ==========
+
+    /**
+     * 读取版本号
+     *
+     * @param generationKey 版本号键
+     * @return 当前版本号，键不存在时为 0
+     */
+    public long currentGeneration(String generationKey) {
+        return executeGeneration(generationKey, 0L, Duration.ZERO);
+    }
+
+    /**
+     * 推进版本号并刷新其有效期
+     * <p>
+     * 有效期应长于一次读取-加载-回填的最长耗时，否则版本号过期归零后可能与加载前读取的值重合。
+     *
+     * @param generationKey 版本号键
+     * @param ttl           版本号键有效期
+     * @return 推进后的版本号
+     */
+    public long advanceGeneration(String generationKey, Duration ttl) {
+        return executeGeneration(generationKey, 1L, ttl);
+    }
+
+    /**
+     * 版本号仍为期望值时写入多个键，期间版本号被推进（缓存已失效）则放弃写入
+     * <p>
+     * 值按 value 序列化器序列化，与 {@code RedisStringService#set} 写入的值一致。
+     *
+     * @param generationKey 版本号键
+     * @param expected      期望版本号（加载前通过 {@link #currentGeneration(String)} 读取）
+     * @param values        键 -> 值
+     * @param ttl           值有效期
+     * @return true 已写入，false 版本号已变化
+     */
+    public boolean setIfGeneration(String generationKey, long expected, Map<String, Object> values, Duration ttl) {
+        List<String> keys = new ArrayList<>(values.size() + 1);
+        Object[] args = new Object[values.size() + 2];
+        keys.add(generationKey);
+        args[0] = expected;
+        args[1] = ttl.toMillis();
+        int index = 2;
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            keys.add(entry.getKey());
+            args[index++] = entry.getValue();
+        }
+        try {
+            Long result = scriptRegistry.execute(setIfGenerationScript, keys, args);
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.error("按版本号写入执行失败，generationKey: {}, expected: {}", generationKey, expected, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private long executeGeneration(String generationKey, long delta, Duration ttl) {
+        try {
+            Long generation = scriptRegistry.execute(generationScript, List.of(generationKey), delta, ttl.toMillis());
+            return generation != null ? generation : 0L;
+        } catch (Exception e) {
+            log.error("版本号操作执行失败，generationKey: {}, delta: {}", generationKey, delta, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package cn.refinex.redis.script;
+
+import cn.refinex.redis.serializer.ScriptArgumentSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Lua 脚本注册表
+ * <p>
+ * 集中登记项目使用的 Lua 脚本，容器启动完成后通过 {@code SCRIPT LOAD} 预加载，运行时以 {@code EVALSHA} 执行，
+ * 仅传输 40 字节的 SHA1 而不是脚本全文。Redis 重启或故障切换导致脚本缓存丢失时，
+ * {@link RedisTemplate#execute(RedisScript, List, Object...)} 收到 {@code NOSCRIPT} 会自动回退为 {@code EVAL} 并重新缓存。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class RedisScriptRegistry implements SmartInitializingSingleton {
+
+    /**
+     * 内置脚本所在目录
+     */
+    private static final String SCRIPT_LOCATION = "refinex/redis/lua/";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 脚本参数序列化器
+     */
+    private final ScriptArgumentSerializer argumentSerializer;
+
+    /**
+     * 已登记的脚本，键为 SHA1
+     */
+    private final Map<String, RedisScript<?>> scripts = new ConcurrentHashMap<>();
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate RedisTemplate
+     */
+    public RedisScriptRegistry(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.argumentSerializer = new ScriptArgumentSerializer(redisTemplate.getValueSerializer());
+    }
+
+    /**
+     * 登记脚本
+     *
+     * @param script 脚本
+     * @param <T>    返回值类型
+     * @return 登记的脚本
+     */
+    public <T> RedisScript<T> register(RedisScript<T> script) {
+        scripts.putIfAbsent(script.getSha1(), script);
+        return script;
+    }
+
+    /**
+     * 从类路径加载内置脚本并登记
+     *
+     * @param name       脚本文件名（不含扩展名）
+     * @param resultType 返回值类型
+     * @param <T>        返回值类型
+     * @return 登记的脚本
+     */
+    public <T> RedisScript<T> register(String name, Class<T> resultType) {
+        return register(RedisScript.of(new ClassPathResource(SCRIPT_LOCATION + name + ".lua"), resultType));
+    }
+
+    /**
+     * 执行脚本（EVALSHA，NOSCRIPT 时回退 EVAL）
+     *
+     * @param script 脚本
+     * @param keys   键
+     * @param args   参数（数值按文本传入，其余按 value 序列化器序列化）
+     * @param <T>    返回值类型
+     * @return 脚本返回值
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, argumentSerializer, (RedisSerializer<T>) redisTemplate.getValueSerializer(), keys, args);
+    }
+
+    /**
+     * 获取已登记的脚本数量
+     *
+     * @return 脚本数量
+     */
+    public int size() {
+        return scripts.size();
+    }
+
+    /**
+     * 容器启动完成后预加载全部脚本，失败时仅记录日志，首次执行时由 EVAL 回退加载
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (scripts.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                scripts.values().forEach(script -> load(connection, script));
+                return null;
+            });
+            log.info("Redis Lua 脚本预加载完成: count={}", scripts.size());
+        } catch (Exception e) {
+            log.warn("Redis Lua 脚本预加载失败，将在首次执行时加载", e);
+        }
+    }
+
+    /**
+     * 加载单个脚本
+     *
+     * @param connection Redis 连接
+     * @param script     脚本
+     */
+    private void load(RedisConnection connection, RedisScript<?> script) {
+        String sha1 = connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+        if (!script.getSha1().equals(sha1)) {
+            log.warn("Redis Lua 脚本 SHA1 不一致: expected={}, actual={}", script.getSha1(), sha1);
+        }
+    }
+}
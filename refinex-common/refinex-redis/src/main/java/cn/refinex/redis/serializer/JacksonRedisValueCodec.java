@@ -0,0 +1,83 @@
+package cn.refinex.redis.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 基于 Jackson 的值编解码器
+ * <p>
+ * JSON 与 Smile（Jackson 的二进制 JSON 格式）共用同一套类型信息与时间类型配置，只是底层格式不同：
+ * <ul>
+ *     <li>{@link #json()}：与原有 {@code RedisSerializer.json()} 写入的值完全兼容；</li>
+ *     <li>{@link #smile()}：字段名回引用、数值二进制编码，同样内容通常比 JSON 小 30%-50%，解析更快。</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class JacksonRedisValueCodec implements RedisValueCodec {
+
+    /**
+     * JSON 编解码器 ID
+     */
+    public static final byte JSON_ID = 1;
+
+    /**
+     * Smile 编解码器 ID
+     */
+    public static final byte SMILE_ID = 2;
+
+    private final String name;
+    private final byte id;
+    private final GenericJackson2JsonRedisSerializer serializer;
+
+    private JacksonRedisValueCodec(String name, byte id, ObjectMapper objectMapper) {
+        this.name = name;
+        this.id = id;
+        objectMapper.registerModule(new JavaTimeModule());
+        this.serializer = GenericJackson2JsonRedisSerializer.builder()
+                .objectMapper(objectMapper)
+                .defaultTyping(true)
+                .build();
+    }
+
+    /**
+     * 创建 JSON 编解码器
+     *
+     * @return JSON 编解码器
+     */
+    public static JacksonRedisValueCodec json() {
+        return new JacksonRedisValueCodec("json", JSON_ID, new ObjectMapper());
+    }
+
+    /**
+     * 创建 Smile 编解码器
+     *
+     * @return Smile 编解码器
+     */
+    public static JacksonRedisValueCodec smile() {
+        return new JacksonRedisValueCodec("smile", SMILE_ID, new ObjectMapper(new SmileFactory()));
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte id() {
+        return id;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return serializer.serialize(value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return serializer.deserialize(bytes);
+    }
+}
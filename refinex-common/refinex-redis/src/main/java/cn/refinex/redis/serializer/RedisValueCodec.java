@@ -0,0 +1,44 @@
+package cn.refinex.redis.serializer;
+
+/**
+ * Redis 值编解码器 SPI
+ * <p>
+ * 由 {@link VersionedRedisSerializer} 调用，负责对象与字节之间的转换。每个编解码器使用唯一的 {@link #id()}
+ * 写入值头部，读取时按头部选择编解码器，因此多个编解码器写入的值可以同时存在。
+ * 注册为 Spring Bean 后可通过 {@code refinex.redis.serializer.codec} 选用，ID 1-15 为内置编解码器保留。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public interface RedisValueCodec {
+
+    /**
+     * 编解码器名称（配置中使用）
+     *
+     * @return 名称
+     */
+    String name();
+
+    /**
+     * 编解码器 ID（写入值头部）
+     *
+     * @return ID
+     */
+    byte id();
+
+    /**
+     * 编码
+     *
+     * @param value 值，不为 null
+     * @return 字节数组
+     */
+    byte[] encode(Object value);
+
+    /**
+     * 解码
+     *
+     * @param bytes 字节数组，不为空
+     * @return 值
+     */
+    Object decode(byte[] bytes);
+}
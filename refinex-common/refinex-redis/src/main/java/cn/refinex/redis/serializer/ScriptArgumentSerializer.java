@@ -0,0 +1,45 @@
+package cn.refinex.redis.serializer;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lua 脚本参数序列化器
+ * <p>
+ * 数值与布尔参数按十进制文本传入，脚本中可以直接 {@code tonumber}；其余参数使用值序列化器，
+ * 与 {@code SET} 等命令写入的值字节一致，便于脚本比较存储值。值序列化器切换为二进制格式时，
+ * 超时、阈值等数值参数不受影响。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class ScriptArgumentSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> valueSerializer;
+
+    /**
+     * 构造函数
+     *
+     * @param valueSerializer 值序列化器
+     */
+    @SuppressWarnings("unchecked")
+    public ScriptArgumentSerializer(RedisSerializer<?> valueSerializer) {
+        this.valueSerializer = (RedisSerializer<Object>) valueSerializer;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value instanceof Number || value instanceof Boolean) {
+            return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        }
+        return valueSerializer.serialize(value);
+    }
+
+    @Override
+    public @Nullable Object deserialize(byte @Nullable [] bytes) throws SerializationException {
+        return valueSerializer.deserialize(bytes);
+    }
+}
@@ -0,0 +1,217 @@
+package cn.refinex.redis.serializer;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 带版本头的 Redis 值序列化器
+ * <p>
+ * 值格式：
+ * <pre>
+ * +------+---------+----------+-------+-----------------+
+ * | 0xFE | version | codec id | flags | payload ...     |
+ * +------+---------+----------+-------+-----------------+
+ * </pre>
+ * flags 第 0 位表示 payload 经过 Deflate 压缩。{@code 0xFE} 不会出现在 UTF-8 文本开头，
+ * 没有头部的值按原有 JSON 格式读取。
+ * <p>
+ * 写入编解码器为 JSON 且未压缩时不写头部，输出与原有 JSON 序列化器逐字节一致。
+ * 灰度切换时先让所有节点升级到能读取各种格式的版本，再将写入编解码器切换为二进制格式。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    /**
+     * 头部魔数
+     */
+    private static final byte MAGIC = (byte) 0xFE;
+
+    /**
+     * 头部格式版本
+     */
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * 头部长度
+     */
+    private static final int HEADER_LENGTH = 4;
+
+    /**
+     * 压缩标记
+     */
+    private static final byte FLAG_COMPRESSED = 0x01;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * 写入使用的编解码器
+     */
+    private final RedisValueCodec writeCodec;
+
+    /**
+     * 读取可用的编解码器，下标为编解码器 ID
+     */
+    private final RedisValueCodec[] readCodecs = new RedisValueCodec[256];
+
+    /**
+     * 无头部值使用的编解码器
+     */
+    private final RedisValueCodec legacyCodec;
+
+    /**
+     * 压缩阈值（字节），payload 不小于该值时压缩，小于等于 0 表示不压缩
+     */
+    private final int compressionThreshold;
+
+    /**
+     * 构造函数
+     *
+     * @param writeCodec           写入使用的编解码器
+     * @param readCodecs           读取可用的编解码器（包含写入编解码器）
+     * @param compressionThreshold 压缩阈值（字节），小于等于 0 表示不压缩
+     */
+    public VersionedRedisSerializer(RedisValueCodec writeCodec, Collection<? extends RedisValueCodec> readCodecs, int compressionThreshold) {
+        this.writeCodec = writeCodec;
+        this.compressionThreshold = compressionThreshold;
+        for (RedisValueCodec codec : readCodecs) {
+            this.readCodecs[codec.id() & 0xFF] = codec;
+        }
+        this.readCodecs[writeCodec.id() & 0xFF] = writeCodec;
+
+        RedisValueCodec json = this.readCodecs[JacksonRedisValueCodec.JSON_ID];
+        this.legacyCodec = json != null ? json : JacksonRedisValueCodec.json();
+    }
+
+    /**
+     * 创建写入 JSON、可读取全部内置格式的序列化器（与原有 JSON 序列化器写入格式一致）
+     *
+     * @return 序列化器
+     */
+    public static VersionedRedisSerializer json() {
+        JacksonRedisValueCodec json = JacksonRedisValueCodec.json();
+        return new VersionedRedisSerializer(json, List.of(json, JacksonRedisValueCodec.smile()), 0);
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+
+        byte[] payload = writeCodec.encode(value);
+        byte flags = 0;
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            byte[] compressed = deflate(payload);
+            if (compressed.length < payload.length) {
+                payload = compressed;
+                flags |= FLAG_COMPRESSED;
+            }
+        }
+
+        if (flags == 0 && writeCodec.id() == JacksonRedisValueCodec.JSON_ID) {
+            return payload;
+        }
+
+        byte[] bytes = new byte[HEADER_LENGTH + payload.length];
+        bytes[0] = MAGIC;
+        bytes[1] = FORMAT_VERSION;
+        bytes[2] = writeCodec.id();
+        bytes[3] = flags;
+        System.arraycopy(payload, 0, bytes, HEADER_LENGTH, payload.length);
+        return bytes;
+    }
+
+    @Override
+    public @Nullable Object deserialize(byte @Nullable [] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return legacyCodec.decode(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[1] != FORMAT_VERSION) {
+            throw new SerializationException("Unsupported redis value header version: " + (bytes.length > 1 ? bytes[1] : -1));
+        }
+
+        RedisValueCodec codec = readCodecs[bytes[2] & 0xFF];
+        if (codec == null) {
+            throw new SerializationException("Unknown redis value codec id: " + bytes[2]);
+        }
+
+        byte[] payload = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+        if ((bytes[3] & FLAG_COMPRESSED) != 0) {
+            payload = inflate(payload);
+        }
+        return codec.decode(payload);
+    }
+
+    /**
+     * 获取写入使用的编解码器
+     *
+     * @return 编解码器
+     */
+    public RedisValueCodec getWriteCodec() {
+        return writeCodec;
+    }
+
+    /**
+     * Deflate 压缩（优先速度）
+     *
+     * @param data 原始数据
+     * @return 压缩数据
+     */
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 16);
+            byte[] buffer = new byte[Math.min(data.length, 8192)];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Deflate 解压
+     *
+     * @param data 压缩数据
+     * @return 原始数据
+     */
+    private static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("Truncated compressed redis value");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("Corrupted compressed redis value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
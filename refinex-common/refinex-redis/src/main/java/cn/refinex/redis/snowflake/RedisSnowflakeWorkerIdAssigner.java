@@ -0,0 +1,321 @@
+package cn.refinex.redis.snowflake;
+
+import cn.hutool.core.util.IdUtil;
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+import cn.refinex.core.util.SnowflakeWorkerIdAssigner;
+import cn.refinex.core.util.StringUtils;
+import cn.refinex.redis.serializer.ScriptArgumentSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * 基于 Redis 租约的雪花算法节点ID分配器
+ * <p>
+ * 启动时在 0-1023 中以 {@code SET NX PX} 抢占一个节点ID，租约按有效期的 1/3 周期续约，
+ * 容器关闭时仅在租约仍归属当前实例时删除。扩容后的多个实例因此不会使用相同的节点ID；
+ * 实例异常退出时租约到期自动回收。
+ * <p>
+ * 启动时分配失败（Redis 不可用或节点ID已全部被占用）时不回退到静态配置，而是在续约周期中继续抢占，成功后通知监听器。
+ * 续约失败时按失效处理（fail closed）：租约已被其他实例占用，或连续续约异常且下一次续约前租约可能到期时，
+ * 通知监听器暂停发号，并在后续续约周期中抢占其他空闲节点ID，成功后以新的节点ID恢复发号。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisSnowflakeWorkerIdAssigner implements SnowflakeWorkerIdAssigner, DisposableBean {
+
+    /**
+     * 节点ID租约键
+     */
+    private static final String LEASE_KEY = "snowflake:worker-lease:{}";
+
+    /**
+     * 续约脚本：租约仍归属当前实例时刷新过期时间
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    /**
+     * 释放脚本：租约仍归属当前实例时删除
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 租约有效期
+     */
+    private final Duration ttl;
+
+    /**
+     * 当前实例标识
+     */
+    private final String owner = IdUtil.fastSimpleUUID();
+
+    /**
+     * 续约调度器
+     */
+    private ScheduledExecutorService renewExecutor;
+
+    /**
+     * 节点ID变更监听器
+     */
+    private final List<IntConsumer> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 已分配的租约键
+     */
+    private volatile String leaseKey;
+
+    /**
+     * 租约是否有效（失效后需重新抢占节点ID）
+     */
+    private volatile boolean valid;
+
+    /**
+     * 最近一次续约成功时的续约开始时间（纳秒），租约到期时间不早于该时间 + 有效期
+     */
+    private volatile long lastRenewedNanos;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate RedisTemplate
+     * @param ttl           租约有效期
+     */
+    public RedisSnowflakeWorkerIdAssigner(RedisTemplate<String, Object> redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 抢占节点ID并启动续约
+     *
+     * @return 节点ID
+     */
+    @Override
+    public synchronized int assignNodeId() {
+        if (renewExecutor != null) {
+            throw new IllegalStateException("节点ID已分配: " + leaseKey);
+        }
+
+        int nodeId;
+        try {
+            nodeId = acquire(null);
+        } catch (RuntimeException e) {
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "雪花算法节点ID分配失败, 后台继续重试", e);
+        } finally {
+            // 分配失败时同样启动续约任务, 在后台继续抢占节点ID, 成功后通知监听器
+            startRenewal();
+        }
+        if (nodeId == INVALID_NODE_ID) {
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "雪花算法节点ID已全部被占用, 后台继续重试");
+        }
+        log.info("雪花算法节点ID租约获取成功: nodeId={}, ttl={}", nodeId, ttl);
+        return nodeId;
+    }
+
+    /**
+     * 注册节点ID变更监听
+     *
+     * @param listener 监听器
+     */
+    @Override
+    public void addNodeIdListener(IntConsumer listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 停止续约并释放租约
+     */
+    @Override
+    public void destroy() {
+        if (renewExecutor != null) {
+            renewExecutor.shutdownNow();
+        }
+
+        String key = this.leaseKey;
+        if (key == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+            log.info("雪花算法节点ID租约已释放: key={}", key);
+        } catch (Exception e) {
+            log.warn("雪花算法节点ID租约释放失败, 将在到期后自动回收: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 启动续约任务
+     */
+    private void startRenewal() {
+        long periodMs = renewPeriod().toMillis();
+        this.renewExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("snowflake-lease-renewer")
+                .daemon(true)
+                .factory());
+        renewExecutor.scheduleWithFixedDelay(this::renew, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 续约；租约失效后改为抢占其他空闲节点ID
+     */
+    private void renew() {
+        String key = this.leaseKey;
+        long startNanos = System.nanoTime();
+        try {
+            if (!valid) {
+                reacquire(key);
+                return;
+            }
+
+            if (renewLease(key)) {
+                this.lastRenewedNanos = startNanos;
+                return;
+            }
+            // 租约已过期且可能被其他实例占用，尝试重新占用当前节点ID
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl))) {
+                this.lastRenewedNanos = startNanos;
+                log.warn("雪花算法节点ID租约已过期, 重新占用成功: key={}", key);
+                return;
+            }
+            log.error("雪花算法节点ID租约已被其他实例占用, 暂停发号并重新分配: key={}", key);
+            invalidate();
+            reacquire(key);
+        } catch (Exception e) {
+            // 下一次续约前租约可能到期，按失效处理
+            boolean expiring = startNanos - lastRenewedNanos + renewPeriod().toNanos() >= ttl.toNanos();
+            if (valid && expiring) {
+                log.error("雪花算法节点ID租约续约持续失败, 租约即将到期, 暂停发号: key={}, error={}", key, e.getMessage());
+                invalidate();
+            } else {
+                log.warn("雪花算法节点ID租约续约失败: key={}, error={}", key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 执行续约脚本
+     *
+     * @param key 租约键
+     * @return 租约仍归属当前实例并已刷新时为 true
+     */
+    @SuppressWarnings("unchecked")
+    private boolean renewLease(String key) {
+        // 过期时间按文本传入，值序列化器为二进制格式时脚本仍可解析
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, new ScriptArgumentSerializer(redisTemplate.getValueSerializer()),
+                (RedisSerializer<Long>) redisTemplate.getValueSerializer(), List.of(key), owner, ttl.toMillis());
+        return renewed != null && renewed != 0L;
+    }
+
+    /**
+     * 失效后重新抢占节点ID（不使用失效前被其他实例占用的节点ID），成功后通知监听器恢复发号
+     *
+     * @param previousKey 失效前的租约键，启动时分配失败为 null
+     */
+    private void reacquire(String previousKey) {
+        // 续约异常导致的失效：原租约仍归属当前实例时直接恢复；启动时分配失败则没有原租约
+        if (previousKey != null && renewLease(previousKey)) {
+            this.valid = true;
+            this.lastRenewedNanos = System.nanoTime();
+            notifyListeners(nodeIdOf(previousKey));
+            log.warn("雪花算法节点ID租约已恢复: key={}", previousKey);
+            return;
+        }
+
+        int nodeId = acquire(previousKey);
+        if (nodeId == INVALID_NODE_ID) {
+            log.error("雪花算法节点ID已全部被占用, 继续暂停发号");
+            return;
+        }
+        notifyListeners(nodeId);
+        log.warn("雪花算法节点ID已重新分配: previous={}, nodeId={}", previousKey, nodeId);
+    }
+
+    /**
+     * 抢占空闲节点ID
+     *
+     * @param excludeKey 排除的租约键，可为 null
+     * @return 节点ID，无空闲节点ID时为 {@link #INVALID_NODE_ID}
+     */
+    private int acquire(String excludeKey) {
+        // 随机起点，降低多个实例同时启动时的冲突次数
+        int offset = ThreadLocalRandom.current().nextInt(MAX_NODE_COUNT);
+        for (int i = 0; i < MAX_NODE_COUNT; i++) {
+            int nodeId = (offset + i) % MAX_NODE_COUNT;
+            String key = StringUtils.format(LEASE_KEY, nodeId);
+            if (key.equals(excludeKey)) {
+                continue;
+            }
+            long startNanos = System.nanoTime();
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl))) {
+                this.leaseKey = key;
+                this.lastRenewedNanos = startNanos;
+                this.valid = true;
+                return nodeId;
+            }
+        }
+        return INVALID_NODE_ID;
+    }
+
+    /**
+     * 标记租约失效并通知监听器暂停发号
+     */
+    private void invalidate() {
+        this.valid = false;
+        notifyListeners(INVALID_NODE_ID);
+    }
+
+    /**
+     * 通知节点ID变更
+     *
+     * @param nodeId 节点ID，租约失效时为 {@link #INVALID_NODE_ID}
+     */
+    private void notifyListeners(int nodeId) {
+        for (IntConsumer listener : listeners) {
+            try {
+                listener.accept(nodeId);
+            } catch (Exception e) {
+                log.error("雪花算法节点ID变更通知失败: nodeId={}", nodeId, e);
+            }
+        }
+    }
+
+    /**
+     * 续约周期
+     *
+     * @return 续约周期
+     */
+    private Duration renewPeriod() {
+        return Duration.ofMillis(Math.max(ttl.toMillis() / 3, 1000L));
+    }
+
+    /**
+     * 从租约键解析节点ID
+     *
+     * @param key 租约键
+     * @return 节点ID
+     */
+    private static int nodeIdOf(String key) {
+        return Integer.parseInt(key.substring(key.lastIndexOf(':') + 1));
+    }
+}
@@ -0,0 +1,499 @@
+package cn.refinex.redis.stream;
+
+import cn.refinex.redis.autoconfigure.properties.RefinexRedisProperties;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis Streams 消费组消费者
+ * <p>
+ * 后台线程以 XREADGROUP 批量读取消息交给 {@link RedisStreamHandler} 处理：
+ * <ul>
+ *     <li>读取与认领时字段值保持原始字节，消息体在逐条处理时再按 RedisTemplate 的 hash value 序列化器解码，
+ *     单条消息无法解码不会让整批读取失败，也不会让该消息一直卡在 PEL 中；</li>
+ *     <li>整批处理成功后 XACK；失败时逐条重试，仍失败的消息留在 PEL 中等待重新投递；</li>
+ *     <li>按固定间隔检查 PEL，空闲超过 claimMinIdle 的消息以 XCLAIM 认领后重新处理（覆盖其他节点宕机的情况）；</li>
+ *     <li>投递次数达到 maxDeliveries 或消息体无法解析时原样（字节）写入死信 Stream（{@code <stream><suffix>}）并确认；</li>
+ *     <li>消费组在消费线程中创建，Redis 不可用时按间隔重试，不阻塞应用启动；消费组被删除（NOGROUP）时重新创建；</li>
+ *     <li>Stream 长度、未确认数量及处理/失败/死信计数通过 getter 暴露，供监控指标绑定。</li>
+ * </ul>
+ * 消息至少投递一次，处理器需保证幂等。
+ *
+ * @param <T> 消息体类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisStreamConsumer<T> implements SmartLifecycle {
+
+    /**
+     * Redis 读取异常后的重试间隔（毫秒）
+     */
+    private static final long ERROR_BACKOFF_MS = 1000L;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 字段值不经反序列化的 Stream 操作（字段名按字符串，字段值为原始字节）
+     */
+    private final StreamOperations<String, String, byte[]> streamOps;
+
+    /**
+     * 消息体序列化器，与 {@link RedisStreamPublisher} 写入时一致
+     */
+    private final RedisSerializer<?> payloadSerializer;
+
+    private final RedisStreamPublisher publisher;
+    private final RedisStreamHandler<T> handler;
+    private final Class<T> payloadType;
+
+    /**
+     * Stream 键
+     */
+    @Getter
+    private final String stream;
+
+    /**
+     * 消费组
+     */
+    @Getter
+    private final String group;
+
+    /**
+     * 消费者名称（主机名@进程号）
+     */
+    @Getter
+    private final String consumerName;
+
+    /**
+     * 死信 Stream 键
+     */
+    @Getter
+    private final String deadLetterStream;
+
+    private final int batchSize;
+    private final Duration blockTimeout;
+    private final long claimIntervalNanos;
+    private final Duration claimMinIdle;
+    private final int maxDeliveries;
+
+    /**
+     * 处理成功数量
+     */
+    private final LongAdder processedCount = new LongAdder();
+
+    /**
+     * 处理失败数量（每次失败的投递计一次）
+     */
+    private final LongAdder failedCount = new LongAdder();
+
+    /**
+     * 转入死信数量
+     */
+    private final LongAdder deadLetterCount = new LongAdder();
+
+    /**
+     * 重新认领数量
+     */
+    private final LongAdder claimedCount = new LongAdder();
+
+    /**
+     * 最近一次检查时的 Stream 长度
+     */
+    @Getter
+    private volatile long streamLength;
+
+    /**
+     * 最近一次检查时的未确认消息数量
+     */
+    @Getter
+    private volatile long pendingCount;
+
+    private volatile boolean running;
+
+    /**
+     * 消费组是否已创建（仅消费线程访问）
+     */
+    private boolean groupReady;
+
+    private Thread worker;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate RedisTemplate
+     * @param publisher     消息发布器（写入死信）
+     * @param stream        Stream 键
+     * @param group         消费组
+     * @param payloadType   消息体类型
+     * @param handler       消息批处理器
+     * @param properties    Stream 配置
+     */
+    public RedisStreamConsumer(RedisTemplate<String, Object> redisTemplate, RedisStreamPublisher publisher,
+                               String stream, String group, Class<T> payloadType, RedisStreamHandler<T> handler,
+                               RefinexRedisProperties.StreamProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.streamOps = rawTemplate(redisTemplate).opsForStream();
+        this.payloadSerializer = redisTemplate.getHashValueSerializer();
+        this.publisher = publisher;
+        this.stream = stream;
+        this.group = group;
+        this.payloadType = payloadType;
+        this.handler = handler;
+        this.consumerName = ManagementFactory.getRuntimeMXBean().getName();
+        this.deadLetterStream = stream + properties.getDeadLetterSuffix();
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.blockTimeout = properties.getBlockTimeout();
+        this.claimIntervalNanos = properties.getClaimInterval().toNanos();
+        this.claimMinIdle = properties.getClaimMinIdle();
+        this.maxDeliveries = Math.max(1, properties.getMaxDeliveries());
+    }
+
+    /**
+     * 启动消费线程，消费组由消费线程创建
+     */
+    @Override
+    public void start() {
+        this.running = true;
+        this.worker = Thread.ofPlatform()
+                .name("redis-stream-" + group)
+                .daemon(true)
+                .start(this::consumeLoop);
+        log.info("Redis Stream 消费者已启动: stream={}, group={}, consumer={}", stream, group, consumerName);
+    }
+
+    /**
+     * 停止消费，等待当前批次处理完成
+     */
+    @Override
+    public void stop() {
+        this.running = false;
+        Thread thread = this.worker;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(blockTimeout.toMillis() + TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 消费循环：读取新消息，到期时检查 PEL
+     */
+    private void consumeLoop() {
+        long nextClaim = System.nanoTime();
+        while (running) {
+            try {
+                if (!groupReady) {
+                    createGroupIfAbsent();
+                    groupReady = true;
+                }
+                if (System.nanoTime() - nextClaim >= 0) {
+                    try {
+                        reclaim();
+                        refreshBacklog();
+                    } finally {
+                        // 认领失败时同样推迟下次检查，避免同一批消息在每轮循环中反复认领
+                        nextClaim = System.nanoTime() + claimIntervalNanos;
+                    }
+                }
+
+                List<MapRecord<String, String, byte[]>> records = streamOps.read(
+                        Consumer.from(group, consumerName),
+                        StreamReadOptions.empty().count(batchSize).block(blockTimeout),
+                        StreamOffset.create(stream, ReadOffset.lastConsumed()));
+                if (records != null && !records.isEmpty()) {
+                    process(records);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                if (isError(e, "NOGROUP")) {
+                    groupReady = false;
+                }
+                log.warn("Redis Stream 消费异常: stream={}, group={}, error={}", stream, group, e.getMessage());
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 处理一批消息：整批成功即确认，失败时逐条重试
+     *
+     * @param records 消息
+     */
+    private void process(List<MapRecord<String, String, byte[]>> records) {
+        Map<RecordId, T> payloads = new LinkedHashMap<>(records.size());
+        for (MapRecord<String, String, byte[]> record : records) {
+            T payload;
+            try {
+                payload = decode(record);
+            } catch (Exception e) {
+                deadLetter(record, "无法解析的消息体: " + e.getMessage());
+                acknowledge(List.of(record.getId()));
+                continue;
+            }
+            payloads.put(record.getId(), payload);
+        }
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        try {
+            handler.handle(List.copyOf(payloads.values()));
+            acknowledge(payloads.keySet());
+            processedCount.add(payloads.size());
+            return;
+        } catch (Exception e) {
+            if (payloads.size() == 1) {
+                failedCount.increment();
+                log.warn("Redis Stream 消息处理失败，等待重新投递: stream={}, id={}, error={}",
+                        stream, payloads.keySet().iterator().next(), e.getMessage());
+                return;
+            }
+            log.warn("Redis Stream 批量处理失败，改为逐条处理: stream={}, size={}, error={}", stream, payloads.size(), e.getMessage());
+        }
+
+        List<RecordId> succeeded = new ArrayList<>(payloads.size());
+        payloads.forEach((id, payload) -> {
+            try {
+                handler.handle(List.of(payload));
+                succeeded.add(id);
+            } catch (Exception e) {
+                failedCount.increment();
+                log.warn("Redis Stream 消息处理失败，等待重新投递: stream={}, id={}, error={}", stream, id, e.getMessage());
+            }
+        });
+        acknowledge(succeeded);
+        processedCount.add(succeeded.size());
+    }
+
+    /**
+     * 认领空闲超时的未确认消息：超过最大投递次数的转入死信，其余重新处理
+     */
+    private void reclaim() {
+        PendingMessages pending = streamOps.pending(stream, group, Range.unbounded(), batchSize);
+        List<RecordId> retry = new ArrayList<>();
+        List<RecordId> exhausted = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getElapsedTimeSinceLastDelivery().compareTo(claimMinIdle) < 0) {
+                continue;
+            }
+            (message.getTotalDeliveryCount() >= maxDeliveries ? exhausted : retry).add(message.getId());
+        }
+
+        if (!exhausted.isEmpty()) {
+            for (MapRecord<String, String, byte[]> record : claim(exhausted)) {
+                deadLetter(record, "超过最大投递次数 " + maxDeliveries);
+            }
+            // 已被裁剪的消息 XCLAIM 不再返回，一并确认以清理 PEL
+            acknowledge(exhausted);
+        }
+
+        if (!retry.isEmpty()) {
+            List<MapRecord<String, String, byte[]>> records = claim(retry);
+            claimedCount.add(records.size());
+            Set<RecordId> trimmed = new HashSet<>(retry);
+            records.forEach(record -> trimmed.remove(record.getId()));
+            acknowledge(trimmed);
+            if (!records.isEmpty()) {
+                process(records);
+            }
+        }
+    }
+
+    /**
+     * 刷新积压指标
+     */
+    private void refreshBacklog() {
+        Long size = streamOps.size(stream);
+        PendingMessagesSummary summary = streamOps.pending(stream, group);
+        this.streamLength = size != null ? size : 0L;
+        this.pendingCount = summary != null ? summary.getTotalPendingMessages() : 0L;
+    }
+
+    /**
+     * 以当前消费者认领消息（XCLAIM）
+     *
+     * @param ids 消息 ID
+     * @return 认领到的消息
+     */
+    private List<MapRecord<String, String, byte[]>> claim(List<RecordId> ids) {
+        List<MapRecord<String, String, byte[]>> records = streamOps.claim(stream, group, consumerName, claimMinIdle,
+                ids.toArray(RecordId[]::new));
+        return records != null ? records : List.of();
+    }
+
+    /**
+     * 解码消息体
+     *
+     * @param record 消息
+     * @return 消息体
+     */
+    private T decode(MapRecord<String, String, byte[]> record) {
+        byte[] bytes = record.getValue().get(RedisStreamPublisher.PAYLOAD_FIELD);
+        Object payload = bytes != null ? payloadSerializer.deserialize(bytes) : null;
+        if (!payloadType.isInstance(payload)) {
+            throw new IllegalArgumentException("期望 " + payloadType.getName() + "，实际为 "
+                    + (payload != null ? payload.getClass().getName() : "null"));
+        }
+        return payloadType.cast(payload);
+    }
+
+    /**
+     * 写入死信 Stream，原字段按字节原样保留
+     *
+     * @param record 原消息
+     * @param reason 原因
+     */
+    private void deadLetter(MapRecord<String, String, byte[]> record, String reason) {
+        Map<String, byte[]> fields = new LinkedHashMap<>(record.getValue());
+        fields.put("sourceId", record.getId().getValue().getBytes(StandardCharsets.UTF_8));
+        fields.put("group", group.getBytes(StandardCharsets.UTF_8));
+        fields.put("reason", reason.getBytes(StandardCharsets.UTF_8));
+        publisher.addRaw(deadLetterStream, fields);
+        deadLetterCount.increment();
+        log.error("Redis Stream 消息转入死信: stream={}, id={}, reason={}", stream, record.getId(), reason);
+    }
+
+    /**
+     * 确认消息（XACK）
+     *
+     * @param ids 消息 ID
+     */
+    private void acknowledge(Iterable<RecordId> ids) {
+        List<RecordId> list = new ArrayList<>();
+        ids.forEach(list::add);
+        if (!list.isEmpty()) {
+            streamOps.acknowledge(stream, group, list.toArray(RecordId[]::new));
+        }
+    }
+
+    /**
+     * 创建消费组（Stream 不存在时一并创建），已存在时忽略
+     */
+    private void createGroupIfAbsent() {
+        byte[] rawKey = RedisSerializer.string().serialize(stream);
+        try {
+            redisTemplate.execute((RedisCallback<String>) (RedisConnection connection) ->
+                    connection.streamCommands().xGroupCreate(rawKey, group, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            if (!isError(e, "BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 判断异常（或其原因）是否为指定的 Redis 错误
+     *
+     * @param e     异常
+     * @param error Redis 错误前缀，如 {@code BUSYGROUP}
+     * @return 是否匹配
+     */
+    private static boolean isError(Exception e, String error) {
+        return String.valueOf(e.getMessage()).contains(error)
+                || e.getCause() != null && String.valueOf(e.getCause().getMessage()).contains(error);
+    }
+
+    /**
+     * 基于同一连接工厂创建字段值为原始字节的模板，解码推迟到逐条处理时进行
+     *
+     * @param redisTemplate RedisTemplate
+     * @return 原始字节模板
+     */
+    private static RedisTemplate<String, byte[]> rawTemplate(RedisTemplate<String, Object> redisTemplate) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * Redis 异常后等待一段时间再重试
+     */
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(ERROR_BACKOFF_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /**
+     * 获取处理成功数量
+     *
+     * @return 处理成功数量
+     */
+    public long getProcessedCount() {
+        return processedCount.sum();
+    }
+
+    /**
+     * 获取处理失败数量
+     *
+     * @return 处理失败数量
+     */
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * 获取转入死信数量
+     *
+     * @return 转入死信数量
+     */
+    public long getDeadLetterCount() {
+        return deadLetterCount.sum();
+    }
+
+    /**
+     * 获取重新认领数量
+     *
+     * @return 重新认领数量
+     */
+    public long getClaimedCount() {
+        return claimedCount.sum();
+    }
+}
@@ -0,0 +1,25 @@
+package cn.refinex.redis.stream;
+
+import java.util.List;
+
+/**
+ * Redis Streams 消息批处理器
+ * <p>
+ * 正常返回视为整批处理成功并确认（XACK）；抛出异常时消费者会逐条重试，仍失败的消息保留在 PEL 中，
+ * 空闲超时后重新投递，超过最大投递次数转入死信 Stream。处理逻辑需保证幂等。
+ *
+ * @param <T> 消息体类型
+ * @author Refinex
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface RedisStreamHandler<T> {
+
+    /**
+     * 处理一批消息
+     *
+     * @param payloads 消息体
+     * @throws Exception 处理失败
+     */
+    void handle(List<T> payloads) throws Exception;
+}
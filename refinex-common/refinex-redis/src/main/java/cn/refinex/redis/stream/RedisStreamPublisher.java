@@ -0,0 +1,110 @@
+package cn.refinex.redis.stream;
+
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis Streams 消息发布器
+ * <p>
+ * 消息体存放在 {@link #PAYLOAD_FIELD} 字段中，按 RedisTemplate 的 hash value 序列化器序列化，
+ * 由 {@link RedisStreamConsumer} 按相同方式读取。写入时按 MAXLEN ~ 近似裁剪，避免 Stream 无限增长。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisStreamPublisher {
+
+    /**
+     * 消息体字段
+     */
+    public static final String PAYLOAD_FIELD = "payload";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 单个 Stream 保留的最大消息数，小于等于 0 表示不裁剪
+     */
+    private final long maxLength;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate RedisTemplate
+     * @param maxLength     单个 Stream 保留的最大消息数，小于等于 0 表示不裁剪
+     */
+    public RedisStreamPublisher(RedisTemplate<String, Object> redisTemplate, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 追加消息（XADD）
+     *
+     * @param stream  Stream 键
+     * @param payload 消息体
+     * @return 消息 ID
+     */
+    public RecordId publish(String stream, Object payload) {
+        return add(stream, Map.of(PAYLOAD_FIELD, payload));
+    }
+
+    /**
+     * 追加包含多个字段的消息（XADD）
+     *
+     * @param stream Stream 键
+     * @param fields 字段
+     * @return 消息 ID
+     */
+    public RecordId add(String stream, Map<String, Object> fields) {
+        try {
+            MapRecord<String, String, Object> record = StreamRecords.newRecord().in(stream).ofMap(fields);
+            return redisTemplate.opsForStream().add(record, trimOptions());
+        } catch (Exception e) {
+            log.error("追加 Stream 消息失败，stream: {}", stream, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 追加字段值为原始字节的消息（XADD），不经序列化器，用于原样转存无法解码的消息
+     *
+     * @param stream Stream 键
+     * @param fields 字段
+     * @return 消息 ID
+     */
+    public RecordId addRaw(String stream, Map<String, byte[]> fields) {
+        try {
+            Map<byte[], byte[]> rawFields = new LinkedHashMap<>(fields.size());
+            fields.forEach((field, value) -> rawFields.put(field.getBytes(StandardCharsets.UTF_8), value));
+            MapRecord<byte[], byte[], byte[]> record = MapRecord.create(stream.getBytes(StandardCharsets.UTF_8), rawFields);
+            return redisTemplate.execute((RedisCallback<RecordId>) connection ->
+                    connection.streamCommands().xAdd(record, trimOptions()));
+        } catch (Exception e) {
+            log.error("追加 Stream 消息失败，stream: {}", stream, e);
+            throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 裁剪选项
+     *
+     * @return XADD 选项
+     */
+    private RedisStreamCommands.XAddOptions trimOptions() {
+        return maxLength > 0
+                ? RedisStreamCommands.XAddOptions.maxlen(maxLength).approximateTrimming(true)
+                : RedisStreamCommands.XAddOptions.none();
+    }
+}
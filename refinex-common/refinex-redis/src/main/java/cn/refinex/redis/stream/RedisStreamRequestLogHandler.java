@@ -0,0 +1,56 @@
+package cn.refinex.redis.stream;
+
+import cn.refinex.core.logging.handler.JdbcRequestLogHandler;
+import cn.refinex.core.logging.handler.RequestLogHandler;
+import cn.refinex.core.logging.model.RequestLogEntry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 基于 Redis Streams 的请求日志处理器
+ * <p>
+ * 请求线程只执行一次 XADD，由 {@link RedisStreamConsumer} 消费组调用 {@link JdbcRequestLogHandler#batchInsert}
+ * 批量写库。日志在 Redis 中持久保存，应用重启或写库失败时不会丢失。Redis 不可用时退化为同步写库。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisStreamRequestLogHandler implements RequestLogHandler {
+
+    private final RedisStreamPublisher publisher;
+    private final JdbcRequestLogHandler fallback;
+    private final String stream;
+
+    /**
+     * 构造函数
+     *
+     * @param publisher 消息发布器
+     * @param fallback  Redis 不可用时同步写库的处理器
+     * @param stream    Stream 键
+     */
+    public RedisStreamRequestLogHandler(RedisStreamPublisher publisher, JdbcRequestLogHandler fallback, String stream) {
+        this.publisher = publisher;
+        this.fallback = fallback;
+        this.stream = stream;
+    }
+
+    /**
+     * 处理请求日志
+     *
+     * @param entry   日志实体
+     * @param persist 是否持久化
+     */
+    @Override
+    public void handle(RequestLogEntry entry, boolean persist) {
+        if (!persist || entry == null) {
+            return;
+        }
+
+        try {
+            publisher.publish(stream, entry);
+        } catch (Exception e) {
+            log.warn("请求日志写入 Redis Stream 失败，改为同步写库: {}", e.getMessage());
+            fallback.handle(entry, true);
+        }
+    }
+}
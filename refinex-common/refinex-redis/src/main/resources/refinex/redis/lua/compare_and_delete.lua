@@ -0,0 +1,13 @@
+-- 值相等时删除(验证码核销、释放锁)
+-- KEYS[1] 键
+-- ARGV[1] 期望值
+-- 返回 1 已删除, 0 值不相等, -1 键不存在
+local value = redis.call('GET', KEYS[1])
+if not value then
+    return -1
+end
+if value == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 1
+end
+return 0
@@ -0,0 +1,8 @@
+-- 值相等时刷新过期时间(锁续期)
+-- KEYS[1] 键
+-- ARGV[1] 期望值, ARGV[2] 过期时间(毫秒)
+-- 返回 1 已续期, 0 值不相等或键不存在
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,18 @@
+-- 固定窗口计数限流
+-- KEYS[1] 计数键
+-- ARGV[1] 窗口内允许次数, ARGV[2] 窗口长度(毫秒)
+-- 返回 {是否允许(1/0), 剩余次数, 重试等待(毫秒)}
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+
+local count = redis.call('INCR', KEYS[1])
+local ttl = redis.call('PTTL', KEYS[1])
+if count == 1 or ttl < 0 then
+    redis.call('PEXPIRE', KEYS[1], window)
+    ttl = window
+end
+
+if count > limit then
+    return {0, 0, ttl}
+end
+return {1, limit - count, 0}
@@ -0,0 +1,11 @@
+-- 读取或推进版本号(缓存失效与回填的并发控制)
+-- KEYS[1] 版本号键
+-- ARGV[1] 增量(0 只读取), ARGV[2] 版本号键有效期(毫秒, 推进时刷新)
+-- 返回 当前版本号(键不存在时为 0)
+local delta = tonumber(ARGV[1])
+if delta > 0 then
+    local generation = redis.call('INCRBY', KEYS[1], delta)
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return generation
+end
+return tonumber(redis.call('GET', KEYS[1]) or '0')
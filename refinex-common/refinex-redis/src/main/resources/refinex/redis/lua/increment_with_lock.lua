@@ -0,0 +1,12 @@
+-- 计数并在达到阈值时写入锁定标识(如登录失败锁定)
+-- KEYS[1] 计数键, KEYS[2] 锁定键
+-- ARGV[1] 计数有效期(毫秒, 每次计数刷新), ARGV[2] 锁定阈值(<=0 不锁定), ARGV[3] 锁定时长(毫秒), ARGV[4] 锁定标识值
+-- 返回 计数后的值
+local count = redis.call('INCR', KEYS[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+
+local threshold = tonumber(ARGV[2])
+if threshold > 0 and count >= threshold then
+    redis.call('SET', KEYS[2], ARGV[4], 'PX', ARGV[3])
+end
+return count
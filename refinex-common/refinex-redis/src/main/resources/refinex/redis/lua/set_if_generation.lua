@@ -0,0 +1,12 @@
+-- 版本号未变化时写入多个键(回填缓存前校验期间未发生失效)
+-- KEYS[1] 版本号键, KEYS[2..n] 值键
+-- ARGV[1] 期望版本号, ARGV[2] 值有效期(毫秒), ARGV[3..] 与 KEYS[2..n] 一一对应的值
+-- 返回 1 已写入, 0 版本号已变化
+local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+if current ~= tonumber(ARGV[1]) then
+    return 0
+end
+for i = 2, #KEYS do
+    redis.call('SET', KEYS[i], ARGV[i + 1], 'PX', ARGV[2])
+end
+return 1
@@ -0,0 +1,24 @@
+-- 滑动窗口计数限流(有序集合记录每次请求的服务端时间)
+-- KEYS[1] 窗口键
+-- ARGV[1] 窗口内允许次数, ARGV[2] 窗口长度(毫秒), ARGV[3] 本次请求的唯一成员
+-- 返回 {是否允许(1/0), 剩余次数, 重试等待(毫秒)}
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window)
+local count = redis.call('ZCARD', KEYS[1])
+if count < limit then
+    redis.call('ZADD', KEYS[1], now, ARGV[3])
+    redis.call('PEXPIRE', KEYS[1], window)
+    return {1, limit - count - 1, 0}
+end
+
+local oldest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES')
+local retry = 0
+if oldest[2] then
+    retry = math.max(0, tonumber(oldest[2]) + window - now)
+end
+return {0, 0, retry}
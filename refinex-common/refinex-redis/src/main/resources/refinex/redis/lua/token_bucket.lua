@@ -0,0 +1,34 @@
+-- 令牌桶限流(按服务端时间补充令牌)
+-- KEYS[1] 令牌桶键
+-- ARGV[1] 桶容量, ARGV[2] 每秒补充令牌数, ARGV[3] 本次申请令牌数
+-- 返回 {是否允许(1/0), 剩余令牌数, 重试等待(毫秒)}
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+
+local allowed = 0
+local retry = 0
+if tokens >= requested then
+    tokens = tokens - requested
+    allowed = 1
+else
+    retry = math.ceil((requested - tokens) * 1000 / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+-- 桶补满所需时间后自动过期, 空闲的桶不占用内存
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+return {allowed, math.floor(tokens), retry}
@@ -0,0 +1,92 @@
+package cn.refinex.redis.serializer;
+
+import cn.refinex.core.benchmark.BenchmarkHarness;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 值序列化器基准测试 - 独立运行，无需 Spring 容器
+ * <p>
+ * 以登录会话（用户信息 + 角色/权限集合）与权限列表为样本，对比 JSON、Smile 以及两者在压缩阈值下的
+ * 序列化后字节数、序列化与反序列化的每次耗时。每种组合都会校验反序列化结果与原值一致。
+ * 样本使用具体集合类型，以便默认类型信息可以还原。
+ * <p>
+ * 运行方式：在 IDE 中直接运行 {@link #main(String[])}，可通过参数指定每轮次数，如 {@code 200000}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class RedisSerializerBenchmark {
+
+    /**
+     * 压缩阈值（字节）
+     */
+    private static final int COMPRESSION_THRESHOLD = 512;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        JacksonRedisValueCodec json = JacksonRedisValueCodec.json();
+        JacksonRedisValueCodec smile = JacksonRedisValueCodec.smile();
+        List<JacksonRedisValueCodec> codecs = List.of(json, smile);
+        Map<String, VersionedRedisSerializer> serializers = Map.of(
+                "json", new VersionedRedisSerializer(json, codecs, 0),
+                "json+deflate", new VersionedRedisSerializer(json, codecs, COMPRESSION_THRESHOLD),
+                "smile", new VersionedRedisSerializer(smile, codecs, 0),
+                "smile+deflate", new VersionedRedisSerializer(smile, codecs, COMPRESSION_THRESHOLD));
+
+        Map<String, Object> samples = Map.of(
+                "session", sampleSession(),
+                "permissions", new ArrayList<>(BenchmarkHarness.permissionCodes(200)));
+
+        for (String sampleName : List.of("session", "permissions")) {
+            Object sample = samples.get(sampleName);
+            for (String serializerName : List.of("json", "json+deflate", "smile", "smile+deflate")) {
+                VersionedRedisSerializer serializer = serializers.get(serializerName);
+                byte[] bytes = serializer.serialize(sample);
+                if (!sample.equals(serializer.deserialize(bytes))) {
+                    throw new IllegalStateException("反序列化结果不一致: " + sampleName + " / " + serializerName);
+                }
+
+                String name = sampleName + "/" + serializerName;
+                System.out.printf("%-24s bytes=%d%n", name, bytes.length);
+                BenchmarkHarness.report(name + " ser", BenchmarkHarness.measure(iterations, i -> serializer.serialize(sample).length));
+                BenchmarkHarness.report(name + " deser", BenchmarkHarness.measure(iterations, i -> serializer.deserialize(bytes) != null ? 1 : 0));
+            }
+        }
+    }
+
+    private static SessionSample sampleSession() {
+        SessionSample session = new SessionSample();
+        session.setUserId(10001L);
+        session.setUsername("refinex");
+        session.setNickname("超级管理员");
+        session.setDeptId(103L);
+        session.setLoginIp("192.168.10.24");
+        session.setLoginTime(LocalDateTime.of(2026, 10, 17, 9, 30, 0));
+        session.setRoles(new LinkedHashSet<>(List.of("admin", "kb_manager", "ai_operator")));
+        session.setPermissions(new LinkedHashSet<>(BenchmarkHarness.permissionCodes(120)));
+        return session;
+    }
+
+    /**
+     * 登录会话样本
+     */
+    @Data
+    public static class SessionSample {
+        private Long userId;
+        private String username;
+        private String nickname;
+        private Long deptId;
+        private String loginIp;
+        private LocalDateTime loginTime;
+        private Set<String> roles;
+        private Set<String> permissions;
+    }
+}
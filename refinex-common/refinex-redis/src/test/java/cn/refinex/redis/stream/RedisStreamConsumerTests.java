@@ -0,0 +1,255 @@
+package cn.refinex.redis.stream;
+
+import cn.hutool.core.util.IdUtil;
+import cn.refinex.redis.autoconfigure.properties.RefinexRedisProperties;
+import cn.refinex.redis.serializer.VersionedRedisSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Redis Streams 消费者测试 - 基于 Testcontainers 启动 Redis，Docker 不可用时跳过
+ * <p>
+ * 覆盖无法解码的消息转入死信且不阻塞后续消息、宕机节点遗留的未确认消息被 XCLAIM 认领、超过最大投递次数转入死信，
+ * 以及 Redis 不可用时启动不失败、消费组被删除后重新创建。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+class RedisStreamConsumerTests {
+
+    private static final String GROUP = "test-group";
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    private static GenericContainer<?> redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+    private static RedisStreamPublisher publisher;
+
+    @BeforeAll
+    static void startRedis() {
+        Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker 不可用，跳过 Redis Stream 测试");
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        VersionedRedisSerializer valueSerializer = VersionedRedisSerializer.json();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setHashKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(valueSerializer);
+        redisTemplate.setHashValueSerializer(valueSerializer);
+        redisTemplate.afterPropertiesSet();
+
+        publisher = new RedisStreamPublisher(redisTemplate, 0);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    /**
+     * 无法解码的消息转入死信并确认，同批及后续消息正常处理
+     */
+    @Test
+    void poisonMessageIsDeadLetteredWithoutStallingTheConsumer() {
+        String stream = newStream();
+        byte[] poison = "{not json".getBytes(StandardCharsets.UTF_8);
+        publisher.addRaw(stream, Map.of(RedisStreamPublisher.PAYLOAD_FIELD, poison));
+        publisher.publish(stream, "after-poison");
+
+        List<String> handled = new CopyOnWriteArrayList<>();
+        RedisStreamConsumer<String> consumer = newConsumer(stream, handled::addAll, 5);
+        consumer.start();
+        try {
+            await(() -> handled.contains("after-poison") && consumer.getDeadLetterCount() == 1);
+            await(() -> pendingCount(stream) == 0);
+
+            assertEquals(List.of("after-poison"), handled);
+
+            // 死信中的消息体保持原始字节（按模板序列化器读取会再次解码失败，这里直接读取原始记录）
+            List<ByteRecord> deadLetters = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                    connection.streamCommands().xRange(consumer.getDeadLetterStream().getBytes(StandardCharsets.UTF_8), Range.unbounded()));
+            assertEquals(1, deadLetters.size());
+            byte[] raw = deadLetters.getFirst().getValue().entrySet().stream()
+                    .filter(entry -> RedisStreamPublisher.PAYLOAD_FIELD.equals(new String(entry.getKey(), StandardCharsets.UTF_8)))
+                    .map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElseThrow();
+            assertArrayEquals(poison, raw);
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    /**
+     * 其他消费者读取后未确认的消息，空闲超时后被 XCLAIM 认领并重新处理
+     */
+    @Test
+    void idlePendingMessageIsClaimedAndReprocessed() {
+        String stream = newStream();
+        publisher.publish(stream, "orphan");
+        redisTemplate.opsForStream().createGroup(stream, ReadOffset.from("0"), GROUP);
+        // 模拟宕机节点：读取后不确认
+        List<MapRecord<String, Object, Object>> delivered = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, "crashed-node"),
+                StreamReadOptions.empty().count(10),
+                StreamOffset.create(stream, ReadOffset.lastConsumed()));
+        assertEquals(1, delivered.size());
+
+        List<String> handled = new CopyOnWriteArrayList<>();
+        RedisStreamConsumer<String> consumer = newConsumer(stream, handled::addAll, 5);
+        consumer.start();
+        try {
+            await(() -> handled.contains("orphan"));
+            await(() -> pendingCount(stream) == 0);
+            assertTrue(consumer.getClaimedCount() >= 1);
+            assertEquals(0, consumer.getDeadLetterCount());
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    /**
+     * 处理始终失败的消息在达到最大投递次数后转入死信并确认
+     */
+    @Test
+    void exhaustedMessageIsDeadLettered() {
+        String stream = newStream();
+        publisher.publish(stream, "always-fails");
+
+        RedisStreamConsumer<String> consumer = newConsumer(stream, payloads -> {
+            throw new IllegalStateException("boom");
+        }, 2);
+        consumer.start();
+        try {
+            await(() -> consumer.getDeadLetterCount() == 1);
+            await(() -> pendingCount(stream) == 0);
+            assertTrue(consumer.getFailedCount() >= 2);
+            assertEquals(1L, redisTemplate.opsForStream().size(consumer.getDeadLetterStream()));
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    /**
+     * Redis 不可用时启动不失败，消费组在消费线程中重试创建
+     */
+    @Test
+    void startDoesNotRequireRedis() {
+        LettuceConnectionFactory unreachable = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", 1));
+        unreachable.afterPropertiesSet();
+        unreachable.start();
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(unreachable);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(VersionedRedisSerializer.json());
+        template.afterPropertiesSet();
+
+        RefinexRedisProperties.StreamProperties properties = new RefinexRedisProperties.StreamProperties();
+        properties.setBlockTimeout(Duration.ofMillis(100));
+        RedisStreamConsumer<String> consumer = new RedisStreamConsumer<>(template, new RedisStreamPublisher(template, 0),
+                newStream(), GROUP, String.class, payloads -> {
+        }, properties);
+        try {
+            consumer.start();
+            assertTrue(consumer.isRunning());
+        } finally {
+            consumer.stop();
+            unreachable.destroy();
+        }
+    }
+
+    /**
+     * 消费组被删除后重新创建，后续消息继续处理
+     */
+    @Test
+    void destroyedGroupIsRecreated() {
+        String stream = newStream();
+        List<String> handled = new CopyOnWriteArrayList<>();
+        RedisStreamConsumer<String> consumer = newConsumer(stream, handled::addAll, 5);
+        consumer.start();
+        try {
+            publisher.publish(stream, "before");
+            await(() -> handled.contains("before"));
+
+            redisTemplate.opsForStream().destroyGroup(stream, GROUP);
+            publisher.publish(stream, "after");
+            await(() -> handled.contains("after"));
+        } finally {
+            consumer.stop();
+        }
+    }
+
+    private static RedisStreamConsumer<String> newConsumer(String stream, RedisStreamHandler<String> handler, int maxDeliveries) {
+        RefinexRedisProperties.StreamProperties properties = new RefinexRedisProperties.StreamProperties();
+        properties.setBatchSize(10);
+        properties.setBlockTimeout(Duration.ofMillis(100));
+        properties.setClaimInterval(Duration.ofMillis(200));
+        properties.setClaimMinIdle(Duration.ofMillis(200));
+        properties.setMaxDeliveries(maxDeliveries);
+        return new RedisStreamConsumer<>(redisTemplate, publisher, stream, GROUP, String.class, handler, properties);
+    }
+
+    private static String newStream() {
+        return "test:stream:" + IdUtil.fastSimpleUUID();
+    }
+
+    private static long pendingCount(String stream) {
+        return redisTemplate.opsForStream().pending(stream, GROUP).getTotalPendingMessages();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new AssertionError("等待超时");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("等待被中断", e);
+            }
+        }
+    }
+}
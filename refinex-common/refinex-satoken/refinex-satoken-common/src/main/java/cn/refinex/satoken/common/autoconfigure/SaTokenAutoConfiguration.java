@@ -1,15 +1,35 @@
 package cn.refinex.satoken.common.autoconfigure;
 
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.refinex.redis.cache.CacheInvalidationPublisher;
+import cn.refinex.satoken.common.dao.LocalCachingSaTokenDao;
+import cn.refinex.satoken.common.dao.SaSessionLocalCache;
 import cn.refinex.satoken.common.exception.handler.SaTokenExceptionHandler;
+import cn.refinex.satoken.common.properties.SaTokenSessionCacheProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Properties;
 
 /**
  * Sa-Token 自动配置类
  */
 @Slf4j
 @AutoConfiguration
+@EnableConfigurationProperties(SaTokenSessionCacheProperties.class)
 public class SaTokenAutoConfiguration {
 
     /**
@@ -21,4 +41,114 @@ public class SaTokenAutoConfiguration {
         return new SaTokenExceptionHandler();
     }
 
+    /**
+     * Sa-Token Session 本地缓存配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "refinex.satoken.session-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class SessionLocalCacheConfiguration {
+
+        /**
+         * 键空间通知配置项
+         */
+        private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+
+        /**
+         * 注册 Session 本地缓存
+         *
+         * @param connectionFactory Redis 连接工厂
+         * @param properties        Session 本地缓存配置
+         * @return Session 本地缓存
+         */
+        @Bean
+        public SaSessionLocalCache saSessionLocalCache(RedisConnectionFactory connectionFactory, SaTokenSessionCacheProperties properties) {
+            CacheInvalidationPublisher publisher = new CacheInvalidationPublisher(
+                    new StringRedisTemplate(connectionFactory), properties.getInvalidationChannel());
+            return new SaSessionLocalCache(properties.getMaximumSize(), properties.getTtl(), publisher);
+        }
+
+        /**
+         * 为 SaTokenDao 增加 Session 本地缓存
+         *
+         * @param sessionCache Session 本地缓存
+         * @return Bean 后置处理器
+         */
+        @Bean
+        public static BeanPostProcessor saTokenDaoLocalCachePostProcessor(ObjectProvider<SaSessionLocalCache> sessionCache) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof SaTokenDao dao && !(bean instanceof LocalCachingSaTokenDao)) {
+                        log.info("Sa-Token Session 本地缓存已启用: dao={}", dao.getClass().getName());
+                        return new LocalCachingSaTokenDao(dao, sessionCache.getObject());
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        /**
+         * 订阅 Session 失效通知与键空间通知，其他节点修改、删除 Session 或 Session 过期时清除本地缓存
+         *
+         * @param connectionFactory Redis 连接工厂
+         * @param sessionCache      Session 本地缓存
+         * @param properties        Session 本地缓存配置
+         * @return Redis 消息监听容器
+         */
+        @Bean
+        public RedisMessageListenerContainer saSessionInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                                    SaSessionLocalCache sessionCache,
+                                                                                    SaTokenSessionCacheProperties properties) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(sessionCache, List.of(
+                    new ChannelTopic(properties.getInvalidationChannel()),
+                    new PatternTopic(properties.getKeyspacePattern())));
+            checkKeyspaceNotifications(connectionFactory, properties);
+            return container;
+        }
+
+        /**
+         * 检查 Redis 是否开启了 Session 过期所需的键空间通知，未开启或无法检查时只记录警告，不影响启动
+         *
+         * @param connectionFactory Redis 连接工厂
+         * @param properties        Session 本地缓存配置
+         */
+        private static void checkKeyspaceNotifications(RedisConnectionFactory connectionFactory, SaTokenSessionCacheProperties properties) {
+            Properties config;
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                config = connection.serverCommands().getConfig(NOTIFY_KEYSPACE_EVENTS);
+            } catch (Exception e) {
+                log.warn("无法读取 Redis {} 配置, 过期 Session 的本地副本最多保留 {}: {}",
+                        NOTIFY_KEYSPACE_EVENTS, properties.getTtl(), e.getMessage());
+                return;
+            }
+
+            // 集群模式下每个节点一项
+            if (config == null || config.isEmpty()) {
+                log.warn("Redis 未返回 {} 配置, 过期 Session 的本地副本最多保留 {}", NOTIFY_KEYSPACE_EVENTS, properties.getTtl());
+                return;
+            }
+            for (String node : config.stringPropertyNames()) {
+                String flags = config.getProperty(node);
+                if (!coversSessionEvents(flags)) {
+                    log.warn("Redis {}={} 未包含 K$gx (配置项: {}), 过期 Session 的本地副本最多保留 {}",
+                            NOTIFY_KEYSPACE_EVENTS, flags, node, properties.getTtl());
+                }
+            }
+        }
+
+        /**
+         * 键空间通知标志是否覆盖 Session 的写入、删除与过期事件
+         *
+         * @param flags notify-keyspace-events 配置值
+         * @return true 已覆盖
+         */
+        private static boolean coversSessionEvents(String flags) {
+            if (flags == null || flags.indexOf('K') < 0) {
+                return false;
+            }
+            return flags.indexOf('A') >= 0 || (flags.indexOf('$') >= 0 && flags.indexOf('g') >= 0 && flags.indexOf('x') >= 0);
+        }
+    }
 }
@@ -22,6 +22,11 @@ public final class SaTokenConstants {
      */
     public static final String SAME_TOKEN_HEADER = "Same-Token";
 
+    /**
+     * 网关鉴权通过后，当前登录 ID 在请求属性中的 key（供限流等后续过滤器使用）
+     */
+    public static final String LOGIN_ID_ATTRIBUTE = "refinex.satoken.loginId";
+
     /**
      * 默认 Token 名称
      */
@@ -0,0 +1,150 @@
+package cn.refinex.satoken.common.dao;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+
+import java.util.List;
+
+/**
+ * 带 Session 本地缓存的 SaTokenDao
+ * <p>
+ * 包装原有的 Redis 实现：字符串读写（Token 与账号的映射、活跃时间等）直接访问 Redis；
+ * 对象读取（Session）优先命中 {@link SaSessionLocalCache}，避免每次请求都从 Redis 读取并反序列化整个 Session。
+ * 本节点写入、删除对象时同步更新本地缓存并广播失效通知，其他节点据此删除各自的本地副本。
+ * <p>
+ * 读取返回的是本地副本的复制品，修改 Session 仍须通过 {@code SaSession#set} 等方法写回 Redis。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class LocalCachingSaTokenDao implements SaTokenDao {
+
+    private final SaTokenDao delegate;
+    private final SaSessionLocalCache sessionCache;
+
+    /**
+     * 构造函数
+     *
+     * @param delegate     原有实现
+     * @param sessionCache Session 本地缓存
+     */
+    public LocalCachingSaTokenDao(SaTokenDao delegate, SaSessionLocalCache sessionCache) {
+        this.delegate = delegate;
+        this.sessionCache = sessionCache;
+    }
+
+    // ==================== 字符串读写 ====================
+
+    @Override
+    public String get(String key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public void set(String key, String value, long timeout) {
+        delegate.set(key, value, timeout);
+    }
+
+    @Override
+    public void update(String key, String value) {
+        delegate.update(key, value);
+    }
+
+    @Override
+    public void delete(String key) {
+        delegate.delete(key);
+    }
+
+    @Override
+    public long getTimeout(String key) {
+        return delegate.getTimeout(key);
+    }
+
+    @Override
+    public void updateTimeout(String key, long timeout) {
+        delegate.updateTimeout(key, timeout);
+    }
+
+    // ==================== 对象读写 ====================
+
+    @Override
+    public Object getObject(String key) {
+        return sessionCache.get(key, delegate::getObject);
+    }
+
+    /**
+     * 按类型读取对象，本地副本类型不匹配时直接读取 Redis
+     *
+     * @param key       键
+     * @param classType 类型
+     * @param <T>       类型
+     * @return 对象
+     */
+    @Override
+    public <T> T getObject(String key, Class<T> classType) {
+        Object value = getObject(key);
+        if (value == null || classType.isInstance(value)) {
+            return classType.cast(value);
+        }
+        return delegate.getObject(key, classType);
+    }
+
+    @Override
+    public void setObject(String key, Object object, long timeout) {
+        delegate.setObject(key, object, timeout);
+        if (timeout == 0 || timeout <= NOT_VALUE_EXPIRE) {
+            return;
+        }
+        sessionCache.put(key, object);
+    }
+
+    @Override
+    public void updateObject(String key, Object object) {
+        delegate.updateObject(key, object);
+        sessionCache.put(key, object);
+    }
+
+    @Override
+    public void deleteObject(String key) {
+        delegate.deleteObject(key);
+        sessionCache.evict(key);
+    }
+
+    @Override
+    public long getObjectTimeout(String key) {
+        return delegate.getObjectTimeout(key);
+    }
+
+    @Override
+    public void updateObjectTimeout(String key, long timeout) {
+        delegate.updateObjectTimeout(key, timeout);
+    }
+
+    // ==================== 会话管理 ====================
+
+    @Override
+    public List<String> searchData(String prefix, String keyword, int start, int size, boolean sortType) {
+        return delegate.searchData(prefix, keyword, start, size, sortType);
+    }
+
+    // ==================== 生命周期 ====================
+
+    @Override
+    public void init() {
+        delegate.init();
+    }
+
+    @Override
+    public void destroy() {
+        sessionCache.clear();
+        delegate.destroy();
+    }
+
+    /**
+     * 获取原有实现
+     *
+     * @return 原有实现
+     */
+    public SaTokenDao getDelegate() {
+        return delegate;
+    }
+}
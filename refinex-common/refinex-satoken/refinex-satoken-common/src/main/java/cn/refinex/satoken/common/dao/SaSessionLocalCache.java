@@ -0,0 +1,187 @@
+package cn.refinex.satoken.common.dao;
+
+import cn.dev33.satoken.session.SaSession;
+import cn.hutool.core.bean.BeanUtil;
+import cn.refinex.redis.cache.CacheInvalidationPublisher;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Sa-Token Session 本地缓存
+ * <p>
+ * 以 Redis 键为缓存键保存反序列化后的 Session 对象，容量与有效期均有上限。失效有两条途径：
+ * <ul>
+ *     <li>本节点写入、删除 Session 后通过 {@link CacheInvalidationPublisher} 广播，其他节点删除对应的本地副本</li>
+ *     <li>Redis 键空间通知（需开启 notify-keyspace-events），覆盖 Session 过期以及不经过本缓存的修改</li>
+ * </ul>
+ * 两者都不可用时，本地副本最多保留到本地有效期到达。
+ * <p>
+ * 缓存中的 Session 不直接交给调用方：写入与读取时都复制一份（数据项的容器被复制，数据项的值本身共享），
+ * 调用方修改返回的 Session 不会影响其他请求读到的副本，修改后仍须通过 {@code SaSession#set} 等方法写回 Redis。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class SaSessionLocalCache implements MessageListener {
+
+    /**
+     * 失效通知中的缓存名称
+     */
+    public static final String CACHE_NAME = "satoken:session";
+
+    /**
+     * 键空间通知频道前缀
+     */
+    private static final String KEYSPACE_PREFIX = "__keyspace@";
+
+    /**
+     * 键空间通知频道中键名之前的分隔符，频道格式为 {@code __keyspace@<db>__:<key>}
+     */
+    private static final String KEYSPACE_SEPARATOR = "__:";
+
+    private final Cache<String, Object> cache;
+
+    /**
+     * 失效通知发布器，为 null 时只依赖键空间通知与本地有效期
+     */
+    private final @Nullable CacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * 构造函数
+     *
+     * @param maximumSize           最大缓存数
+     * @param ttl                   写入后过期时间
+     * @param invalidationPublisher 失效通知发布器，可为 null
+     */
+    public SaSessionLocalCache(long maximumSize, Duration ttl, @Nullable CacheInvalidationPublisher invalidationPublisher) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    /**
+     * 读取缓存，未命中时加载，加载结果为 null 时不缓存
+     *
+     * @param key    Redis 键
+     * @param loader 加载函数
+     * @return 缓存值的副本
+     */
+    public @Nullable Object get(String key, Function<String, @Nullable Object> loader) {
+        return copyOf(cache.get(key, loader));
+    }
+
+    /**
+     * 写入缓存并通知其他节点删除本地副本
+     *
+     * @param key   Redis 键
+     * @param value 值，为 null 时删除
+     */
+    public void put(String key, @Nullable Object value) {
+        if (value == null) {
+            cache.invalidate(key);
+        } else {
+            cache.put(key, copyOf(value));
+        }
+        publishEvict(key);
+    }
+
+    /**
+     * 删除缓存并通知其他节点删除本地副本
+     *
+     * @param key Redis 键
+     */
+    public void evict(String key) {
+        cache.invalidate(key);
+        publishEvict(key);
+    }
+
+    /**
+     * 清空本节点缓存
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 获取缓存数量
+     *
+     * @return 缓存数量
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 处理失效通知与键空间通知，删除对应的本地副本
+     *
+     * @param message 消息，键空间通知的频道为 {@code __keyspace@<db>__:<key>}、内容为事件名；
+     *                失效通知的内容见 {@link CacheInvalidationPublisher}
+     * @param pattern 订阅模式
+     */
+    @Override
+    public void onMessage(Message message, byte @Nullable [] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (channel.startsWith(KEYSPACE_PREFIX)) {
+            int index = channel.indexOf(KEYSPACE_SEPARATOR);
+            if (index < 0) {
+                return;
+            }
+            String key = channel.substring(index + KEYSPACE_SEPARATOR.length());
+            cache.invalidate(key);
+            log.debug("收到 Session 键空间通知, 已清除本地缓存: key={}, event={}", key, body);
+            return;
+        }
+
+        if (invalidationPublisher == null) {
+            return;
+        }
+        CacheInvalidationPublisher.Invalidation invalidation = invalidationPublisher.decode(body);
+        if (invalidation == null || !CACHE_NAME.equals(invalidation.cacheName())) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidate(invalidation.key());
+        }
+        log.debug("收到 Session 失效通知, 已清除本地缓存: key={}", invalidation.key());
+    }
+
+    /**
+     * 广播删除单个键
+     *
+     * @param key Redis 键
+     */
+    private void publishEvict(String key) {
+        if (invalidationPublisher != null) {
+            invalidationPublisher.publishEvict(CACHE_NAME, key);
+        }
+    }
+
+    /**
+     * 复制 Session：复制属性与数据项容器，不复制数据项的值；其他类型原样返回
+     *
+     * @param value 缓存值
+     * @return 副本
+     */
+    private static @Nullable Object copyOf(@Nullable Object value) {
+        if (!(value instanceof SaSession session)) {
+            return value;
+        }
+        SaSession copy = BeanUtil.copyProperties(session, SaSession.class, "dataMap");
+        copy.getDataMap().putAll(session.getDataMap());
+        return copy;
+    }
+}
@@ -0,0 +1,43 @@
+package cn.refinex.satoken.common.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Sa-Token Session 本地缓存配置类
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "refinex.satoken.session-cache")
+public class SaTokenSessionCacheProperties {
+
+    /**
+     * 是否启用 Session 本地缓存
+     */
+    private boolean enabled = true;
+
+    /**
+     * 本地缓存最大 Session 数
+     */
+    private long maximumSize = 10_000L;
+
+    /**
+     * 本地缓存过期时间（写入后计时），未收到失效通知时本地副本最多保留该时长
+     */
+    private Duration ttl = Duration.ofSeconds(10);
+
+    /**
+     * Session 失效通知频道，本节点写入、删除 Session 后在此广播
+     */
+    private String invalidationChannel = "refinex:satoken:session:invalidation";
+
+    /**
+     * 监听的 Redis 键空间通知频道模式，用于感知 Session 过期；需在 Redis 开启 notify-keyspace-events（至少包含 K$gx），
+     * 启动时检查，未开启时记录警告，过期的 Session 本地副本最多保留到本地缓存过期时间
+     */
+    private String keyspacePattern = "__keyspace@*__:*:login:*session:*";
+}
@@ -0,0 +1,122 @@
+package cn.refinex.satoken.common.dao;
+
+import cn.dev33.satoken.dao.SaTokenDao;
+import cn.dev33.satoken.dao.SaTokenDaoRedisJackson;
+import cn.dev33.satoken.session.SaSession;
+import cn.refinex.core.benchmark.BenchmarkHarness;
+import cn.refinex.satoken.common.constant.SaTokenConstants;
+import cn.refinex.satoken.common.model.LoginUser;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * LocalCachingSaTokenDao 基准测试 - 独立运行，无需 Spring 容器，需要可访问的 Redis
+ * <p>
+ * 模拟每个请求读取当前用户 Session 并取出 {@link LoginUser}，对比直接访问线上使用的 {@link SaTokenDaoRedisJackson}
+ * （每次读取都经过网络往返与 Jackson 反序列化）与经过 Session 本地缓存（命中时复制 Session）的每次耗时，
+ * 单线程与多线程各测一次，并校验两者读到的用户一致。测试数据写入独立前缀，结束后删除。
+ * <p>
+ * 运行方式：在 IDE 中直接运行 {@link #main(String[])}，可通过参数指定 Redis 地址、端口与读取次数，如 {@code localhost 6379 200000}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class LocalCachingSaTokenDaoBenchmark {
+
+    /**
+     * 在线用户数
+     */
+    private static final int USER_COUNT = 1000;
+
+    /**
+     * 每个用户的权限数
+     */
+    private static final int PERMISSION_COUNT = 200;
+
+    /**
+     * 多线程测量的线程数
+     */
+    private static final int THREADS = 8;
+
+    private static final String SESSION_KEY_PREFIX = "refinex:benchmark:satoken:login:session:";
+
+    public static void main(String[] args) {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 6379;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        SaTokenDaoRedisJackson redis = new SaTokenDaoRedisJackson();
+        redis.init(connectionFactory);
+
+        String[] keys = new String[USER_COUNT];
+        try {
+            for (int i = 0; i < USER_COUNT; i++) {
+                long userId = 10_000L + i;
+                keys[i] = SESSION_KEY_PREFIX + userId;
+                SaSession session = new SaSession();
+                session.setId(keys[i]);
+                session.getDataMap().put(SaTokenConstants.LOGIN_USER_KEY, sampleLoginUser(userId));
+                redis.setObject(keys[i], session, Duration.ofHours(1).toSeconds());
+            }
+            LocalCachingSaTokenDao cached = new LocalCachingSaTokenDao(redis,
+                    new SaSessionLocalCache(USER_COUNT * 2L, Duration.ofMinutes(10), null));
+
+            // 结果一致性校验
+            for (String key : keys) {
+                LoginUser expected = readLoginUser(redis, key);
+                LoginUser actual = readLoginUser(cached, key);
+                if (!expected.getUserId().equals(actual.getUserId()) || !expected.getPermissions().equals(actual.getPermissions())) {
+                    throw new IllegalStateException("读取结果不一致: key=" + key);
+                }
+            }
+            System.out.printf("redis=%s:%d, users=%d, permissions=%d, threads=%d%n", host, port, USER_COUNT, PERMISSION_COUNT, THREADS);
+
+            // 直接读取每次都要网络往返与反序列化，耗时远高于本地缓存，按比例减少次数
+            int redisIterations = Math.max(2_000, iterations / 100);
+            BenchmarkHarness.report("redis", BenchmarkHarness.measure(redisIterations, i -> read(redis, keys, i)));
+            BenchmarkHarness.report("cached", BenchmarkHarness.measure(iterations, i -> read(cached, keys, i)));
+            BenchmarkHarness.report("redis x" + THREADS,
+                    BenchmarkHarness.measureConcurrent(THREADS, redisIterations / THREADS, i -> read(redis, keys, i)));
+            BenchmarkHarness.report("cached x" + THREADS,
+                    BenchmarkHarness.measureConcurrent(THREADS, iterations / THREADS, i -> read(cached, keys, i)));
+        } finally {
+            for (String key : keys) {
+                if (key != null) {
+                    redis.deleteObject(key);
+                }
+            }
+            connectionFactory.destroy();
+        }
+    }
+
+    private static long read(SaTokenDao dao, String[] keys, int index) {
+        return readLoginUser(dao, keys[index % keys.length]).getPermissions().size();
+    }
+
+    private static LoginUser readLoginUser(SaTokenDao dao, String key) {
+        SaSession session = dao.getObject(key, SaSession.class);
+        return (LoginUser) session.get(SaTokenConstants.LOGIN_USER_KEY);
+    }
+
+    private static LoginUser sampleLoginUser(long userId) {
+        return new LoginUser()
+                .setUserId(userId)
+                .setUsername("user" + userId)
+                .setNickname("用户" + userId)
+                .setAccountStatus(1)
+                .setStatus(1)
+                .setRoles(new HashSet<>(List.of("user", "kb_reader")))
+                .setPermissions(new HashSet<>(BenchmarkHarness.permissionCodes(PERMISSION_COUNT)))
+                .setLoginTime(LocalDateTime.of(2026, 10, 17, 9, 30, 0))
+                .setLoginIp("192.168.10.24")
+                .setDeviceType("PC");
+    }
+}
@@ -3,20 +3,27 @@ package cn.refinex.satoken.reactor.autoconfigure;
 import cn.dev33.satoken.context.SaHolder;
 import cn.dev33.satoken.exception.NotLoginException;
 import cn.dev33.satoken.reactor.filter.SaReactorFilter;
-import cn.dev33.satoken.router.SaRouter;
 import cn.dev33.satoken.stp.StpUtil;
 import cn.dev33.satoken.util.SaResult;
+import cn.refinex.core.exception.BaseException;
+import cn.refinex.core.matcher.RefreshablePathMatcher;
+import cn.refinex.json.util.JsonUtils;
+import cn.refinex.redis.autoconfigure.RefinexReactiveRedisAutoConfiguration;
 import cn.refinex.redis.autoconfigure.RefinexRedisAutoConfiguration;
+import cn.refinex.redis.reactive.ReactiveRedisService;
+import cn.refinex.satoken.common.constant.SaTokenConstants;
+import cn.refinex.satoken.reactor.client.ReactiveAuthServiceClient;
+import cn.refinex.satoken.reactor.permission.PermissionPreloadWebFilter;
+import cn.refinex.satoken.reactor.permission.ReactivePermissionResolver;
+import cn.refinex.satoken.reactor.properties.SaTokenPermissionProperties;
 import cn.refinex.satoken.reactor.properties.SaTokenWhiteProperties;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpStatus;
 
-import java.util.List;
-
 /**
  * Sa-Token Reactor 自动配置类
  *
@@ -24,8 +31,8 @@ import java.util.List;
  * @since 1.0.0
  */
 @Slf4j
-@AutoConfiguration(after = RefinexRedisAutoConfiguration.class)
-@EnableConfigurationProperties(SaTokenWhiteProperties.class)
+@AutoConfiguration(after = {RefinexRedisAutoConfiguration.class, RefinexReactiveRedisAutoConfiguration.class})
+@EnableConfigurationProperties({SaTokenWhiteProperties.class, SaTokenPermissionProperties.class})
 public class ReactorSaTokenAutoConfiguration {
 
     /**
@@ -38,21 +45,21 @@ public class ReactorSaTokenAutoConfiguration {
         // 拦截所有路径
         SaReactorFilter filter = new SaReactorFilter().addInclude("/**");
 
-        // 添加白名单路径
-        List<String> whitelistPaths = whiteProperties.getWhites();
-        if (CollectionUtils.isNotEmpty(whitelistPaths)) {
-            log.debug("Sa-Token 网关白名单路径：{}", whitelistPaths);
-            whitelistPaths.forEach(filter::addExclude);
-        }
+        // 白名单编译为一棵匹配树, 白名单配置刷新 (列表被替换) 后自动重新编译
+        RefreshablePathMatcher whitelistMatcher = new RefreshablePathMatcher(whiteProperties::getWhites, false);
+        log.debug("Sa-Token 网关白名单路径：{}", whitelistMatcher.current().patterns());
 
         // 认证函数：每次请求执行
         filter.setAuth(obj -> {
-            log.info("Sa-Token 网关鉴权 URL：{}", SaHolder.getRequest().getUrl());
+            String path = SaHolder.getRequest().getRequestPath();
+            log.info("Sa-Token 网关鉴权 URL：{}", path);
 
-            // 使用 SaRouter 进行路由级别的权限控制, 不在白名单路径中的请求均需要登录
-            SaRouter.match("/**")
-                    .notMatch(whitelistPaths)
-                    .check(r -> StpUtil.checkLogin());
+            // 不在白名单路径中的请求均需要登录
+            if (!whitelistMatcher.matches(path)) {
+                StpUtil.checkLogin();
+                // 登录 ID 写入请求属性, 后续网关过滤器无需再次解析 Token
+                SaHolder.getStorage().set(SaTokenConstants.LOGIN_ID_ATTRIBUTE, StpUtil.getLoginId());
+            }
         });
 
         // 异常处理函数：每次 setAuth 函数出现异常时进入
@@ -63,10 +70,46 @@ public class ReactorSaTokenAutoConfiguration {
             if (e instanceof NotLoginException) {
                 return SaResult.error(e.getMessage()).setCode(HttpStatus.UNAUTHORIZED.value());
             }
+            // 权限数据暂不可用等系统异常, 按异常自身的状态码返回, 不混同为未登录
+            if (e instanceof BaseException be) {
+                return SaResult.error(e.getMessage()).setCode(be.getStatusValue());
+            }
             // 其他异常, 返回通用错误信息
             return SaResult.error("认证失败，无法访问系统资源").setCode(HttpStatus.UNAUTHORIZED.value());
         });
 
         return filter;
     }
+
+    /**
+     * 注册响应式权限解析器, 为 StpInterface 提供本地缓存的角色/权限数据
+     *
+     * @param authClient           平台认证客户端(响应式)
+     * @param redisService         响应式 Redis 服务
+     * @param jsonUtils            JSON 工具类
+     * @param permissionProperties 权限缓存配置
+     * @return ReactivePermissionResolver 实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReactivePermissionResolver reactivePermissionResolver(ReactiveAuthServiceClient authClient,
+                                                                 ReactiveRedisService redisService,
+                                                                 JsonUtils jsonUtils,
+                                                                 SaTokenPermissionProperties permissionProperties) {
+        return new ReactivePermissionResolver(authClient, redisService, jsonUtils, permissionProperties);
+    }
+
+    /**
+     * 注册权限预加载过滤器, 在 SaReactorFilter 之前以非阻塞方式加载当前用户的角色/权限
+     *
+     * @param permissionResolver   响应式权限解析器
+     * @param permissionProperties 权限缓存配置
+     * @return PermissionPreloadWebFilter 实例
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public PermissionPreloadWebFilter permissionPreloadWebFilter(ReactivePermissionResolver permissionResolver,
+                                                                 SaTokenPermissionProperties permissionProperties) {
+        return new PermissionPreloadWebFilter(permissionResolver, permissionProperties);
+    }
 }
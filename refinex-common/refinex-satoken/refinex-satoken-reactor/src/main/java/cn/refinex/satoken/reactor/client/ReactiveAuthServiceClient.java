@@ -5,27 +5,30 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 /**
- * Platform 服务权限客户端
+ * Platform 服务权限客户端(响应式)
+ * <p>
+ * 与 {@link AuthServiceClient} 对应同一组接口, 基于 WebClient 执行, 供网关在事件循环线程上非阻塞地获取权限数据。
  *
  * @author Refinex
  * @since 1.0.0
  */
 @HttpExchange(value = "/auth", accept = MediaType.APPLICATION_JSON_VALUE)
-public interface AuthServiceClient {
+public interface ReactiveAuthServiceClient {
 
     /**
      * 获取用户权限列表
      */
     @GetExchange("/permissions/{userId}")
-    ApiResponse<List<String>> getUserPermissions(@PathVariable("userId") Long userId);
+    Mono<ApiResponse<List<String>>> getUserPermissions(@PathVariable("userId") Long userId);
 
     /**
      * 获取用户角色列表
      */
     @GetExchange("/roles/{userId}")
-    ApiResponse<List<String>> getUserRoles(@PathVariable("userId") Long userId);
+    Mono<ApiResponse<List<String>>> getUserRoles(@PathVariable("userId") Long userId);
 }
@@ -1,6 +1,6 @@
 package cn.refinex.satoken.reactor.config;
 
-import cn.refinex.satoken.reactor.client.AuthServiceClient;
+import cn.refinex.satoken.reactor.client.ReactiveAuthServiceClient;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.service.registry.HttpServiceGroup;
 import org.springframework.web.service.registry.ImportHttpServices;
@@ -9,6 +9,8 @@ import static cn.refinex.core.constants.HttpServicesGroupConstants.REFINEX_PLATF
 
 /**
  * 声明式注册 HTTP 服务客户端
+ * <p>
+ * 网关运行在 WebFlux 环境, 客户端统一基于 WebClient 创建, 避免在事件循环线程上执行阻塞 IO。
  *
  * @author Refinex
  * @since 1.0.0
@@ -16,9 +18,9 @@ import static cn.refinex.core.constants.HttpServicesGroupConstants.REFINEX_PLATF
 @Configuration
 @ImportHttpServices(
         group = REFINEX_PLATFORM_GROUP,
-        clientType = HttpServiceGroup.ClientType.REST_CLIENT,
+        clientType = HttpServiceGroup.ClientType.WEB_CLIENT,
         types = {
-                AuthServiceClient.class
+                ReactiveAuthServiceClient.class
         }
 )
 public class ApiClientConfig {
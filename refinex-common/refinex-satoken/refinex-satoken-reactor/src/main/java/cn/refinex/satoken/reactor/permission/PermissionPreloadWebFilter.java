@@ -0,0 +1,146 @@
+package cn.refinex.satoken.reactor.permission;
+
+import cn.dev33.satoken.config.SaTokenConfig;
+import cn.dev33.satoken.stp.StpUtil;
+import cn.dev33.satoken.util.SaTokenConsts;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.util.StrUtil;
+import cn.refinex.satoken.reactor.properties.SaTokenPermissionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * 权限预加载过滤器
+ * <p>
+ * 在 SaReactorFilter 之前执行: 解析请求 Token 对应的登录 ID, 通过 {@link ReactivePermissionResolver}
+ * 以非阻塞方式加载该用户的角色与权限, 写入本地缓存的同时以 {@link #GRANTS_ATTRIBUTE} 保存到请求属性中。
+ * 后续同步的 {@link StpInterfaceImpl} 优先读取请求属性, 预加载之后本地缓存过期或被失效通知清除也不影响本次鉴权。
+ * <p>
+ * Token -> 登录 ID 的映射在本地缓存, 命中时不访问 Redis; 未命中时在 boundedElastic 线程上查询, 不占用事件循环线程。
+ * 此处只负责预热, Token 是否有效仍由 SaReactorFilter 校验, 预加载失败时不写入请求属性并直接放行。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class PermissionPreloadWebFilter implements WebFilter, Ordered {
+
+    /**
+     * 预加载的角色与权限在请求属性中的 key
+     */
+    public static final String GRANTS_ATTRIBUTE = "refinex.satoken.grants";
+
+    private final ReactivePermissionResolver permissionResolver;
+
+    /**
+     * Token -> 登录 ID
+     */
+    private final Cache<String, Long> tokenLoginIds;
+
+    /**
+     * 构造函数
+     *
+     * @param permissionResolver 响应式权限解析器
+     * @param properties         权限缓存配置
+     */
+    public PermissionPreloadWebFilter(ReactivePermissionResolver permissionResolver, SaTokenPermissionProperties properties) {
+        this.permissionResolver = permissionResolver;
+        this.tokenLoginIds = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterAccess(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * 预加载当前用户的角色与权限
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    过滤器链
+     * @return 处理结果
+     */
+    @NullMarked
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = readToken(exchange.getRequest());
+        if (token == null) {
+            return chain.filter(exchange);
+        }
+
+        Long cachedLoginId = tokenLoginIds.getIfPresent(token);
+        Mono<Long> loginId = cachedLoginId != null
+                ? Mono.just(cachedLoginId)
+                : Mono.fromCallable(() -> Convert.toLong(StpUtil.getLoginIdByToken(token), null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(userId -> tokenLoginIds.put(token, userId));
+
+        return loginId
+                .flatMap(userId -> Mono.zip(permissionResolver.getRoles(userId), permissionResolver.getPermissions(userId))
+                        .doOnNext(grants -> exchange.getAttributes().put(GRANTS_ATTRIBUTE,
+                                new PreloadedGrants(userId, grants.getT1(), grants.getT2()))))
+                .onErrorResume(e -> {
+                    log.warn("预加载用户权限失败: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .then(chain.filter(exchange));
+    }
+
+    /**
+     * 在 SaReactorFilter 之前执行
+     *
+     * @return 顺序值
+     */
+    @Override
+    public int getOrder() {
+        return SaTokenConsts.ASSEMBLY_ORDER - 1;
+    }
+
+    /**
+     * 按 Sa-Token 配置从请求头或 Cookie 读取 Token, 并去除前缀
+     *
+     * @param request 请求
+     * @return Token, 不存在时返回 null
+     */
+    private static String readToken(ServerHttpRequest request) {
+        SaTokenConfig config = StpUtil.getStpLogic().getConfigOrGlobal();
+        String token = null;
+        if (config.getIsReadHeader()) {
+            token = request.getHeaders().getFirst(config.getTokenName());
+        }
+        if (StrUtil.isBlank(token) && config.getIsReadCookie()) {
+            HttpCookie cookie = request.getCookies().getFirst(config.getTokenName());
+            token = cookie != null ? cookie.getValue() : null;
+        }
+        if (StrUtil.isBlank(token)) {
+            return null;
+        }
+
+        String prefix = config.getTokenPrefix();
+        if (StrUtil.isNotBlank(prefix)) {
+            String expected = prefix + SaTokenConsts.TOKEN_CONNECTOR_CHAT;
+            return token.startsWith(expected) ? StrUtil.trimToNull(token.substring(expected.length())) : null;
+        }
+        return token;
+    }
+
+    /**
+     * 预加载的角色与权限
+     *
+     * @param userId      用户ID
+     * @param roles       角色编码列表
+     * @param permissions 权限编码列表
+     */
+    public record PreloadedGrants(Long userId, List<String> roles, List<String> permissions) {
+    }
+}
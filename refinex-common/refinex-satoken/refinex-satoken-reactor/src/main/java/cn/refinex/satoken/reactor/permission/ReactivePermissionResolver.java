@@ -0,0 +1,296 @@
+package cn.refinex.satoken.reactor.permission;
+
+import cn.hutool.core.convert.Convert;
+import cn.refinex.core.api.ApiResponse;
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.constants.AuthRedisConstants;
+import cn.refinex.core.exception.SystemException;
+import cn.refinex.json.util.JsonUtils;
+import cn.refinex.redis.reactive.ReactiveRedisService;
+import cn.refinex.satoken.common.helper.LoginHelper;
+import cn.refinex.satoken.reactor.client.ReactiveAuthServiceClient;
+import cn.refinex.satoken.reactor.properties.SaTokenPermissionProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * 响应式权限解析器
+ * <p>
+ * 为网关提供非阻塞的用户角色/权限查询, 查询顺序: 本地缓存 -> Redis -> 平台接口。
+ * <ul>
+ *     <li>本地缓存基于 Caffeine {@link AsyncCache}, 有容量上限与写入后过期时间</li>
+ *     <li>同一用户的并发未命中共享同一次加载, 只会产生一次 Redis/平台调用</li>
+ *     <li>Redis 与平台接口均通过响应式客户端访问, 不占用事件循环线程</li>
+ *     <li>订阅 {@link AuthRedisConstants#USER_AUTH_INVALIDATE_CHANNEL}, 平台清除用户权限缓存时同步清除本地缓存</li>
+ * </ul>
+ * 缓存中的空列表同样视为命中; 加载失败的结果不会进入缓存, 错误交由调用方处理, 下一次查询会重新加载。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReactivePermissionResolver implements InitializingBean, DisposableBean {
+
+    /**
+     * 超级管理员拥有的全部角色/权限
+     */
+    private static final List<String> SUPER_ADMIN_GRANTS = List.of("*:*:*");
+
+    /**
+     * 订阅断开后重连的最大退避时间
+     */
+    private static final Duration MAX_RESUBSCRIBE_BACKOFF = Duration.ofSeconds(30);
+
+    private final ReactiveAuthServiceClient authClient;
+    private final ReactiveRedisService redisService;
+    private final JsonUtils jsonUtils;
+
+    /**
+     * 单次加载超时时间
+     */
+    @Getter
+    private final Duration loadTimeout;
+
+    /**
+     * 用户 ID -> 权限编码列表
+     */
+    private final AsyncCache<Long, List<String>> permissionCache;
+
+    /**
+     * 用户 ID -> 角色编码列表
+     */
+    private final AsyncCache<Long, List<String>> roleCache;
+
+    /**
+     * 失效通知订阅
+     */
+    private Disposable invalidationSubscription;
+
+    /**
+     * 构造函数
+     *
+     * @param authClient   平台认证客户端(响应式)
+     * @param redisService 响应式 Redis 服务(与 RedisTemplate 序列化方式一致, 可读取平台写入的缓存)
+     * @param jsonUtils    JSON 工具类
+     * @param properties   权限缓存配置
+     */
+    public ReactivePermissionResolver(ReactiveAuthServiceClient authClient,
+                                      ReactiveRedisService redisService,
+                                      JsonUtils jsonUtils,
+                                      SaTokenPermissionProperties properties) {
+        this.authClient = authClient;
+        this.redisService = redisService;
+        this.jsonUtils = jsonUtils;
+        this.loadTimeout = properties.getLoadTimeout();
+
+        this.permissionCache = newCache(properties);
+        this.roleCache = newCache(properties);
+    }
+
+    /**
+     * 订阅权限失效通知
+     */
+    @Override
+    public void afterPropertiesSet() {
+        this.invalidationSubscription = redisService.listenToChannel(AuthRedisConstants.USER_AUTH_INVALIDATE_CHANNEL)
+                .map(ReactiveSubscription.Message::getMessage)
+                .doOnError(e -> {
+                    // 订阅中断期间可能错过失效通知, 保守起见清空本地缓存
+                    log.warn("权限失效通知订阅中断, 清空本地权限缓存: {}", e.getMessage());
+                    invalidateAll();
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(MAX_RESUBSCRIBE_BACKOFF))
+                .subscribe(this::onInvalidateMessage);
+    }
+
+    /**
+     * 取消订阅
+     */
+    @Override
+    public void destroy() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    /**
+     * 获取用户权限列表
+     *
+     * @param userId 用户ID
+     * @return 权限编码列表, 加载失败时返回错误
+     */
+    public Mono<List<String>> getPermissions(Long userId) {
+        return resolve(permissionCache, userId, AuthRedisConstants.buildUserPermissionsKey(userId), authClient::getUserPermissions);
+    }
+
+    /**
+     * 获取用户角色列表
+     *
+     * @param userId 用户ID
+     * @return 角色编码列表, 加载失败时返回错误
+     */
+    public Mono<List<String>> getRoles(Long userId) {
+        return resolve(roleCache, userId, AuthRedisConstants.buildUserRolesKey(userId), authClient::getUserRoles);
+    }
+
+    /**
+     * 从本地缓存获取已加载完成的权限列表, 不触发加载
+     *
+     * @param userId 用户ID
+     * @return 权限编码列表, 未命中或加载中返回 null
+     */
+    public List<String> getPermissionsIfPresent(Long userId) {
+        return peek(permissionCache, userId);
+    }
+
+    /**
+     * 从本地缓存获取已加载完成的角色列表, 不触发加载
+     *
+     * @param userId 用户ID
+     * @return 角色编码列表, 未命中或加载中返回 null
+     */
+    public List<String> getRolesIfPresent(Long userId) {
+        return peek(roleCache, userId);
+    }
+
+    /**
+     * 清除指定用户的本地缓存
+     *
+     * @param userId 用户ID
+     */
+    public void invalidate(Long userId) {
+        permissionCache.synchronous().invalidate(userId);
+        roleCache.synchronous().invalidate(userId);
+    }
+
+    /**
+     * 清除全部本地缓存
+     */
+    public void invalidateAll() {
+        permissionCache.synchronous().invalidateAll();
+        roleCache.synchronous().invalidateAll();
+    }
+
+    /**
+     * 通过本地缓存解析, 未命中时合并同一用户的并发加载
+     *
+     * @param cache        本地缓存
+     * @param userId       用户ID
+     * @param redisKey     Redis 缓存键
+     * @param remoteLoader 平台接口加载函数
+     * @return 编码列表
+     */
+    private Mono<List<String>> resolve(AsyncCache<Long, List<String>> cache,
+                                       Long userId,
+                                       String redisKey,
+                                       Function<Long, Mono<ApiResponse<List<String>>>> remoteLoader) {
+        if (LoginHelper.isSuperAdmin(userId)) {
+            return Mono.just(SUPER_ADMIN_GRANTS);
+        }
+
+        // 单个订阅者取消时不取消共享的加载任务
+        return Mono.fromFuture(() -> cache.get(userId, (id, executor) -> load(id, redisKey, remoteLoader).toFuture()), true)
+                .doOnError(e -> log.error("加载用户权限数据失败: userId={}, key={}, error={}", userId, redisKey, e.getMessage()));
+    }
+
+    /**
+     * 加载: 先读 Redis, 未命中再调用平台接口(平台接口内部会回写 Redis)
+     *
+     * @param userId       用户ID
+     * @param redisKey     Redis 缓存键
+     * @param remoteLoader 平台接口加载函数
+     * @return 编码列表
+     */
+    private Mono<List<String>> load(Long userId, String redisKey, Function<Long, Mono<ApiResponse<List<String>>>> remoteLoader) {
+        Mono<List<String>> fromRedis = redisService.string().get(redisKey)
+                .mapNotNull(this::toCodeList)
+                .onErrorResume(e -> {
+                    log.warn("读取 Redis 权限缓存失败, 回退到平台接口: key={}, error={}", redisKey, e.getMessage());
+                    return Mono.empty();
+                });
+
+        Mono<List<String>> fromRemote = Mono.defer(() -> remoteLoader.apply(userId))
+                .map(response -> {
+                    if (response.isError()) {
+                        throw new SystemException(ApiStatus.INTERNAL_SERVER_ERROR, "平台接口返回失败: " + response);
+                    }
+                    return response.data() == null ? List.<String>of() : List.copyOf(response.data());
+                });
+
+        return fromRedis.switchIfEmpty(fromRemote).timeout(loadTimeout);
+    }
+
+    /**
+     * 将 Redis 中的值转换为编码列表, 同时兼容 JSON 字符串形式
+     *
+     * @param value Redis 值
+     * @return 不可变编码列表
+     */
+    private List<String> toCodeList(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        if (value instanceof String json && !json.isBlank()) {
+            List<?> list = jsonUtils.fromJson(json, List.class);
+            return list == null ? List.of() : list.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+
+    /**
+     * 处理失效通知, 消息体为用户 ID
+     *
+     * @param message 消息体
+     */
+    private void onInvalidateMessage(Object message) {
+        Long userId = Convert.toLong(message, null);
+        if (userId == null) {
+            log.warn("忽略无法识别的权限失效通知: {}", message);
+            return;
+        }
+        invalidate(userId);
+        log.debug("收到权限失效通知, 已清除本地缓存: userId={}", userId);
+    }
+
+    /**
+     * 读取已完成的缓存值
+     *
+     * @param cache  本地缓存
+     * @param userId 用户ID
+     * @return 缓存值, 不存在或未完成时返回 null
+     */
+    private static List<String> peek(AsyncCache<Long, List<String>> cache, Long userId) {
+        if (LoginHelper.isSuperAdmin(userId)) {
+            return SUPER_ADMIN_GRANTS;
+        }
+        CompletableFuture<List<String>> future = cache.getIfPresent(userId);
+        return future != null && future.state() == Future.State.SUCCESS ? future.resultNow() : null;
+    }
+
+    /**
+     * 创建本地缓存
+     *
+     * @param properties 权限缓存配置
+     * @return 本地缓存
+     */
+    private static AsyncCache<Long, List<String>> newCache(SaTokenPermissionProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .buildAsync();
+    }
+}
@@ -1,21 +1,21 @@
 package cn.refinex.satoken.reactor.permission;
 
+import cn.dev33.satoken.context.SaHolder;
+import cn.dev33.satoken.exception.SaTokenException;
 import cn.dev33.satoken.stp.StpInterface;
 import cn.hutool.core.convert.Convert;
-import cn.refinex.core.api.ApiResponse;
-import cn.refinex.core.constants.AuthRedisConstants;
-import cn.refinex.core.util.StringUtils;
-import cn.refinex.json.util.JsonUtils;
-import cn.refinex.redis.core.RedisService;
-import cn.refinex.satoken.common.helper.LoginHelper;
-import cn.refinex.satoken.common.model.LoginUser;
-import cn.refinex.satoken.reactor.client.AuthServiceClient;
+import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.exception.SystemException;
+import cn.refinex.satoken.reactor.permission.PermissionPreloadWebFilter.PreloadedGrants;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Sa-Token 权限接口实现
@@ -23,6 +23,15 @@ import java.util.Objects;
  * 此接口用于 Sa-Token 获取用户的权限和角色信息。
  * 在需要进行权限校验时(如 @SaCheckPermission 注解),
  * Sa-Token 会调用这些方法获取当前用户的权限和角色。
+ * <p>
+ * {@link StpInterface} 为同步接口, 而网关运行在 Netty 事件循环线程上, 因此权限数据只按登录 ID 通过
+ * {@link ReactivePermissionResolver} 解析, 不读取 Session。查询顺序:
+ * <ol>
+ *     <li>{@link PermissionPreloadWebFilter} 在 SaReactorFilter 之前以非阻塞方式预加载并写入请求属性的数据</li>
+ *     <li>本地缓存</li>
+ *     <li>处于可阻塞线程: 等待加载完成(受加载超时时间约束)</li>
+ *     <li>处于非阻塞线程: 触发异步加载, 本次以 503 失败而不按无权限处理, 避免误判为 403</li>
+ * </ol>
  *
  * @author Refinex
  * @since 1.0.0
@@ -31,21 +40,20 @@ import java.util.Objects;
 @Component
 public class StpInterfaceImpl implements StpInterface {
 
-    private final AuthServiceClient platformAuthClient;
-    private final RedisService redisService;
-    private final JsonUtils jsonUtils;
+    /**
+     * 阻塞等待加载时在加载超时之外额外等待的时间
+     */
+    private static final Duration BLOCK_TIMEOUT_MARGIN = Duration.ofMillis(500);
+
+    private final ReactivePermissionResolver permissionResolver;
 
     /**
      * 构造函数
      *
-     * @param platformAuthClient 平台认证客户端
-     * @param redisService       Redis 服务
-     * @param jsonUtils          JSON 工具类
+     * @param permissionResolver 响应式权限解析器
      */
-    public StpInterfaceImpl(AuthServiceClient platformAuthClient, RedisService redisService, JsonUtils jsonUtils) {
-        this.platformAuthClient = platformAuthClient;
-        this.redisService = redisService;
-        this.jsonUtils = jsonUtils;
+    public StpInterfaceImpl(ReactivePermissionResolver permissionResolver) {
+        this.permissionResolver = permissionResolver;
     }
 
     /**
@@ -56,41 +64,15 @@ public class StpInterfaceImpl implements StpInterface {
      * @return 权限编码列表
      */
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> getPermissionList(Object loginId, String loginType) {
         log.debug("获取用户权限列表: loginId={}, loginType={}", loginId, loginType);
 
-        // 获取当前登录用户
-        LoginUser loginUser = LoginHelper.getLoginUser();
-        // 获取实际用户ID
         Long userId = Convert.toLong(loginId);
-
-        // 如果当前登录用户为空或用户 ID 不匹配, 则重新获取用户权限
-        if (Objects.isNull(loginUser) || !loginUser.getUserId().equals(userId)) {
-            // 如果是超级管理员，返回所有权限
-            if (LoginHelper.isSuperAdmin(userId)) {
-                return List.of("*:*:*");
-            }
-
-            // 如果不是超级管理员，先尝试从 Redis 中获取用户权限
-            String userPermissionsKey = AuthRedisConstants.buildUserPermissionsKey(userId);
-            String permissions = redisService.string().get(userPermissionsKey, String.class);
-            if (StringUtils.isNoneBlank(permissions)) {
-                // 缓存里面存储的是 JSON 字符串，需要解析
-                return jsonUtils.fromJson(permissions, List.class);
-            }
-
-            // 如果缓存没有，则调用平台接口获取用户权限(重写缓存在内部实现)
-            ApiResponse<List<String>> apiResponse = platformAuthClient.getUserPermissions(userId);
-            if (apiResponse.isError()) {
-                log.error("获取用户权限失败: userId={}, apiResponse={}", userId, apiResponse);
-                return List.of();
-            }
-            return apiResponse.data();
+        PreloadedGrants preloaded = preloadedGrants(userId);
+        if (preloaded != null) {
+            return preloaded.permissions();
         }
-
-        // 如果当前登录用户不为空且用户 ID 匹配, 则直接返回用户权限
-        return new ArrayList<>(LoginHelper.getPermissions());
+        return resolve(userId, permissionResolver.getPermissionsIfPresent(userId), permissionResolver::getPermissions);
     }
 
     /**
@@ -101,40 +83,55 @@ public class StpInterfaceImpl implements StpInterface {
      * @return 角色编码列表
      */
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> getRoleList(Object loginId, String loginType) {
         log.debug("获取用户角色列表: loginId={}, loginType={}", loginId, loginType);
 
-        // 获取当前登录用户
-        LoginUser loginUser = LoginHelper.getLoginUser();
-        // 获取实际用户ID
         Long userId = Convert.toLong(loginId);
+        PreloadedGrants preloaded = preloadedGrants(userId);
+        if (preloaded != null) {
+            return preloaded.roles();
+        }
+        return resolve(userId, permissionResolver.getRolesIfPresent(userId), permissionResolver::getRoles);
+    }
 
-        // 如果当前登录用户为空或用户 ID 不匹配, 则重新获取用户角色
-        if (Objects.isNull(loginUser) || !loginUser.getUserId().equals(userId)) {
-            // 如果是超级管理员，返回所有角色
-            if (LoginHelper.isSuperAdmin(userId)) {
-                return List.of("*:*:*");
-            }
+    /**
+     * 读取当前请求中预加载的角色与权限
+     *
+     * @param userId 用户ID
+     * @return 预加载数据, 不存在、用户不匹配或不在请求上下文中时返回 null
+     */
+    private static PreloadedGrants preloadedGrants(Long userId) {
+        Object value;
+        try {
+            value = SaHolder.getStorage().get(PermissionPreloadWebFilter.GRANTS_ATTRIBUTE);
+        } catch (SaTokenException e) {
+            return null;
+        }
+        return value instanceof PreloadedGrants grants && grants.userId().equals(userId) ? grants : null;
+    }
 
-            // 如果不是超级管理员，先尝试从 Redis 中获取用户角色
-            String userRolesKey = AuthRedisConstants.buildUserRolesKey(userId);
-            String roles = redisService.string().get(userRolesKey, String.class);
-            if (StringUtils.isNoneBlank(roles)) {
-                // 缓存里面存储的是 JSON 字符串，需要解析
-                return jsonUtils.fromJson(roles, List.class);
-            }
+    /**
+     * 优先返回本地缓存, 未命中时按当前线程类型决定异步加载或等待加载
+     *
+     * @param userId 用户ID
+     * @param cached 本地缓存值
+     * @param loader 加载函数
+     * @return 编码列表
+     */
+    private List<String> resolve(Long userId, List<String> cached, Function<Long, Mono<List<String>>> loader) {
+        if (cached != null) {
+            return cached;
+        }
 
-            // 如果缓存没有，则调用平台接口获取用户角色(重写缓存在内部实现)
-            ApiResponse<List<String>> apiResponse = platformAuthClient.getUserRoles(userId);
-            if (apiResponse.isError()) {
-                log.error("获取用户角色失败: userId={}, apiResponse={}", userId, apiResponse);
-                return List.of();
-            }
-            return apiResponse.data();
+        // 事件循环线程禁止阻塞: 仅触发加载 (失败已由解析器记录), 本次鉴权失败但不按无权限处理
+        if (Schedulers.isInNonBlockingThread()) {
+            loader.apply(userId).onErrorComplete().subscribe();
+            log.warn("未预加载且本地权限缓存未命中, 已触发异步加载: userId={}", userId);
+            throw new SystemException(ApiStatus.SERVICE_UNAVAILABLE, "用户权限数据加载中, 请稍后重试");
         }
 
-        // 如果当前登录用户不为空且用户 ID 匹配, 则直接返回用户角色
-        return new ArrayList<>(LoginHelper.getRoles());
+        // 加载本身已有超时控制, 此处额外留出余量, 避免与加载超时竞争
+        List<String> loaded = loader.apply(userId).block(permissionResolver.getLoadTimeout().plus(BLOCK_TIMEOUT_MARGIN));
+        return Objects.requireNonNullElse(loaded, List.of());
     }
 }
@@ -0,0 +1,32 @@
+package cn.refinex.satoken.reactor.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 网关权限本地缓存配置类
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "refinex.satoken.permission")
+public class SaTokenPermissionProperties {
+
+    /**
+     * 本地缓存最大用户数（角色与权限分别计数）
+     */
+    private long maximumSize = 10_000L;
+
+    /**
+     * 本地缓存过期时间（写入后计时）
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * 单次加载（Redis + 平台接口）超时时间
+     */
+    private Duration loadTimeout = Duration.ofSeconds(3);
+}
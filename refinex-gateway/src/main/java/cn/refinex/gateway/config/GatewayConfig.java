@@ -1,5 +1,7 @@
 package cn.refinex.gateway.config;
 
+import cn.refinex.gateway.loadbalancer.AdaptiveLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -9,5 +11,6 @@ import org.springframework.context.annotation.Configuration;
  * @since 1.0.0
  */
 @Configuration
+@LoadBalancerClients(defaultConfiguration = AdaptiveLoadBalancerConfiguration.class)
 public class GatewayConfig {
 }
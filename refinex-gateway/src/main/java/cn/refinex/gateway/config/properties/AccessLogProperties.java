@@ -0,0 +1,76 @@
+package cn.refinex.gateway.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 网关访问日志配置属性
+ * <p>
+ * 总开关沿用 {@code spring.cloud.gateway.request-log}（{@link CustomGatewayProperties#getRequestLog()}）。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@RefreshScope
+@ConfigurationProperties(prefix = "refinex.gateway.access-log")
+public class AccessLogProperties {
+
+    /**
+     * 非 5xx 请求的采样率（0 ~ 1，包括限流 429 等 4xx 异常），5xx 与慢请求不受采样影响，始终记录
+     */
+    private double sampleRate = 1.0d;
+
+    /**
+     * 慢请求阈值，耗时超过该值的请求始终记录
+     */
+    private Duration slowThreshold = Duration.ofSeconds(3);
+
+    /**
+     * 默认日志级别
+     */
+    private Verbosity defaultVerbosity = Verbosity.BASIC;
+
+    /**
+     * 按路由 ID 覆盖日志级别
+     */
+    private Map<String, Verbosity> routes = new LinkedHashMap<>();
+
+    /**
+     * FULL 级别下记录的请求体最大字节数
+     */
+    private int maxBodyLength = 2048;
+
+    /**
+     * 日志缓冲区容量（向上取整为 2 的幂，重启后生效），缓冲区满时丢弃新日志，不阻塞请求线程
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * 访问日志级别
+     */
+    public enum Verbosity {
+
+        /**
+         * 不记录（5xx 与慢请求除外）
+         */
+        NONE,
+
+        /**
+         * 记录方法、路径、状态码、耗时、路由、客户端 IP 与链路标识
+         */
+        BASIC,
+
+        /**
+         * 在 BASIC 基础上记录查询字符串与 JSON 请求体（截断）
+         */
+        FULL
+    }
+}
@@ -0,0 +1,97 @@
+package cn.refinex.gateway.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 网关自适应负载均衡与对冲请求配置属性
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@RefreshScope
+@ConfigurationProperties(prefix = "refinex.gateway.load-balancer")
+public class AdaptiveLoadBalancerProperties {
+
+    /**
+     * 使用 Peak-EWMA 负载均衡的服务，其余服务仍使用轮询（服务的负载均衡器首次创建时读取）
+     */
+    private List<String> services = new ArrayList<>(List.of("refinex-ai"));
+
+    /**
+     * 响应时间 EWMA 的衰减时间，越小对最近的延迟变化越敏感
+     */
+    private Duration decayTime = Duration.ofSeconds(10);
+
+    /**
+     * 尚无响应数据的实例的初始延迟估计
+     */
+    private Duration initialLatency = Duration.ofMillis(200);
+
+    /**
+     * 对冲请求配置
+     */
+    private Hedge hedge = new Hedge();
+
+    @Data
+    public static class Hedge {
+
+        /**
+         * 是否启用对冲请求
+         */
+        private boolean enabled = false;
+
+        /**
+         * 对冲规则，只对匹配的 GET 请求生效，按配置顺序匹配第一条
+         */
+        private List<Rule> rules = new ArrayList<>();
+
+        /**
+         * 对冲预算：每 100 个可对冲请求最多发出的对冲请求数
+         */
+        private int budgetPercent = 10;
+
+        /**
+         * 对冲预算的最大累积量（允许的突发对冲数）
+         */
+        private int maxBurst = 10;
+
+        /**
+         * 对冲路由的单次请求超时时间
+         */
+        private Duration timeout = Duration.ofSeconds(10);
+
+        /**
+         * 对冲路由的最大响应体，响应在网关内完整缓冲后写出
+         */
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+    }
+
+    @Data
+    public static class Rule {
+
+        /**
+         * 规则 ID
+         */
+        private String id;
+
+        /**
+         * 适用路径（Ant 风格），只应配置幂等、响应较小的非流式接口
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 对冲延迟：主请求超过该时间仍未返回时，向另一个实例发出对冲请求（建议取 P95 延迟）
+         */
+        private Duration delay = Duration.ofMillis(300);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 /**
  * 自定义网关配置属性
@@ -21,4 +22,10 @@ public class CustomGatewayProperties {
      * 是否开启请求日志, 默认开启
      */
     private Boolean requestLog = Boolean.TRUE;
+
+    /**
+     * JSON 请求体缓存上限, 声明 Content-Length 且超过上限的请求体不缓存, 直接透传;
+     * 未声明长度（分块传输）的请求体按上限读取, 超过上限时返回 413
+     */
+    private DataSize requestBodyCacheLimit = DataSize.ofMegabytes(2);
 }
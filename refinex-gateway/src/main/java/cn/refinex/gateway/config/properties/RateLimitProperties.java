@@ -0,0 +1,136 @@
+package cn.refinex.gateway.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 网关限流配置属性
+ * <p>
+ * 键的 hash tag 为限流主体（如 {@code refinex:gateway:rate-limit:bucket:ai-user:{USER:1}}），
+ * 集群模式下不同主体的键分散到不同槽位，同一主体的键位于同一槽位，可以在一个脚本内原子检查。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@RefreshScope
+@ConfigurationProperties(prefix = "refinex.gateway.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 是否启用限流
+     */
+    private boolean enabled = false;
+
+    /**
+     * Redis 键前缀（不能包含 hash tag，hash tag 由限流主体构成）
+     */
+    private String keyPrefix = "refinex:gateway:rate-limit";
+
+    /**
+     * 客户端与网关之间受信任的代理层数，IP 维度按该层数从右向左取 X-Forwarded-For 中的地址；
+     * 0 表示网关直接面向客户端，只使用连接的远端地址（X-Forwarded-For 可被客户端伪造）
+     */
+    private int trustedProxies = 0;
+
+    /**
+     * 令牌桶规则，一个请求匹配的所有规则在同一次脚本调用中检查
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 单用户并发请求上限（如 LLM 流式对话）
+     */
+    private Concurrency concurrency = new Concurrency();
+
+    /**
+     * 本地拒绝缓存容量：被拒绝的令牌桶在重试等待期内直接在本地拒绝，不再访问 Redis
+     */
+    private long localBlockCacheSize = 100_000L;
+
+    /**
+     * 单次 Redis 调用的超时时间，超时按 Redis 不可用处理（放行请求）
+     */
+    private Duration redisTimeout = Duration.ofMillis(200);
+
+    @Data
+    public static class Rule {
+
+        /**
+         * 规则 ID，组成 Redis 键
+         */
+        private String id;
+
+        /**
+         * 适用路径（Ant 风格）
+         */
+        private List<String> paths = new ArrayList<>(List.of("/**"));
+
+        /**
+         * 限流维度
+         */
+        private Dimension dimension = Dimension.USER;
+
+        /**
+         * 桶容量（允许的突发量）
+         */
+        private long capacity = 60L;
+
+        /**
+         * 每秒补充令牌数
+         */
+        private double refillPerSecond = 1.0d;
+    }
+
+    @Data
+    public static class Concurrency {
+
+        /**
+         * 是否启用并发上限
+         */
+        private boolean enabled = false;
+
+        /**
+         * 适用路径（Ant 风格）
+         */
+        private List<String> paths = new ArrayList<>(List.of("/refinex-ai/**"));
+
+        /**
+         * 单用户同时进行中的请求上限
+         */
+        private int maxPerUser = 3;
+
+        /**
+         * 租约有效期：请求进行中每隔 1/3 有效期续期一次，网关实例异常退出未释放的租约在到期后自动清理
+         */
+        private Duration leaseTtl = Duration.ofMinutes(1);
+    }
+
+    /**
+     * 限流维度
+     */
+    public enum Dimension {
+
+        /**
+         * 按登录用户（未登录请求不检查该规则）
+         */
+        USER,
+
+        /**
+         * 按客户端 IP
+         */
+        IP,
+
+        /**
+         * 按网关路由（所有调用方共享）
+         */
+        ROUTE
+    }
+}
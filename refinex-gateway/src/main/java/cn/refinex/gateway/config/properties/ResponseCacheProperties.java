@@ -0,0 +1,80 @@
+package cn.refinex.gateway.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.context.config.annotation.RefreshScope;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 网关响应缓存配置属性
+ * <p>
+ * 只缓存匹配规则的 GET 请求的 200 响应；本地缓存（堆外）为一级，Redis 为二级。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@Configuration
+@RefreshScope
+@ConfigurationProperties(prefix = "refinex.gateway.response-cache")
+public class ResponseCacheProperties {
+
+    /**
+     * 是否启用响应缓存
+     */
+    private boolean enabled = false;
+
+    /**
+     * Redis 键前缀
+     */
+    private String keyPrefix = "refinex:gateway:response-cache";
+
+    /**
+     * 是否使用 Redis 作为二级缓存（多个网关实例共享）
+     */
+    private boolean redisEnabled = true;
+
+    /**
+     * 本地缓存容量（压缩后的响应体总字节数，重启后生效）
+     */
+    private DataSize localMaximumSize = DataSize.ofMegabytes(64);
+
+    /**
+     * 可缓存的最大响应体（未压缩），超过时不缓存
+     */
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+
+    /**
+     * 缓存规则，按配置顺序匹配第一条
+     */
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /**
+         * 规则 ID，组成缓存键
+         */
+        private String id;
+
+        /**
+         * 适用路径（Ant 风格）
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 缓存有效期，响应声明了 {@code Cache-Control: max-age} 时取两者较小值
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        /**
+         * 是否按登录用户区分缓存（未登录请求不缓存）
+         */
+        private boolean perUser = false;
+    }
+}
@@ -0,0 +1,45 @@
+package cn.refinex.gateway.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.Serial;
+
+/**
+ * 网关限流异常，由 {@code GatewayExceptionHandler} 转换为 429 响应并设置 {@code Retry-After}
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Getter
+public class RateLimitExceededException extends ResponseStatusException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 建议的重试等待时间（毫秒）
+     */
+    private final long retryAfterMillis;
+
+    /**
+     * 构造函数
+     *
+     * @param reason           提示消息
+     * @param retryAfterMillis 建议的重试等待时间（毫秒）
+     */
+    public RateLimitExceededException(String reason, long retryAfterMillis) {
+        super(HttpStatus.TOO_MANY_REQUESTS, reason);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    /**
+     * 获取建议的重试等待秒数（向上取整，至少 1 秒）
+     *
+     * @return 重试等待秒数
+     */
+    public long getRetryAfterSeconds() {
+        return Math.max(1L, (retryAfterMillis + 999L) / 1000L);
+    }
+}
@@ -0,0 +1,52 @@
+package cn.refinex.gateway.filter;
+
+import cn.refinex.gateway.support.GatewayAccessLogger;
+import cn.refinex.gateway.support.GatewayRequestUtils;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 访问日志请求体截取过滤器
+ * <p>
+ * 全局过滤器在路由匹配之后执行，此时已能按路由解析日志级别；FULL 级别的路由在转发前从缓存的请求体截取日志前缀。
+ * 不在 {@link WebCacheRequestFilter} 结束时截取：其结束回调晚于外层 {@link TraceContextWebFilter} 写出访问日志。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AccessLogBodyFilter implements GlobalFilter, Ordered {
+
+    private final GatewayAccessLogger accessLogger;
+
+    /**
+     * 截取请求体日志
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
+     * @return 处理结果
+     */
+    @NullMarked
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        GatewayRequestUtils.getCachedRequestBody(exchange).ifPresent(body -> accessLogger.captureBody(exchange, body));
+        return chain.filter(exchange);
+    }
+
+    /**
+     * 在全局过滤器中最先执行，早于可能改写请求体的过滤器
+     *
+     * @return 顺序值
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
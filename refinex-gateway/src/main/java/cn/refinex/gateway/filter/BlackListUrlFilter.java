@@ -2,6 +2,7 @@ package cn.refinex.gateway.filter;
 
 import cn.refinex.core.api.ApiResponse;
 import cn.refinex.core.api.ApiStatus;
+import cn.refinex.core.matcher.AntPathTrie;
 import cn.refinex.json.util.JsonUtils;
 import lombok.Data;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
@@ -18,7 +19,6 @@ import reactor.core.publisher.Mono;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 /**
  * 黑名单 URL 过滤
@@ -80,12 +80,12 @@ public class BlackListUrlFilter extends AbstractGatewayFilterFactory<BlackListUr
         private List<String> blacklistUrl = new ArrayList<>();
 
         /**
-         * 编译后的黑名单 URL 正则表达式列表
+         * 编译后的黑名单路径匹配树（配置变更时整体替换）
          */
-        private final List<Pattern> blacklistUrlPattern = new ArrayList<>();
+        private volatile AntPathTrie blacklistMatcher = AntPathTrie.EMPTY;
 
         /**
-         * 设置黑名单 URL 列表
+         * 设置黑名单 URL 列表（Ant 风格，忽略大小写）
          *
          * @param blacklistUrl 黑名单 URL 列表
          */
@@ -93,21 +93,17 @@ public class BlackListUrlFilter extends AbstractGatewayFilterFactory<BlackListUr
             this.blacklistUrl = CollectionUtils.isEmpty(blacklistUrl)
                     ? new ArrayList<>()
                     : new ArrayList<>(blacklistUrl);
-            this.blacklistUrlPattern.clear();
-            this.blacklistUrl.forEach(url -> this.blacklistUrlPattern.add(
-                    Pattern.compile(url.replace("**", "(.*?)"), Pattern.CASE_INSENSITIVE)
-            ));
+            this.blacklistMatcher = AntPathTrie.compile(this.blacklistUrl, true);
         }
 
         /**
-         * 检查 URL 是否匹配黑名单中的正则表达式
+         * 检查 URL 是否匹配黑名单，所有模式合并为一棵匹配树，单次遍历路径完成匹配
          *
          * @param url 请求路径
-         * @return 如果 URL 匹配黑名单中的正则表达式，则返回 true；否则返回 false
+         * @return 如果 URL 匹配黑名单，则返回 true；否则返回 false
          */
         public boolean matchBlacklist(String url) {
-            return !blacklistUrlPattern.isEmpty()
-                    && blacklistUrlPattern.stream().anyMatch(p -> p.matcher(url).find());
+            return blacklistMatcher.matches(url);
         }
     }
 }
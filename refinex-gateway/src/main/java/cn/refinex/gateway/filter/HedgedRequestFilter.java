@@ -0,0 +1,355 @@
+package cn.refinex.gateway.filter;
+
+import cn.refinex.core.matcher.AntPathTrie;
+import cn.refinex.gateway.config.properties.AdaptiveLoadBalancerProperties;
+import cn.refinex.gateway.loadbalancer.InstanceLoadTracker;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 对冲请求过滤器
+ * <p>
+ * 对匹配规则的 GET 请求（幂等、响应较小的非流式接口），主请求超过对冲延迟仍未返回时，
+ * 向代价最低的另一个实例发出同样的请求，取先返回的响应，另一个请求随即取消：
+ * <ul>
+ *     <li>对冲请求数受预算限制：每个可对冲请求积累 {@code budget-percent}% 个对冲额度，最多累积 {@code max-burst} 个，
+ *     下游整体变慢时不会因对冲而放大流量；</li>
+ *     <li>主请求快速失败（如连接被拒绝）时，对冲请求同样在延迟后发出，起到一次重试的作用；</li>
+ *     <li>请求由网关直接通过 HTTP 客户端发出并完整缓冲响应，不再经过路由转发过滤器；两个请求均计入实例负载统计。</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class HedgedRequestFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 一次对冲消耗的额度
+     */
+    private static final long HEDGE_COST = 100L;
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final AdaptiveLoadBalancerProperties properties;
+    private final InstanceLoadTracker tracker;
+    private final LoadBalancerClientFactory clientFactory;
+    private final ObjectProvider<HttpHeadersFilter> headersFilters;
+    private final WebClient webClient;
+
+    /**
+     * 对冲额度
+     */
+    private final AtomicLong credits = new AtomicLong();
+
+    /**
+     * 当前编译的规则
+     */
+    private volatile CompiledRules compiled;
+
+    /**
+     * 构造函数
+     *
+     * @param properties     负载均衡配置
+     * @param tracker        实例负载统计
+     * @param clientFactory  负载均衡客户端工厂
+     * @param headersFilters 网关请求头 / 响应头过滤器
+     * @param httpClient     网关 HTTP 客户端（复用连接池与超时配置）
+     */
+    public HedgedRequestFilter(AdaptiveLoadBalancerProperties properties,
+                               InstanceLoadTracker tracker,
+                               LoadBalancerClientFactory clientFactory,
+                               ObjectProvider<HttpHeadersFilter> headersFilters,
+                               HttpClient httpClient) {
+        this.properties = properties;
+        this.tracker = tracker;
+        this.clientFactory = clientFactory;
+        this.headersFilters = headersFilters;
+        this.webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) properties.getHedge().getMaxBodySize().toBytes()))
+                .build();
+    }
+
+    /**
+     * 执行对冲请求
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
+     * @return 处理结果
+     */
+    @NullMarked
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        AdaptiveLoadBalancerProperties.Hedge hedge = properties.getHedge();
+        if (!hedge.isEnabled()
+                || exchange.getRequest().getMethod() != HttpMethod.GET
+                || exchange.getRequest().getHeaders().getUpgrade() != null
+                || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+            return chain.filter(exchange);
+        }
+
+        Response<ServiceInstance> selected = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (selected == null || !selected.hasServer() || url == null || route == null
+                || !("http".equals(url.getScheme()) || "https".equals(url.getScheme()))) {
+            return chain.filter(exchange);
+        }
+        AdaptiveLoadBalancerProperties.Rule rule = currentRules().match(exchange.getRequest().getURI().getRawPath());
+        if (rule == null) {
+            return chain.filter(exchange);
+        }
+
+        deposit(hedge);
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+        List<HttpHeadersFilter> filters = headersFilters.orderedStream().toList();
+        HttpHeaders outbound = HttpHeadersFilter.filterRequest(filters, exchange);
+        outbound.remove(HttpHeaders.HOST);
+
+        ServiceInstance primary = selected.getServer();
+        String serviceId = StringUtils.hasText(primary.getServiceId()) ? primary.getServiceId() : route.getUri().getHost();
+        Mono<HedgeResult> primaryCall = send(primary, url, outbound, hedge);
+        Mono<HedgeResult> hedgeCall = Mono.delay(rule.getDelay())
+                .flatMap(tick -> alternate(serviceId, primary))
+                .filter(instance -> tryAcquire())
+                .flatMap(instance -> {
+                    log.debug("发出对冲请求 {} -> {}:{}", url.getRawPath(), instance.getHost(), instance.getPort());
+                    return send(instance, rebuild(url, instance), outbound, hedge);
+                });
+
+        return Mono.firstWithValue(primaryCall, hedgeCall)
+                .onErrorMap(NoSuchElementException.class, HedgedRequestFilter::translate)
+                .flatMap(result -> write(exchange, result, filters));
+    }
+
+    /**
+     * 在负载均衡过滤器选定实例之后、实例负载统计与路由转发之前执行
+     *
+     * @return 顺序值
+     */
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+
+    /**
+     * 向指定实例发出请求并完整读取响应
+     *
+     * @param instance 实例
+     * @param url      请求地址
+     * @param headers  请求头
+     * @param hedge    对冲配置
+     * @return 响应
+     */
+    private Mono<HedgeResult> send(ServiceInstance instance, URI url, HttpHeaders headers, AdaptiveLoadBalancerProperties.Hedge hedge) {
+        return Mono.defer(() -> {
+            InstanceLoadTracker.Stats stats = tracker.start(instance);
+            long startNanos = System.nanoTime();
+            return webClient.get()
+                    .uri(url)
+                    .headers(target -> target.addAll(headers))
+                    .exchangeToMono(response -> response.bodyToMono(byte[].class)
+                            .defaultIfEmpty(EMPTY_BODY)
+                            .map(body -> {
+                                HttpHeaders responseHeaders = new HttpHeaders();
+                                responseHeaders.addAll(response.headers().asHttpHeaders());
+                                return new HedgeResult(response.statusCode(), responseHeaders, body);
+                            }))
+                    .timeout(hedge.getTimeout())
+                    .doOnSuccess(result -> stats.observe(System.nanoTime() - startNanos))
+                    .doOnError(e -> stats.observe(System.nanoTime() - startNanos))
+                    .doFinally(signal -> stats.finish());
+        });
+    }
+
+    /**
+     * 选择主请求实例以外代价最低的实例
+     *
+     * @param serviceId 服务 ID
+     * @param primary   主请求实例
+     * @return 实例，没有其他实例时为空
+     */
+    private Mono<ServiceInstance> alternate(String serviceId, ServiceInstance primary) {
+        ServiceInstanceListSupplier supplier = clientFactory.getInstance(serviceId, ServiceInstanceListSupplier.class);
+        if (supplier == null) {
+            return Mono.empty();
+        }
+        return supplier.get().next().mapNotNull(instances -> tracker.select(instances, primary));
+    }
+
+    /**
+     * 将响应写回客户端
+     *
+     * @param exchange 服务器 Web 交换
+     * @param result   响应
+     * @param filters  响应头过滤器
+     * @return 处理结果
+     */
+    private Mono<Void> write(ServerWebExchange exchange, HedgeResult result, List<HttpHeadersFilter> filters) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(result.status());
+        HttpHeaders headers = HttpHeadersFilter.filter(filters, result.headers(), exchange, HttpHeadersFilter.Type.RESPONSE);
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        response.getHeaders().putAll(headers);
+        response.getHeaders().setContentLength(result.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(result.body())));
+    }
+
+    /**
+     * 主请求与对冲请求都失败时，转换为网关状态码
+     *
+     * @param error 合并的异常
+     * @return 转换后的异常
+     */
+    private static Throwable translate(NoSuchElementException error) {
+        Throwable cause = error.getSuppressed().length > 0 ? error.getSuppressed()[0] : error;
+        if (cause instanceof TimeoutException) {
+            return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "上游服务响应超时", cause);
+        }
+        if (cause instanceof WebClientRequestException) {
+            return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "上游服务不可用", cause);
+        }
+        return cause;
+    }
+
+    /**
+     * 将请求地址改写为另一个实例
+     *
+     * @param url      主请求地址
+     * @param instance 实例
+     * @return 请求地址
+     */
+    private static URI rebuild(URI url, ServiceInstance instance) {
+        return UriComponentsBuilder.fromUri(url)
+                .scheme(instance.isSecure() ? "https" : "http")
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(true)
+                .toUri();
+    }
+
+    /**
+     * 积累对冲额度
+     *
+     * @param hedge 对冲配置
+     */
+    private void deposit(AdaptiveLoadBalancerProperties.Hedge hedge) {
+        long deposit = Math.max(0, hedge.getBudgetPercent());
+        long cap = Math.max(1, hedge.getMaxBurst()) * HEDGE_COST;
+        credits.getAndUpdate(current -> Math.min(cap, current + deposit));
+    }
+
+    /**
+     * 尝试消耗一次对冲额度
+     *
+     * @return true 额度充足
+     */
+    private boolean tryAcquire() {
+        while (true) {
+            long current = credits.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+            if (credits.compareAndSet(current, current - HEDGE_COST)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 获取当前规则，规则列表变化（配置刷新）时重新编译
+     *
+     * @return 编译后的规则
+     */
+    private CompiledRules currentRules() {
+        List<AdaptiveLoadBalancerProperties.Rule> rules = properties.getHedge().getRules();
+        CompiledRules snapshot = compiled;
+        if (snapshot == null || snapshot.source() != rules) {
+            snapshot = CompiledRules.compile(rules);
+            compiled = snapshot;
+            log.info("网关对冲请求规则已加载: rules={}", rules.size());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 编译后的规则
+     *
+     * @param source 规则列表（用于判断是否变化）
+     * @param paths  所有规则的路径模式
+     * @param owners 路径模式下标 -> 所属规则
+     */
+    private record CompiledRules(List<AdaptiveLoadBalancerProperties.Rule> source,
+                                 AntPathTrie paths, List<AdaptiveLoadBalancerProperties.Rule> owners) {
+
+        static CompiledRules compile(List<AdaptiveLoadBalancerProperties.Rule> source) {
+            List<String> patterns = new ArrayList<>();
+            List<AdaptiveLoadBalancerProperties.Rule> owners = new ArrayList<>();
+            for (AdaptiveLoadBalancerProperties.Rule rule : source) {
+                if (rule.getDelay() == null || rule.getDelay().isNegative()) {
+                    continue;
+                }
+                for (String pattern : rule.getPaths()) {
+                    if (StringUtils.hasText(pattern)) {
+                        patterns.add(pattern);
+                        owners.add(rule);
+                    }
+                }
+            }
+            return new CompiledRules(source, AntPathTrie.compile(patterns, false), List.copyOf(owners));
+        }
+
+        AdaptiveLoadBalancerProperties.Rule match(String path) {
+            int index = paths.match(path);
+            return index == AntPathTrie.NO_MATCH ? null : owners.get(index);
+        }
+    }
+
+    /**
+     * 完整读取的上游响应
+     *
+     * @param status  状态码
+     * @param headers 响应头
+     * @param body    响应体
+     */
+    private record HedgeResult(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+}
@@ -0,0 +1,76 @@
+package cn.refinex.gateway.filter;
+
+import cn.refinex.gateway.loadbalancer.InstanceLoadTracker;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 实例负载统计过滤器
+ * <p>
+ * 在负载均衡选定实例后统计该实例的进行中请求数与响应时间，供 {@link cn.refinex.gateway.loadbalancer.PeakEwmaLoadBalancer} 使用：
+ * 响应时间取到上游响应头到达（响应提交）为止，流式响应不会因持续输出而被视为慢实例；进行中请求数在响应结束时减少。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class InstanceLoadFilter implements GlobalFilter, Ordered {
+
+    private final InstanceLoadTracker tracker;
+
+    /**
+     * 统计实例负载
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
+     * @return 处理结果
+     */
+    @NullMarked
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> selected = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (selected == null || !selected.hasServer() || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+            return chain.filter(exchange);
+        }
+
+        InstanceLoadTracker.Stats stats = tracker.start(selected.getServer());
+        long startNanos = System.nanoTime();
+        AtomicBoolean observed = new AtomicBoolean();
+        exchange.getResponse().beforeCommit(() -> {
+            if (observed.compareAndSet(false, true)) {
+                stats.observe(System.nanoTime() - startNanos);
+            }
+            return Mono.empty();
+        });
+        return chain.filter(exchange).doFinally(signal -> {
+            // 未提交响应即失败（连接失败、超时）时按耗时计入，使故障实例代价升高
+            if (observed.compareAndSet(false, true)) {
+                stats.observe(System.nanoTime() - startNanos);
+            }
+            stats.finish();
+        });
+    }
+
+    /**
+     * 在负载均衡过滤器选定实例之后执行
+     *
+     * @return 顺序值
+     */
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 2;
+    }
+}
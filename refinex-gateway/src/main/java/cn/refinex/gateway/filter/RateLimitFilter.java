@@ -0,0 +1,463 @@
+package cn.refinex.gateway.filter;
+
+import cn.hutool.core.util.IdUtil;
+import cn.refinex.core.matcher.AntPathTrie;
+import cn.refinex.gateway.config.properties.RateLimitProperties;
+import cn.refinex.gateway.exception.RateLimitExceededException;
+import cn.refinex.redis.reactive.ReactiveRedisService;
+import cn.refinex.satoken.common.constant.SaTokenConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 网关限流过滤器
+ * <p>
+ * 按配置对每个请求检查用户、IP、路由维度的令牌桶，以及单用户的并发请求上限：
+ * <ul>
+ *     <li>Redis 键的 hash tag 为限流主体（如 {@code {USER:1}}），不同主体的键分散到不同槽位；</li>
+ *     <li>同一主体的令牌桶（及用户并发租约）在一次 Lua 脚本调用中原子检查，任一不满足时该主体不扣减令牌；
+ *     不同主体依次检查，遇到拒绝即停止并退还此前主体已扣减的令牌，并发租约所在的主体最后检查，避免登记后又被其他主体拒绝；</li>
+ *     <li>IP 维度按连接的远端地址或受信任代理层数解析 X-Forwarded-For，客户端伪造的请求头不会绕过限流；</li>
+ *     <li>被拒绝的令牌桶在重试等待期内记入本地缓存，期间同一个桶的请求直接在本地拒绝，不再访问 Redis；</li>
+ *     <li>并发租约在请求进行中每隔 1/3 有效期续期，响应结束（完成、出错或客户端断开）时释放，异常退出未释放的租约到期后由脚本清理；</li>
+ *     <li>被拒绝时抛出 {@link RateLimitExceededException}，由网关异常处理器返回 429 与 {@code Retry-After}；</li>
+ *     <li>Redis 不可用或调用超时时放行请求，避免限流组件故障导致整体不可用。</li>
+ * </ul>
+ * 规则随 Nacos 配置刷新，规则列表变化后重新编译路径匹配树。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Order(-150)
+@Component
+public class RateLimitFilter implements GlobalFilter {
+
+    /**
+     * 准入检查脚本
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMISSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/gateway_admission.lua"), List.class);
+
+    /**
+     * 令牌退还脚本
+     */
+    private static final RedisScript<Long> REFUND_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/gateway_refund.lua"), Long.class);
+
+    /**
+     * 并发租约续期脚本
+     */
+    private static final RedisScript<Long> LEASE_RENEW_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/gateway_lease_renew.lua"), Long.class);
+
+    private final RateLimitProperties properties;
+    private final ReactiveRedisService redisService;
+
+    /**
+     * 本地拒绝缓存：令牌桶键 -> 拒绝截止时间（毫秒）
+     */
+    private final Cache<String, Long> localBlocks;
+
+    /**
+     * 当前编译的规则
+     */
+    private volatile CompiledRules compiled;
+
+    /**
+     * 构造函数
+     *
+     * @param properties   限流配置
+     * @param redisService 响应式 Redis 服务
+     */
+    public RateLimitFilter(RateLimitProperties properties, ReactiveRedisService redisService) {
+        this.properties = properties;
+        this.redisService = redisService;
+        this.localBlocks = Caffeine.newBuilder()
+                .maximumSize(properties.getLocalBlockCacheSize())
+                .build();
+    }
+
+    /**
+     * 执行限流检查
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
+     * @return 处理结果
+     */
+    @NullMarked
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        CompiledRules rules = currentRules();
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getURI().getPath();
+        Object loginId = exchange.getAttribute(SaTokenConstants.LOGIN_ID_ATTRIBUTE);
+
+        // 按主体分组，同组键带相同的 hash tag
+        Map<String, List<Bucket>> groups = new LinkedHashMap<>();
+        for (CompiledRule rule : rules.rules()) {
+            if (!rule.paths().matches(path)) {
+                continue;
+            }
+            String subject = resolveSubject(rule.rule().getDimension(), exchange, loginId, rules);
+            if (subject != null) {
+                String tag = hashTag(rule.rule().getDimension(), subject);
+                Bucket bucket = new Bucket(rules.keyPrefix() + ":bucket:" + rule.rule().getId() + ":" + tag, rule.rule());
+                groups.computeIfAbsent(tag, key -> new ArrayList<>()).add(bucket);
+            }
+        }
+        String leaseTag = loginId != null && rules.concurrencyPaths() != null && rules.concurrencyPaths().matches(path)
+                ? hashTag(RateLimitProperties.Dimension.USER, loginId.toString())
+                : null;
+        String leaseKey = leaseTag != null ? rules.keyPrefix() + ":inflight:" + leaseTag : null;
+        if (groups.isEmpty() && leaseKey == null) {
+            return chain.filter(exchange);
+        }
+
+        // 本地预检：重试等待期内的令牌桶直接拒绝
+        long now = System.currentTimeMillis();
+        for (List<Bucket> group : groups.values()) {
+            for (Bucket bucket : group) {
+                Long blockedUntil = localBlocks.getIfPresent(bucket.key());
+                if (blockedUntil != null && blockedUntil > now) {
+                    return Mono.error(new RateLimitExceededException("请求过于频繁，请稍后再试", blockedUntil - now));
+                }
+            }
+        }
+
+        // 并发租约所在的主体放在最后检查
+        List<SlotGroup> slots = new ArrayList<>(groups.size() + 1);
+        groups.forEach((tag, group) -> {
+            if (!tag.equals(leaseTag)) {
+                slots.add(new SlotGroup(group, null));
+            }
+        });
+        if (leaseKey != null) {
+            slots.add(new SlotGroup(groups.getOrDefault(leaseTag, List.of()), leaseKey));
+        }
+        String leaseId = leaseKey != null ? IdUtil.fastSimpleUUID() : null;
+        return admit(slots, 0, leaseId, new ArrayList<>(slots.size())).flatMap(admission -> {
+            if (!admission.allowed()) {
+                return Mono.error(reject(admission, now));
+            }
+            if (!admission.leased()) {
+                return chain.filter(exchange);
+            }
+            Disposable renewal = renewLease(leaseKey, leaseId);
+            return chain.filter(exchange).doFinally(signal -> {
+                renewal.dispose();
+                release(leaseKey, leaseId);
+            });
+        });
+    }
+
+    /**
+     * 依次检查各主体，遇到拒绝即停止，并退还此前主体已扣减的令牌
+     *
+     * @param slots   按主体分组的检查项
+     * @param index   当前检查的分组序号
+     * @param leaseId 租约 ID
+     * @param charged 已扣减令牌的分组（放行的 Redis 异常不计入，无法确定是否已扣减）
+     * @return 最后一个分组的检查结果，或第一个拒绝结果
+     */
+    private Mono<Admission> admit(List<SlotGroup> slots, int index, String leaseId, List<SlotGroup> charged) {
+        SlotGroup slot = slots.get(index);
+        return admit(slot.buckets(), slot.leaseKey(), leaseId).flatMap(admission -> {
+            if (!admission.allowed()) {
+                charged.forEach(group -> refund(group.buckets()));
+                return Mono.just(admission);
+            }
+            if (admission != Admission.FAIL_OPEN) {
+                charged.add(slot);
+            }
+            return index == slots.size() - 1 ? Mono.just(admission) : admit(slots, index + 1, leaseId, charged);
+        });
+    }
+
+    /**
+     * 执行准入检查脚本（同一主体的键位于同一槽位），Redis 异常时放行
+     *
+     * @param buckets  令牌桶
+     * @param leaseKey 并发租约键，为 null 时不检查并发
+     * @param leaseId  租约 ID
+     * @return 检查结果
+     */
+    private Mono<Admission> admit(List<Bucket> buckets, String leaseKey, String leaseId) {
+        List<String> keys = new ArrayList<>(buckets.size() + 1);
+        List<Object> args = new ArrayList<>(buckets.size() * 2 + 4);
+        args.add(buckets.size());
+        for (Bucket bucket : buckets) {
+            keys.add(bucket.key());
+            args.add(bucket.rule().getCapacity());
+            args.add(bucket.rule().getRefillPerSecond());
+        }
+        if (leaseKey != null) {
+            RateLimitProperties.Concurrency concurrency = properties.getConcurrency();
+            keys.add(leaseKey);
+            args.add(concurrency.getMaxPerUser());
+            args.add(leaseId);
+            args.add(concurrency.getLeaseTtl().toMillis());
+        }
+
+        return redisService.execute(ADMISSION_SCRIPT, keys, args.toArray())
+                .collectList()
+                .map(reply -> Admission.of(reply, buckets, leaseKey != null))
+                .timeout(properties.getRedisTimeout())
+                .onErrorResume(e -> {
+                    log.warn("网关限流检查失败，放行请求: {}", e.getMessage());
+                    return Mono.just(Admission.FAIL_OPEN);
+                });
+    }
+
+    /**
+     * 构建拒绝异常，令牌桶拒绝时记入本地缓存
+     *
+     * @param admission 检查结果
+     * @param now       当前时间（毫秒）
+     * @return 限流异常
+     */
+    private RateLimitExceededException reject(Admission admission, long now) {
+        if (admission.rejected() != null) {
+            localBlocks.put(admission.rejected().key(), now + admission.retryAfterMillis());
+            return new RateLimitExceededException("请求过于频繁，请稍后再试", admission.retryAfterMillis());
+        }
+        return new RateLimitExceededException("进行中的请求过多，请等待当前请求完成", admission.retryAfterMillis());
+    }
+
+    /**
+     * 退还令牌：后续主体拒绝时，该主体本次扣减的令牌加回（不超过容量）
+     *
+     * @param buckets 同一主体的令牌桶
+     */
+    private void refund(List<Bucket> buckets) {
+        List<String> keys = new ArrayList<>(buckets.size());
+        Object[] capacities = new Object[buckets.size()];
+        for (int i = 0; i < buckets.size(); i++) {
+            keys.add(buckets.get(i).key());
+            capacities[i] = buckets.get(i).rule().getCapacity();
+        }
+        redisService.execute(REFUND_SCRIPT, keys, capacities)
+                .timeout(properties.getRedisTimeout())
+                .subscribe(null, e -> log.warn("退还令牌失败 keys={}: {}", keys, e.getMessage()));
+    }
+
+    /**
+     * 请求进行中定期续期并发租约，流式响应不受租约有效期限制
+     *
+     * @param leaseKey 并发租约键
+     * @param leaseId  租约 ID
+     * @return 续期任务，响应结束时取消
+     */
+    private Disposable renewLease(String leaseKey, String leaseId) {
+        Duration ttl = properties.getConcurrency().getLeaseTtl();
+        Duration interval = ttl.dividedBy(3);
+        if (interval.isZero()) {
+            return Disposables.disposed();
+        }
+        return Flux.interval(interval, interval)
+                .concatMap(tick -> redisService.execute(LEASE_RENEW_SCRIPT, List.of(leaseKey), leaseId, ttl.toMillis())
+                        .timeout(properties.getRedisTimeout())
+                        .onErrorResume(e -> {
+                            // 单次续期失败不中断续期，下一次续期仍在有效期内
+                            log.warn("续期并发租约失败 key={}, lease={}: {}", leaseKey, leaseId, e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    /**
+     * 释放并发租约
+     *
+     * @param leaseKey 并发租约键
+     * @param leaseId  租约 ID
+     */
+    private void release(String leaseKey, String leaseId) {
+        redisService.zSet().remove(leaseKey, leaseId)
+                .subscribe(null, e -> log.warn("释放并发租约失败 key={}, lease={}: {}", leaseKey, leaseId, e.getMessage()));
+    }
+
+    /**
+     * 解析限流主体
+     *
+     * @param dimension 限流维度
+     * @param exchange  服务器 Web 交换
+     * @param loginId   登录 ID
+     * @param rules     当前规则（包含客户端地址解析器）
+     * @return 限流主体，无法确定时为 null（不检查该规则）
+     */
+    private String resolveSubject(RateLimitProperties.Dimension dimension, ServerWebExchange exchange, Object loginId,
+                                  CompiledRules rules) {
+        return switch (dimension) {
+            case USER -> loginId != null ? loginId.toString() : null;
+            case IP -> {
+                // 未配置受信任代理时只使用连接的远端地址，X-Forwarded-For 由客户端控制不可信
+                InetSocketAddress address = rules.forwardedResolver() != null
+                        ? rules.forwardedResolver().resolve(exchange)
+                        : exchange.getRequest().getRemoteAddress();
+                if (address == null) {
+                    yield null;
+                }
+                yield address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+            }
+            case ROUTE -> {
+                Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+                yield route != null ? route.getId() : null;
+            }
+        };
+    }
+
+    /**
+     * 构建 hash tag：集群模式下同一主体的键位于同一槽位
+     *
+     * @param dimension 限流维度
+     * @param subject   限流主体
+     * @return hash tag
+     */
+    private static String hashTag(RateLimitProperties.Dimension dimension, String subject) {
+        return "{" + dimension.name() + ":" + subject + "}";
+    }
+
+    /**
+     * 获取当前规则，规则列表变化（配置刷新）时重新编译
+     *
+     * @return 编译后的规则
+     */
+    private CompiledRules currentRules() {
+        List<RateLimitProperties.Rule> rules = properties.getRules();
+        RateLimitProperties.Concurrency concurrency = properties.getConcurrency();
+        CompiledRules snapshot = compiled;
+        if (snapshot == null || snapshot.source() != rules || snapshot.concurrency() != concurrency
+                || snapshot.trustedProxies() != properties.getTrustedProxies()) {
+            snapshot = CompiledRules.compile(properties.getKeyPrefix(), rules, concurrency, properties.getTrustedProxies());
+            compiled = snapshot;
+            log.info("网关限流规则已加载: rules={}, concurrency={}", rules.size(), concurrency.isEnabled());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 编译后的规则
+     *
+     * @param keyPrefix         Redis 键前缀
+     * @param source            规则列表（用于判断是否变化）
+     * @param concurrency       并发配置（用于判断是否变化）
+     * @param trustedProxies    受信任的代理层数（用于判断是否变化）
+     * @param rules             编译后的令牌桶规则
+     * @param concurrencyPaths  并发上限适用路径，未启用时为 null
+     * @param forwardedResolver 按受信任代理层数解析 X-Forwarded-For 的解析器，未配置代理时为 null
+     */
+    private record CompiledRules(String keyPrefix, List<RateLimitProperties.Rule> source,
+                                 RateLimitProperties.Concurrency concurrency, int trustedProxies,
+                                 List<CompiledRule> rules, AntPathTrie concurrencyPaths,
+                                 XForwardedRemoteAddressResolver forwardedResolver) {
+
+        static CompiledRules compile(String keyPrefix, List<RateLimitProperties.Rule> source,
+                                     RateLimitProperties.Concurrency concurrency, int trustedProxies) {
+            List<CompiledRule> rules = source.stream()
+                    .filter(rule -> rule.getId() != null && rule.getCapacity() > 0 && rule.getRefillPerSecond() > 0)
+                    .map(rule -> new CompiledRule(rule, AntPathTrie.compile(rule.getPaths(), false)))
+                    .toList();
+            AntPathTrie concurrencyPaths = concurrency.isEnabled() && concurrency.getMaxPerUser() > 0
+                    ? AntPathTrie.compile(concurrency.getPaths(), false)
+                    : null;
+            XForwardedRemoteAddressResolver forwardedResolver = trustedProxies > 0
+                    ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                    : null;
+            return new CompiledRules(keyPrefix, source, concurrency, trustedProxies, rules, concurrencyPaths, forwardedResolver);
+        }
+    }
+
+    /**
+     * 编译后的令牌桶规则
+     *
+     * @param rule  规则
+     * @param paths 适用路径
+     */
+    private record CompiledRule(RateLimitProperties.Rule rule, AntPathTrie paths) {
+    }
+
+    /**
+     * 本次请求需要检查的令牌桶
+     *
+     * @param key  Redis 键
+     * @param rule 规则
+     */
+    private record Bucket(String key, RateLimitProperties.Rule rule) {
+    }
+
+    /**
+     * 同一主体（同一槽位）的检查项
+     *
+     * @param buckets  令牌桶
+     * @param leaseKey 并发租约键，为 null 时不检查并发
+     */
+    private record SlotGroup(List<Bucket> buckets, String leaseKey) {
+    }
+
+    /**
+     * 准入检查结果
+     *
+     * @param allowed          是否允许
+     * @param rejected         拒绝的令牌桶，并发上限拒绝或允许时为 null
+     * @param retryAfterMillis 重试等待时间（毫秒）
+     * @param leased           是否登记了并发租约
+     */
+    private record Admission(boolean allowed, Bucket rejected, long retryAfterMillis, boolean leased) {
+
+        /**
+         * Redis 异常时放行
+         */
+        static final Admission FAIL_OPEN = new Admission(true, null, 0L, false);
+
+        /**
+         * 由脚本返回的 {@code {allowed, rejectedIndex, retryAfter}} 构建
+         *
+         * @param reply     脚本返回值
+         * @param buckets   本次检查的令牌桶
+         * @param withLease 是否检查了并发
+         * @return 检查结果
+         */
+        static Admission of(List<?> reply, List<Bucket> buckets, boolean withLease) {
+            // 驱动可能将多值返回展开为多个元素，也可能作为一个列表元素返回
+            List<?> values = reply.size() == 1 && reply.getFirst() instanceof List<?> nested ? nested : reply;
+            boolean allowed = toLong(values.get(0)) == 1L;
+            int index = (int) toLong(values.get(1)) - 1;
+            Bucket rejected = !allowed && index >= 0 && index < buckets.size() ? buckets.get(index) : null;
+            return new Admission(allowed, rejected, toLong(values.get(2)), allowed && withLease);
+        }
+
+        private static long toLong(Object value) {
+            return value instanceof Number number ? number.longValue() : Long.parseLong(Objects.toString(value));
+        }
+    }
+}
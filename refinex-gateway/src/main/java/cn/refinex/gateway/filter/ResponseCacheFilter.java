@@ -0,0 +1,604 @@
+package cn.refinex.gateway.filter;
+
+import cn.hutool.core.util.ZipUtil;
+import cn.refinex.core.matcher.AntPathTrie;
+import cn.refinex.gateway.config.properties.ResponseCacheProperties;
+import cn.refinex.gateway.support.CachedResponse;
+import cn.refinex.json.util.JsonUtils;
+import cn.refinex.redis.reactive.ReactiveRedisService;
+import cn.refinex.satoken.common.constant.SaTokenConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NullMarked;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 网关响应缓存过滤器
+ * <p>
+ * 对匹配规则的 GET 请求缓存上游的 200 响应，命中时不再转发到后端服务：
+ * <ul>
+ *     <li>缓存键由规则 ID、登录用户（按用户缓存时）、原始路径与查询字符串组成；</li>
+ *     <li>一级缓存为本地堆外内存（按压缩后字节数限制容量），二级缓存为 Redis，多个网关实例共享；</li>
+ *     <li>响应体以 GZIP 压缩保存，客户端支持 gzip 时直接返回压缩内容，否则解压后返回；</li>
+ *     <li>命中时携带 {@code ETag}，请求的 {@code If-None-Match} 匹配时返回 304；返回 gzip 内容时使用弱实体标签（{@code W/}），
+ *     避免与上游未压缩表示的强实体标签相同；</li>
+ *     <li>遵循 {@code Cache-Control}：请求 {@code no-store} 时绕过缓存、{@code no-cache} 时跳过读取；
+ *     响应 {@code no-store}、{@code no-cache}（以及非按用户缓存时的 {@code private}）不缓存，{@code max-age} 缩短有效期；</li>
+ *     <li>流式响应（{@code text/event-stream}、{@code application/x-ndjson}）、带 {@code Set-Cookie} 或已编码的响应不缓存；</li>
+ *     <li>后端异常处理器以 HTTP 200 返回错误信封（{@code ApiResponse.error}），JSON 响应体中 {@code code} 不在 2xx 范围内时不缓存。</li>
+ * </ul>
+ * 缓存只按有效期失效，规则中应只配置读多写少、短时间不一致可接受的接口。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Order(-90)
+@Component
+public class ResponseCacheFilter implements GlobalFilter {
+
+    /**
+     * 缓存命中标识响应头
+     */
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    /**
+     * 本地缓存条目的固定开销估算（字节）
+     */
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final ResponseCacheProperties properties;
+    private final ReactiveRedisService redisService;
+    private final JsonUtils jsonUtils;
+
+    /**
+     * 一级缓存：缓存键 -> 本地条目（响应体位于堆外内存）
+     */
+    private final Cache<String, LocalEntry> localCache;
+
+    /**
+     * 当前编译的规则
+     */
+    private volatile CompiledRules compiled;
+
+    /**
+     * 构造函数
+     *
+     * @param properties   响应缓存配置
+     * @param redisService 响应式 Redis 服务
+     * @param jsonUtils    JSON 工具
+     */
+    public ResponseCacheFilter(ResponseCacheProperties properties, ReactiveRedisService redisService, JsonUtils jsonUtils) {
+        this.properties = properties;
+        this.redisService = redisService;
+        this.jsonUtils = jsonUtils;
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(properties.getLocalMaximumSize().toBytes())
+                .weigher((String key, LocalEntry entry) -> entry.weight())
+                .expireAfter(new LocalEntryExpiry())
+                .build();
+    }
+
+    /**
+     * 执行响应缓存
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
+     * @return 处理结果
+     */
+    @NullMarked
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!properties.isEnabled() || request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+
+        CompiledRules rules = currentRules();
+        int index = rules.paths().match(request.getURI().getRawPath());
+        if (index == AntPathTrie.NO_MATCH) {
+            return chain.filter(exchange);
+        }
+        ResponseCacheProperties.Rule rule = rules.owners().get(index);
+
+        String requestCacheControl = request.getHeaders().getCacheControl();
+        if (hasDirective(requestCacheControl, "no-store")) {
+            return chain.filter(exchange);
+        }
+        Object loginId = exchange.getAttribute(SaTokenConstants.LOGIN_ID_ATTRIBUTE);
+        if (rule.isPerUser() && loginId == null) {
+            return chain.filter(exchange);
+        }
+
+        String key = buildKey(rules.keyPrefix(), rule, loginId, request);
+        Mono<LocalEntry> lookup = hasDirective(requestCacheControl, "no-cache") ? Mono.empty() : lookup(key);
+        return lookup.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(hit -> hit.isPresent()
+                        ? writeCached(exchange, hit.get())
+                        : forward(exchange, chain, key, rule));
+    }
+
+    /**
+     * 依次查找一级与二级缓存，二级缓存命中时回填一级缓存
+     *
+     * @param key 缓存键
+     * @return 缓存条目，未命中时为空
+     */
+    private Mono<LocalEntry> lookup(String key) {
+        LocalEntry local = localCache.getIfPresent(key);
+        if (local != null && !local.isExpired()) {
+            return Mono.just(local);
+        }
+        if (!properties.isRedisEnabled()) {
+            return Mono.empty();
+        }
+        return redisService.string().get(key, CachedResponse.class)
+                .filter(cached -> cached.getExpiresAt() > System.currentTimeMillis() && cached.getBody() != null)
+                .map(cached -> {
+                    LocalEntry entry = LocalEntry.of(cached);
+                    localCache.put(key, entry);
+                    return entry;
+                })
+                .onErrorResume(e -> {
+                    log.warn("读取网关响应缓存失败 key={}: {}", key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 使用缓存条目写出响应
+     *
+     * @param exchange 服务器 Web 交换
+     * @param entry    缓存条目
+     * @return 处理结果
+     */
+    private Mono<Void> writeCached(ServerWebExchange exchange, LocalEntry entry) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        boolean gzip = acceptsGzip(request);
+        // gzip 表示与未压缩表示字节不同，不能共用强实体标签
+        String etag = gzip ? "W/" + stripWeak(entry.etag()) : entry.etag();
+        headers.set(CACHE_STATUS_HEADER, "HIT");
+        headers.setETag(etag);
+        if (entry.cacheControl() != null) {
+            headers.setCacheControl(entry.cacheControl());
+        }
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (etagMatches(request.getHeaders().getIfNoneMatch(), etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+
+        response.setStatusCode(HttpStatus.OK);
+        if (entry.contentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, entry.contentType());
+        }
+
+        DataBuffer buffer;
+        if (gzip) {
+            // 堆外内存只读视图直接写出，不复制
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            buffer = response.bufferFactory().wrap(entry.body().asReadOnlyBuffer());
+        } else {
+            buffer = response.bufferFactory().wrap(ZipUtil.unGzip(entry.compressedBytes()));
+        }
+        headers.setContentLength(buffer.readableByteCount());
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * 缓存未命中，转发请求并在响应写出后保存
+     *
+     * @param exchange 服务器 Web 交换
+     * @param chain    网关过滤器链
+     * @param key      缓存键
+     * @param rule     缓存规则
+     * @return 处理结果
+     */
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, String key, ResponseCacheProperties.Rule rule) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        CachingResponse cachingResponse = new CachingResponse(response, key, rule);
+        return chain.filter(exchange.mutate().response(cachingResponse).build());
+    }
+
+    /**
+     * 压缩并保存响应（在弹性线程池执行，不占用事件循环）
+     *
+     * @param key     缓存键
+     * @param rule    缓存规则
+     * @param headers 响应头
+     * @param body    未压缩的响应体
+     */
+    private void store(String key, ResponseCacheProperties.Rule rule, HttpHeaders headers, byte[] body) {
+        String cacheControl = headers.getCacheControl();
+        long ttlMillis = resolveTtl(rule.getTtl(), cacheControl).toMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        String upstreamEtag = headers.getETag();
+        MediaType mediaType = headers.getContentType();
+        Mono.fromRunnable(() -> {
+                    if (isErrorEnvelope(mediaType, body)) {
+                        return;
+                    }
+                    String etag = upstreamEtag != null ? upstreamEtag : "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+                    CachedResponse cached = new CachedResponse(contentType, etag, cacheControl,
+                            System.currentTimeMillis() + ttlMillis, body.length, ZipUtil.gzip(body));
+                    localCache.put(key, LocalEntry.of(cached));
+                    if (properties.isRedisEnabled()) {
+                        redisService.string().set(key, cached, Duration.ofMillis(ttlMillis))
+                                .subscribe(null, e -> log.warn("写入网关响应缓存失败 key={}: {}", key, e.getMessage()));
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("保存网关响应缓存失败 key={}: {}", key, e.getMessage()));
+    }
+
+    /**
+     * 判断 JSON 响应体是否为错误信封：顶层 {@code code} 为数字且不在 2xx 范围内
+     * <p>
+     * 后端的业务异常、未登录等处理器以 HTTP 200 返回 {@code ApiResponse.error}，仅凭状态码无法区分。
+     *
+     * @param mediaType 响应内容类型
+     * @param body      未压缩的响应体
+     * @return true 为错误信封（或无法解析的 JSON），不缓存
+     */
+    private boolean isErrorEnvelope(MediaType mediaType, byte[] body) {
+        if (mediaType == null || !MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+            return false;
+        }
+        try {
+            JsonNode code = jsonUtils.mapper().readTree(body).get("code");
+            return code != null && code.isNumber() && (code.asInt() < 200 || code.asInt() >= 300);
+        } catch (JacksonException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 判断上游响应是否可缓存
+     *
+     * @param response 响应
+     * @param rule     缓存规则
+     * @return true 可缓存
+     */
+    private boolean isCacheable(ServerHttpResponse response, ResponseCacheProperties.Rule rule) {
+        HttpStatusCode statusCode = response.getStatusCode();
+        if (statusCode == null || statusCode.value() != HttpStatus.OK.value()) {
+            return false;
+        }
+        HttpHeaders headers = response.getHeaders();
+        MediaType contentType = headers.getContentType();
+        if (contentType == null
+                || MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType)
+                || MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return false;
+        }
+        if (headers.containsHeader(HttpHeaders.SET_COOKIE) || headers.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        if (hasDirective(cacheControl, "no-store") || hasDirective(cacheControl, "no-cache")
+                || (!rule.isPerUser() && hasDirective(cacheControl, "private"))) {
+            return false;
+        }
+        long contentLength = headers.getContentLength();
+        return contentLength <= properties.getMaxBodySize().toBytes();
+    }
+
+    /**
+     * 构建缓存键
+     *
+     * @param keyPrefix 键前缀
+     * @param rule      缓存规则
+     * @param loginId   登录 ID
+     * @param request   请求
+     * @return 缓存键
+     */
+    private String buildKey(String keyPrefix, ResponseCacheProperties.Rule rule, Object loginId, ServerHttpRequest request) {
+        String path = request.getURI().getRawPath();
+        String query = request.getURI().getRawQuery();
+        StringBuilder key = new StringBuilder(keyPrefix.length() + path.length() + 64)
+                .append(keyPrefix).append(':').append(rule.getId()).append(':')
+                .append(rule.isPerUser() ? loginId : "*").append(':')
+                .append(path);
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 解析缓存有效期：规则有效期与响应 {@code s-maxage} / {@code max-age} 取较小值
+     *
+     * @param ruleTtl      规则有效期
+     * @param cacheControl 响应 Cache-Control
+     * @return 有效期
+     */
+    private static Duration resolveTtl(Duration ruleTtl, String cacheControl) {
+        if (!StringUtils.hasText(cacheControl)) {
+            return ruleTtl;
+        }
+        Long maxAge = null;
+        for (String directive : cacheControl.split(",")) {
+            String value = directive.trim().toLowerCase(Locale.ROOT);
+            try {
+                if (value.startsWith("s-maxage=")) {
+                    maxAge = Long.parseLong(value.substring("s-maxage=".length()));
+                    break;
+                }
+                if (value.startsWith("max-age=")) {
+                    maxAge = Long.parseLong(value.substring("max-age=".length()));
+                }
+            } catch (NumberFormatException ignored) {
+                // 非法的指令值按未声明处理
+            }
+        }
+        if (maxAge == null) {
+            return ruleTtl;
+        }
+        Duration declared = Duration.ofSeconds(Math.max(0L, maxAge));
+        return declared.compareTo(ruleTtl) < 0 ? declared : ruleTtl;
+    }
+
+    /**
+     * Cache-Control 是否包含指令
+     *
+     * @param cacheControl Cache-Control
+     * @param directive    指令
+     * @return true 包含
+     */
+    private static boolean hasDirective(String cacheControl, String directive) {
+        if (!StringUtils.hasText(cacheControl)) {
+            return false;
+        }
+        for (String value : cacheControl.split(",")) {
+            String name = value.trim();
+            int equals = name.indexOf('=');
+            if ((equals < 0 ? name : name.substring(0, equals)).equalsIgnoreCase(directive)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-None-Match 是否与实体标签匹配（弱比较）
+     *
+     * @param ifNoneMatch If-None-Match 中的实体标签
+     * @param etag        缓存的实体标签
+     * @return true 匹配
+     */
+    private static boolean etagMatches(List<String> ifNoneMatch, String etag) {
+        String target = stripWeak(etag);
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * 客户端是否接受 gzip 编码
+     *
+     * @param request 请求
+     * @return true 接受
+     */
+    private static boolean acceptsGzip(ServerHttpRequest request) {
+        for (String value : request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+            if (value.toLowerCase(Locale.ROOT).contains("gzip")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取当前规则，规则列表变化（配置刷新）时重新编译
+     *
+     * @return 编译后的规则
+     */
+    private CompiledRules currentRules() {
+        List<ResponseCacheProperties.Rule> rules = properties.getRules();
+        CompiledRules snapshot = compiled;
+        if (snapshot == null || snapshot.source() != rules) {
+            snapshot = CompiledRules.compile(properties.getKeyPrefix(), rules);
+            compiled = snapshot;
+            log.info("网关响应缓存规则已加载: rules={}", rules.size());
+        }
+        return snapshot;
+    }
+
+    /**
+     * 编译后的规则
+     *
+     * @param keyPrefix 缓存键前缀
+     * @param source    规则列表（用于判断是否变化）
+     * @param paths     所有规则的路径模式
+     * @param owners    路径模式下标 -> 所属规则
+     */
+    private record CompiledRules(String keyPrefix, List<ResponseCacheProperties.Rule> source,
+                                 AntPathTrie paths, List<ResponseCacheProperties.Rule> owners) {
+
+        static CompiledRules compile(String keyPrefix, List<ResponseCacheProperties.Rule> source) {
+            List<String> patterns = new ArrayList<>();
+            List<ResponseCacheProperties.Rule> owners = new ArrayList<>();
+            for (ResponseCacheProperties.Rule rule : source) {
+                if (rule.getId() == null || rule.getTtl() == null || rule.getTtl().isNegative() || rule.getTtl().isZero()) {
+                    continue;
+                }
+                for (String pattern : rule.getPaths()) {
+                    if (StringUtils.hasText(pattern)) {
+                        patterns.add(pattern);
+                        owners.add(rule);
+                    }
+                }
+            }
+            return new CompiledRules(keyPrefix, source, AntPathTrie.compile(patterns, false), List.copyOf(owners));
+        }
+    }
+
+    /**
+     * 一级缓存条目，压缩后的响应体保存在堆外内存
+     *
+     * @param contentType  响应内容类型
+     * @param etag         实体标签
+     * @param cacheControl 原始响应的 Cache-Control
+     * @param expiresAt    过期时间（毫秒时间戳）
+     * @param body         GZIP 压缩后的响应体（堆外，只读共享）
+     */
+    private record LocalEntry(String contentType, String etag, String cacheControl, long expiresAt, ByteBuffer body) {
+
+        static LocalEntry of(CachedResponse cached) {
+            ByteBuffer body = ByteBuffer.allocateDirect(cached.getBody().length);
+            body.put(cached.getBody()).flip();
+            return new LocalEntry(cached.getContentType(), cached.getEtag(), cached.getCacheControl(),
+                    cached.getExpiresAt(), body.asReadOnlyBuffer());
+        }
+
+        boolean isExpired() {
+            return expiresAt <= System.currentTimeMillis();
+        }
+
+        int weight() {
+            return body.capacity() + ENTRY_OVERHEAD;
+        }
+
+        byte[] compressedBytes() {
+            byte[] bytes = new byte[body.remaining()];
+            body.duplicate().get(bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * 一级缓存按条目自身的过期时间失效
+     */
+    private static final class LocalEntryExpiry implements Expiry<String, LocalEntry> {
+
+        @Override
+        public long expireAfterCreate(String key, LocalEntry value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, value.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalEntry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalEntry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * 在上游响应写出的同时复制响应体，写出完成后保存到缓存
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final ResponseCacheProperties.Rule rule;
+
+        CachingResponse(ServerHttpResponse delegate, String key, ResponseCacheProperties.Rule rule) {
+            super(delegate);
+            this.key = key;
+            this.rule = rule;
+        }
+
+        @NullMarked
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!isCacheable(getDelegate(), rule)) {
+                return super.writeWith(body);
+            }
+
+            long limit = properties.getMaxBodySize().toBytes();
+            long contentLength = getDelegate().getHeaders().getContentLength();
+            BodyCapture capture = new BodyCapture(limit, contentLength > 0 ? (int) contentLength : 1024);
+            Flux<? extends DataBuffer> tee = Flux.from(body).doOnNext(capture::append);
+            return super.writeWith(tee)
+                    .doOnSuccess(ignored -> {
+                        byte[] bytes = capture.bytes();
+                        if (bytes != null) {
+                            store(key, rule, getDelegate().getHeaders(), bytes);
+                        }
+                    });
+        }
+    }
+
+    /**
+     * 有界的响应体副本，超过上限后放弃
+     */
+    private static final class BodyCapture {
+
+        private final long limit;
+        private ByteArrayOutputStream output;
+
+        BodyCapture(long limit, int initialSize) {
+            this.limit = limit;
+            this.output = new ByteArrayOutputStream((int) Math.min(limit, initialSize));
+        }
+
+        void append(DataBuffer buffer) {
+            if (output == null) {
+                return;
+            }
+            int length = buffer.readableByteCount();
+            if (output.size() + (long) length > limit) {
+                output = null;
+                return;
+            }
+            byte[] chunk = new byte[length];
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(chunk), 0, length);
+            output.writeBytes(chunk);
+        }
+
+        byte[] bytes() {
+            return output != null ? output.toByteArray() : null;
+        }
+    }
+}
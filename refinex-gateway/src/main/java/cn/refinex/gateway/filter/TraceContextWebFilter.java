@@ -3,10 +3,9 @@ package cn.refinex.gateway.filter;
 import cn.hutool.core.util.IdUtil;
 import cn.refinex.core.autoconfigure.properties.RefinexLoggingProperties;
 import cn.refinex.core.logging.constants.LoggingConstants;
+import cn.refinex.gateway.support.GatewayAccessLogger;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
@@ -15,22 +14,21 @@ import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.SignalType;
-
-import java.net.InetSocketAddress;
 
 /**
  * 网关入口 Trace & DataSign 过滤器
+ * <p>
+ * 透传或生成链路标识，并在请求结束时通过 {@link GatewayAccessLogger} 记录一条访问日志。
  *
  * @author Refinex
  * @since 1.0.0
  */
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TraceContextWebFilter implements WebFilter, Ordered {
 
     private final RefinexLoggingProperties loggingProperties;
+    private final GatewayAccessLogger accessLogger;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
@@ -39,6 +37,7 @@ public class TraceContextWebFilter implements WebFilter, Ordered {
 
         String dataSign = obtainOrCreate(request.getHeaders().getFirst(loggingProperties.getDataSignHeader()));
         String traceId = obtainOrCreate(request.getHeaders().getFirst(loggingProperties.getTraceIdHeader()));
+        long startNanos = System.nanoTime();
         long startTime = System.currentTimeMillis();
 
         exchange.getAttributes().put(LoggingConstants.ATTRIBUTE_REQUEST_START_TIME, startTime);
@@ -48,28 +47,15 @@ public class TraceContextWebFilter implements WebFilter, Ordered {
         response.getHeaders().set(loggingProperties.getDataSignHeader(), dataSign);
         response.getHeaders().set(loggingProperties.getTraceIdHeader(), traceId);
 
-        String clientIp = resolveClientIp(request);
-        log.info("Gateway request start -> {} {} dataSign={} traceId={} ip={}",
-                request.getMethod(), request.getURI().getRawPath(), dataSign, traceId, clientIp);
-
         ServerHttpRequest mutatedRequest = request.mutate()
                 .header(loggingProperties.getDataSignHeader(), dataSign)
                 .header(loggingProperties.getTraceIdHeader(), traceId)
                 .build();
 
         return chain.filter(exchange.mutate().request(mutatedRequest).build())
-                .doFinally(signal -> logResult(request, signal, startTime, dataSign, traceId, clientIp));
-    }
-
-    private void logResult(ServerHttpRequest request,
-                           SignalType signal,
-                           long startTime,
-                           String dataSign,
-                           String traceId,
-                           String clientIp) {
-        long duration = System.currentTimeMillis() - startTime;
-        log.info("Gateway request end   <- {} {} signal={} duration={}ms dataSign={} traceId={} ip={}",
-                request.getMethod(), request.getURI().getRawPath(), signal, duration, dataSign, traceId, clientIp);
+                // 异常由外层异常处理器写入状态码，访问日志按异常解析状态码
+                .doOnError(ex -> exchange.getAttributes().put(GatewayAccessLogger.ERROR_ATTR, ex))
+                .doFinally(signal -> accessLogger.complete(exchange, signal, startNanos, traceId, dataSign));
     }
 
     private String obtainOrCreate(String value) {
@@ -79,19 +65,6 @@ public class TraceContextWebFilter implements WebFilter, Ordered {
         return IdUtil.fastSimpleUUID();
     }
 
-    private String resolveClientIp(ServerHttpRequest request) {
-        HttpHeaders headers = request.getHeaders();
-        String forwarded = headers.getFirst("X-Forwarded-For");
-        if (StringUtils.hasText(forwarded)) {
-            return forwarded.split(",")[0].trim();
-        }
-        InetSocketAddress address = request.getRemoteAddress();
-        if (address != null) {
-            return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
-        }
-        return "unknown";
-    }
-
     @Override
     public int getOrder() {
         return Ordered.HIGHEST_PRECEDENCE;
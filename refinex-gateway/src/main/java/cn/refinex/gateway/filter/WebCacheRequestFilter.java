@@ -1,11 +1,17 @@
 package cn.refinex.gateway.filter;
 
+import cn.refinex.gateway.config.properties.CustomGatewayProperties;
+import cn.refinex.gateway.support.CachedRequestBody;
 import cn.refinex.gateway.support.GatewayRequestUtils;
+import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NullMarked;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.stereotype.Component;
@@ -15,19 +21,27 @@ import org.springframework.web.server.WebFilterChain;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 /**
  * 缓存请求过滤器
  * <p>
  * 用于在 Spring Cloud Gateway 环境下缓存 JSON 请求体，解决 WebFlux 模式下请求体（body）只能被读取一次的问题。
+ * <p>
+ * 请求体以引用计数的池化缓冲区保存，下游每次读取得到一份 retained slice，不复制字节；
+ * 字符串形式由 {@link CachedRequestBody} 按需解码；请求结束时统一释放。
+ * 声明的 Content-Length 超过 {@link CustomGatewayProperties#getRequestBodyCacheLimit()} 时不缓存，直接透传；
+ * 未声明长度（分块传输）的请求体按上限合并，读取到的字节超过上限时已无法透传，返回 413。
  *
  * @author Lion Li
  * @since 1.0.0
  */
 @Component
+@RequiredArgsConstructor
 public class WebCacheRequestFilter implements WebFilter, Ordered {
 
+    private final CustomGatewayProperties customGatewayProperties;
+
     /**
      * 过滤并缓存 JSON 请求体，避免后续读取失败。
      *
@@ -44,44 +58,38 @@ public class WebCacheRequestFilter implements WebFilter, Ordered {
             return chain.filter(exchange);
         }
 
-        // 缓存 JSON 请求体，避免后续读取失败
-        return DataBufferUtils.join(request.getBody())
-                // 如果请求体为空，则创建一个空的 DataBuffer，避免后续读取失败
-                .defaultIfEmpty(exchange.getResponse().bufferFactory().wrap(new byte[0]))
-                // 展平 DataBuffer 为字节数组，方便后续处理
-                .flatMap(dataBuffer -> {
-                    byte[] bodyBytes = new byte[dataBuffer.readableByteCount()];
-                    dataBuffer.read(bodyBytes);
-                    DataBufferUtils.release(dataBuffer);
-
-                    // 将请求体数据转换为字符串，存储到请求属性中
-                    String body = new String(bodyBytes, StandardCharsets.UTF_8);
-                    exchange.getAttributes().put(GatewayRequestUtils.CACHED_JSON_BODY_ATTR, body);
-
-                    // 创建一个装饰器请求对象，用于替换原始请求对象，将缓存后的请求体数据返回给后续处理
-                    ServerHttpRequest decoratedRequest = new ServerHttpRequestDecorator(request) {
-                        @Override
-                        public HttpHeaders getHeaders() {
-                            HttpHeaders headers = new HttpHeaders();
-                            // 复制原始请求头信息
-                            headers.putAll(super.getHeaders());
-                            // 移除 CONTENT_LENGTH 头信息，因为缓存后的请求体长度可能与原始不同
-                            headers.remove(HttpHeaders.CONTENT_LENGTH);
-                            // 设置新的 CONTENT_LENGTH 头信息，与缓存后的请求体长度一致
-                            headers.setContentLength(bodyBytes.length);
-                            return headers;
-                        }
+        // 空请求体或声明长度超过缓存上限时不缓存，直接透传；未声明长度（分块传输）时按上限合并
+        long contentLength = request.getHeaders().getContentLength();
+        long limit = customGatewayProperties.getRequestBodyCacheLimit().toBytes();
+        if (contentLength == 0 || contentLength > limit) {
+            return chain.filter(exchange);
+        }
+        int maxBytes = (int) (contentLength > 0 ? contentLength : Math.min(limit, Integer.MAX_VALUE));
 
-                        @Override
-                        public Flux<DataBuffer> getBody() {
-                            // 返回缓存后的请求体数据，确保后续处理可以读取到缓存数据
-                            return Flux.defer(() ->
-                                    Mono.just(exchange.getResponse().bufferFactory().wrap(bodyBytes)));
-                        }
-                    };
+        // 合并请求体为单个缓冲区（保持池化内存，不复制到堆）
+        return DataBufferUtils.join(request.getBody(), maxBytes)
+                // 如果请求体为空，则创建一个空的 DataBuffer，保证过滤器链继续执行
+                .defaultIfEmpty(exchange.getResponse().bufferFactory().wrap(new byte[0]))
+                .map(Optional::of)
+                // 分块传输的请求体超过上限：已读取的部分无法再透传给下游，拒绝请求
+                .onErrorResume(DataBufferLimitException.class, e -> Mono.just(Optional.empty()))
+                .flatMap(joined -> {
+                    if (joined.isEmpty()) {
+                        exchange.getResponse().setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+                        return exchange.getResponse().setComplete();
+                    }
+                    DataBuffer dataBuffer = joined.get();
+                    MediaType contentType = request.getHeaders().getContentType();
+                    CachedRequestBody cachedBody = new CachedRequestBody(dataBuffer, contentType != null ? contentType.getCharset() : null);
+                    exchange.getAttributes().put(GatewayRequestUtils.CACHED_JSON_BODY_ATTR, cachedBody);
 
-                    // 使用装饰器请求对象创建一个新的交换对象，并继续过滤器链处理
-                    return chain.filter(exchange.mutate().request(decoratedRequest).build());
+                    // 使用装饰器请求对象创建一个新的交换对象，并继续过滤器链处理，请求结束时释放缓存的请求体
+                    ServerHttpRequest decoratedRequest = new CachedBodyRequest(exchange, cachedBody);
+                    return chain.filter(exchange.mutate().request(decoratedRequest).build())
+                            .doFinally(signalType -> {
+                                exchange.getAttributes().remove(GatewayRequestUtils.CACHED_JSON_BODY_ATTR);
+                                cachedBody.release();
+                            });
                 });
     }
 
@@ -96,4 +104,40 @@ public class WebCacheRequestFilter implements WebFilter, Ordered {
     public int getOrder() {
         return Ordered.HIGHEST_PRECEDENCE + 1;
     }
+
+    /**
+     * 返回缓存请求体的请求装饰器，请求头只在创建时计算一次
+     */
+    private static final class CachedBodyRequest extends ServerHttpRequestDecorator {
+
+        private final ServerWebExchange exchange;
+        private final CachedRequestBody cachedBody;
+        private final HttpHeaders headers;
+
+        CachedBodyRequest(ServerWebExchange exchange, CachedRequestBody cachedBody) {
+            super(exchange.getRequest());
+            this.exchange = exchange;
+            this.cachedBody = cachedBody;
+
+            // 复制原始请求头信息，并将 CONTENT_LENGTH 设置为缓存后的请求体长度（分块传输的请求改为定长转发）
+            HttpHeaders copied = new HttpHeaders();
+            copied.putAll(super.getHeaders());
+            copied.remove(HttpHeaders.TRANSFER_ENCODING);
+            copied.setContentLength(cachedBody.length());
+            this.headers = copied;
+        }
+
+        @NullMarked
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @NullMarked
+        @Override
+        public Flux<DataBuffer> getBody() {
+            // 每次订阅返回一份新的 retained slice，由消费方释放
+            return Flux.defer(() -> Mono.just(cachedBody.slice(exchange.getResponse().bufferFactory())));
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package cn.refinex.gateway.handler;
 
 import cn.refinex.core.api.ApiResponse;
+import cn.refinex.gateway.exception.RateLimitExceededException;
 import cn.refinex.json.util.JsonUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -56,6 +57,13 @@ public class GatewayExceptionHandler implements ErrorWebExceptionHandler {
         HttpStatus status = resolveHttpStatus(ex);
         String message = resolveMessage(ex);
 
+        // 限流属于预期内的拒绝，告知客户端重试等待时间，不打印堆栈
+        if (ex instanceof RateLimitExceededException rateLimitException) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimitException.getRetryAfterSeconds()));
+            log.warn("[网关限流] 请求路径：{}，{}", exchange.getRequest().getURI(), message);
+            return writeErrorResponse(response, message, status);
+        }
+
         log.error("[网关异常处理] 请求路径：{}", exchange.getRequest().getURI(), ex);
 
         // 构建响应体
@@ -0,0 +1,43 @@
+package cn.refinex.gateway.loadbalancer;
+
+import cn.refinex.gateway.config.properties.AdaptiveLoadBalancerProperties;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * 负载均衡客户端默认配置（在每个服务的负载均衡子容器中加载）
+ * <p>
+ * {@link AdaptiveLoadBalancerProperties#getServices()} 中的服务使用 {@link PeakEwmaLoadBalancer}，其余服务保持轮询。
+ * 该类由 {@code @LoadBalancerClients} 引用，不能声明为 {@code @Configuration}，否则会被主容器扫描并作用于所有服务。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class AdaptiveLoadBalancerConfiguration {
+
+    /**
+     * 服务实例负载均衡器
+     *
+     * @param environment   子容器环境（包含服务名）
+     * @param clientFactory 负载均衡客户端工厂
+     * @param properties    负载均衡配置
+     * @param tracker       实例负载统计
+     * @return 负载均衡器
+     */
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(Environment environment,
+                                                                                   LoadBalancerClientFactory clientFactory,
+                                                                                   AdaptiveLoadBalancerProperties properties,
+                                                                                   InstanceLoadTracker tracker) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        if (serviceId != null && properties.getServices().contains(serviceId)) {
+            return new PeakEwmaLoadBalancer(clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), serviceId, tracker);
+        }
+        return new RoundRobinLoadBalancer(clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), serviceId);
+    }
+}
@@ -0,0 +1,173 @@
+package cn.refinex.gateway.loadbalancer;
+
+import cn.refinex.gateway.config.properties.AdaptiveLoadBalancerProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 服务实例负载统计
+ * <p>
+ * 由网关自身的转发请求统计每个实例的进行中请求数与响应时间（Peak-EWMA）：
+ * <ul>
+ *     <li>响应时间高于当前估计时立即取该值（峰值敏感），低于时按距上次更新的时间指数衰减；</li>
+ *     <li>实例代价 = 衰减后的延迟估计 × (进行中请求数 + 1)；</li>
+ *     <li>选择实例时随机取两个比较代价（power of two choices），避免所有网关实例同时涌向同一个最优实例。</li>
+ * </ul>
+ * 实例以 host:port 标识，长时间未使用的实例统计自动清除。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Component
+public class InstanceLoadTracker {
+
+    private final AdaptiveLoadBalancerProperties properties;
+
+    /**
+     * 实例 -> 统计
+     */
+    private final Cache<String, Stats> stats = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    /**
+     * 构造函数
+     *
+     * @param properties 负载均衡配置
+     */
+    public InstanceLoadTracker(AdaptiveLoadBalancerProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 选择代价最低的实例
+     *
+     * @param instances 候选实例
+     * @param exclude   排除的实例（如对冲请求排除主请求的实例），可为 null
+     * @return 实例，没有可用实例时为 null
+     */
+    public ServiceInstance select(List<ServiceInstance> instances, ServiceInstance exclude) {
+        List<ServiceInstance> candidates = exclude == null
+                ? instances
+                : instances.stream().filter(instance -> !key(instance).equals(key(exclude))).toList();
+        int size = candidates.size();
+        if (size == 0) {
+            return null;
+        }
+        if (size == 1) {
+            return candidates.getFirst();
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return cost(a) <= cost(b) ? a : b;
+    }
+
+    /**
+     * 开始一次请求
+     *
+     * @param instance 实例
+     * @return 统计（结束时传入 {@link Stats#finish()}）
+     */
+    public Stats start(ServiceInstance instance) {
+        Stats instanceStats = stats(instance);
+        instanceStats.inflight.incrementAndGet();
+        return instanceStats;
+    }
+
+    /**
+     * 获取实例代价
+     *
+     * @param instance 实例
+     * @return 代价
+     */
+    public double cost(ServiceInstance instance) {
+        return stats(instance).cost();
+    }
+
+    private Stats stats(ServiceInstance instance) {
+        return stats.get(key(instance), key -> new Stats(properties.getInitialLatency().toNanos(), properties.getDecayTime().toNanos()));
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    /**
+     * 单个实例的统计
+     */
+    public static final class Stats {
+
+        /**
+         * 进行中请求数
+         */
+        private final AtomicInteger inflight = new AtomicInteger();
+
+        /**
+         * 衰减时间（纳秒）
+         */
+        private final double decayNanos;
+
+        /**
+         * 延迟估计（纳秒）
+         */
+        private double ewmaNanos;
+
+        /**
+         * 上次更新时间（纳秒）
+         */
+        private long updatedAt;
+
+        private Stats(long initialLatencyNanos, long decayNanos) {
+            this.ewmaNanos = initialLatencyNanos;
+            this.decayNanos = Math.max(1L, decayNanos);
+            this.updatedAt = System.nanoTime();
+        }
+
+        /**
+         * 记录一次响应时间
+         *
+         * @param latencyNanos 响应时间（纳秒）
+         */
+        public synchronized void observe(long latencyNanos) {
+            long now = System.nanoTime();
+            if (latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(now - updatedAt) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1.0d - weight);
+            }
+            updatedAt = now;
+        }
+
+        /**
+         * 请求结束（完成、失败或取消）
+         */
+        public void finish() {
+            inflight.decrementAndGet();
+        }
+
+        /**
+         * 代价：空闲时间越长延迟估计越低，使慢实例恢复后重新获得流量
+         *
+         * @return 代价
+         */
+        private synchronized double cost() {
+            double weight = Math.exp(-(System.nanoTime() - updatedAt) / decayNanos);
+            return ewmaNanos * weight * (Math.max(0, inflight.get()) + 1);
+        }
+    }
+}
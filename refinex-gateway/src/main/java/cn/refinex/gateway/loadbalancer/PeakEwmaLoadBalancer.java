@@ -0,0 +1,59 @@
+package cn.refinex.gateway.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Peak-EWMA 负载均衡器
+ * <p>
+ * 按 {@link InstanceLoadTracker} 统计的实例代价（延迟估计 × 进行中请求数）选择实例，
+ * 适合 LLM 等不同实例排队深度差异较大的服务。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public class PeakEwmaLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final InstanceLoadTracker tracker;
+
+    /**
+     * 构造函数
+     *
+     * @param supplierProvider 服务实例列表提供者
+     * @param serviceId        服务 ID
+     * @param tracker          实例负载统计
+     */
+    public PeakEwmaLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                String serviceId,
+                                InstanceLoadTracker tracker) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.tracker = tracker;
+    }
+
+    /**
+     * 选择服务实例
+     *
+     * @param request 负载均衡请求
+     * @return 选择结果
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(() -> new NoopServiceInstanceListSupplier(serviceId));
+        return supplier.get(request).next().map(instances -> {
+            ServiceInstance instance = tracker.select(instances, null);
+            return instance != null ? new DefaultResponse(instance) : new EmptyResponse();
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package cn.refinex.gateway.support;
+
+/**
+ * 网关访问日志记录
+ * <p>
+ * 请求结束时在请求线程上采集原始字段，格式化在日志写出线程上完成。
+ *
+ * @param method        请求方法
+ * @param path          原始请求路径
+ * @param query         原始查询字符串（仅 FULL 级别）
+ * @param body          请求体（仅 FULL 级别，已截断）
+ * @param status        响应状态码，未设置时为 0
+ * @param signal        请求结束信号
+ * @param durationNanos 耗时（纳秒）
+ * @param routeId       路由 ID
+ * @param clientIp      客户端 IP
+ * @param traceId       链路 ID
+ * @param dataSign      数据标识
+ * @author Refinex
+ * @since 1.0.0
+ */
+public record AccessLogRecord(String method,
+                              String path,
+                              String query,
+                              String body,
+                              int status,
+                              String signal,
+                              long durationNanos,
+                              String routeId,
+                              String clientIp,
+                              String traceId,
+                              String dataSign) {
+
+    /**
+     * 以 key=value 形式追加到缓冲区
+     *
+     * @param buffer 缓冲区
+     * @return 缓冲区
+     */
+    public StringBuilder appendTo(StringBuilder buffer) {
+        buffer.append(method).append(' ').append(path);
+        buffer.append(" status=");
+        if (status > 0) {
+            buffer.append(status);
+        } else {
+            buffer.append('-');
+        }
+        long micros = durationNanos / 1_000L;
+        buffer.append(" duration=").append(micros / 1_000L).append('.');
+        long fraction = micros % 1_000L;
+        if (fraction < 100L) {
+            buffer.append('0');
+        }
+        if (fraction < 10L) {
+            buffer.append('0');
+        }
+        buffer.append(fraction).append("ms");
+        buffer.append(" signal=").append(signal);
+        buffer.append(" route=").append(routeId != null ? routeId : "-");
+        buffer.append(" ip=").append(clientIp);
+        buffer.append(" traceId=").append(traceId);
+        buffer.append(" dataSign=").append(dataSign);
+        if (query != null) {
+            buffer.append(" query=").append(query);
+        }
+        if (body != null) {
+            buffer.append(" body=").append(body);
+        }
+        return buffer;
+    }
+}
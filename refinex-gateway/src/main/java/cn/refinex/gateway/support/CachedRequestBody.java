@@ -0,0 +1,149 @@
+package cn.refinex.gateway.support;
+
+import io.netty.buffer.ByteBuf;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 缓存的请求体
+ * <p>
+ * 持有合并后的请求体缓冲区（通常为 Netty 池化内存）的一个引用，下游每次读取时返回共享底层内存的
+ * retained slice，不复制字节；字符串形式只在真正需要时才解码。请求结束时必须调用 {@link #release()}。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public final class CachedRequestBody {
+
+    /**
+     * 合并后的请求体缓冲区
+     */
+    private final DataBuffer buffer;
+
+    /**
+     * 请求体字节数
+     */
+    private final int length;
+
+    /**
+     * 字符集
+     */
+    private final Charset charset;
+
+    /**
+     * 是否已释放
+     */
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    /**
+     * 延迟解码的完整字符串
+     */
+    private volatile String decoded;
+
+    /**
+     * 构造函数
+     *
+     * @param buffer  合并后的请求体缓冲区（所有权转移给当前对象）
+     * @param charset 字符集，为 null 时使用 UTF-8
+     */
+    public CachedRequestBody(DataBuffer buffer, Charset charset) {
+        this.buffer = buffer;
+        this.length = buffer.readableByteCount();
+        this.charset = charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    /**
+     * 请求体字节数
+     *
+     * @return 字节数
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 获取一份可供下游读取的请求体视图
+     * <p>
+     * Netty 缓冲区返回 retained slice（零拷贝，由消费方释放）；其他实现退化为复制。
+     *
+     * @param bufferFactory 缓冲区工厂（非 Netty 缓冲区时使用）
+     * @return 请求体缓冲区
+     */
+    public DataBuffer slice(DataBufferFactory bufferFactory) {
+        ensureNotReleased();
+        if (buffer instanceof NettyDataBuffer nettyBuffer) {
+            ByteBuf slice = nettyBuffer.getNativeBuffer().retainedSlice();
+            return nettyBuffer.factory().wrap(slice);
+        }
+        byte[] bytes = new byte[length];
+        buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(bytes), 0, length);
+        return bufferFactory.wrap(bytes);
+    }
+
+    /**
+     * 获取完整的请求体字符串（首次调用时解码）
+     *
+     * @return 请求体字符串
+     */
+    public String asString() {
+        String result = decoded;
+        if (result == null) {
+            ensureNotReleased();
+            result = buffer.toString(buffer.readPosition(), length, charset);
+            decoded = result;
+        }
+        return result;
+    }
+
+    /**
+     * 获取请求体前缀字符串，超出部分截断并追加省略号，用于日志输出
+     * <p>
+     * 截断位置落在多字节字符中间时回退到该字符之前，不输出半个字符解码出的替换字符。
+     *
+     * @param maxBytes 最多解码的字节数
+     * @return 请求体字符串
+     */
+    public String asString(int maxBytes) {
+        if (length <= maxBytes) {
+            return asString();
+        }
+        ensureNotReleased();
+        ByteBuffer prefix = ByteBuffer.allocate(maxBytes);
+        buffer.toByteBuffer(buffer.readPosition(), prefix, 0, maxBytes);
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer chars = CharBuffer.allocate((int) Math.ceil(maxBytes * (double) decoder.maxCharsPerByte()));
+        // endOfInput=false：末尾不完整的字节序列留在输入中，不解码
+        decoder.decode(prefix, chars, false);
+        return chars.flip() + "...";
+    }
+
+    /**
+     * 释放缓存的请求体（可重复调用）
+     */
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * 校验缓冲区尚未释放
+     */
+    private void ensureNotReleased() {
+        if (released.get()) {
+            throw new IllegalStateException("Cached request body has already been released");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package cn.refinex.gateway.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 网关缓存的响应（Redis 二级缓存的存储结构）
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 响应内容类型
+     */
+    private String contentType;
+
+    /**
+     * 实体标签
+     */
+    private String etag;
+
+    /**
+     * 原始响应的 Cache-Control
+     */
+    private String cacheControl;
+
+    /**
+     * 过期时间（毫秒时间戳）
+     */
+    private long expiresAt;
+
+    /**
+     * 未压缩的响应体字节数
+     */
+    private int length;
+
+    /**
+     * GZIP 压缩后的响应体
+     */
+    private byte[] body;
+}
@@ -0,0 +1,376 @@
+package cn.refinex.gateway.support;
+
+import cn.refinex.core.concurrent.MpscRingBuffer;
+import cn.refinex.core.util.StringUtils;
+import cn.refinex.gateway.config.properties.AccessLogProperties;
+import cn.refinex.gateway.config.properties.ApiDecryptProperties;
+import cn.refinex.gateway.config.properties.CustomGatewayProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.NotFoundException;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 网关访问日志记录器
+ * <p>
+ * 每个请求在结束时生成一条访问日志：
+ * <ul>
+ *     <li>请求线程只采集原始字段并写入有界无锁环形缓冲区，缓冲区满时丢弃，不阻塞代理链路；</li>
+ *     <li>后台写出线程复用预分配的缓冲区格式化并输出到 {@value #ACCESS_LOGGER_NAME} 日志器；</li>
+ *     <li>异常结束的请求按异常解析状态码（与 {@code GatewayExceptionHandler} 一致），5xx 与慢请求始终记录，
+ *     其余请求（包括限流 429 等 4xx 异常）按采样率记录；</li>
+ *     <li>日志级别可按路由覆盖，FULL 级别额外记录查询字符串与截断的 JSON 请求体。</li>
+ * </ul>
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class GatewayAccessLogger implements InitializingBean, DisposableBean {
+
+    /**
+     * 访问日志器名称
+     */
+    public static final String ACCESS_LOGGER_NAME = "cn.refinex.gateway.access";
+
+    /**
+     * 请求异常在请求属性中的 key，由 {@code TraceContextWebFilter} 在异常结束时写入
+     */
+    public static final String ERROR_ATTR = GatewayAccessLogger.class.getName() + ".ERROR";
+
+    /**
+     * 请求体日志在请求属性中的 key
+     */
+    private static final String BODY_ATTR = GatewayAccessLogger.class.getName() + ".BODY";
+
+    /**
+     * 缓冲区为空时写出线程的休眠时间（纳秒）
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    /**
+     * 缓冲区积压达到该数量时唤醒写出线程
+     */
+    private static final int WAKE_THRESHOLD = 64;
+
+    /**
+     * 格式化缓冲区初始容量
+     */
+    private static final int LINE_CAPACITY = 512;
+
+    /**
+     * 格式化缓冲区保留的最大容量，超过后重新分配，避免长请求体日志长期占用内存
+     */
+    private static final int MAX_RETAINED_LINE_CAPACITY = 16 * 1024;
+
+    /**
+     * 丢弃告警的最小间隔（纳秒）
+     */
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * 访问日志器
+     */
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(ACCESS_LOGGER_NAME);
+
+    private final AccessLogProperties properties;
+    private final CustomGatewayProperties customGatewayProperties;
+    private final ApiDecryptProperties apiDecryptProperties;
+
+    /**
+     * 日志缓冲区
+     */
+    private final MpscRingBuffer<AccessLogRecord> buffer;
+
+    /**
+     * 丢弃数量
+     */
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * 是否接收日志
+     */
+    private volatile boolean running;
+
+    /**
+     * 后台写出线程
+     */
+    private Thread writer;
+
+    /**
+     * 构造函数
+     *
+     * @param properties              访问日志配置
+     * @param customGatewayProperties 网关配置（总开关）
+     * @param apiDecryptProperties    接口解密配置（加密请求不记录请求体）
+     */
+    public GatewayAccessLogger(AccessLogProperties properties,
+                               CustomGatewayProperties customGatewayProperties,
+                               ApiDecryptProperties apiDecryptProperties) {
+        this.properties = properties;
+        this.customGatewayProperties = customGatewayProperties;
+        this.apiDecryptProperties = apiDecryptProperties;
+        this.buffer = new MpscRingBuffer<>(Math.max(1, properties.getBufferSize()));
+    }
+
+    /**
+     * 启动后台写出线程
+     */
+    @Override
+    public void afterPropertiesSet() {
+        this.running = true;
+        this.writer = Thread.ofPlatform()
+                .name("gateway-access-log")
+                .daemon(true)
+                .start(this::writeLoop);
+    }
+
+    /**
+     * 停止接收并写出缓冲区中剩余的日志
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        this.running = false;
+        Thread thread = this.writer;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * 是否开启访问日志
+     *
+     * @return true 开启
+     */
+    public boolean isEnabled() {
+        return !Boolean.FALSE.equals(customGatewayProperties.getRequestLog()) && ACCESS_LOG.isInfoEnabled();
+    }
+
+    /**
+     * 截取日志所需的请求体前缀（仅 FULL 级别）
+     * <p>
+     * 需在路由匹配之后、请求体释放之前调用，见 {@code AccessLogBodyFilter}。
+     *
+     * @param exchange   服务器 Web 交换
+     * @param cachedBody 缓存的请求体
+     */
+    public void captureBody(ServerWebExchange exchange, CachedRequestBody cachedBody) {
+        if (!isEnabled() || resolveVerbosity(exchange) != AccessLogProperties.Verbosity.FULL) {
+            return;
+        }
+        try {
+            String body = isEncrypted(exchange.getRequest())
+                    ? "[encrypt]"
+                    : cachedBody.asString(Math.max(0, properties.getMaxBodyLength()));
+            exchange.getAttributes().put(BODY_ATTR, body);
+        } catch (IllegalStateException ex) {
+            // 请求体已释放，不记录请求体
+            log.debug("Skip access log body capture: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * 请求结束时记录访问日志
+     *
+     * @param exchange   服务器 Web 交换
+     * @param signal     结束信号
+     * @param startNanos 开始时间（{@link System#nanoTime()}）
+     * @param traceId    链路 ID
+     * @param dataSign   数据标识
+     */
+    public void complete(ServerWebExchange exchange, SignalType signal, long startNanos, String traceId, String dataSign) {
+        long durationNanos = System.nanoTime() - startNanos;
+        if (!running || !isEnabled()) {
+            return;
+        }
+
+        int status = resolveStatus(exchange, signal);
+        AccessLogProperties.Verbosity verbosity = resolveVerbosity(exchange);
+        if (!shouldLog(verbosity, status, durationNanos)) {
+            return;
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        boolean full = verbosity == AccessLogProperties.Verbosity.FULL;
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        AccessLogRecord record = new AccessLogRecord(
+                request.getMethod().name(),
+                request.getURI().getRawPath(),
+                full ? request.getURI().getRawQuery() : null,
+                full ? exchange.getAttribute(BODY_ATTR) : null,
+                status,
+                signal.name(),
+                durationNanos,
+                route != null ? route.getId() : null,
+                GatewayRequestUtils.resolveClientIp(request),
+                traceId,
+                dataSign);
+
+        if (!buffer.offer(record)) {
+            droppedCount.increment();
+            return;
+        }
+        if (buffer.size() >= WAKE_THRESHOLD) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * 累计丢弃数量
+     *
+     * @return 丢弃数量
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 当前队列深度
+     *
+     * @return 缓冲区中待写出的日志数量
+     */
+    public int getQueueDepth() {
+        return buffer.size();
+    }
+
+    /**
+     * 是否记录本次请求：5xx 与慢请求始终记录，其余按级别与采样率决定
+     *
+     * @param verbosity     日志级别
+     * @param status        响应状态码
+     * @param durationNanos 耗时（纳秒）
+     * @return true 记录
+     */
+    private boolean shouldLog(AccessLogProperties.Verbosity verbosity, int status, long durationNanos) {
+        if (status >= 500 || durationNanos >= properties.getSlowThreshold().toNanos()) {
+            return true;
+        }
+        if (verbosity == AccessLogProperties.Verbosity.NONE) {
+            return false;
+        }
+        double sampleRate = properties.getSampleRate();
+        return sampleRate >= 1.0d || (sampleRate > 0.0d && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 解析响应状态码：异常结束时异常处理器尚未写入状态码，按异常解析
+     *
+     * @param exchange 服务器 Web 交换
+     * @param signal   结束信号
+     * @return 响应状态码，未知时为 0
+     */
+    private static int resolveStatus(ServerWebExchange exchange, SignalType signal) {
+        if (signal == SignalType.ON_ERROR) {
+            Throwable error = exchange.getAttribute(ERROR_ATTR);
+            if (error instanceof NotFoundException) {
+                return HttpStatus.SERVICE_UNAVAILABLE.value();
+            }
+            if (error instanceof ResponseStatusException responseStatusException) {
+                return responseStatusException.getStatusCode().value();
+            }
+            return HttpStatus.INTERNAL_SERVER_ERROR.value();
+        }
+        HttpStatusCode statusCode = exchange.getResponse().getStatusCode();
+        return statusCode != null ? statusCode.value() : 0;
+    }
+
+    /**
+     * 解析当前路由的日志级别
+     *
+     * @param exchange 服务器 Web 交换
+     * @return 日志级别
+     */
+    private AccessLogProperties.Verbosity resolveVerbosity(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route != null && !properties.getRoutes().isEmpty()) {
+            AccessLogProperties.Verbosity verbosity = properties.getRoutes().get(route.getId());
+            if (verbosity != null) {
+                return verbosity;
+            }
+        }
+        return properties.getDefaultVerbosity();
+    }
+
+    /**
+     * 是否为加密请求
+     *
+     * @param request 服务器 HTTP 请求
+     * @return true 加密请求
+     */
+    private boolean isEncrypted(ServerHttpRequest request) {
+        if (!apiDecryptProperties.isEnabled()) {
+            return false;
+        }
+        String headerFlag = apiDecryptProperties.getHeaderFlag();
+        return StringUtils.isNotBlank(headerFlag) && StringUtils.isNotBlank(request.getHeaders().getFirst(headerFlag));
+    }
+
+    /**
+     * 后台写出循环
+     */
+    private void writeLoop() {
+        StringBuilder line = new StringBuilder(LINE_CAPACITY);
+        long reportedDrops = 0L;
+        long lastReportNanos = System.nanoTime();
+
+        while (running) {
+            AccessLogRecord record = buffer.poll();
+            if (record != null) {
+                line = write(record, line);
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (now - lastReportNanos >= DROP_REPORT_INTERVAL_NANOS) {
+                long dropped = droppedCount.sum();
+                if (dropped > reportedDrops) {
+                    log.warn("Gateway access log buffer overflow, dropped {} records (total {})", dropped - reportedDrops, dropped);
+                    reportedDrops = dropped;
+                }
+                lastReportNanos = now;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+
+        // 停机：写出缓冲区中剩余的日志
+        AccessLogRecord record;
+        while ((record = buffer.poll()) != null) {
+            line = write(record, line);
+        }
+    }
+
+    /**
+     * 格式化并输出一条日志
+     *
+     * @param record 日志记录
+     * @param line   复用的格式化缓冲区
+     * @return 下次使用的格式化缓冲区
+     */
+    private StringBuilder write(AccessLogRecord record, StringBuilder line) {
+        try {
+            line.setLength(0);
+            ACCESS_LOG.info(record.appendTo(line).toString());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to write gateway access log: {}", ex.getMessage());
+        }
+        return line.capacity() > MAX_RETAINED_LINE_CAPACITY ? new StringBuilder(LINE_CAPACITY) : line;
+    }
+}
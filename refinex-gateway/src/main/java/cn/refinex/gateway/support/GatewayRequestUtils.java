@@ -2,8 +2,10 @@ package cn.refinex.gateway.support;
 
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.net.InetSocketAddress;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -16,7 +18,7 @@ import java.util.Optional;
 public final class GatewayRequestUtils {
 
     /**
-     * 缓存的 JSON 请求体在 {@link ServerWebExchange#getAttributes()} 中使用的 key。
+     * 缓存的 JSON 请求体（{@link CachedRequestBody}）在 {@link ServerWebExchange#getAttributes()} 中使用的 key。
      */
     public static final String CACHED_JSON_BODY_ATTR = GatewayRequestUtils.class.getName() + ".CACHED_JSON_BODY";
 
@@ -53,8 +55,29 @@ public final class GatewayRequestUtils {
      * @return JSON 请求体
      */
     public static Optional<String> getCachedJsonBody(ServerWebExchange exchange) {
+        return getCachedRequestBody(exchange).map(CachedRequestBody::asString);
+    }
+
+    /**
+     * 获取缓存的 JSON 请求体，只解码前 maxBytes 个字节，用于日志输出。
+     *
+     * @param exchange 当前请求上下文
+     * @param maxBytes 最多解码的字节数
+     * @return JSON 请求体（超出部分截断）
+     */
+    public static Optional<String> getCachedJsonBody(ServerWebExchange exchange, int maxBytes) {
+        return getCachedRequestBody(exchange).map(body -> body.asString(maxBytes));
+    }
+
+    /**
+     * 获取缓存的请求体对象。
+     *
+     * @param exchange 当前请求上下文
+     * @return 缓存的请求体
+     */
+    public static Optional<CachedRequestBody> getCachedRequestBody(ServerWebExchange exchange) {
         Object cached = exchange.getAttribute(CACHED_JSON_BODY_ATTR);
-        if (cached instanceof String body) {
+        if (cached instanceof CachedRequestBody body) {
             return Optional.of(body);
         }
         return Optional.empty();
@@ -73,4 +96,22 @@ public final class GatewayRequestUtils {
         }
         return body.substring(0, maxLength) + "...";
     }
+
+    /**
+     * 解析客户端 IP（优先取 X-Forwarded-For 的第一个地址）。
+     *
+     * @param request 当前请求
+     * @return 客户端 IP，无法解析时为 "unknown"
+     */
+    public static String resolveClientIp(ServerHttpRequest request) {
+        String forwarded = request.getHeaders().getFirst("X-Forwarded-For");
+        if (StringUtils.hasText(forwarded)) {
+            return forwarded.split(",")[0].trim();
+        }
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address != null) {
+            return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+        }
+        return "unknown";
+    }
 }
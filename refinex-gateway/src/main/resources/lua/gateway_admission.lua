@@ -0,0 +1,48 @@
+-- 网关准入检查: 多个令牌桶 + 并发租约, 全部满足时才扣减令牌并登记租约(原子)
+-- KEYS[1..n] 令牌桶键, KEYS[n+1] 并发租约有序集合(可选, 成员为租约 ID, 分值为过期时间)
+-- ARGV[1] 令牌桶数量 n, ARGV[2i] / ARGV[2i+1] 第 i 个令牌桶的容量 / 每秒补充令牌数
+-- 存在 KEYS[n+1] 时 ARGV[2n+2..2n+4] 为 并发上限, 租约 ID, 租约有效期(毫秒)
+-- 返回 {是否允许(1/0), 拒绝的检查序号(1..n 为令牌桶, n+1 为并发, 允许时为 0), 重试等待(毫秒)}
+local n = tonumber(ARGV[1])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local buckets = {}
+for i = 1, n do
+    local capacity = tonumber(ARGV[2 * i])
+    local rate = tonumber(ARGV[2 * i + 1])
+    local bucket = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+    local tokens = tonumber(bucket[1])
+    local ts = tonumber(bucket[2])
+    if tokens == nil or ts == nil then
+        tokens = capacity
+        ts = now
+    end
+    tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+    if tokens < 1 then
+        -- 拒绝时不写入, 下次按原时间戳继续补充
+        return {0, i, math.ceil((1 - tokens) * 1000 / rate)}
+    end
+    buckets[i] = {tokens - 1, math.ceil(capacity * 1000 / rate) + 1000}
+end
+
+local leases = KEYS[n + 1]
+if leases then
+    local limit = tonumber(ARGV[2 * n + 2])
+    local ttl = tonumber(ARGV[2 * n + 4])
+    -- 清理过期租约(网关实例宕机未释放的租约)
+    redis.call('ZREMRANGEBYSCORE', leases, '-inf', now)
+    if redis.call('ZCARD', leases) >= limit then
+        return {0, n + 1, 1000}
+    end
+    redis.call('ZADD', leases, now + ttl, ARGV[2 * n + 3])
+    redis.call('PEXPIRE', leases, ttl)
+end
+
+for i = 1, n do
+    redis.call('HSET', KEYS[i], 'tokens', tostring(buckets[i][1]), 'ts', now)
+    -- 桶补满所需时间后自动过期, 空闲的桶不占用内存
+    redis.call('PEXPIRE', KEYS[i], buckets[i][2])
+end
+return {1, 0, 0}
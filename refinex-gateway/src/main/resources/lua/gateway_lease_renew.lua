@@ -0,0 +1,16 @@
+-- 网关并发租约续期: 租约仍存在时将到期时间延后一个有效期
+-- KEYS[1] 并发租约有序集合(成员为租约 ID, 分值为过期时间)
+-- ARGV[1] 租约 ID, ARGV[2] 租约有效期(毫秒)
+-- 返回 1 表示已续期, 0 表示租约已释放或已过期被清理
+local ttl = tonumber(ARGV[2])
+
+if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+    return 0
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+redis.call('ZADD', KEYS[1], now + ttl, ARGV[1])
+-- 其他租约的过期时间均不晚于 now + ttl, 整个集合随之延期即可
+redis.call('PEXPIRE', KEYS[1], ttl)
+return 1
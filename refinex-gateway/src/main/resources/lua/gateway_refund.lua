@@ -0,0 +1,13 @@
+-- 网关令牌退还: 后续主体拒绝时, 退还此前主体已扣减的令牌(每个桶 1 个, 不超过容量)
+-- KEYS[1..n] 令牌桶键, ARGV[i] 第 i 个令牌桶的容量
+-- 返回退还的令牌桶数量(已过期的桶视为满桶, 不退还)
+local refunded = 0
+for i = 1, #KEYS do
+    local tokens = tonumber(redis.call('HGET', KEYS[i], 'tokens'))
+    if tokens ~= nil then
+        -- 只调整令牌数, 保留时间戳, 补充按原时间戳继续计算
+        redis.call('HSET', KEYS[i], 'tokens', tostring(math.min(tonumber(ARGV[i]), tokens + 1)))
+        refunded = refunded + 1
+    end
+end
+return refunded
@@ -0,0 +1,177 @@
+package cn.refinex.gateway.filter;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 网关准入脚本测试 - 基于 Testcontainers 启动 Redis，Docker 不可用时跳过
+ * <p>
+ * 覆盖令牌桶扣减与重试等待计算、多个令牌桶任一拒绝时不扣减、按时间补充、令牌退还不超过容量，
+ * 以及并发租约的上限、续期与过期清理。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+class GatewayAdmissionScriptTests {
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ADMISSION_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/gateway_admission.lua"), List.class);
+
+    private static final RedisScript<Long> REFUND_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/gateway_refund.lua"), Long.class);
+
+    private static final RedisScript<Long> LEASE_RENEW_SCRIPT =
+            RedisScript.of(new ClassPathResource("lua/gateway_lease_renew.lua"), Long.class);
+
+    private static GenericContainer<?> redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void startRedis() {
+        Assumptions.assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker 不可用，跳过网关准入脚本测试");
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    /**
+     * 容量耗尽后拒绝，重试等待为补充 1 个令牌所需的时间
+     */
+    @Test
+    void bucketRejectsWhenExhaustedWithRefillWait() {
+        String key = newKey("bucket");
+        // 容量 2，每秒补充 0.5 个：补充 1 个令牌需要 2 秒
+        assertEquals(List.of(1L, 0L, 0L), admit(List.of(key), "1", "2", "0.5"));
+        assertEquals(List.of(1L, 0L, 0L), admit(List.of(key), "1", "2", "0.5"));
+
+        List<Long> rejected = admit(List.of(key), "1", "2", "0.5");
+        assertEquals(0L, rejected.get(0));
+        assertEquals(1L, rejected.get(1));
+        assertTrue(rejected.get(2) > 1900L && rejected.get(2) <= 2000L, "重试等待: " + rejected.get(2));
+        assertTrue(tokens(key) < 1.0d);
+        // 桶在补满所需时间（4 秒）加 1 秒后过期
+        long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        assertTrue(ttl > 4000L && ttl <= 5000L, "过期时间: " + ttl);
+    }
+
+    /**
+     * 第二个令牌桶拒绝时，第一个令牌桶不扣减
+     */
+    @Test
+    void rejectionByLaterBucketDoesNotChargeEarlierBuckets() {
+        String first = newKey("first");
+        String second = newKey("second");
+        assertEquals(List.of(1L, 0L, 0L), admit(List.of(second), "1", "1", "0.001"));
+
+        List<Long> rejected = admit(List.of(first, second), "2", "10", "1", "1", "0.001");
+        assertEquals(0L, rejected.get(0));
+        assertEquals(2L, rejected.get(1));
+        // 第一个桶从未写入，仍视为满桶
+        assertNull(redisTemplate.opsForHash().get(first, "tokens"));
+    }
+
+    /**
+     * 令牌按经过的时间补充，不超过容量
+     */
+    @Test
+    void bucketRefillsByElapsedTime() throws InterruptedException {
+        String key = newKey("refill");
+        // 容量 1，每秒补充 20 个：50 毫秒补充 1 个令牌
+        assertEquals(1L, admit(List.of(key), "1", "1", "20").get(0));
+        assertEquals(0L, admit(List.of(key), "1", "1", "20").get(0));
+
+        Thread.sleep(200L);
+        assertEquals(1L, admit(List.of(key), "1", "1", "20").get(0));
+        assertTrue(tokens(key) < 1.0d, "补充后的令牌不应超过容量");
+    }
+
+    /**
+     * 退还令牌加回 1 个且不超过容量，已过期的桶不退还
+     */
+    @Test
+    void refundAddsOneTokenCappedAtCapacity() {
+        String key = newKey("refund");
+        String missing = newKey("missing");
+        admit(List.of(key), "1", "3", "0.001");
+        admit(List.of(key), "1", "3", "0.001");
+        double before = tokens(key);
+
+        assertEquals(1L, redisTemplate.execute(REFUND_SCRIPT, List.of(key, missing), "3", "3"));
+        assertEquals(before + 1.0d, tokens(key), 0.01d);
+        assertNull(redisTemplate.opsForHash().get(missing, "tokens"));
+
+        redisTemplate.execute(REFUND_SCRIPT, List.of(key), "3");
+        redisTemplate.execute(REFUND_SCRIPT, List.of(key), "3");
+        assertEquals(3.0d, tokens(key), 0.01d);
+    }
+
+    /**
+     * 并发租约达到上限时拒绝，续期延后过期时间，过期后可再次登记，续期只作用于仍存在的租约
+     */
+    @Test
+    void leaseLimitRenewalAndExpiry() throws InterruptedException {
+        String leases = newKey("inflight");
+        // 无令牌桶，仅检查并发：上限 1，有效期 300 毫秒
+        assertEquals(List.of(1L, 0L, 0L), admit(List.of(leases), "0", "1", "lease-1", "300"));
+        assertEquals(List.of(0L, 1L, 1000L), admit(List.of(leases), "0", "1", "lease-2", "300"));
+
+        // 续期后超过原有效期仍占用名额
+        Thread.sleep(200L);
+        assertEquals(1L, redisTemplate.execute(LEASE_RENEW_SCRIPT, List.of(leases), "lease-1", "300"));
+        Thread.sleep(200L);
+        assertEquals(0L, admit(List.of(leases), "0", "1", "lease-2", "300").get(0));
+
+        // 停止续期后租约过期，由下一次检查清理
+        Thread.sleep(400L);
+        assertEquals(1L, admit(List.of(leases), "0", "1", "lease-2", "300").get(0));
+        assertEquals(0L, redisTemplate.execute(LEASE_RENEW_SCRIPT, List.of(leases), "lease-1", "300"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> admit(List<String> keys, String... args) {
+        return (List<Long>) redisTemplate.execute(ADMISSION_SCRIPT, keys, (Object[]) args);
+    }
+
+    private static double tokens(String key) {
+        Object tokens = redisTemplate.opsForHash().get(key, "tokens");
+        return Double.parseDouble(String.valueOf(tokens));
+    }
+
+    private static String newKey(String name) {
+        return "test:gateway:" + name + ":{" + UUID.randomUUID() + "}";
+    }
+}
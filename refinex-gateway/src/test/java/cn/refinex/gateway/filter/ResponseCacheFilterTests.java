@@ -0,0 +1,261 @@
+package cn.refinex.gateway.filter;
+
+import cn.hutool.core.util.ZipUtil;
+import cn.refinex.gateway.config.properties.ResponseCacheProperties;
+import cn.refinex.json.util.JsonUtils;
+import cn.refinex.satoken.common.constant.SaTokenConstants;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * ResponseCacheFilter 测试 - Cache-Control 指令与 ETag 条件请求
+ * <p>
+ * 只启用本地缓存；保存缓存原本在弹性线程池异步执行，测试期间替换为当前线程执行，请求完成即可断言命中。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+class ResponseCacheFilterTests {
+
+    private static final String BODY = "{\"code\":200,\"data\":[\"a\",\"b\"]}";
+
+    private ResponseCacheFilter filter;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeAll
+    static void storeOnCallingThread() {
+        Schedulers.setFactory(new Schedulers.Factory() {
+            @Override
+            public Scheduler newBoundedElastic(int threadCap, int queuedTaskCap, ThreadFactory threadFactory, int ttlSeconds) {
+                return Schedulers.immediate();
+            }
+        });
+    }
+
+    @AfterAll
+    static void resetSchedulers() {
+        Schedulers.resetFactory();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties.Rule rule = new ResponseCacheProperties.Rule();
+        rule.setId("catalog");
+        rule.setPaths(List.of("/api/catalog/**"));
+        ResponseCacheProperties.Rule userRule = new ResponseCacheProperties.Rule();
+        userRule.setId("profile");
+        userRule.setPaths(List.of("/api/profile/**"));
+        userRule.setPerUser(true);
+
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(true);
+        properties.setRedisEnabled(false);
+        properties.setRules(List.of(rule, userRule));
+        filter = new ResponseCacheFilter(properties, null, new JsonUtils(JsonMapper.builder().build()));
+        upstreamCalls = new AtomicInteger();
+    }
+
+    /**
+     * 首次未命中转发上游，再次请求命中缓存：响应体一致，上游无 ETag 时以响应体 MD5 生成强实体标签
+     */
+    @Test
+    void missThenHitWithGeneratedEtag() {
+        GatewayFilterChain chain = upstream("max-age=60", null, BODY);
+
+        MockServerHttpResponse miss = execute("/api/catalog/items?page=1", chain, UnaryOperator.identity());
+        assertEquals("MISS", miss.getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, miss.getBodyAsString().block());
+
+        MockServerHttpResponse hit = execute("/api/catalog/items?page=1", chain, UnaryOperator.identity());
+        assertEquals("HIT", hit.getHeaders().getFirst("X-Cache"));
+        assertEquals(HttpStatus.OK, hit.getStatusCode());
+        assertEquals(BODY, hit.getBodyAsString().block());
+        assertEquals("\"" + DigestUtils.md5DigestAsHex(BODY.getBytes(StandardCharsets.UTF_8)) + "\"", hit.getHeaders().getETag());
+        assertEquals("max-age=60", hit.getHeaders().getCacheControl());
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), hit.getHeaders().getVary());
+        assertEquals(1, upstreamCalls.get());
+
+        // 查询字符串不同视为不同的缓存键
+        assertEquals("MISS", execute("/api/catalog/items?page=2", chain, UnaryOperator.identity()).getHeaders().getFirst("X-Cache"));
+    }
+
+    /**
+     * 沿用上游 ETag，If-None-Match 按弱比较匹配（含 {@code W/} 与 {@code *}）时返回 304，不匹配时返回完整响应
+     */
+    @Test
+    void ifNoneMatchReturnsNotModified() {
+        GatewayFilterChain chain = upstream(null, "\"v1\"", BODY);
+        execute("/api/catalog/items", chain, UnaryOperator.identity());
+
+        for (String ifNoneMatch : List.of("\"v1\"", "W/\"v1\"", "*", "\"v0\", \"v1\"")) {
+            MockServerHttpResponse response = execute("/api/catalog/items", chain,
+                    request -> request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch));
+            assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode(), ifNoneMatch);
+            assertEquals("\"v1\"", response.getHeaders().getETag());
+            assertEquals("", response.getBodyAsString().defaultIfEmpty("").block());
+        }
+
+        MockServerHttpResponse changed = execute("/api/catalog/items", chain,
+                request -> request.header(HttpHeaders.IF_NONE_MATCH, "\"v2\""));
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals(BODY, changed.getBodyAsString().block());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    /**
+     * 客户端接受 gzip 时返回压缩内容并使用弱实体标签，上游的强实体标签仍按弱比较匹配
+     */
+    @Test
+    void gzipRepresentationUsesWeakEtag() {
+        GatewayFilterChain chain = upstream(null, "\"v1\"", BODY);
+        execute("/api/catalog/items", chain, UnaryOperator.identity());
+
+        MockServerHttpResponse gzip = execute("/api/catalog/items", chain,
+                request -> request.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"));
+        assertEquals("HIT", gzip.getHeaders().getFirst("X-Cache"));
+        assertEquals("gzip", gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("W/\"v1\"", gzip.getHeaders().getETag());
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), ZipUtil.unGzip(bodyBytes(gzip)));
+
+        MockServerHttpResponse notModified = execute("/api/catalog/items", chain,
+                request -> request.header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""));
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals("W/\"v1\"", notModified.getHeaders().getETag());
+    }
+
+    /**
+     * 上游声明 no-store、no-cache、private 或有效期为 0（{@code s-maxage} 优先于 {@code max-age}）时不缓存
+     */
+    @Test
+    void responseCacheControlPreventsCaching() {
+        List<String> directives = List.of("no-store", "No-Cache", "private, max-age=60", "max-age=0", "s-maxage=0, max-age=60");
+        for (String directive : directives) {
+            GatewayFilterChain chain = upstream(directive, null, BODY);
+            String path = "/api/catalog/" + directive.hashCode();
+            int before = upstreamCalls.get();
+
+            execute(path, chain, UnaryOperator.identity());
+            MockServerHttpResponse second = execute(path, chain, UnaryOperator.identity());
+
+            assertEquals("MISS", second.getHeaders().getFirst("X-Cache"), directive);
+            assertEquals(before + 2, upstreamCalls.get(), directive);
+        }
+    }
+
+    /**
+     * 请求 no-cache 跳过读取并以上游响应刷新缓存，请求 no-store 绕过缓存且不保存
+     */
+    @Test
+    void requestCacheControlIsHonoured() {
+        GatewayFilterChain chain = upstream(null, null, BODY);
+
+        MockServerHttpResponse bypass = execute("/api/catalog/items", chain,
+                request -> request.header(HttpHeaders.CACHE_CONTROL, "no-store"));
+        assertNull(bypass.getHeaders().getFirst("X-Cache"));
+        assertEquals(BODY, bypass.getBodyAsString().block());
+        assertEquals("MISS", execute("/api/catalog/items", chain, UnaryOperator.identity()).getHeaders().getFirst("X-Cache"));
+
+        MockServerHttpResponse revalidate = execute("/api/catalog/items", chain,
+                request -> request.header(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        assertEquals("MISS", revalidate.getHeaders().getFirst("X-Cache"));
+        assertEquals("HIT", execute("/api/catalog/items", chain, UnaryOperator.identity()).getHeaders().getFirst("X-Cache"));
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    /**
+     * 按用户缓存的规则允许缓存 private 响应，不同用户互不命中，未登录请求绕过缓存
+     */
+    @Test
+    void privateResponseIsCachedPerUser() {
+        GatewayFilterChain chain = upstream("private, max-age=60", null, BODY);
+
+        assertEquals("MISS", executeAs("/api/profile/me", chain, 1001L).getHeaders().getFirst("X-Cache"));
+        assertEquals("HIT", executeAs("/api/profile/me", chain, 1001L).getHeaders().getFirst("X-Cache"));
+        assertEquals("MISS", executeAs("/api/profile/me", chain, 1002L).getHeaders().getFirst("X-Cache"));
+        assertNull(execute("/api/profile/me", chain, UnaryOperator.identity()).getHeaders().getFirst("X-Cache"));
+        assertEquals(3, upstreamCalls.get());
+    }
+
+    /**
+     * HTTP 200 返回的错误信封不缓存
+     */
+    @Test
+    void errorEnvelopeIsNotCached() {
+        GatewayFilterChain chain = upstream(null, null, "{\"code\":500,\"message\":\"内部服务器错误\"}");
+
+        execute("/api/catalog/items", chain, UnaryOperator.identity());
+        assertEquals("MISS", execute("/api/catalog/items", chain, UnaryOperator.identity()).getHeaders().getFirst("X-Cache"));
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    /**
+     * 模拟上游服务：返回 200 JSON 响应，记录调用次数
+     */
+    private GatewayFilterChain upstream(String cacheControl, String etag, String body) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setContentLength(bytes.length);
+            if (cacheControl != null) {
+                response.getHeaders().setCacheControl(cacheControl);
+            }
+            if (etag != null) {
+                response.getHeaders().setETag(etag);
+            }
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(bytes)));
+        };
+    }
+
+    private MockServerHttpResponse execute(String uri, GatewayFilterChain chain,
+                                           UnaryOperator<MockServerHttpRequest.BaseBuilder<?>> customizer) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(customizer.apply(MockServerHttpRequest.get(uri)));
+        filter.filter(exchange, chain).block();
+        return exchange.getResponse();
+    }
+
+    private MockServerHttpResponse executeAs(String uri, GatewayFilterChain chain, Object loginId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+        exchange.getAttributes().put(SaTokenConstants.LOGIN_ID_ATTRIBUTE, loginId);
+        filter.filter(exchange, chain).block();
+        return exchange.getResponse();
+    }
+
+    private static byte[] bodyBytes(MockServerHttpResponse response) {
+        return response.getBody()
+                .reduce(new byte[0], (bytes, buffer) -> {
+                    byte[] merged = new byte[bytes.length + buffer.readableByteCount()];
+                    System.arraycopy(bytes, 0, merged, 0, bytes.length);
+                    buffer.read(merged, bytes.length, buffer.readableByteCount());
+                    return merged;
+                })
+                .block();
+    }
+}
@@ -0,0 +1,40 @@
+package cn.refinex.platform.config;
+
+import cn.refinex.platform.constants.AuthConstants;
+import cn.refinex.platform.event.LoginAuditEvent;
+import cn.refinex.platform.service.LoginAuditService;
+import cn.refinex.redis.autoconfigure.properties.RefinexRedisProperties;
+import cn.refinex.redis.stream.RedisStreamConsumer;
+import cn.refinex.redis.stream.RedisStreamPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 登录审计事件管道配置
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Configuration
+public class LoginAuditStreamConfig {
+
+    /**
+     * 登录审计事件消费者：批量写入登录日志并更新用户最后登录信息
+     *
+     * @param redisTemplate          RedisTemplate
+     * @param publisher              消息发布器
+     * @param loginAuditService      登录审计服务
+     * @param refinexRedisProperties Redis 配置
+     * @return 消费者
+     */
+    @Bean
+    public RedisStreamConsumer<LoginAuditEvent> loginAuditStreamConsumer(RedisTemplate<String, Object> redisTemplate,
+                                                                         RedisStreamPublisher publisher,
+                                                                         LoginAuditService loginAuditService,
+                                                                         RefinexRedisProperties refinexRedisProperties) {
+        return new RedisStreamConsumer<>(redisTemplate, publisher, AuthConstants.LOGIN_AUDIT_STREAM,
+                AuthConstants.LOGIN_AUDIT_GROUP, LoginAuditEvent.class, loginAuditService::persist,
+                refinexRedisProperties.getStream());
+    }
+}
@@ -0,0 +1,29 @@
+package cn.refinex.platform.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 授权索引配置
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "refinex.auth.index")
+public class AuthorizationIndexProperties {
+
+    /**
+     * 是否启用内存授权索引，关闭后按用户联表查询角色与权限
+     */
+    private boolean enabled = true;
+
+    /**
+     * 检查角色/权限数据版本的间隔，版本变化时重建索引，默认 30 秒
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+}
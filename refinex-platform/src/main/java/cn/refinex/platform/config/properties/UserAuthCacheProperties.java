@@ -0,0 +1,49 @@
+package cn.refinex.platform.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 用户角色/权限缓存配置
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "refinex.auth.cache")
+public class UserAuthCacheProperties {
+
+    /**
+     * 缓存有效期，默认 30 分钟
+     */
+    private Duration ttl = Duration.ofMinutes(30);
+
+    /**
+     * 空结果（无角色且无权限）的缓存有效期，默认 5 分钟
+     */
+    private Duration emptyTtl = Duration.ofMinutes(5);
+
+    /**
+     * 有效期随机浮动比例（0-1），避免同一时间写入的缓存同时过期，默认 0.1 即 ±10%
+     */
+    private double ttlJitter = 0.1;
+
+    /**
+     * 提前刷新系数，越大越早刷新，小于等于 0 表示不提前刷新
+     */
+    private double earlyRefreshBeta = 1.0;
+
+    /**
+     * 加载锁持有时间上限，超过后自动释放，默认 5 秒
+     */
+    private Duration lockTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 未获得加载锁时等待其他节点写入缓存的最长时间，超时后直接查询数据库，默认 2 秒
+     */
+    private Duration lockWait = Duration.ofSeconds(2);
+}
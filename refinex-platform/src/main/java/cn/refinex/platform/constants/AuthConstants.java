@@ -36,4 +36,14 @@ public final class AuthConstants {
      * 登录用户名
      */
     public static final String EXTRA_LOGIN_USERNAME = "loginUsername";
+
+    /**
+     * 登录审计事件 Stream
+     */
+    public static final String LOGIN_AUDIT_STREAM = "refinex:stream:login-audit";
+
+    /**
+     * 登录审计事件消费组
+     */
+    public static final String LOGIN_AUDIT_GROUP = "login-audit-writer";
 }
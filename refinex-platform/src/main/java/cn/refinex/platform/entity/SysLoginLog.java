@@ -31,6 +31,9 @@ public class SysLoginLog extends BaseEntity implements Serializable {
     @Schema(description = "主键ID")
     private Long id;
 
+    @Schema(description = "登录事件ID（幂等键）")
+    private String eventId;
+
     @Schema(description = "用户ID")
     private Long userId;
 
@@ -0,0 +1,28 @@
+package cn.refinex.platform.event;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 登录审计事件，经 Redis Streams 投递后批量写库
+ * <p>
+ * 消息至少投递一次，eventId 在提交时生成并写入登录日志唯一键，重复投递的事件不会重复落库。
+ *
+ * @param eventId       事件 ID（幂等键）
+ * @param userId        用户 ID
+ * @param username      用户名
+ * @param loginIdentity 登录身份（用户名/手机号/邮箱）
+ * @param loginIp       登录 IP 地址
+ * @param deviceType    设备类型（PC/MOBILE）
+ * @param userAgent     用户代理字符串
+ * @param status        登录状态（1 成功，0 失败）
+ * @param message       登录消息
+ * @param loginTime     登录时间
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Builder
+public record LoginAuditEvent(String eventId, Long userId, String username, String loginIdentity, String loginIp, String deviceType,
+                              String userAgent, int status, String message, LocalDateTime loginTime) {
+}
@@ -6,6 +6,7 @@ import cn.refinex.platform.entity.SysLoginLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -19,6 +20,21 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class SysLoginLogRepository {
 
+    /**
+     * 插入语句，同一登录事件（event_id 唯一键）重复写入时忽略
+     */
+    private static final String INSERT_SQL = """
+            INSERT INTO sys_login_log (
+                event_id, user_id, username, login_identity, status, message,
+                login_ip, login_location, device_type, user_agent, login_time,
+                create_by, create_time, update_by, update_time)
+            VALUES (
+                :eventId, :userId, :username, :loginIdentity, :status, :message,
+                :loginIp, :loginLocation, :deviceType, :userAgent, :loginTime,
+                :createBy, :createTime, :updateBy, :updateTime)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+
     private final JdbcTemplateManager jdbcManager;
 
     /**
@@ -29,17 +45,26 @@ public class SysLoginLogRepository {
      */
     public void insert(SysLoginLog log, JdbcTemplateManager manager) {
         JdbcTemplateManager executor = Objects.requireNonNull(manager, "JdbcTemplateManager is required for write operations");
-        String sql = """
-                INSERT INTO sys_login_log (
-                    user_id, username, login_identity, status, message,
-                    login_ip, login_location, device_type, user_agent, login_time,
-                    create_by, create_time, update_by, update_time)
-                VALUES (
-                    :userId, :username, :loginIdentity, :status, :message,
-                    :loginIp, :loginLocation, :deviceType, :userAgent, :loginTime,
-                    :createBy, :createTime, :updateBy, :updateTime)
-                """;
         Map<String, Object> params = BeanUtils.beanToMap(log, false, false);
-        executor.update(sql, params);
+        executor.update(INSERT_SQL, params);
+    }
+
+    /**
+     * 批量插入登录日志
+     *
+     * @param logs    登录日志
+     * @param manager 数据库模板管理器
+     */
+    @SuppressWarnings("unchecked")
+    public void batchInsert(List<SysLoginLog> logs, JdbcTemplateManager manager) {
+        JdbcTemplateManager executor = Objects.requireNonNull(manager, "JdbcTemplateManager is required for write operations");
+        if (logs.isEmpty()) {
+            return;
+        }
+        Map<String, Object>[] params = new Map[logs.size()];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = BeanUtils.beanToMap(logs.get(i), false, false);
+        }
+        executor.batchUpdate(INSERT_SQL, params);
     }
 }
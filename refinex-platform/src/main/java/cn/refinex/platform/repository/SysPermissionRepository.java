@@ -21,6 +21,8 @@ public class SysPermissionRepository {
 
     /**
      * 根据用户 ID 查询权限列表
+     * <p>
+     * 只计入启用且未删除角色授予的权限，与授权索引的过滤条件一致。
      *
      * @param userId 用户 ID
      * @return 权限列表
@@ -31,12 +33,104 @@ public class SysPermissionRepository {
                 FROM sys_menu_op mo
                 INNER JOIN sys_menu_role_op mro ON mo.id = mro.menu_op_id
                 INNER JOIN sys_user_role ur ON mro.role_id = ur.role_id
+                INNER JOIN sys_role r ON mro.role_id = r.id
                 WHERE ur.user_id = :userId
                   AND mo.permission IS NOT NULL
                   AND mo.permission <> ''
                   AND mo.deleted = 0
                   AND mo.status = 1
+                  AND r.deleted = 0
+                  AND r.status = 1
                 """;
         return jdbcManager.queryColumn(sql, Map.of("userId", userId), String.class);
     }
+
+    /**
+     * 根据用户 ID 一次查询角色编码与权限列表
+     * <p>
+     * 返回列 {@code grant_type}（{@code R} 角色 / {@code P} 权限）与 {@code grant_code}。
+     * 角色与权限均只计入启用且未删除的角色，与授权索引的过滤条件一致（索引不可用时以此兜底，两条路径结果必须相同）。
+     *
+     * @param userId 用户 ID
+     * @return 角色编码与权限列表
+     */
+    public List<Map<String, Object>> listRoleAndPermissionCodesByUserId(Long userId) {
+        String sql = """
+                SELECT DISTINCT 'R' AS grant_type, r.role_code AS grant_code
+                FROM sys_role r
+                INNER JOIN sys_user_role ur ON r.id = ur.role_id
+                WHERE ur.user_id = :userId
+                  AND r.deleted = 0
+                  AND r.status = 1
+                UNION ALL
+                SELECT DISTINCT 'P' AS grant_type, mo.permission AS grant_code
+                FROM sys_menu_op mo
+                INNER JOIN sys_menu_role_op mro ON mo.id = mro.menu_op_id
+                INNER JOIN sys_user_role ur ON mro.role_id = ur.role_id
+                INNER JOIN sys_role r ON mro.role_id = r.id
+                WHERE ur.user_id = :userId
+                  AND mo.permission IS NOT NULL
+                  AND mo.permission <> ''
+                  AND mo.deleted = 0
+                  AND mo.status = 1
+                  AND r.deleted = 0
+                  AND r.status = 1
+                """;
+        return jdbcManager.queryList(sql, Map.of("userId", userId));
+    }
+
+    /**
+     * 查询全部启用的操作权限
+     *
+     * @return 菜单操作 ID（{@code id}）与权限标识（{@code permission}）
+     */
+    public List<Map<String, Object>> listEnabledPermissions() {
+        String sql = """
+                SELECT id, permission
+                FROM sys_menu_op
+                WHERE permission IS NOT NULL
+                  AND permission <> ''
+                  AND deleted = 0
+                  AND status = 1
+                """;
+        return jdbcManager.queryList(sql, Map.of(), false);
+    }
+
+    /**
+     * 查询全部角色与菜单操作的关联
+     *
+     * @return 角色 ID（{@code role_id}）与菜单操作 ID（{@code menu_op_id}）
+     */
+    public List<Map<String, Object>> listRoleMenuOps() {
+        String sql = """
+                SELECT role_id, menu_op_id
+                FROM sys_menu_role_op
+                """;
+        return jdbcManager.queryList(sql, Map.of(), false);
+    }
+
+    /**
+     * 查询角色/权限数据版本
+     * <p>
+     * 每张表取行数、最大 ID 与索引所读列的校验和（逐行 {@code CRC32} 后按位异或），任一表的新增、删除或相关列修改后版本随之变化。
+     * 不依赖 {@code update_time}：其精度为秒，同一秒内的多次修改可能落在两次检查之间而被漏判，手工执行的 SQL 也可能不更新它。
+     * 校验和存在极小的碰撞概率，碰撞时索引要到下一次变更才会重建。
+     *
+     * @return 数据版本
+     */
+    public String queryAuthorizationVersion() {
+        String sql = """
+                SELECT CONCAT_WS(',',
+                       (SELECT CONCAT_WS(':', COUNT(*), COALESCE(MAX(id), 0),
+                                         BIT_XOR(CRC32(CONCAT_WS('|', id, role_code, status, deleted))))
+                        FROM sys_role),
+                       (SELECT CONCAT_WS(':', COUNT(*), COALESCE(MAX(id), 0),
+                                         BIT_XOR(CRC32(CONCAT_WS('|', id, permission, status, deleted))))
+                        FROM sys_menu_op),
+                       (SELECT CONCAT_WS(':', COUNT(*), COALESCE(MAX(id), 0),
+                                         BIT_XOR(CRC32(CONCAT_WS('|', id, role_id, menu_op_id))))
+                        FROM sys_menu_role_op))
+                """;
+        return jdbcManager.queryString(sql, Map.of(), false);
+    }
 }
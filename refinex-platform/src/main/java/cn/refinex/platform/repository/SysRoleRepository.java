@@ -54,4 +54,19 @@ public class SysRoleRepository {
                 """;
         return Optional.ofNullable(jdbcManager.queryLong(sql, Map.of("roleCode", roleCode)));
     }
+
+    /**
+     * 查询全部启用的角色
+     *
+     * @return 角色 ID（{@code id}）与角色编码（{@code role_code}）
+     */
+    public List<Map<String, Object>> listEnabledRoles() {
+        String sql = """
+                SELECT id, role_code
+                FROM sys_role
+                WHERE deleted = 0
+                  AND status = 1
+                """;
+        return jdbcManager.queryList(sql, Map.of(), false);
+    }
 }
@@ -2,12 +2,14 @@ package cn.refinex.platform.repository;
 
 import cn.refinex.core.util.BeanUtils;
 import cn.refinex.jdbc.core.JdbcTemplateManager;
+import cn.refinex.platform.entity.SysLoginLog;
 import cn.refinex.platform.entity.SysUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -159,6 +161,39 @@ public class SysUserRepository {
         executor.update(sql, params);
     }
 
+    /**
+     * 批量更新最后登录信息
+     *
+     * @param logins  登录成功日志（每个用户只保留最近一次）
+     * @param manager 数据库模板管理器
+     */
+    @SuppressWarnings("unchecked")
+    public void batchUpdateLastLoginInfo(List<SysLoginLog> logins, JdbcTemplateManager manager) {
+        JdbcTemplateManager executor = requireManager(manager);
+        if (logins.isEmpty()) {
+            return;
+        }
+        String sql = """
+                UPDATE sys_user
+                SET last_login_time = :loginTime,
+                    last_login_ip   = :loginIp,
+                    update_time     = :updateTime
+                WHERE id = :userId
+                """;
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object>[] params = new Map[logins.size()];
+        for (int i = 0; i < params.length; i++) {
+            SysLoginLog login = logins.get(i);
+            Map<String, Object> param = new HashMap<>();
+            param.put("loginTime", login.getLoginTime());
+            param.put("loginIp", login.getLoginIp());
+            param.put("updateTime", now);
+            param.put("userId", login.getUserId());
+            params[i] = param;
+        }
+        executor.batchUpdate(sql, params);
+    }
+
     /**
      * 检查数据库模板管理器是否为空
      *
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -41,4 +42,19 @@ public class SysUserRoleRepository {
         params.put("createTime", LocalDateTime.now());
         executor.update(sql, params);
     }
+
+    /**
+     * 根据用户 ID 查询角色 ID 列表
+     *
+     * @param userId 用户 ID
+     * @return 角色 ID 列表
+     */
+    public List<Long> listRoleIdsByUserId(Long userId) {
+        String sql = """
+                SELECT role_id
+                FROM sys_user_role
+                WHERE user_id = :userId
+                """;
+        return jdbcManager.queryColumn(sql, Map.of("userId", userId), Long.class);
+    }
 }
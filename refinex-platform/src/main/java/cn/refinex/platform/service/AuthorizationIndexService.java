@@ -0,0 +1,37 @@
+package cn.refinex.platform.service;
+
+import java.util.Collection;
+
+/**
+ * 授权索引服务
+ * <p>
+ * 将全部角色与操作权限加载到内存，按用户的角色 ID 计算角色编码与权限列表，不再按用户联表查询。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+public interface AuthorizationIndexService {
+
+    /**
+     * 索引是否可用
+     *
+     * @return true 已加载完成
+     */
+    boolean isAvailable();
+
+    /**
+     * 根据角色 ID 计算角色编码与权限列表，停用或已删除的角色会被忽略
+     *
+     * @param roleIds 角色 ID
+     * @return 角色编码与权限列表
+     * @throws IllegalStateException 如果索引尚未加载
+     */
+    UserAuthCacheService.UserAuthorization resolve(Collection<Long> roleIds);
+
+    /**
+     * 检查角色/权限数据版本，变化时重建索引
+     *
+     * @return true 索引已重建
+     */
+    boolean refresh();
+}
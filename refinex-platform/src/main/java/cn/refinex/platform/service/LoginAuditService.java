@@ -1,7 +1,13 @@
 package cn.refinex.platform.service;
 
+import cn.refinex.platform.event.LoginAuditEvent;
+
+import java.util.List;
+
 /**
  * 登录日志记录服务
+ * <p>
+ * 登录成功/失败事件先写入 Redis Streams，由消费组批量调用 {@link #persist(List)} 写库。
  *
  * @author Refinex
  * @since 1.0.0
@@ -32,4 +38,11 @@ public interface LoginAuditService {
      * @param message       登录失败消息
      */
     void recordLoginFailure(Long userId, String username, String loginIdentity, String loginIp, String deviceType, String userAgent, String message);
+
+    /**
+     * 批量持久化登录事件：写入登录日志，并更新登录成功用户的最后登录信息（同一事务）
+     *
+     * @param events 登录事件
+     */
+    void persist(List<LoginAuditEvent> events);
 }
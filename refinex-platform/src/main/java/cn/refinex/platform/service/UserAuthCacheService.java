@@ -10,6 +10,14 @@ import java.util.List;
  */
 public interface UserAuthCacheService {
 
+    /**
+     * 根据用户 ID 同时查询角色编码与权限列表
+     *
+     * @param userId 用户 ID
+     * @return 角色编码与权限列表
+     */
+    UserAuthorization getUserAuthorization(Long userId);
+
     /**
      * 根据用户 ID 查询角色编码列表
      *
@@ -32,4 +40,13 @@ public interface UserAuthCacheService {
      * @param userId 用户 ID
      */
     void evictUserAuthCache(Long userId);
+
+    /**
+     * 用户角色编码与权限列表
+     *
+     * @param roles       角色编码列表
+     * @param permissions 权限列表
+     */
+    record UserAuthorization(List<String> roles, List<String> permissions) {
+    }
 }
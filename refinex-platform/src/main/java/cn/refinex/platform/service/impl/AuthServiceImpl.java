@@ -108,10 +108,9 @@ public class AuthServiceImpl implements AuthService {
 
         resetFailCounter(identity);
 
-        List<String> roles = userAuthCacheService.getUserRoles(user.getId());
-        List<String> permissions = userAuthCacheService.getUserPermissions(user.getId());
+        UserAuthCacheService.UserAuthorization authorization = userAuthCacheService.getUserAuthorization(user.getId());
 
-        LoginUser loginUser = buildLoginUser(user, roles, permissions, loginIp, deviceType);
+        LoginUser loginUser = buildLoginUser(user, authorization.roles(), authorization.permissions(), loginIp, deviceType);
 
         SaLoginParameter parameter = SaLoginParameter.create()
                 .setDeviceType(deviceType)
@@ -129,7 +128,7 @@ public class AuthServiceImpl implements AuthService {
                 .tokenName(tokenInfo.getTokenName())
                 .tokenValue(tokenInfo.getTokenValue())
                 .expireIn(tokenInfo.getTokenTimeout())
-                .user(buildUserProfile(user, roles, permissions))
+                .user(buildUserProfile(user, authorization.roles(), authorization.permissions()))
                 .build();
     }
 
@@ -197,9 +196,8 @@ public class AuthServiceImpl implements AuthService {
         SysUser user = userRepository.findById(loginUser.getUserId())
                 .orElseThrow(() -> new BusinessException(ApiStatus.UNAUTHORIZED, "账号已不存在"));
 
-        List<String> roles = userAuthCacheService.getUserRoles(user.getId());
-        List<String> permissions = userAuthCacheService.getUserPermissions(user.getId());
-        return buildUserProfile(user, roles, permissions);
+        UserAuthCacheService.UserAuthorization authorization = userAuthCacheService.getUserAuthorization(user.getId());
+        return buildUserProfile(user, authorization.roles(), authorization.permissions());
     }
 
     /**
@@ -342,15 +340,10 @@ public class AuthServiceImpl implements AuthService {
         String key = identityKey(identity);
         String failKey = AuthRedisConstants.buildLoginFailCountKey(key);
         Duration ttl = Optional.ofNullable(loginProperties.getFailRecordTtl()).orElse(Duration.ofMinutes(15));
-        Long failCount = redisService.string().increment(failKey);
-        redisService.expire(failKey, ttl);
-
-        // 超过最大失败次数，锁定账号
+        // 计数、刷新有效期与超过最大失败次数时锁定账号在同一脚本中原子完成
         int maxAttempts = Math.max(0, loginProperties.getMaxFailAttempts());
-        if (maxAttempts > 0 && failCount != null && failCount >= maxAttempts) {
-            Duration lockDuration = Optional.ofNullable(loginProperties.getLockDuration()).orElse(Duration.ofMinutes(30));
-            redisService.string().set(AuthRedisConstants.buildLoginLockKey(key), 1, lockDuration);
-        }
+        Duration lockDuration = Optional.ofNullable(loginProperties.getLockDuration()).orElse(Duration.ofMinutes(30));
+        redisService.atomic().incrementWithLock(failKey, AuthRedisConstants.buildLoginLockKey(key), ttl, maxAttempts, lockDuration);
 
         // 记录登录失败审计日志
         Long userId = user != null ? user.getId() : null;
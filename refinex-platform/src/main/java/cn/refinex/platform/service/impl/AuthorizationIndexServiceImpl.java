@@ -0,0 +1,221 @@
+package cn.refinex.platform.service.impl;
+
+import cn.refinex.platform.config.properties.AuthorizationIndexProperties;
+import cn.refinex.platform.repository.SysPermissionRepository;
+import cn.refinex.platform.repository.SysRoleRepository;
+import cn.refinex.platform.service.AuthorizationIndexService;
+import cn.refinex.platform.service.UserAuthCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 授权索引服务实现类
+ * <p>
+ * 索引为不可变快照，重建完成后整体替换，读取无需加锁：
+ * <ul>
+ *     <li>权限标识去重后按序号存放在数组中，相同标识只保留一个实例；</li>
+ *     <li>每个角色的权限以 {@link BitSet} 表示，位序号即权限序号；</li>
+ *     <li>计算用户权限时对其角色的 {@link BitSet} 求并集，再按序号取出权限标识。</li>
+ * </ul>
+ * 后台按固定间隔查询角色/权限数据版本（各表行数、最大 ID 与相关列校验和的汇总），仅在版本变化时重新加载。
+ * 只有启用且未删除的角色参与计算，与索引不可用时的联表查询使用相同的过滤条件。
+ *
+ * @author Refinex
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthorizationIndexServiceImpl implements AuthorizationIndexService, InitializingBean, DisposableBean {
+
+    private final SysRoleRepository roleRepository;
+    private final SysPermissionRepository permissionRepository;
+    private final AuthorizationIndexProperties indexProperties;
+
+    /**
+     * 当前索引快照
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * 版本检查调度器
+     */
+    private ScheduledExecutorService refreshExecutor;
+
+    /**
+     * 加载索引并启动版本检查
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (!indexProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 首次加载失败不影响启动，索引可用前按用户联表查询
+            log.error("授权索引加载失败，将在下次版本检查时重试", e);
+        }
+
+        long periodMs = indexProperties.getRefreshInterval().toMillis();
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("authorization-index-refresher")
+                .daemon(true)
+                .factory());
+        refreshExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("授权索引版本检查失败: {}", e.getMessage());
+            }
+        }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 停止版本检查
+     */
+    @Override
+    public void destroy() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 索引是否可用
+     *
+     * @return true 已加载完成
+     */
+    @Override
+    public boolean isAvailable() {
+        return snapshot != null;
+    }
+
+    /**
+     * 根据角色 ID 计算角色编码与权限列表
+     *
+     * @param roleIds 角色 ID
+     * @return 角色编码与权限列表
+     */
+    @Override
+    public UserAuthCacheService.UserAuthorization resolve(Collection<Long> roleIds) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("授权索引尚未加载");
+        }
+
+        List<String> roles = new ArrayList<>(roleIds.size());
+        BitSet granted = new BitSet(current.permissions().length);
+        for (Long roleId : roleIds) {
+            String roleCode = current.roleCodes().get(roleId);
+            if (roleCode == null) {
+                continue;
+            }
+            roles.add(roleCode);
+            BitSet bits = current.rolePermissions().get(roleId);
+            if (bits != null) {
+                granted.or(bits);
+            }
+        }
+
+        List<String> permissions = granted.stream().mapToObj(ordinal -> current.permissions()[ordinal]).toList();
+        return new UserAuthCacheService.UserAuthorization(List.copyOf(roles), permissions);
+    }
+
+    /**
+     * 检查角色/权限数据版本，变化时重建索引
+     *
+     * @return true 索引已重建
+     */
+    @Override
+    public synchronized boolean refresh() {
+        String version = permissionRepository.queryAuthorizationVersion();
+        Snapshot current = snapshot;
+        if (current != null && Objects.equals(current.version(), version)) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        Snapshot rebuilt = build(version);
+        this.snapshot = rebuilt;
+        log.info("授权索引已重建: roles={}, permissions={}, version={}, cost={}ms",
+                rebuilt.roleCodes().size(), rebuilt.permissions().length, version,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return true;
+    }
+
+    /**
+     * 加载角色、权限与关联，构建索引快照
+     *
+     * @param version 数据版本
+     * @return 索引快照
+     */
+    private Snapshot build(String version) {
+        Map<Long, String> roleCodes = new HashMap<>();
+        for (Map<String, Object> row : roleRepository.listEnabledRoles()) {
+            roleCodes.put(toLong(row.get("id")), String.valueOf(row.get("role_code")));
+        }
+
+        // 权限标识去重并分配序号
+        Map<String, Integer> ordinals = new HashMap<>();
+        List<String> permissions = new ArrayList<>();
+        Map<Long, Integer> menuOpOrdinals = new HashMap<>();
+        for (Map<String, Object> row : permissionRepository.listEnabledPermissions()) {
+            String permission = String.valueOf(row.get("permission"));
+            Integer ordinal = ordinals.computeIfAbsent(permission, p -> {
+                permissions.add(p);
+                return permissions.size() - 1;
+            });
+            menuOpOrdinals.put(toLong(row.get("id")), ordinal);
+        }
+
+        Map<Long, BitSet> rolePermissions = new HashMap<>();
+        for (Map<String, Object> row : permissionRepository.listRoleMenuOps()) {
+            Long roleId = toLong(row.get("role_id"));
+            Integer ordinal = menuOpOrdinals.get(toLong(row.get("menu_op_id")));
+            if (ordinal == null || !roleCodes.containsKey(roleId)) {
+                continue;
+            }
+            rolePermissions.computeIfAbsent(roleId, id -> new BitSet(permissions.size())).set(ordinal);
+        }
+
+        return new Snapshot(version, Map.copyOf(roleCodes), Map.copyOf(rolePermissions), permissions.toArray(String[]::new));
+    }
+
+    /**
+     * 将数据库返回的数值转换为 Long
+     *
+     * @param value 数值
+     * @return Long 值
+     */
+    private static Long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    /**
+     * 索引快照
+     *
+     * @param version         数据版本
+     * @param roleCodes       角色 ID -> 角色编码（仅包含启用的角色）
+     * @param rolePermissions 角色 ID -> 权限序号集合
+     * @param permissions     权限序号 -> 权限标识
+     */
+    private record Snapshot(String version, Map<Long, String> roleCodes, Map<Long, BitSet> rolePermissions,
+                            String[] permissions) {
+    }
+}
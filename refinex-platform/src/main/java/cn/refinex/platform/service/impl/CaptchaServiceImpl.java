@@ -7,6 +7,7 @@ import cn.refinex.platform.controller.captcha.dto.response.CaptchaCreateResponse
 import cn.refinex.platform.enums.CaptchaType;
 import cn.refinex.platform.service.CaptchaService;
 import cn.refinex.redis.core.RedisService;
+import cn.refinex.redis.script.CompareAndDeleteResult;
 import com.wf.captcha.*;
 import com.wf.captcha.base.Captcha;
 import lombok.RequiredArgsConstructor;
@@ -80,23 +81,18 @@ public class CaptchaServiceImpl implements CaptchaService {
             throw new BusinessException("验证码不能为空");
         }
 
-        // 从 Redis 中获取验证码
+        // 比对并删除验证码（一次性使用，原子核销，同一验证码不能被并发请求重复使用）
         String redisKey = captchaProperties.getRedisKeyPrefix() + uuid;
-        String correctCode = redisService.string().get(redisKey, String.class);
-        if (!StringUtils.hasText(correctCode)) {
+        String inputCode = Boolean.TRUE.equals(captchaProperties.getCaseSensitive()) ? code : code.toLowerCase();
+        CompareAndDeleteResult result = redisService.atomic().compareAndDelete(redisKey, inputCode);
+        if (result == CompareAndDeleteResult.ABSENT) {
             log.warn("验证码已过期或不存在，uuid={}", uuid);
             throw new BusinessException("验证码已过期");
         }
-
-        // 比对验证码（兼容大小写配置规则）
-        String inputCode = Boolean.TRUE.equals(captchaProperties.getCaseSensitive()) ? code : code.toLowerCase();
-        if (!correctCode.equals(inputCode)) {
-            log.warn("验证码不正确，uuid={}, input={}, correct={}", uuid, inputCode, correctCode);
+        if (result == CompareAndDeleteResult.MISMATCH) {
+            log.warn("验证码不正确，uuid={}, input={}", uuid, inputCode);
             throw new BusinessException("验证码错误");
         }
-
-        // 验证成功，删除验证码（一次性使用）
-        redisService.delete(redisKey);
     }
 
     /**
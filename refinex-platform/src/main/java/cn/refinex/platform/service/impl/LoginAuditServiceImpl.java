@@ -1,21 +1,30 @@
 package cn.refinex.platform.service.impl;
 
+import cn.hutool.core.util.IdUtil;
 import cn.refinex.jdbc.core.JdbcTemplateManager;
+import cn.refinex.platform.constants.AuthConstants;
 import cn.refinex.platform.entity.SysLoginLog;
+import cn.refinex.platform.event.LoginAuditEvent;
 import cn.refinex.platform.repository.SysLoginLogRepository;
 import cn.refinex.platform.repository.SysUserRepository;
 import cn.refinex.platform.service.LoginAuditService;
-import lombok.Builder;
-import lombok.Data;
+import cn.refinex.redis.stream.RedisStreamPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 登录审计服务实现类
+ * <p>
+ * 登录线程只执行一次 XADD，事件在 Redis 中持久保存，突发登录或应用重启时不会被拒绝或丢失；
+ * 消费组批量写库，处理失败的事件按 Stream 的重试与死信机制处理。Redis 不可用时退化为同步写库。
+ * 重新投递的事件按 eventId 唯一键去重，同一事件只会写入一条登录日志。
  *
  * @author Refinex
  * @since 1.0.0
@@ -28,6 +37,7 @@ public class LoginAuditServiceImpl implements LoginAuditService {
     private final SysLoginLogRepository loginLogRepository;
     private final SysUserRepository userRepository;
     private final JdbcTemplateManager jdbcManager;
+    private final RedisStreamPublisher streamPublisher;
 
     /**
      * 记录登录成功
@@ -39,11 +49,10 @@ public class LoginAuditServiceImpl implements LoginAuditService {
      * @param deviceType    设备类型（PC/MOBILE）
      * @param userAgent     用户代理字符串
      */
-    @Async("loginLogExecutor")
     @Override
     public void recordLoginSuccess(Long userId, String username, String loginIdentity, String loginIp, String deviceType, String userAgent) {
-        LocalDateTime now = LocalDateTime.now();
-        LoginEvent event = LoginEvent.builder()
+        LoginAuditEvent event = LoginAuditEvent.builder()
+                .eventId(IdUtil.fastSimpleUUID())
                 .userId(userId)
                 .username(username)
                 .loginIdentity(loginIdentity)
@@ -52,18 +61,10 @@ public class LoginAuditServiceImpl implements LoginAuditService {
                 .userAgent(userAgent)
                 .status(1)
                 .message("登录成功")
-                .loginTime(now)
+                .loginTime(LocalDateTime.now())
                 .build();
-
-        SysLoginLog logEntity = buildLog(event);
-        jdbcManager.executeInTransaction(jdbc -> {
-            loginLogRepository.insert(logEntity, jdbc);
-            if (userId != null) {
-                userRepository.updateLastLoginInfo(userId, now, loginIp, jdbc);
-            }
-            return null;
-        });
-        log.debug("登录成功日志已记录 userId={}, identity={}", userId, loginIdentity);
+        publish(event);
+        log.debug("登录成功事件已提交 userId={}, identity={}", userId, loginIdentity);
     }
 
     /**
@@ -77,11 +78,10 @@ public class LoginAuditServiceImpl implements LoginAuditService {
      * @param userAgent     用户代理字符串
      * @param message       登录失败消息
      */
-    @Async("loginLogExecutor")
     @Override
     public void recordLoginFailure(Long userId, String username, String loginIdentity, String loginIp, String deviceType, String userAgent, String message) {
-        LocalDateTime now = LocalDateTime.now();
-        LoginEvent event = LoginEvent.builder()
+        LoginAuditEvent event = LoginAuditEvent.builder()
+                .eventId(IdUtil.fastSimpleUUID())
                 .userId(userId)
                 .username(username)
                 .loginIdentity(loginIdentity)
@@ -90,53 +90,80 @@ public class LoginAuditServiceImpl implements LoginAuditService {
                 .userAgent(userAgent)
                 .status(0)
                 .message(message)
-                .loginTime(now)
+                .loginTime(LocalDateTime.now())
                 .build();
+        publish(event);
+        log.warn("登录失败已记录 identity={}, message={}", loginIdentity, message);
+    }
+
+    /**
+     * 批量持久化登录事件
+     *
+     * @param events 登录事件
+     */
+    @Override
+    public void persist(List<LoginAuditEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<SysLoginLog> logs = new ArrayList<>(events.size());
+        // 同一批次内每个用户只更新最近一次登录
+        Map<Long, SysLoginLog> lastLogins = new LinkedHashMap<>();
+        for (LoginAuditEvent event : events) {
+            SysLoginLog logEntity = buildLog(event);
+            logs.add(logEntity);
+            if (event.status() == 1 && event.userId() != null) {
+                lastLogins.merge(event.userId(), logEntity,
+                        (previous, current) -> current.getLoginTime().isAfter(previous.getLoginTime()) ? current : previous);
+            }
+        }
 
-        SysLoginLog logEntity = buildLog(event);
         jdbcManager.executeInTransaction(jdbc -> {
-            loginLogRepository.insert(logEntity, jdbc);
+            loginLogRepository.batchInsert(logs, jdbc);
+            userRepository.batchUpdateLastLoginInfo(List.copyOf(lastLogins.values()), jdbc);
             return null;
         });
-        log.warn("登录失败已记录 identity={}, message={}", loginIdentity, message);
+    }
+
+    /**
+     * 提交登录事件，Redis 不可用时同步写库
+     *
+     * @param event 登录事件
+     */
+    private void publish(LoginAuditEvent event) {
+        try {
+            streamPublisher.publish(AuthConstants.LOGIN_AUDIT_STREAM, event);
+        } catch (Exception e) {
+            log.warn("登录事件写入 Redis Stream 失败，改为同步写库: {}", e.getMessage());
+            try {
+                persist(List.of(event));
+            } catch (Exception ex) {
+                log.error("登录日志记录失败 identity={}", event.loginIdentity(), ex);
+            }
+        }
     }
 
     /**
      * 构建登录日志实体
      */
-    private SysLoginLog buildLog(LoginEvent event) {
+    private SysLoginLog buildLog(LoginAuditEvent event) {
         LocalDateTime now = LocalDateTime.now();
         return SysLoginLog.builder()
-                .userId(event.getUserId())
-                .username(event.getUsername())
-                .loginIdentity(event.getLoginIdentity())
-                .status(event.getStatus())
-                .message(event.getMessage())
-                .loginIp(event.getLoginIp())
-                .deviceType(event.getDeviceType())
-                .userAgent(event.getUserAgent())
-                .loginTime(event.getLoginTime())
-                .createBy(event.getUserId())
+                .eventId(event.eventId())
+                .userId(event.userId())
+                .username(event.username())
+                .loginIdentity(event.loginIdentity())
+                .status(event.status())
+                .message(event.message())
+                .loginIp(event.loginIp())
+                .deviceType(event.deviceType())
+                .userAgent(event.userAgent())
+                .loginTime(event.loginTime())
+                .createBy(event.userId())
                 .createTime(now)
-                .updateBy(event.getUserId())
+                .updateBy(event.userId())
                 .updateTime(now)
                 .build();
     }
-
-    /**
-     * 登录事件上下文（参数对象）
-     */
-    @Data
-    @Builder
-    private static class LoginEvent {
-        private Long userId;
-        private String username;
-        private String loginIdentity;
-        private String loginIp;
-        private String deviceType;
-        private String userAgent;
-        private int status;
-        private String message;
-        private LocalDateTime loginTime;
-    }
 }
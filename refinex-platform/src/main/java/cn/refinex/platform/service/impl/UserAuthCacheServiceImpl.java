@@ -1,36 +1,87 @@
 package cn.refinex.platform.service.impl;
 
+import cn.hutool.core.util.IdUtil;
 import cn.refinex.core.constants.AuthRedisConstants;
+import cn.refinex.platform.config.properties.UserAuthCacheProperties;
 import cn.refinex.platform.repository.SysPermissionRepository;
-import cn.refinex.platform.repository.SysRoleRepository;
+import cn.refinex.platform.repository.SysUserRoleRepository;
+import cn.refinex.platform.service.AuthorizationIndexService;
 import cn.refinex.platform.service.UserAuthCacheService;
+import cn.refinex.redis.core.RedisBatch;
 import cn.refinex.redis.core.RedisService;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 用户认证缓存服务实现类
+ * <p>
+ * 角色与权限作为一组加载和缓存，避免缓存击穿：
+ * <ul>
+ *     <li>单飞加载：同一用户在本节点的并发未命中共享一次加载，跨节点通过 Redis 加载锁只允许一个节点查询数据库，
+ *     其他节点等待缓存写入；</li>
+ *     <li>空值缓存：无角色且无权限的用户以较短有效期缓存空列表，不会每次都查询数据库；</li>
+ *     <li>有效期随机浮动：同一时间写入的缓存不会同时过期；</li>
+ *     <li>概率提前刷新：命中时按剩余有效期与加载耗时计算提前刷新概率，在过期前由单个请求异步刷新；</li>
+ *     <li>失效后不回填旧值：清除缓存时推进用户的版本号，加载前读取版本号，回填时版本号已变化则放弃写入，
+ *     避免清除前开始的加载或提前刷新把旧的角色/权限写回缓存。</li>
+ * </ul>
+ * 授权索引可用时，加载只查询用户的角色 ID，角色编码与权限由 {@link AuthorizationIndexService} 在内存中计算。
+ * 角色与权限仍分别写入原有缓存键，网关等直接读取 Redis 的组件无需改动。
  *
  * @author Refinex
  * @since 1.0.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserAuthCacheServiceImpl implements UserAuthCacheService {
 
     /**
-     * 缓存过期时间（30分钟）
+     * 等待其他节点加载时的轮询间隔
      */
-    private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+    private static final long LOCK_POLL_INTERVAL_MILLIS = 50L;
+
+    /**
+     * 异步刷新执行器
+     */
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("user-auth-refresh-", 0).factory());
 
     private final RedisService redisService;
-    private final SysRoleRepository roleRepository;
     private final SysPermissionRepository permissionRepository;
+    private final SysUserRoleRepository userRoleRepository;
+    private final AuthorizationIndexService authorizationIndexService;
+    private final UserAuthCacheProperties cacheProperties;
+
+    /**
+     * 本节点正在加载的用户
+     */
+    private final ConcurrentMap<Long, CompletableFuture<UserAuthorization>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * 本节点正在提前刷新的用户
+     */
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 最近一次数据库加载耗时（毫秒），用于计算提前刷新概率
+     */
+    private volatile long lastLoadMillis = 50L;
 
     /**
      * 根据用户 ID 查询角色编码列表
@@ -39,19 +90,8 @@ public class UserAuthCacheServiceImpl implements UserAuthCacheService {
      * @return 角色编码列表
      */
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> getUserRoles(Long userId) {
-        // 先从 Redis 缓存中获取角色列表
-        String key = AuthRedisConstants.buildUserRolesKey(userId);
-        List<String> cached = redisService.string().get(key, List.class);
-        if (CollectionUtils.isNotEmpty(cached)) {
-            return new ArrayList<>(cached);
-        }
-
-        // 缓存未命中，从数据库查询角色列表，缓存到 Redis
-        List<String> roles = roleRepository.listRoleCodesByUserId(userId);
-        redisService.string().set(key, roles, CACHE_TTL);
-        return roles;
+        return new ArrayList<>(getUserAuthorization(userId).roles());
     }
 
     /**
@@ -61,32 +101,247 @@ public class UserAuthCacheServiceImpl implements UserAuthCacheService {
      * @return 权限列表
      */
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> getUserPermissions(Long userId) {
-        // 先从 Redis 缓存中获取权限列表
-        String key = AuthRedisConstants.buildUserPermissionsKey(userId);
-        List<String> cached = redisService.string().get(key, List.class);
-        if (CollectionUtils.isNotEmpty(cached)) {
-            return new ArrayList<>(cached);
+        return new ArrayList<>(getUserAuthorization(userId).permissions());
+    }
+
+    /**
+     * 根据用户 ID 同时查询角色编码与权限列表
+     *
+     * @param userId 用户 ID
+     * @return 角色编码与权限列表
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public UserAuthorization getUserAuthorization(Long userId) {
+        // 一次往返读取角色、权限与剩余有效期
+        RedisBatch batch = redisService.batch();
+        CompletableFuture<List> roles = batch.string().get(AuthRedisConstants.buildUserRolesKey(userId), List.class);
+        CompletableFuture<List> permissions = batch.string().get(AuthRedisConstants.buildUserPermissionsKey(userId), List.class);
+        CompletableFuture<Long> expire = batch.getExpire(AuthRedisConstants.buildUserRolesKey(userId));
+        batch.execute();
+
+        if (roles.join() != null && permissions.join() != null) {
+            if (shouldRefreshEarly(expire.join())) {
+                refreshAsync(userId);
+            }
+            return new UserAuthorization(List.copyOf(roles.join()), List.copyOf(permissions.join()));
         }
 
-        // 缓存未命中，从数据库查询权限列表，缓存到 Redis
-        List<String> permissions = permissionRepository.listPermissionsByUserId(userId);
-        redisService.string().set(key, permissions, CACHE_TTL);
-        return permissions;
+        // 缓存未命中，合并本节点的并发加载
+        return loadSingleFlight(userId);
     }
 
     /**
-     * 清除用户角色/权限缓存
+     * 清除用户角色/权限缓存，并广播失效通知
      *
      * @param userId 用户 ID
      */
     @Override
     public void evictUserAuthCache(Long userId) {
+        // 先推进版本号，正在进行的加载回填时将放弃写入；版本号有效期覆盖一次完整的加载
+        redisService.atomic().advanceGeneration(AuthRedisConstants.buildUserAuthGenerationKey(userId), cacheProperties.getTtl());
         List<String> keys = List.of(
                 AuthRedisConstants.buildUserRolesKey(userId),
                 AuthRedisConstants.buildUserPermissionsKey(userId)
         );
         redisService.delete(keys);
+
+        // 通知网关等订阅方清除本地缓存
+        redisService.publish(AuthRedisConstants.USER_AUTH_INVALIDATE_CHANNEL, userId);
+    }
+
+    /**
+     * 合并本节点同一用户的并发加载
+     *
+     * @param userId 用户 ID
+     * @return 角色编码与权限列表
+     */
+    private UserAuthorization loadSingleFlight(Long userId) {
+        CompletableFuture<UserAuthorization> future = new CompletableFuture<>();
+        CompletableFuture<UserAuthorization> existing = loading.putIfAbsent(userId, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            UserAuthorization authorization = loadWithLock(userId);
+            future.complete(authorization);
+            return authorization;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(userId, future);
+        }
+    }
+
+    /**
+     * 持有加载锁时查询数据库并写入缓存，未获得锁时等待其他节点写入，等待超时后直接查询数据库
+     *
+     * @param userId 用户 ID
+     * @return 角色编码与权限列表
+     */
+    private UserAuthorization loadWithLock(Long userId) {
+        String lockKey = AuthRedisConstants.buildUserAuthLoadLockKey(userId);
+        String owner = IdUtil.fastSimpleUUID();
+        if (Boolean.TRUE.equals(redisService.string().setIfAbsent(lockKey, owner, cacheProperties.getLockTimeout()))) {
+            try {
+                return loadAndCache(userId);
+            } finally {
+                redisService.atomic().unlock(lockKey, owner);
+            }
+        }
+
+        UserAuthorization cached = awaitCache(userId, cacheProperties.getLockWait());
+        if (cached != null) {
+            return cached;
+        }
+        log.warn("等待用户角色/权限缓存超时，直接查询数据库，userId: {}", userId);
+        return loadAndCache(userId);
+    }
+
+    /**
+     * 提前异步刷新缓存，本节点同一用户同时只刷新一次，其他节点正在加载时跳过
+     *
+     * @param userId 用户 ID
+     */
+    private void refreshAsync(Long userId) {
+        if (!refreshing.add(userId)) {
+            return;
+        }
+        REFRESH_EXECUTOR.execute(() -> {
+            String lockKey = AuthRedisConstants.buildUserAuthLoadLockKey(userId);
+            String owner = IdUtil.fastSimpleUUID();
+            try {
+                if (Boolean.TRUE.equals(redisService.string().setIfAbsent(lockKey, owner, cacheProperties.getLockTimeout()))) {
+                    try {
+                        loadAndCache(userId);
+                    } finally {
+                        redisService.atomic().unlock(lockKey, owner);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("提前刷新用户角色/权限缓存失败，userId: {}", userId, e);
+            } finally {
+                refreshing.remove(userId);
+            }
+        });
+    }
+
+    /**
+     * 查询角色与权限，并以相同的有效期写入缓存；加载期间缓存被清除（版本号变化）时不写入
+     *
+     * @param userId 用户 ID
+     * @return 角色编码与权限列表
+     */
+    private UserAuthorization loadAndCache(Long userId) {
+        String generationKey = AuthRedisConstants.buildUserAuthGenerationKey(userId);
+        long generation = redisService.atomic().currentGeneration(generationKey);
+        long start = System.nanoTime();
+        UserAuthorization authorization = loadFromDatabase(userId);
+        lastLoadMillis = Math.max(1L, Duration.ofNanos(System.nanoTime() - start).toMillis());
+
+        // 缓存值使用 ArrayList，保证带类型信息的序列化结果可以被反序列化
+        List<String> roles = new ArrayList<>(authorization.roles());
+        List<String> permissions = new ArrayList<>(authorization.permissions());
+        boolean empty = roles.isEmpty() && permissions.isEmpty();
+        Duration ttl = jitter(empty ? cacheProperties.getEmptyTtl() : cacheProperties.getTtl());
+        Map<String, Object> values = new LinkedHashMap<>(4);
+        values.put(AuthRedisConstants.buildUserRolesKey(userId), roles);
+        values.put(AuthRedisConstants.buildUserPermissionsKey(userId), permissions);
+        if (!redisService.atomic().setIfGeneration(generationKey, generation, values, ttl)) {
+            log.debug("用户角色/权限缓存在加载期间已失效，放弃回填，userId: {}", userId);
+        }
+
+        // 本次加载的结果仍返回给当前调用方，与清除前读取缓存的请求一致
+        return authorization;
+    }
+
+    /**
+     * 查询角色与权限：授权索引可用时只查询用户的角色 ID，否则一次联表查询
+     *
+     * @param userId 用户 ID
+     * @return 角色编码与权限列表
+     */
+    private UserAuthorization loadFromDatabase(Long userId) {
+        if (authorizationIndexService.isAvailable()) {
+            return authorizationIndexService.resolve(userRoleRepository.listRoleIdsByUserId(userId));
+        }
+
+        List<String> roles = new ArrayList<>();
+        List<String> permissions = new ArrayList<>();
+        for (Map<String, Object> row : permissionRepository.listRoleAndPermissionCodesByUserId(userId)) {
+            String code = String.valueOf(row.get("grant_code"));
+            if ("R".equals(row.get("grant_type"))) {
+                roles.add(code);
+            } else {
+                permissions.add(code);
+            }
+        }
+        return new UserAuthorization(List.copyOf(roles), List.copyOf(permissions));
+    }
+
+    /**
+     * 等待其他节点写入缓存
+     *
+     * @param userId  用户 ID
+     * @param timeout 最长等待时间
+     * @return 角色编码与权限列表，超时返回 null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private UserAuthorization awaitCache(Long userId, Duration timeout) {
+        List<String> keys = List.of(
+                AuthRedisConstants.buildUserRolesKey(userId),
+                AuthRedisConstants.buildUserPermissionsKey(userId)
+        );
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            List<Object> values = redisService.string().multiGet(keys);
+            if (values != null && values.get(0) instanceof List roles && values.get(1) instanceof List permissions) {
+                return new UserAuthorization(List.copyOf(roles), List.copyOf(permissions));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断是否提前刷新：剩余有效期越短、加载耗时越长，刷新概率越高
+     *
+     * @param expireSeconds 剩余有效期（秒）
+     * @return true 需要提前刷新
+     */
+    private boolean shouldRefreshEarly(Long expireSeconds) {
+        double beta = cacheProperties.getEarlyRefreshBeta();
+        if (beta <= 0 || expireSeconds == null || expireSeconds < 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+        return -lastLoadMillis * beta * Math.log(random) >= expireSeconds * 1000.0;
+    }
+
+    /**
+     * 有效期随机浮动
+     *
+     * @param ttl 有效期
+     * @return 浮动后的有效期
+     */
+    private Duration jitter(Duration ttl) {
+        double ratio = Math.clamp(cacheProperties.getTtlJitter(), 0.0, 1.0);
+        if (ratio == 0.0) {
+            return ttl;
+        }
+        double factor = 1.0 + ThreadLocalRandom.current().nextDouble(-ratio, ratio);
+        return Duration.ofMillis(Math.max(1L, (long) (ttl.toMillis() * factor)));
     }
 }